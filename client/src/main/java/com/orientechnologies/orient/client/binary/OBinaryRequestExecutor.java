@@ -105,6 +105,10 @@ public interface OBinaryRequestExecutor {
 
   OBinaryResponse executeQueryNextPage(OQueryNextPageRequest request);
 
+  OBinaryResponse executePrepareStatement(OPrepareStatementRequest request);
+
+  OBinaryResponse executeQueryPrepared(OQueryPreparedRequest request);
+
   OBinaryResponse executeBeginTransaction(OBeginTransactionRequest request);
 
   OBinaryResponse executeCommit37(OCommit37Request request);
@@ -119,6 +123,8 @@ public interface OBinaryRequestExecutor {
 
   OBinaryResponse executeSubscribeLiveQuery(OSubscribeLiveQueryRequest request);
 
+  OBinaryResponse executeSubscribeRecordInvalidation(OSubscribeRecordInvalidationRequest request);
+
   OBinaryResponse executeUnsubscribe(OUnsubscribeRequest request);
 
   OBinaryResponse executeUnsubscribeLiveQuery(OUnsubscribeLiveQueryRequest request);
@@ -28,8 +28,11 @@ import com.orientechnologies.orient.client.remote.OStorageRemoteNodeSession;
 import com.orientechnologies.orient.client.remote.OStorageRemoteSession;
 import com.orientechnologies.orient.client.remote.message.OError37Response;
 import com.orientechnologies.orient.core.OConstants;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.serialization.OMemoryInputStream;
 import com.orientechnologies.orient.enterprise.channel.OSocketFactory;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinary;
@@ -52,6 +55,7 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
   private         byte   currentStatus;
   private         int    currentSessionId;
   private         byte   currentMessage;
+  private OCompression responseCompression;
 
   public OChannelBinaryAsynchClient(final String remoteHost, final int remotePort, final String iDatabaseName,
       final OContextConfiguration iConfig, final int iProtocolVersion) throws IOException {
@@ -90,6 +94,11 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
         writeString(OConstants.getVersion());
         writeByte(OChannelBinaryProtocol.ENCODING_DEFAULT);
         writeByte(OChannelBinaryProtocol.ERROR_MESSAGE_JAVA);
+        if (srvProtocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_38
+            && iProtocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_38) {
+          responseCompression = getResponseCompression(iConfig);
+          writeString(responseCompression != null ? responseCompression.name() : "");
+        }
         flush();
       } catch (IOException e) {
         throw new ONetworkProtocolException(
@@ -110,6 +119,21 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     }
   }
 
+  private static OCompression getResponseCompression(final OContextConfiguration iConfig) {
+    final String compressionName = iConfig.getValueAsString(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION);
+    if (compressionName == null || compressionName.isEmpty())
+      return null;
+
+    try {
+      return OCompressionFactory.INSTANCE.getCompression(compressionName, null);
+    } catch (OSecurityException e) {
+      OLogManager.instance()
+          .warn(OChannelBinaryAsynchClient.class, "Compression '%s' is not available, responses will not be compressed",
+              compressionName);
+      return null;
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private static RuntimeException createException(final String iClassName, final String iMessage, final Exception iPrevious) {
     RuntimeException rootException = null;
@@ -165,6 +189,7 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
       }
 
       try {
+        endResponseFrame();
         setWaitResponseTimeout();
         currentStatus = readByte();
         currentSessionId = readInt();
@@ -189,6 +214,8 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
 
       currentMessage = readByte();
       handleStatus(currentStatus, currentSessionId);
+      if (currentStatus == OChannelBinaryProtocol.RESPONSE_STATUS_OK)
+        beginResponseFrame();
       return tokenBytes;
     } catch (OLockException e) {
       Thread.currentThread().interrupt();
@@ -198,7 +225,21 @@ public class OChannelBinaryAsynchClient extends OChannelBinary {
     return null;
   }
 
+  /**
+   * Reads the frame carrying the content of a successful response, when frames have been negotiated on handshake.
+   */
+  public void beginResponseFrame() throws IOException {
+    if (responseCompression != null)
+      beginReadFrame(responseCompression);
+  }
+
+  public void endResponseFrame() {
+    endReadFrame();
+  }
+
   public void endResponse() throws IOException {
+    endResponseFrame();
+
     // WAKE UP ALL THE WAITING THREADS
     try {
       releaseReadLock();
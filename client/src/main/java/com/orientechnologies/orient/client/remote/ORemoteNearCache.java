@@ -0,0 +1,153 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.client.remote;
+
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size bounded cache of the records read by the remote storages, shared by the whole process and enabled with {@link
+ * OGlobalConfiguration#CLIENT_NEAR_CACHE_SIZE}. The server keeps it coherent pushing the invalidation of the changed records.
+ * <p>
+ * Every invalidation moves forward a counter: a record read from the server is cached only if no invalidation happened since the
+ * read was sent, so a response racing with a push can never store a stale version. Entries are bound to the user that read them,
+ * because the server may filter the content by user.
+ *
+ * @see OStorageRemote#readRecord
+ */
+public class ORemoteNearCache {
+  private static final ORemoteNearCache INSTANCE = new ORemoteNearCache();
+
+  private final ConcurrentLinkedHashMap<OKey, OEntry> records;
+  private final AtomicLong invalidations = new AtomicLong();
+
+  private ORemoteNearCache() {
+    records = new ConcurrentLinkedHashMap.Builder<OKey, OEntry>().maximumWeightedCapacity(0).build();
+  }
+
+  public static ORemoteNearCache instance(final int size) {
+    if (INSTANCE.records.capacity() != size)
+      INSTANCE.records.setCapacity(size);
+    return INSTANCE;
+  }
+
+  public ORawBuffer get(final String database, final String user, final ORID rid) {
+    final OEntry entry = records.get(new OKey(database, rid));
+    if (entry == null || !entry.user.equals(user))
+      return null;
+    return copy(entry.buffer);
+  }
+
+  /**
+   * @return the stamp to pass to {@link #put} for a record that is going to be read.
+   */
+  public long stamp() {
+    return invalidations.get();
+  }
+
+  public void put(final String database, final String user, final ORID rid, final ORawBuffer buffer, final long stamp) {
+    if (stamp != invalidations.get())
+      return;
+
+    final OKey key = new OKey(database, rid.copy());
+    final OEntry entry = new OEntry(user, copy(buffer));
+    records.put(key, entry);
+    if (stamp != invalidations.get())
+      // AN INVALIDATION RAN CONCURRENTLY: THE CONTENT MAY BE ALREADY STALE
+      records.remove(key, entry);
+  }
+
+  public void invalidate(final String database, final ORID rid) {
+    invalidations.incrementAndGet();
+    records.remove(new OKey(database, rid));
+  }
+
+  public void invalidate(final String database, final Collection<ORID> rids, final Collection<Integer> clusterIds) {
+    invalidations.incrementAndGet();
+    for (ORID rid : rids)
+      records.remove(new OKey(database, rid));
+
+    if (!clusterIds.isEmpty()) {
+      final Iterator<OKey> keys = records.keySet().iterator();
+      while (keys.hasNext()) {
+        final OKey key = keys.next();
+        if (key.database.equals(database) && clusterIds.contains(key.rid.getClusterId()))
+          keys.remove();
+      }
+    }
+  }
+
+  /**
+   * Removes all the records of a database, used when the invalidations can be lost, like on disconnection of the push channel.
+   */
+  public void clear(final String database) {
+    invalidations.incrementAndGet();
+    records.keySet().removeIf(key -> key.database.equals(database));
+  }
+
+  public int size() {
+    return records.size();
+  }
+
+  private static ORawBuffer copy(final ORawBuffer buffer) {
+    return new ORawBuffer(buffer.buffer != null ? buffer.buffer.clone() : null, buffer.version, buffer.recordType);
+  }
+
+  private static final class OKey {
+    private final String database;
+    private final ORID   rid;
+
+    private OKey(final String database, final ORID rid) {
+      this.database = database;
+      this.rid = rid;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o)
+        return true;
+      if (!(o instanceof OKey))
+        return false;
+      final OKey other = (OKey) o;
+      return rid.equals(other.rid) && database.equals(other.database);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * database.hashCode() + rid.hashCode();
+    }
+  }
+
+  private static final class OEntry {
+    private final String     user;
+    private final ORawBuffer buffer;
+
+    private OEntry(final String user, final ORawBuffer buffer) {
+      this.user = user;
+      this.buffer = buffer;
+    }
+  }
+}
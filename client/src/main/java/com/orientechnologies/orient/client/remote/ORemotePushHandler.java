@@ -4,6 +4,7 @@ import com.orientechnologies.orient.client.remote.message.OBinaryPushRequest;
 import com.orientechnologies.orient.client.remote.message.OBinaryPushResponse;
 import com.orientechnologies.orient.client.remote.message.OLiveQueryPushRequest;
 import com.orientechnologies.orient.client.remote.message.OPushDistributedConfigurationRequest;
+import com.orientechnologies.orient.client.remote.message.OPushRecordInvalidationRequest;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinary;
 
 /**
@@ -19,6 +20,8 @@ public interface ORemotePushHandler {
 
   void executeLiveQueryPush(OLiveQueryPushRequest pushRequest);
 
+  void executeRecordInvalidationPush(OPushRecordInvalidationRequest request);
+
   void onPushReconnect(String host);
 
   void onPushDisconnect(OChannelBinary network, Exception e);
@@ -123,6 +123,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
   private final Map<Integer, OLiveQueryClientListener> liveQueryListener = new ConcurrentHashMap<>();
   private volatile OStorageRemotePushThread pushThread;
+  private volatile ORemoteNearCache         nearCache;
   private final    OrientDBRemote           context;
 
   public OStorageRemote(final String iURL, OrientDBRemote context, final String iMode, ORemoteConnectionManager connectionManager)
@@ -503,6 +504,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
           Thread.currentThread().interrupt();
         }
       }
+      disableNearCache();
 
       // CLOSE ALL THE SOCKET POOLS
       for (String url : serverURLs) {
@@ -634,9 +636,26 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
       // PENDING NETWORK OPERATION, CAN'T EXECUTE IT NOW
       return new OStorageOperationResult<ORawBuffer>(null);
 
+    // RECORDS LOADED WITH A FETCH PLAN BRING THEIR LINKED RECORDS WITH THEM: THEY ALWAYS GO TO THE SERVER
+    final ORemoteNearCache nearCache = iRid.getClusterId() > 0 && (iFetchPlan == null || iFetchPlan.isEmpty()) ?
+        this.nearCache :
+        null;
+    long stamp = 0;
+    if (nearCache != null) {
+      if (!iIgnoreCache) {
+        final ORawBuffer cached = nearCache.get(url, getUserName(), iRid);
+        if (cached != null)
+          return new OStorageOperationResult<ORawBuffer>(cached);
+      }
+      stamp = nearCache.stamp();
+    }
+
     OReadRecordRequest request = new OReadRecordRequest(iIgnoreCache, iRid, iFetchPlan, false);
     OReadRecordResponse response = networkOperation(request, "Error on read record " + iRid);
 
+    if (nearCache != null && response.getResult() != null)
+      nearCache.put(url, getUserName(), iRid, response.getResult(), stamp);
+
     return new OStorageOperationResult<ORawBuffer>(response.getResult());
   }
 
@@ -668,6 +687,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     OUpdateRecordRequest request = new OUpdateRecordRequest(iRid, iContent, iVersion, updateContent, iRecordType);
     OUpdateRecordResponse response = asyncNetworkOperationNoRetry(request, iMode, iRid, realCallback,
         "Error on update record " + iRid);
+    invalidateNearCache(iRid);
 
     Integer resVersion = null;
     if (response != null) {
@@ -692,6 +712,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     final ODeleteRecordRequest request = new ODeleteRecordRequest(iRid, iVersion);
     final ODeleteRecordResponse response = asyncNetworkOperationNoRetry(request, iMode, iRid, realCallback,
         "Error on delete record " + iRid);
+    invalidateNearCache(iRid);
     Boolean resDelete = null;
     if (response != null)
       resDelete = response.getResult();
@@ -709,6 +730,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     final OHideRecordRequest request = new OHideRecordRequest(recordId);
     final OHideRecordResponse response = asyncNetworkOperationNoRetry(request, mode, recordId, realCallback,
         "Error on hide record " + recordId);
+    invalidateNearCache(recordId);
     Boolean resHide = null;
     if (response != null)
       resHide = response.getResult();
@@ -726,6 +748,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     final OCleanOutRecordRequest request = new OCleanOutRecordRequest(recordVersion, recordId);
     final OCleanOutRecordResponse response = asyncNetworkOperationNoRetry(request, iMode, recordId, realCallback,
         "Error on delete record " + recordId);
+    invalidateNearCache(recordId);
     Boolean result = null;
     if (response != null)
       result = response.getResult();
@@ -835,13 +858,15 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
     OCommandRequest request = new OCommandRequest(database, asynch, iCommand, live);
     OCommandResponse response = networkOperation(request, "Error on executing command: " + iCommand);
+    if (!iCommand.isIdempotent())
+      invalidateNearCache();
     return response.getResult();
 
   }
 
   public ORemoteQueryResult query(ODatabaseDocumentRemote db, String query, Object[] args) {
     OQueryRequest request = new OQueryRequest("sql", query, args, OQueryRequest.QUERY, db.getSerializer(), 100);
-    OQueryResponse response = networkOperation(request, "Error on executing command: " + query);
+    OQueryResponse response = sqlQueryOperation(request, "Error on executing command: " + query, connectionRetry);
     ORemoteResultSet rs = new ORemoteResultSet(db, response.getQueryId(), response.getResult(), response.getExecutionPlan(),
         response.getQueryStats(), response.isHasNextPage());
     return new ORemoteQueryResult(rs, response.isTxChanges());
@@ -849,7 +874,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
   public ORemoteQueryResult query(ODatabaseDocumentRemote db, String query, Map args) {
     OQueryRequest request = new OQueryRequest("sql", query, args, OQueryRequest.QUERY, db.getSerializer(), 100);
-    OQueryResponse response = networkOperation(request, "Error on executing command: " + query);
+    OQueryResponse response = sqlQueryOperation(request, "Error on executing command: " + query, connectionRetry);
 
     ORemoteResultSet rs = new ORemoteResultSet(db, response.getQueryId(), response.getResult(), response.getExecutionPlan(),
         response.getQueryStats(), response.isHasNextPage());
@@ -858,7 +883,8 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
   public ORemoteQueryResult command(ODatabaseDocumentRemote db, String query, Object[] args) {
     OQueryRequest request = new OQueryRequest("sql", query, args, OQueryRequest.COMMAND, db.getSerializer(), 100);
-    OQueryResponse response = networkOperationNoRetry(request, "Error on executing command: " + query);
+    OQueryResponse response = sqlQueryOperation(request, "Error on executing command: " + query, 0);
+    invalidateNearCache();
     ORemoteResultSet rs = new ORemoteResultSet(db, response.getQueryId(), response.getResult(), response.getExecutionPlan(),
         response.getQueryStats(), response.isHasNextPage());
     return new ORemoteQueryResult(rs, response.isTxChanges());
@@ -866,7 +892,8 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
 
   public ORemoteQueryResult command(ODatabaseDocumentRemote db, String query, Map args) {
     OQueryRequest request = new OQueryRequest("sql", query, args, OQueryRequest.COMMAND, db.getSerializer(), 100);
-    OQueryResponse response = networkOperationNoRetry(request, "Error on executing command: " + query);
+    OQueryResponse response = sqlQueryOperation(request, "Error on executing command: " + query, 0);
+    invalidateNearCache();
     ORemoteResultSet rs = new ORemoteResultSet(db, response.getQueryId(), response.getResult(), response.getExecutionPlan(),
         response.getQueryStats(), response.isHasNextPage());
     return new ORemoteQueryResult(rs, response.isTxChanges());
@@ -875,6 +902,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   public ORemoteQueryResult execute(ODatabaseDocumentRemote db, String language, String query, Object[] args) {
     OQueryRequest request = new OQueryRequest(language, query, args, OQueryRequest.EXECUTE, db.getSerializer(), 100);
     OQueryResponse response = networkOperationNoRetry(request, "Error on executing command: " + query);
+    invalidateNearCache();
     ORemoteResultSet rs = new ORemoteResultSet(db, response.getQueryId(), response.getResult(), response.getExecutionPlan(),
         response.getQueryStats(), response.isHasNextPage());
     return new ORemoteQueryResult(rs, response.isTxChanges());
@@ -883,11 +911,78 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   public ORemoteQueryResult execute(ODatabaseDocumentRemote db, String language, String query, Map args) {
     OQueryRequest request = new OQueryRequest(language, query, args, OQueryRequest.EXECUTE, db.getSerializer(), 100);
     OQueryResponse response = networkOperationNoRetry(request, "Error on executing command: " + query);
+    invalidateNearCache();
     ORemoteResultSet rs = new ORemoteResultSet(db, response.getQueryId(), response.getResult(), response.getExecutionPlan(),
         response.getQueryStats(), response.isHasNextPage());
     return new ORemoteQueryResult(rs, response.isTxChanges());
   }
 
+  /**
+   * Sends a SQL query or command. Statements executed more than {@link OGlobalConfiguration#NETWORK_BINARY_PREPARED_STATEMENTS_THRESHOLD}
+   * times on the same server session are prepared on the server, and then executed sending only their handle and parameters.
+   */
+  private OQueryResponse sqlQueryOperation(final OQueryRequest request, final String errorMessage, final int retry) {
+    final int threshold = clientConfiguration.getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_THRESHOLD);
+    if (threshold > 0) {
+      try {
+        return baseNetworkOperation((network, session) -> {
+          final OQueryResponse response = preparedQuery(network, session, request, threshold);
+          connectionManager.release(network);
+          return response;
+        }, errorMessage, retry);
+      } catch (OPreparedStatementNotFoundException e) {
+        // THE STATEMENT IS NO MORE PREPARED ON THE SERVER, SEND IT AGAIN IN FULL
+        OLogManager.instance().debug(this, "Prepared statement not found on the server, sending the full statement", e);
+      }
+    }
+    return networkOperationRetryTimeout(request, errorMessage, retry, 0);
+  }
+
+  private OQueryResponse preparedQuery(final OChannelBinaryAsynchClient network, final OStorageRemoteSession session,
+      final OQueryRequest request, final int threshold) throws IOException {
+    final OStorageRemoteNodeSession nodeSession = session.getServerSession(network.getServerURL());
+    if (nodeSession == null || network.getSrvProtocolVersion() < OChannelBinaryProtocol.PROTOCOL_VERSION_39)
+      return sendRequest(network, session, request);
+
+    final String statement = request.getStatement();
+    Integer statementId = nodeSession.getPreparedStatement(statement);
+    if (statementId == null) {
+      if (!nodeSession.countExecution(statement, threshold))
+        return sendRequest(network, session, request);
+
+      statementId = sendRequest(network, session, new OPrepareStatementRequest(request.getLanguage(), statement)).getStatementId();
+      nodeSession.addPreparedStatement(statement, statementId);
+
+      // THE PREPARE REQUEST RELEASED THE CHANNEL LOCK
+      network.acquireWriteLock();
+    }
+
+    try {
+      return sendRequest(network, session, new OQueryPreparedRequest(statementId, request));
+    } catch (OPreparedStatementNotFoundException e) {
+      nodeSession.removePreparedStatement(statement);
+      throw e;
+    }
+  }
+
+  private <T extends OBinaryResponse> T sendRequest(final OChannelBinaryAsynchClient network, final OStorageRemoteSession session,
+      final OBinaryRequest<T> request) throws IOException {
+    try {
+      network.beginRequest(request.getCommand(), session);
+      request.write(network, session);
+    } finally {
+      network.endRequest();
+    }
+    final T response = request.createResponse();
+    try {
+      beginResponse(network, session);
+      response.read(network, session);
+    } finally {
+      endResponse(network);
+    }
+    return response;
+  }
+
   public void closeQuery(ODatabaseDocumentRemote database, String queryId) {
     OCloseQueryRequest request = new OCloseQueryRequest(queryId);
     OCloseQueryResponse response = networkOperation(request, "Error closing query: " + queryId);
@@ -910,6 +1005,14 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     }
 
     OCommit37Response response = networkOperationNoRetry(request, "Error on commit");
+    final ORemoteNearCache nearCache = this.nearCache;
+    if (nearCache != null) {
+      final List<ORID> changed = new ArrayList<>();
+      for (ORecordOperation txEntry : iTx.getAllRecordEntries())
+        if (txEntry.type == ORecordOperation.UPDATED || txEntry.type == ORecordOperation.DELETED)
+          changed.add(txEntry.getRID());
+      nearCache.invalidate(url, changed, Collections.emptyList());
+    }
     for (OCommit37Response.OCreatedRecordResponse created : response.getCreated()) {
       iTx.updateIdentityAfterCommit(created.getCurrentRid(), created.getCreatedRid());
       ORecordOperation rop = iTx.getRecordEntry(created.getCurrentRid());
@@ -1376,7 +1479,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
           pushThread.start();
           subscribeStorageConfiguration(session);
           subscribeDistributedConfiguration(session);
-
+          subscribeRecordInvalidation(session);
         }
       } finally {
         stateLock.releaseWriteLock();
@@ -1392,6 +1495,38 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     //TODO
   }
 
+  private void subscribeRecordInvalidation(OStorageRemoteSession nodeSession) {
+    final int nearCacheSize = clientConfiguration.getValueAsInteger(OGlobalConfiguration.CLIENT_NEAR_CACHE_SIZE);
+    if (nearCacheSize <= 0 || pushThread.getSrvProtocolVersion() < OChannelBinaryProtocol.PROTOCOL_VERSION_40)
+      return;
+    // THE CACHE IS USED ONLY WHILE THE SERVER IS PUSHING THE INVALIDATIONS
+    if (pushThread.subscribe(new OSubscribeRecordInvalidationRequest(), nodeSession) != null)
+      nearCache = ORemoteNearCache.instance(nearCacheSize);
+  }
+
+  private void disableNearCache() {
+    final ORemoteNearCache nearCache = this.nearCache;
+    this.nearCache = null;
+    if (nearCache != null)
+      nearCache.clear(url);
+  }
+
+  /**
+   * Drops the cached records of the database after a command, that could have changed any of them: the invalidation pushed by the
+   * server is asynchronous and could arrive after the next read of this client.
+   */
+  private void invalidateNearCache() {
+    final ORemoteNearCache nearCache = this.nearCache;
+    if (nearCache != null)
+      nearCache.clear(url);
+  }
+
+  private void invalidateNearCache(final ORID rid) {
+    final ORemoteNearCache nearCache = this.nearCache;
+    if (nearCache != null)
+      nearCache.invalidate(url, rid);
+  }
+
   protected void openRemoteDatabase(String currentURL) {
     do {
       do {
@@ -1852,6 +1987,8 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
       return new OPushDistributedConfigurationRequest();
     case OChannelBinaryProtocol.REQUEST_PUSH_LIVE_QUERY:
       return new OLiveQueryPushRequest();
+    case OChannelBinaryProtocol.REQUEST_PUSH_RECORD_INVALIDATION:
+      return new OPushRecordInvalidationRequest();
 //    case OChannelBinaryProtocol.REQUEST_PUSH_STORAGE_CONFIG:
 //
 //      return  new
@@ -1909,6 +2046,13 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     }
   }
 
+  @Override
+  public void executeRecordInvalidationPush(OPushRecordInvalidationRequest request) {
+    final ORemoteNearCache nearCache = this.nearCache;
+    if (nearCache != null)
+      nearCache.invalidate(url, request.getRids(), request.getClusterIds());
+  }
+
   @Override
   public void onPushReconnect(String host) {
     if (status != STATUS.OPEN) {
@@ -1925,6 +2069,7 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
     if (aValidSession != null) {
       subscribeDistributedConfiguration(aValidSession);
       subscribeStorageConfiguration(aValidSession);
+      subscribeRecordInvalidation(aValidSession);
     } else {
       OLogManager.instance().warn(this,
           "Cannot find a valid session for subscribe for event to host '%s' forward the subscribe for the next session open ",
@@ -1944,6 +2089,8 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy, O
   @Override
   public void onPushDisconnect(OChannelBinary network, Exception e) {
     this.connectionManager.remove((OChannelBinaryAsynchClient) network);
+    // THE INVALIDATIONS PUSHED WHILE DISCONNECTED ARE LOST
+    disableNearCache();
     if (e instanceof InterruptedException) {
       for (OLiveQueryClientListener liveListener : liveQueryListener.values()) {
         liveListener.onEnd();
@@ -1,5 +1,11 @@
 package com.orientechnologies.orient.client.remote;
 
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Created by tglman on 12/04/16.
  */
@@ -8,9 +14,25 @@ public class OStorageRemoteNodeSession {
   private Integer sessionId = -1;
   private byte[]  token     = null;
 
+  // STATEMENTS PREPARED ON THE SERVER SESSION AND EXECUTION COUNT OF THE ONES NOT YET PREPARED
+  private final Map<String, Integer> preparedStatements;
+  private final Map<String, Integer> statementExecutions;
+
   public OStorageRemoteNodeSession(String serverURL, Integer uniqueClientSessionId) {
     this.serverURL = serverURL;
     this.sessionId = uniqueClientSessionId;
+
+    final int cacheSize = OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_CACHE_SIZE.getValueAsInteger();
+    this.preparedStatements = new LinkedHashMap<String, Integer>(cacheSize, 0.75f, true) {
+      protected boolean removeEldestEntry(final Map.Entry<String, Integer> eldest) {
+        return super.size() > cacheSize;
+      }
+    };
+    this.statementExecutions = new LinkedHashMap<String, Integer>(cacheSize, 0.75f, true) {
+      protected boolean removeEldestEntry(final Map.Entry<String, Integer> eldest) {
+        return super.size() > cacheSize;
+      }
+    };
   }
 
   public String getServerURL() {
@@ -26,6 +48,11 @@ public class OStorageRemoteNodeSession {
   }
 
   public void setSession(Integer sessionId, byte[] token) {
+    if (!Objects.equals(sessionId, this.sessionId)) {
+      // PREPARED STATEMENTS ARE BOUND TO THE SERVER SESSION
+      preparedStatements.clear();
+      statementExecutions.clear();
+    }
     this.sessionId = sessionId;
     this.token = token;
   }
@@ -33,4 +60,30 @@ public class OStorageRemoteNodeSession {
   public boolean isValid() {
     return this.sessionId >= 0;
   }
+
+  /**
+   * @return the server handle of the statement or null if it is not prepared on this session
+   */
+  public Integer getPreparedStatement(String statement) {
+    return preparedStatements.get(statement);
+  }
+
+  /**
+   * Counts an execution of a statement not prepared yet.
+   *
+   * @return true if the statement reached the given number of executions and should be prepared
+   */
+  public boolean countExecution(String statement, int threshold) {
+    final Integer executions = statementExecutions.merge(statement, 1, Integer::sum);
+    return executions >= threshold;
+  }
+
+  public void addPreparedStatement(String statement, int statementId) {
+    statementExecutions.remove(statement);
+    preparedStatements.put(statement, statementId);
+  }
+
+  public void removePreparedStatement(String statement) {
+    preparedStatements.remove(statement);
+  }
 }
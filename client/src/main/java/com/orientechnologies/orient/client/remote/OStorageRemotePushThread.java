@@ -41,7 +41,12 @@ public class OStorageRemotePushThread extends Thread {
           byte[] token = network.readBytes();
           byte messageId = network.readByte();
           OBinaryResponse response = currentRequest.createResponse();
-          response.read(network, null);
+          ((OChannelBinaryAsynchClient) network).beginResponseFrame();
+          try {
+            response.read(network, null);
+          } finally {
+            ((OChannelBinaryAsynchClient) network).endResponseFrame();
+          }
           blockingQueue.put((OSubscribeResponse) response);
         } else if (res == OChannelBinaryProtocol.RESPONSE_STATUS_ERROR) {
           int currentSessionId = network.readInt();
@@ -104,6 +109,10 @@ public class OStorageRemotePushThread extends Thread {
     return null;
   }
 
+  public short getSrvProtocolVersion() {
+    return ((OChannelBinaryAsynchClient) network).getSrvProtocolVersion();
+  }
+
   public void shutdown() {
     interrupt();
     pushHandler.returnSocket(this.network);
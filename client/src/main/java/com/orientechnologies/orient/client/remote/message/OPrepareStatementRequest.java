@@ -0,0 +1,88 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.client.remote.message;
+
+import com.orientechnologies.orient.client.binary.OBinaryRequestExecutor;
+import com.orientechnologies.orient.client.remote.OBinaryRequest;
+import com.orientechnologies.orient.client.remote.OBinaryResponse;
+import com.orientechnologies.orient.client.remote.OStorageRemoteSession;
+import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataInput;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataOutput;
+
+import java.io.IOException;
+
+/**
+ * Parses a statement on the server and keeps it in the session, the returned handle can then be used with
+ * {@link OQueryPreparedRequest} to execute the statement sending only the parameters.
+ */
+public final class OPrepareStatementRequest implements OBinaryRequest<OPrepareStatementResponse> {
+
+  private String language;
+  private String statement;
+
+  public OPrepareStatementRequest(String language, String statement) {
+    this.language = language;
+    this.statement = statement;
+  }
+
+  public OPrepareStatementRequest() {
+  }
+
+  @Override
+  public void write(OChannelDataOutput network, OStorageRemoteSession session) throws IOException {
+    network.writeString(language);
+    network.writeString(statement);
+  }
+
+  public void read(OChannelDataInput channel, int protocolVersion, ORecordSerializer serializer) throws IOException {
+    this.language = channel.readString();
+    this.statement = channel.readString();
+  }
+
+  @Override
+  public byte getCommand() {
+    return OChannelBinaryProtocol.REQUEST_PREPARE_STATEMENT;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Prepare remote statement";
+  }
+
+  @Override
+  public OPrepareStatementResponse createResponse() {
+    return new OPrepareStatementResponse();
+  }
+
+  @Override
+  public OBinaryResponse execute(OBinaryRequestExecutor executor) {
+    return executor.executePrepareStatement(this);
+  }
+
+  public String getLanguage() {
+    return language;
+  }
+
+  public String getStatement() {
+    return statement;
+  }
+}
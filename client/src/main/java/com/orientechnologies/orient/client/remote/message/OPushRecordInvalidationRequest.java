@@ -0,0 +1,81 @@
+package com.orientechnologies.orient.client.remote.message;
+
+import com.orientechnologies.orient.client.remote.ORemotePushHandler;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataInput;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataOutput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pushed by the server after a commit to tell the subscribed clients which records, or whole clusters, are no more valid in their
+ * near cache.
+ */
+public class OPushRecordInvalidationRequest implements OBinaryPushRequest<OBinaryPushResponse> {
+
+  private Collection<ORID>    rids;
+  private Collection<Integer> clusterIds;
+
+  public OPushRecordInvalidationRequest(Collection<ORID> rids, Collection<Integer> clusterIds) {
+    this.rids = rids;
+    this.clusterIds = clusterIds;
+  }
+
+  public OPushRecordInvalidationRequest() {
+  }
+
+  @Override
+  public byte getPushCommand() {
+    return OChannelBinaryProtocol.REQUEST_PUSH_RECORD_INVALIDATION;
+  }
+
+  @Override
+  public void write(OChannelDataOutput channel) throws IOException {
+    channel.writeInt(clusterIds.size());
+    for (Integer clusterId : clusterIds) {
+      channel.writeShort(clusterId.shortValue());
+    }
+    channel.writeInt(rids.size());
+    for (ORID rid : rids) {
+      channel.writeRID(rid);
+    }
+  }
+
+  @Override
+  public void read(OChannelDataInput network) throws IOException {
+    int size = network.readInt();
+    List<Integer> clusterIds = new ArrayList<>(size);
+    while (size-- > 0) {
+      clusterIds.add((int) network.readShort());
+    }
+    size = network.readInt();
+    List<ORID> rids = new ArrayList<>(size);
+    while (size-- > 0) {
+      rids.add(network.readRID());
+    }
+    this.clusterIds = clusterIds;
+    this.rids = rids;
+  }
+
+  public OBinaryPushResponse execute(ORemotePushHandler remote) {
+    remote.executeRecordInvalidationPush(this);
+    return null;
+  }
+
+  @Override
+  public OBinaryPushResponse createResponse() {
+    return null;
+  }
+
+  public Collection<ORID> getRids() {
+    return rids;
+  }
+
+  public Collection<Integer> getClusterIds() {
+    return clusterIds;
+  }
+}
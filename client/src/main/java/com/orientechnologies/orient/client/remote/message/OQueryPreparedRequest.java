@@ -0,0 +1,142 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.client.remote.message;
+
+import com.orientechnologies.orient.client.binary.OBinaryRequestExecutor;
+import com.orientechnologies.orient.client.remote.OBinaryRequest;
+import com.orientechnologies.orient.client.remote.OBinaryResponse;
+import com.orientechnologies.orient.client.remote.OStorageRemoteSession;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataInput;
+import com.orientechnologies.orient.enterprise.channel.binary.OChannelDataOutput;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Executes a statement prepared with {@link OPrepareStatementRequest}, sending only the statement handle and the parameters.
+ */
+public final class OQueryPreparedRequest implements OBinaryRequest<OQueryResponse> {
+
+  private int                 statementId;
+  private int                 statementHash;
+  private byte                operationType;
+  private int                 recordsPerPage;
+  private ORecordSerializer   serializer;
+  private Map<String, Object> params;
+  private boolean             namedParams;
+
+  public OQueryPreparedRequest(int statementId, OQueryRequest request) {
+    this.statementId = statementId;
+    this.statementHash = request.getStatement().hashCode();
+    this.operationType = request.getOperationType();
+    this.recordsPerPage = request.getRecordsPerPage();
+    this.serializer = request.getSerializer();
+    this.params = request.getParams();
+    this.namedParams = request.isNamedParams();
+  }
+
+  public OQueryPreparedRequest() {
+  }
+
+  @Override
+  public void write(OChannelDataOutput network, OStorageRemoteSession session) throws IOException {
+    network.writeInt(statementId);
+    network.writeInt(statementHash);
+    network.writeByte(operationType);
+    network.writeInt(recordsPerPage);
+
+    // params
+    ODocument parms = new ODocument();
+    parms.field("params", this.params);
+
+    byte[] bytes = OMessageHelper.getRecordBytes(parms, serializer);
+    network.writeBytes(bytes);
+    network.writeBoolean(namedParams);
+  }
+
+  public void read(OChannelDataInput channel, int protocolVersion, ORecordSerializer serializer) throws IOException {
+    this.statementId = channel.readInt();
+    this.statementHash = channel.readInt();
+    this.operationType = channel.readByte();
+    this.recordsPerPage = channel.readInt();
+
+    // params
+    ODocument paramsDoc = new ODocument();
+    byte[] bytes = channel.readBytes();
+    serializer.fromStream(bytes, paramsDoc, null);
+    this.params = paramsDoc.field("params");
+    this.namedParams = channel.readBoolean();
+  }
+
+  @Override
+  public byte getCommand() {
+    return OChannelBinaryProtocol.REQUEST_QUERY_PREPARED;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Execute remote prepared statement";
+  }
+
+  @Override
+  public OQueryResponse createResponse() {
+    return new OQueryResponse();
+  }
+
+  @Override
+  public OBinaryResponse execute(OBinaryRequestExecutor executor) {
+    return executor.executeQueryPrepared(this);
+  }
+
+  public int getStatementId() {
+    return statementId;
+  }
+
+  public int getStatementHash() {
+    return statementHash;
+  }
+
+  public byte getOperationType() {
+    return operationType;
+  }
+
+  public int getRecordsPerPage() {
+    return recordsPerPage;
+  }
+
+  public boolean isNamedParams() {
+    return namedParams;
+  }
+
+  public Map getNamedParameters() {
+    return params;
+  }
+
+  public Object[] getPositionalParameters() {
+    Object[] result = new Object[params.size()];
+    params.entrySet().forEach(e -> {
+      result[Integer.parseInt(e.getKey())] = e.getValue();
+    });
+    return result;
+  }
+}
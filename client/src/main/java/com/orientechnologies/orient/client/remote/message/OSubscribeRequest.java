@@ -48,6 +48,8 @@ public class OSubscribeRequest implements OBinaryRequest<OSubscribeResponse> {
       return new OSubscribeDistributedConfigurationRequest();
     case OChannelBinaryProtocol.SUBSCRIBE_PUSH_LIVE_QUERY:
       return new OSubscribeLiveQueryRequest();
+    case OChannelBinaryProtocol.SUBSCRIBE_PUSH_RECORD_INVALIDATION:
+      return new OSubscribeRecordInvalidationRequest();
     }
 
     throw new ODatabaseException("Unknown message response for code:" + message);
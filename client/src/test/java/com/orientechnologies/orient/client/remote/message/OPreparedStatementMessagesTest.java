@@ -0,0 +1,76 @@
+package com.orientechnologies.orient.client.remote.message;
+
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OPreparedStatementMessagesTest {
+
+  @Test
+  public void testPrepareStatement() throws IOException {
+    OPrepareStatementRequest request = new OPrepareStatementRequest("sql", "select from Foo where a = ?");
+    MockChannel channel = new MockChannel();
+    request.write(channel, null);
+    channel.close();
+
+    OPrepareStatementRequest other = new OPrepareStatementRequest();
+    other.read(channel, -1, ORecordSerializerNetworkFactory.INSTANCE.current());
+    Assert.assertEquals(request.getLanguage(), other.getLanguage());
+    Assert.assertEquals(request.getStatement(), other.getStatement());
+
+    OPrepareStatementResponse response = new OPrepareStatementResponse(42);
+    channel = new MockChannel();
+    response.write(channel, 0, ORecordSerializerNetworkFactory.INSTANCE.current());
+    channel.close();
+
+    OPrepareStatementResponse otherResponse = new OPrepareStatementResponse();
+    otherResponse.read(channel, null);
+    Assert.assertEquals(42, otherResponse.getStatementId());
+  }
+
+  @Test
+  public void testQueryPreparedWithPositionalParams() throws IOException {
+    OQueryRequest query = new OQueryRequest("sql", "select from Foo where a = ?", new Object[] { 1, "Foo" }, OQueryRequest.QUERY,
+        ORecordSerializerNetworkFactory.INSTANCE.current(), 123);
+    OQueryPreparedRequest request = new OQueryPreparedRequest(7, query);
+
+    MockChannel channel = new MockChannel();
+    request.write(channel, null);
+    channel.close();
+
+    OQueryPreparedRequest other = new OQueryPreparedRequest();
+    other.read(channel, -1, ORecordSerializerNetworkFactory.INSTANCE.current());
+
+    Assert.assertEquals(7, other.getStatementId());
+    Assert.assertEquals(query.getStatement().hashCode(), other.getStatementHash());
+    Assert.assertFalse(other.isNamedParams());
+    Assert.assertArrayEquals(query.getPositionalParameters(), other.getPositionalParameters());
+    Assert.assertEquals(query.getOperationType(), other.getOperationType());
+    Assert.assertEquals(query.getRecordsPerPage(), other.getRecordsPerPage());
+  }
+
+  @Test
+  public void testQueryPreparedWithNamedParams() throws IOException {
+    Map<String, Object> params = new HashMap<>();
+    params.put("foo", "bar");
+    params.put("baz", 12);
+    OQueryRequest query = new OQueryRequest("sql", "select from Foo where a = :foo and b = :baz", params, OQueryRequest.COMMAND,
+        ORecordSerializerNetworkFactory.INSTANCE.current(), 123);
+    OQueryPreparedRequest request = new OQueryPreparedRequest(7, query);
+
+    MockChannel channel = new MockChannel();
+    request.write(channel, null);
+    channel.close();
+
+    OQueryPreparedRequest other = new OQueryPreparedRequest();
+    other.read(channel, -1, ORecordSerializerNetworkFactory.INSTANCE.current());
+
+    Assert.assertTrue(other.isNamedParams());
+    Assert.assertEquals(query.getNamedParameters(), other.getNamedParameters());
+    Assert.assertEquals(query.getOperationType(), other.getOperationType());
+  }
+}
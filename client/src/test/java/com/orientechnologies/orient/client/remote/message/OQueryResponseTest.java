@@ -1,5 +1,8 @@
 package com.orientechnologies.orient.client.remote.message;
 
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
+import com.orientechnologies.orient.core.compression.impl.OGZIPCompression;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkFactory;
 import com.orientechnologies.orient.core.sql.executor.OInternalResultSet;
 import com.orientechnologies.orient.core.sql.executor.OResult;
@@ -48,4 +51,44 @@ public class OQueryResponseTest {
     Assert.assertFalse(responseRs.hasNext());
   }
 
+  @Test
+  public void testFramed() throws IOException {
+    OCompression compression = OCompressionFactory.INSTANCE.getCompression(OGZIPCompression.NAME, null);
+
+    List<OResultInternal> resuls = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      OResultInternal item = new OResultInternal();
+      item.setProperty("name", "foo");
+      item.setProperty("counter", i);
+      resuls.add(item);
+    }
+    OQueryResponse response = new OQueryResponse("query", false, resuls, Optional.empty(), false, new HashMap<>());
+
+    MockChannel channel = new MockChannel();
+    channel.beginFrame();
+    response.write(channel, OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION, ORecordSerializerNetworkFactory.INSTANCE.current());
+    int frameSize = channel.getFrameSize();
+    int sentSize = channel.endFrame(compression);
+    Assert.assertTrue(sentSize < frameSize);
+    channel.writeByte((byte) 42);
+
+    channel.close();
+
+    OQueryResponse newResponse = new OQueryResponse();
+
+    channel.beginReadFrame(compression);
+    newResponse.read(channel, null);
+    channel.endReadFrame();
+    Assert.assertEquals(42, channel.readByte());
+
+    Iterator<OResultInternal> responseRs = newResponse.getResult().iterator();
+    for (int i = 0; i < 100; i++) {
+      Assert.assertTrue(responseRs.hasNext());
+      OResult item = responseRs.next();
+      Assert.assertEquals("foo", item.getProperty("name"));
+      Assert.assertEquals((Integer) i, item.getProperty("counter"));
+    }
+    Assert.assertFalse(responseRs.hasNext());
+  }
+
 }
@@ -1,10 +1,13 @@
 package com.orientechnologies.orient.client.remote.message;
 
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkV37;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
@@ -33,6 +36,22 @@ public class ORemotePushMessagesTest {
     assertEquals(readRequest.getHosts().get(1), "two");
   }
 
+  @Test
+  public void testRecordInvalidation() throws IOException {
+    MockChannel channel = new MockChannel();
+    List<ORID> rids = new ArrayList<>();
+    rids.add(new ORecordId(10, 1));
+    rids.add(new ORecordId(11, 2));
+    OPushRecordInvalidationRequest request = new OPushRecordInvalidationRequest(rids, Collections.singletonList(12));
+    request.write(channel);
+    channel.close();
+
+    OPushRecordInvalidationRequest readRequest = new OPushRecordInvalidationRequest();
+    readRequest.read(channel);
+    assertEquals(readRequest.getRids(), rids);
+    assertEquals(readRequest.getClusterIds(), Collections.singletonList(12));
+  }
+
   @Test
   public void testSubscribeRequest() throws IOException {
     MockChannel channel = new MockChannel();
@@ -27,8 +27,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -115,6 +117,24 @@ public class Orient extends OListenerManger<OOrientListener> {
   private volatile OSecuritySystem    security;
   private boolean runningDistributed = false;
 
+  /**
+   * Thread of the pool that executes the tasks passed to {@link #submit(Callable)} and {@link #submit(Runnable)}.
+   */
+  private static class WorkerThread extends Thread {
+    private WorkerThread(Runnable r, String name) {
+      super(r, name);
+    }
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      return new WorkerThread(r, "OrientDB Worker #" + counter.incrementAndGet());
+    }
+  }
+
   private static class WeakHashSetValueHolder<T> extends WeakReference<T> {
     private final int hashCode;
 
@@ -231,7 +251,7 @@ public class Orient extends OListenerManger<OOrientListener> {
           }
           return false;
         }
-      });
+      }, new WorkerThreadFactory());
 
       registerEngines();
 
@@ -426,6 +446,14 @@ public class Orient extends OListenerManger<OOrientListener> {
     }
   }
 
+  /**
+   * Returns true if the current thread is one of the workers that execute the tasks passed to submit(). A worker that waits for
+   * other submitted tasks can exhaust the pool, so parallel algorithms should run serially in this case.
+   */
+  public boolean isWorkerThread() {
+    return Thread.currentThread() instanceof WorkerThread;
+  }
+
   public boolean isWindowsOS() {
     return os.contains("win");
   }
@@ -0,0 +1,147 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.cache;
+
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the vertices of the most used edges, so the neighbours of a vertex are found from the edge RIDs in the RidBags without
+ * loading the edge records. The edges are added when they are traversed and are removed on update and delete by
+ * {@link OAdjacencyCacheHook}. Only persistent RIDs are kept.
+ * <p>
+ * An edge read before an update could be put back after the hook removed it, so every invalidation increments a stamp of the
+ * edge, taken by the reader before loading the edge and checked by {@link #put(OIdentifiable, OIdentifiable, OIdentifiable, long)}.
+ * The cache must be disabled on the databases changed without record hooks, like the replicas that apply the WAL of another
+ * server.
+ *
+ * @see OGlobalConfiguration#GRAPH_ADJACENCY_CACHE_SIZE
+ */
+public class OAdjacencyCache {
+  private static final int STAMPS = 256;
+
+  private final int                                 maxSize;
+  private final ConcurrentLinkedHashMap<ORID, ORID[]> cache;
+  private final AtomicLongArray                     stamps = new AtomicLongArray(STAMPS);
+  private volatile boolean                          disabled;
+
+  public OAdjacencyCache(final int maxSize) {
+    this.maxSize = maxSize;
+    this.cache = maxSize > 0 ?
+        new ConcurrentLinkedHashMap.Builder<ORID, ORID[]>().maximumWeightedCapacity(maxSize).build() :
+        null;
+  }
+
+  public boolean isEnabled() {
+    return cache != null && !disabled;
+  }
+
+  /**
+   * Disables the cache for good, because the database receives changes that do not call the record hooks.
+   */
+  public void disable() {
+    disabled = true;
+    clear();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public int size() {
+    return cache != null ? cache.size() : 0;
+  }
+
+  /**
+   * Returns the vertex of the edge in the passed direction: OUT returns the incoming vertex ('in' field) and IN the outgoing one,
+   * like {@link com.orientechnologies.orient.core.record.OEdge#getTo()} and
+   * {@link com.orientechnologies.orient.core.record.OEdge#getFrom()}.
+   *
+   * @return the RID of the vertex, or null if the edge is not cached
+   */
+  public ORID getVertex(final ORID edge, final ODirection direction) {
+    if (!isEnabled())
+      return null;
+
+    final ORID[] vertices = cache.get(edge);
+    if (vertices == null)
+      return null;
+
+    return direction == ODirection.OUT ? vertices[1] : vertices[0];
+  }
+
+  /**
+   * Returns the invalidation stamp of the edge, to take before loading the edge that is going to be put in the cache.
+   */
+  public long getStamp(final ORID edge) {
+    return stamps.get(stampIndex(edge));
+  }
+
+  /**
+   * Puts the vertices of the edge, unless the edge has been invalidated since the stamp has been taken.
+   */
+  public void put(final OIdentifiable edge, final OIdentifiable out, final OIdentifiable in, final long stamp) {
+    if (!isEnabled() || edge == null || out == null || in == null)
+      return;
+
+    final ORID edgeId = edge.getIdentity();
+    final ORID outId = out.getIdentity();
+    final ORID inId = in.getIdentity();
+    if (!edgeId.isPersistent() || !outId.isPersistent() || !inId.isPersistent())
+      return;
+
+    final int index = stampIndex(edgeId);
+    if (stamps.get(index) != stamp)
+      return;
+
+    // COPY THE RIDS BECAUSE THEY CAN BE CHANGED BY THE OWNER RECORDS
+    final ORID key = edgeId.copy();
+    cache.put(key, new ORID[] { outId.copy(), inId.copy() });
+
+    // INVALIDATED WHILE PUTTING IT
+    if (stamps.get(index) != stamp)
+      cache.remove(key);
+  }
+
+  public void invalidate(final ORID edge) {
+    if (cache != null) {
+      // THE STAMP IS INCREMENTED BEFORE REMOVING THE EDGE, SO A CONCURRENT put() SEES IT AFTER PUTTING THE OLD VERTICES
+      stamps.incrementAndGet(stampIndex(edge));
+      cache.remove(edge);
+    }
+  }
+
+  public void clear() {
+    if (cache != null) {
+      for (int i = 0; i < STAMPS; ++i)
+        stamps.incrementAndGet(i);
+      cache.clear();
+    }
+  }
+
+  private static int stampIndex(final ORID edge) {
+    return (edge.hashCode() & 0x7fffffff) % STAMPS;
+  }
+}
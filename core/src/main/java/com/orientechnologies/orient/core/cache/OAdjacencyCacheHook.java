@@ -0,0 +1,61 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.record.ORecord;
+
+/**
+ * Hook that removes the updated and deleted edges from the adjacency cache. The edges are added to the cache when they are
+ * traversed, because inside a transaction the hooks are called before the RIDs of the new records are final.
+ *
+ * @see OAdjacencyCache
+ */
+public class OAdjacencyCacheHook extends ORecordHookAbstract {
+
+  private final OAdjacencyCache adjacencyCache;
+
+  public OAdjacencyCacheHook(final ODatabaseDocumentInternal iDatabase) {
+    adjacencyCache = iDatabase.getSharedContext().getAdjacencyCache();
+  }
+
+  @Override
+  public SCOPE[] getScopes() {
+    return new SCOPE[] { SCOPE.UPDATE, SCOPE.DELETE };
+  }
+
+  @Override
+  public void onRecordAfterUpdate(final ORecord iRecord) {
+    adjacencyCache.invalidate(iRecord.getIdentity());
+  }
+
+
+  @Override
+  public void onRecordAfterDelete(final ORecord iRecord) {
+    adjacencyCache.invalidate(iRecord.getIdentity());
+  }
+
+
+  @Override
+  public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+    return DISTRIBUTED_EXECUTION_MODE.BOTH;
+  }
+}
@@ -210,6 +210,13 @@ public enum OGlobalConfiguration {
       "If this flag is set metadata which contains rids of changed records is added at the end of each atomic operation",
       Boolean.class, false),
 
+  /**
+   * @Since 3.0
+   */
+  STORAGE_CHANGED_RECORDS_JOURNAL_SIZE("storage.changedRecordsJournalSize",
+      "Maximum size in megabytes of the journal that keeps the rids of the records changed in the WAL segments removed by the checkpoints, so a delta sync is possible also when the WAL has been truncated. It needs 'storage.trackChangedRecordsInWAL'. Use 0 to disable the journal",
+      Integer.class, 0),
+
   STORAGE_INTERNAL_JOURNALED_TX_STREAMING_PORT("storage.internal.journaled.tx.streaming.port", "Activates journaled tx streaming "
       + "on the given TCP/IP port. Used for internal testing purposes only. Never touch it if you don't know what you doing.",
       Integer.class, null),
@@ -477,6 +484,21 @@ public enum OGlobalConfiguration {
   NETWORK_BINARY_DEBUG("network.binary.debug", "Debug mode: print all data incoming on the binary channel", Boolean.class, false,
       true),
 
+  NETWORK_BINARY_COMPRESSION("network.binary.compression",
+      "Compression requested by the client for the responses of the binary protocol (e.g. 'gzip', 'snappy'). Empty to disable",
+      String.class, ""),
+
+  NETWORK_BINARY_COMPRESSION_THRESHOLD("network.binary.compression.threshold",
+      "Minimum size (in bytes) of a binary protocol response to be compressed. Smaller responses are sent uncompressed",
+      Integer.class, 1024, true),
+
+  NETWORK_BINARY_PREPARED_STATEMENTS_THRESHOLD("network.binary.preparedStatements.threshold",
+      "Number of executions of the same SQL statement on a remote session after which the client prepares it on the server and "
+          + "sends only the statement handle and the parameters. 0 to disable", Integer.class, 2, true),
+
+  NETWORK_BINARY_PREPARED_STATEMENTS_CACHE_SIZE("network.binary.preparedStatements.cacheSize",
+      "Maximum number of prepared statements kept for each binary protocol session", Integer.class, 100, true),
+
   // HTTP
 
   /**
@@ -630,6 +652,34 @@ public enum OGlobalConfiguration {
 
   QUERY_LIVE_SUPPORT("query.live.support", "Enable/Disable the support of live query. (Use false to disable)", Boolean.class, true),
 
+  /**
+   * @Since 3.0
+   */
+  QUERY_STATISTICS_SAMPLE_SIZE("query.statisticsSampleSize",
+      "Number of records of a class read to collect the statistics used by the MATCH planner to estimate the cost of the traversals. The records are sampled across the clusters of the class in background, the first queries on a class are planned without statistics. (Use 0 to disable)",
+      Integer.class, 0),
+
+  /**
+   * @Since 3.0
+   */
+  QUERY_MATCH_BATCH_SIZE("query.matchBatchSize",
+      "Number of upstream results whose traversals are loaded together by MATCH, reading the records sorted by cluster and position. (Use 0 to disable)",
+      Integer.class, 0),
+
+  /**
+   * @Since 3.0
+   */
+  QUERY_SUPERNODE_THRESHOLD("query.supernodeThreshold",
+      "Number of edges of a label above which a vertex is considered a supernode. Traversals from a supernode filtered by the target vertices or by an indexed edge property look up the indexes of the edge class instead of loading every edge",
+      Integer.class, 1000),
+
+  /**
+   * @Since 3.0
+   */
+  QUERY_TRAVERSE_PARALLELISM("query.traverseParallelism",
+      "Maximum number of parallel tasks that expand each level of a breadth-first TRAVERSE, each one reading with a database instance of its own. (Use 0 or 1 to traverse on the calling thread)",
+      Integer.class, 0),
+
   STATEMENT_CACHE_SIZE("statement.cacheSize", "Number of parsed SQL statements kept in cache", Integer.class, 100),
 
   // GRAPH
@@ -640,6 +690,13 @@ public enum OGlobalConfiguration {
           + "With 'notx_sync_repair' the repair is synchronous, so the database comes online after the repair is ended, while "
           + "with 'notx_async_repair' the repair is a background process", String.class, "tx"),
 
+  /**
+   * @Since 3.0
+   */
+  GRAPH_ADJACENCY_CACHE_SIZE("graph.adjacencyCacheSize",
+      "Maximum number of edges per database whose vertices are kept in memory, so the neighbours of a vertex are traversed without loading the edges. Use 0 to disable",
+      Integer.class, 0),
+
   /**
    * Maximum size of pool of network channels between client and server. A channel is a TCP/IP connection.
    */
@@ -656,6 +713,14 @@ public enum OGlobalConfiguration {
   CLIENT_DB_RELEASE_WAIT_TIMEOUT("client.channel.dbReleaseWaitTimeout",
       "Delay (in ms), after which a data modification command will be resent, if the DB was frozen", Integer.class, 10000, true),
 
+  /**
+   * Maximum number of records kept in the near cache shared by all the remote storages of the process. 0 disables it.
+   */
+  CLIENT_NEAR_CACHE_SIZE("client.nearCache.size",
+      "Maximum number of records kept in the near cache shared by all the remote databases of the process. The server keeps the "
+          + "cache coherent pushing the invalidation of the records changed by other clients. 0 = disabled", Integer.class, 0,
+      true),
+
   CLIENT_USE_SSL("client.ssl.enabled", "Use SSL for client connections", Boolean.class, false),
 
   CLIENT_SSL_KEYSTORE("client.ssl.keyStore", "Use SSL for client connections", String.class, null),
@@ -717,6 +782,34 @@ public enum OGlobalConfiguration {
   DISTRIBUTED_DEPLOYDB_TASK_COMPRESSION("distributed.deployDbTaskCompression",
       "Compression level (between 0 and 9) to use in backup for database deployment", Integer.class, 7, true),
 
+  /**
+   * @Since 3.0
+   */
+  DISTRIBUTED_DEPLOYDB_STREAMING("distributed.deployDbStreaming",
+      "Send the backup for database deployment while it's created, keeping only few chunks in memory instead of writing it on disk first. The database stays frozen until the new node received the whole backup, so it's disabled by default",
+      Boolean.class, false, true),
+
+  /**
+   * @Since 3.0
+   */
+  DISTRIBUTED_WAL_SHIPPING("distributed.walShipping",
+      "The REPLICA servers receive the changes as WAL records streamed from a MASTER and apply them directly to the pages, instead of executing the replicated operations. The setting must be the same on all the servers, and the MASTER servers need 'storage.trackChangedRecordsInWAL' to let the replicas reload the schema when it changes",
+      Boolean.class, false),
+
+  /**
+   * @Since 3.0
+   */
+  DISTRIBUTED_READ_ROUTING("distributed.readRouting",
+      "How the reads with quorum 1 of records not owned by the local server are routed: 'all' sends them to all the servers and takes the first response, 'fastest' sends them to the server with the lowest latency and the fewest pending reads, 'powerOfTwo' picks the best of two random servers, spreading the load better",
+      String.class, "all"),
+
+  /**
+   * @Since 3.0
+   */
+  DISTRIBUTED_TX_PIPELINED("distributed.txPipelined",
+      "Releases the locks of a synchronous distributed transaction as soon as the quorum is reached, instead of waiting for the responses of all the servers. The slower servers receive the end of the transaction when they answer. This increases the throughput on records updated frequently",
+      Boolean.class, false),
+
   DISTRIBUTED_ASYNCH_QUEUE_SIZE("distributed.asynchQueueSize",
       "Queue size to handle distributed asynchronous operations. The bigger is the queue, the more operation are buffered, but also more memory it's consumed. 0 = dynamic allocation, which means up to 2^31-1 entries",
       Integer.class, 0),
@@ -765,6 +858,13 @@ public enum OGlobalConfiguration {
   DISTRIBUTED_RESPONSE_CHANNELS("distributed.responseChannels", "Number of network channels used to send responses", Integer.class,
       1),
 
+  /**
+   * @Since 3.0
+   */
+  DISTRIBUTED_MESSAGES_BATCH_SIZE("distributed.messagesBatchSize",
+      "Maximum number of requests and responses sent to a node in one network message. Messages are coalesced only while a previous write on the same channel is in progress, so batching never delays a message. Use 1 to disable batching",
+      Integer.class, 100),
+
   /**
    * @Since 2.2.5
    */
@@ -0,0 +1,157 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.conflict;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBagDelta;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentHelper;
+import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSaveThreadLocal;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.OStorageOperationResult;
+import com.orientechnologies.orient.core.tx.OTransactionRealAbstract;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Merges concurrent updates of a document that only add or remove items of its RidBags, like the creation of edges on the same
+ * vertex by concurrent transactions. The changes of the RidBags are commutative: the items added and removed by the current
+ * update are applied to the stored RidBags, while the SB-Tree based RidBags are updated by their own deltas. If any other field
+ * has been changed the version is checked as usual.
+ */
+public class ORidBagDeltaRecordConflictStrategy extends OVersionRecordConflictStrategy {
+  public static final String NAME = "ridbagdelta";
+
+  @Override
+  public byte[] onUpdate(OStorage storage, final byte iRecordType, final ORecordId rid, final int iRecordVersion,
+      final byte[] iRecordContent, final AtomicInteger iDatabaseVersion) {
+
+    final ODocument newRecord =
+        ORecordSaveThreadLocal.getLast() instanceof ODocument ? (ODocument) ORecordSaveThreadLocal.getLast() : null;
+
+    if (iRecordType == ODocument.RECORD_TYPE && newRecord != null && newRecord.getIdentity().equals(rid)) {
+      // No need lock, is already inside a lock.
+      OStorageOperationResult<ORawBuffer> res = storage.readRecord(rid, null, false, false, null);
+      final ODocument storedRecord = new ODocument(rid).fromStream(res.getResult().getBuffer());
+
+      if (mergeRidBags(storedRecord, newRecord)) {
+        iDatabaseVersion.set(Math.max(iDatabaseVersion.get(), iRecordVersion) + 1);
+        return storedRecord.toStream();
+      }
+    }
+
+    // NOT ONLY RIDBAG CHANGES, RELY TO THE VERSION CHECK
+    checkVersions(rid, iRecordVersion, iDatabaseVersion.get());
+    return null;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  /**
+   * Applies to the stored record the changes of the RidBags of the new record.
+   *
+   * @return false if the records differ for something else than the content of the RidBags
+   */
+  protected boolean mergeRidBags(final ODocument storedRecord, final ODocument newRecord) {
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.get();
+
+    // CHANGES SAVED IN THE TRANSACTION PLUS THE ONES STILL TRACKED BY THE DOCUMENT
+    final Map<String, ORidBagDelta> deltas = new HashMap<String, ORidBagDelta>();
+    if (db.getTransaction() instanceof OTransactionRealAbstract) {
+      final Map<String, ORidBagDelta> txDeltas = ((OTransactionRealAbstract) db.getTransaction())
+          .getRidBagDeltas(newRecord.getIdentity());
+      if (txDeltas != null)
+        deltas.putAll(txDeltas);
+    }
+    ORidBagDelta.collect(newRecord, deltas);
+
+    for (String fieldName : storedRecord.fieldNames()) {
+      if (!newRecord.containsField(fieldName)) {
+        // ADDED CONCURRENTLY OR REMOVED BY THE CURRENT UPDATE: ONLY THE RIDBAGS ADDED CONCURRENTLY ARE KEPT
+        final ORidBagDelta delta = deltas.get(fieldName);
+        if (!(storedRecord.rawField(fieldName) instanceof ORidBag) || (delta != null && delta.isReplaced()))
+          return false;
+      }
+    }
+
+    for (String fieldName : newRecord.fieldNames()) {
+      final Object newValue = newRecord.rawField(fieldName);
+      final boolean stored = storedRecord.containsField(fieldName);
+      final Object storedValue = storedRecord.rawField(fieldName);
+
+      if (!(newValue instanceof ORidBag)) {
+        if (!stored || !ODocumentHelper.hasSameContentItem(storedValue, db, newValue, db, null))
+          return false;
+        continue;
+      }
+
+      final ORidBag newBag = (ORidBag) newValue;
+      final ORidBagDelta delta = deltas.get(fieldName);
+      if (delta != null && delta.isReplaced())
+        return false;
+
+      if (!stored) {
+        if (delta == null || !delta.isCreated() || !newBag.isEmbedded())
+          // REMOVED CONCURRENTLY
+          return false;
+        storedRecord.field(fieldName, copy(newBag));
+        continue;
+      }
+
+      if (!(storedValue instanceof ORidBag))
+        return false;
+      final ORidBag storedBag = (ORidBag) storedValue;
+
+      if (!newBag.isEmbedded()) {
+        // THE DELTAS OF THE SB-TREE ARE APPLIED TO THE TREE ITSELF, THAT HAS TO BE THE SAME
+        if (storedBag.isEmbedded() || !storedBag.getPointer().equals(newBag.getPointer()))
+          return false;
+      } else if (!storedBag.isEmbedded()) {
+        return false;
+      } else if (delta != null && delta.isCreated()) {
+        // CREATED ALSO CONCURRENTLY: ALL THE ITEMS OF THE NEW BAG HAVE BEEN ADDED BY THE CURRENT UPDATE
+        for (Iterator<OIdentifiable> it = newBag.rawIterator(); it.hasNext(); )
+          storedBag.add(it.next());
+      } else if (delta != null)
+        delta.applyTo(storedBag);
+    }
+
+    return true;
+  }
+
+  private static ORidBag copy(final ORidBag bag) {
+    final ORidBag result = new ORidBag();
+    for (Iterator<OIdentifiable> it = bag.rawIterator(); it.hasNext(); )
+      result.add(it.next());
+    return result;
+  }
+}
@@ -49,6 +49,12 @@ public interface ODatabaseListener {
 
   void onAfterTxCommit(final ODatabase iDatabase);
 
+  /**
+   * Called once the micro-transaction that wraps a non transactional record operation has been committed to the storage.
+   */
+  default void onAfterMicroTxCommit(final ODatabase iDatabase) {
+  }
+
   void onClose(final ODatabase iDatabase);
 
   void onBeforeCommand(final OCommandRequestText iCommand, final OCommandExecutor executor);
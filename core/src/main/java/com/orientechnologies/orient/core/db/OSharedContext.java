@@ -4,6 +4,7 @@ import com.orientechnologies.common.concur.resource.OCloseable;
 import com.orientechnologies.common.listener.OListenerManger;
 import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OAdjacencyCache;
 import com.orientechnologies.orient.core.cache.OCommandCache;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
 import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
@@ -14,8 +15,12 @@ import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
 import com.orientechnologies.orient.core.sql.executor.OQueryStats;
+import com.orientechnologies.orient.core.sql.functions.graph.OGraphSnapshot;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Created by tglman on 15/06/16.
  */
@@ -33,6 +38,8 @@ public abstract class OSharedContext extends OListenerManger<OMetadataUpdateList
   protected OCommandCache                  commandCache;
   protected OStatementCache                statementCache;
   protected OQueryStats                    queryStats;
+  protected OAdjacencyCache                adjacencyCache;
+  protected final Map<String, OGraphSnapshot> graphSnapshots = new ConcurrentHashMap<String, OGraphSnapshot>();
   protected volatile boolean loaded = false;
 
   public OSharedContext() {
@@ -83,6 +90,17 @@ public abstract class OSharedContext extends OListenerManger<OMetadataUpdateList
     return queryStats;
   }
 
+  public OAdjacencyCache getAdjacencyCache() {
+    return adjacencyCache;
+  }
+
+  /**
+   * Returns the graph snapshots of the database by name.
+   */
+  public Map<String, OGraphSnapshot> getGraphSnapshots() {
+    return graphSnapshots;
+  }
+
   public abstract void load(ODatabaseDocumentInternal oDatabaseDocumentInternal);
 
   public abstract void reload(ODatabaseDocumentInternal database);
@@ -1,5 +1,6 @@
 package com.orientechnologies.orient.core.db;
 
+import com.orientechnologies.orient.core.cache.OAdjacencyCache;
 import com.orientechnologies.orient.core.cache.OCommandCacheSoftRefs;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.index.OIndexManagerShared;
@@ -37,6 +38,8 @@ public class OSharedContextEmbedded extends OSharedContext {
     statementCache = new OStatementCache(
         storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.STATEMENT_CACHE_SIZE));
     queryStats = new OQueryStats();
+    adjacencyCache = new OAdjacencyCache(
+        storage.getConfiguration().getContextConfiguration().getValueAsInteger(OGlobalConfiguration.GRAPH_ADJACENCY_CACHE_SIZE));
     activeDistributedQueries = new HashMap<>();
   }
 
@@ -71,6 +74,8 @@ public class OSharedContextEmbedded extends OSharedContext {
     sequenceLibrary.close();
     commandCache.clear();
     commandCache.shutdown();
+    adjacencyCache.clear();
+    graphSnapshots.clear();
     liveQueryOps.close();
     liveQueryOpsV2.close();
     activeDistributedQueries.values().forEach(x -> x.close());
@@ -3092,14 +3092,22 @@ public abstract class ODatabaseDocumentAbstract extends OListenerManger<ODatabas
     assert microTransaction != null;
 
     try {
-      if (success)
+      if (success) {
         try {
           microTransaction.commit();
         } catch (Exception e) {
           microTransaction.rollbackAfterFailedCommit();
           throw e;
         }
-      else
+
+        if (!microTransaction.isActive())
+          for (ODatabaseListener listener : browseListeners())
+            try {
+              listener.onAfterMicroTxCommit(this);
+            } catch (Exception e) {
+              OLogManager.instance().error(this, "Error after micro-transaction commit", e);
+            }
+      } else
         microTransaction.rollback();
     } finally {
       if (!microTransaction.isActive())
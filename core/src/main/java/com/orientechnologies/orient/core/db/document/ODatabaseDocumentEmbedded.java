@@ -23,6 +23,7 @@ package com.orientechnologies.orient.core.db.document;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OAdjacencyCacheHook;
 import com.orientechnologies.orient.core.cache.OCommandCacheHook;
 import com.orientechnologies.orient.core.cache.OLocalRecordCache;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
@@ -132,6 +133,8 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
 
       installHooksEmbedded();
       registerHook(new OCommandCacheHook(this), ORecordHook.HOOK_POSITION.REGULAR);
+      if (getSharedContext().getAdjacencyCache().isEnabled())
+        registerHook(new OAdjacencyCacheHook(this), ORecordHook.HOOK_POSITION.REGULAR);
       registerHook(new OSecurityTrackerHook(metadata.getSecurity(), this), ORecordHook.HOOK_POSITION.LAST);
 
       user = null;
@@ -220,6 +223,8 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
     createMetadata();
 
     registerHook(new OCommandCacheHook(this), ORecordHook.HOOK_POSITION.REGULAR);
+    if (getSharedContext().getAdjacencyCache().isEnabled())
+      registerHook(new OAdjacencyCacheHook(this), ORecordHook.HOOK_POSITION.REGULAR);
     registerHook(new OSecurityTrackerHook(metadata.getSecurity(), this), ORecordHook.HOOK_POSITION.LAST);
   }
 
@@ -350,11 +355,7 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
     if (!statement.isIdempotent()) {
       throw new OCommandExecutionException("Cannot execute query on non idempotent statement: " + query);
     }
-    OResultSet original = statement.execute(this, args);
-    OLocalResultSetLifecycleDecorator result = new OLocalResultSetLifecycleDecorator(original);
-    this.queryStarted(result.getQueryId(),result);
-    result.addLifecycleListener(this);
-    return result;
+    return executeStatement(statement, args);
   }
 
   @Override
@@ -363,29 +364,44 @@ public class ODatabaseDocumentEmbedded extends ODatabaseDocumentAbstract impleme
     if (!statement.isIdempotent()) {
       throw new OCommandExecutionException("Cannot execute query on non idempotent statement: " + query);
     }
-    OResultSet original = statement.execute(this, args);
-    OLocalResultSetLifecycleDecorator result = new OLocalResultSetLifecycleDecorator(original);
-    this.queryStarted(result.getQueryId(),result);
-    result.addLifecycleListener(this);
-    return result;
+    return executeStatement(statement, args);
   }
 
   @Override
   public OResultSet command(String query, Object[] args) {
     OStatement statement = OSQLEngine.parse(query, this);
-    OResultSet original = statement.execute(this, args);
-    OLocalResultSetLifecycleDecorator result = new OLocalResultSetLifecycleDecorator(original);
-    this.queryStarted(result.getQueryId(),result);
-    result.addLifecycleListener(this);
-    return result;
+    return executeStatement(statement, args);
   }
 
   @Override
   public OResultSet command(String query, Map args) {
     OStatement statement = OSQLEngine.parse(query, this);
-    OResultSet original = statement.execute(this, args);
+    return executeStatement(statement, args);
+  }
+
+  /**
+   * Executes an already parsed statement, registering the result set as an active query of the database.
+   *
+   * @param statement the parsed statement
+   * @param args      positional parameters
+   */
+  public OResultSet executeStatement(OStatement statement, Object[] args) {
+    return registerQuery(statement.execute(this, args));
+  }
+
+  /**
+   * Executes an already parsed statement, registering the result set as an active query of the database.
+   *
+   * @param statement the parsed statement
+   * @param args      named parameters
+   */
+  public OResultSet executeStatement(OStatement statement, Map args) {
+    return registerQuery(statement.execute(this, args));
+  }
+
+  private OResultSet registerQuery(OResultSet original) {
     OLocalResultSetLifecycleDecorator result = new OLocalResultSetLifecycleDecorator(original);
-    this.queryStarted(result.getQueryId(),result);
+    this.queryStarted(result.getQueryId(), result);
     result.addLifecycleListener(this);
     return result;
   }
@@ -0,0 +1,103 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.db.record.ridbag;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.OMultiValueChangeEvent;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentEntry;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The items added to and removed from a RidBag field of a document, kept until the document is committed. Adding and removing
+ * items is commutative, so the delta can be applied to a RidBag updated concurrently.
+ *
+ * @see com.orientechnologies.orient.core.conflict.ORidBagDeltaRecordConflictStrategy
+ */
+public class ORidBagDelta {
+  private boolean created;
+  private boolean replaced;
+  private boolean removed;
+  private final List<OMultiValueChangeEvent<Object, Object>> events = new ArrayList<OMultiValueChangeEvent<Object, Object>>();
+
+  /**
+   * Collects the changes of the RidBag fields of a document tracked since its last save.
+   */
+  public static void collect(final ODocument document, final Map<String, ORidBagDelta> deltas) {
+    for (Map.Entry<String, ODocumentEntry> field : ODocumentInternal.rawEntries(document)) {
+      final ODocumentEntry entry = field.getValue();
+      if (!(entry.value instanceof ORidBag) && !(entry.original instanceof ORidBag))
+        continue;
+      if (entry.exist() && !entry.isCreated() && !entry.isChanged() && entry.timeLine == null)
+        continue;
+
+      ORidBagDelta delta = deltas.get(field.getKey());
+      if (delta == null) {
+        delta = new ORidBagDelta();
+        deltas.put(field.getKey(), delta);
+      }
+      delta.track(entry);
+    }
+  }
+
+  private void track(final ODocumentEntry entry) {
+    if (!entry.exist()) {
+      removed = true;
+      return;
+    }
+    if (entry.isCreated() && !removed)
+      created = true;
+    else if (entry.isChanged())
+      replaced = true;
+    if (entry.timeLine != null)
+      events.addAll(entry.timeLine.getMultiValueChangeEvents());
+  }
+
+  /**
+   * @return true if the field has been created by the document, so all the items of the RidBag have been added by it
+   */
+  public boolean isCreated() {
+    return created;
+  }
+
+  /**
+   * @return true if the field has been removed or replaced by another RidBag, so the delta cannot be applied
+   */
+  public boolean isReplaced() {
+    return replaced || removed;
+  }
+
+  /**
+   * Adds and removes from the RidBag the same items added and removed in the tracked document.
+   */
+  public void applyTo(final ORidBag bag) {
+    for (OMultiValueChangeEvent<Object, Object> event : events) {
+      if (event.getChangeType() == OMultiValueChangeEvent.OChangeType.ADD)
+        bag.add((OIdentifiable) event.getValue());
+      else if (event.getChangeType() == OMultiValueChangeEvent.OChangeType.REMOVE)
+        bag.remove((OIdentifiable) event.getOldValue());
+    }
+  }
+}
@@ -545,21 +545,8 @@ public class OSBTreeRidBag implements ORidBagDelegate {
     if (newEntries.containsKey(identifiable))
       return true;
 
-    Change counter = changes.get(identifiable);
-
-    if (counter != null) {
-      AbsoluteChange absoluteValue = getAbsoluteValue(identifiable);
-
-      if (counter.isUndefined()) {
-        changes.put(identifiable, absoluteValue);
-      }
-
-      counter = absoluteValue;
-    } else {
-      counter = getAbsoluteValue(identifiable);
-    }
-
-    return counter.applyTo(0) > 0;
+    // THE CHANGE IS KEPT AS A DELTA, SO IT CAN BE APPLIED TO A TREE UPDATED CONCURRENTLY
+    return getAbsoluteValue(identifiable).applyTo(0) > 0;
   }
 
   public int size() {
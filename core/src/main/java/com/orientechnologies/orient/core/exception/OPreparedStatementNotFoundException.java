@@ -0,0 +1,18 @@
+package com.orientechnologies.orient.core.exception;
+
+/**
+ * Thrown when a statement handle sent by a remote client is not (or no more) prepared in the server session, for example because
+ * it was evicted from the session cache. The client is expected to send the statement text again.
+ */
+public class OPreparedStatementNotFoundException extends OCommandExecutionException {
+
+  private static final long serialVersionUID = 1L;
+
+  public OPreparedStatementNotFoundException(OPreparedStatementNotFoundException exception) {
+    super(exception);
+  }
+
+  public OPreparedStatementNotFoundException(String message) {
+    super(message);
+  }
+}
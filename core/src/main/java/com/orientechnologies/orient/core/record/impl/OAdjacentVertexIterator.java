@@ -0,0 +1,115 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.record.impl;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.cache.OAdjacencyCache;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.iterator.OLazyWrapperIterator;
+import com.orientechnologies.orient.core.record.*;
+
+import java.util.Iterator;
+
+/**
+ * Iterates the vertices connected to a vertex through the edges of a field. The vertex of an edge is taken from the adjacency
+ * cache when present, so the edge record is not loaded. Otherwise the edge is loaded and added to the cache.
+ *
+ * @see OAdjacencyCache
+ */
+public class OAdjacentVertexIterator extends OLazyWrapperIterator<OVertex> {
+  private final OVertex                   sourceVertex;
+  private final ODirection                direction;
+  private final OAdjacencyCache           adjacencyCache;
+  private final ODatabaseDocumentInternal database;
+
+  public OAdjacentVertexIterator(final OVertex iSourceVertex, final Object iMultiValue, final Iterator<?> iterator,
+      final ODirection iDirection, final OAdjacencyCache iAdjacencyCache, final ODatabaseDocumentInternal iDatabase,
+      final int iSize) {
+    super(iterator, iSize, iMultiValue);
+    this.sourceVertex = iSourceVertex;
+    this.direction = iDirection;
+    this.adjacencyCache = iAdjacencyCache;
+    this.database = iDatabase;
+  }
+
+  @Override
+  public OVertex createGraphElement(final Object iObject) {
+    if (iObject == null) {
+      // SKIP IT
+      OLogManager.instance().warn(this, "Record (%s) is null", iObject);
+      return null;
+    }
+
+    final ORID rid = ((OIdentifiable) iObject).getIdentity();
+    if (!(iObject instanceof ORecord) && database.getTransaction().getRecordEntry(rid) == null) {
+      // THE EDGE IS NOT CHANGED IN THE CURRENT TRANSACTION: TRY WITH THE CACHE
+      final ORID vertexId = adjacencyCache.getVertex(rid, direction);
+      if (vertexId != null) {
+        final ORecord vertex = vertexId.getRecord();
+        if (vertex instanceof OElement && ((OElement) vertex).isVertex())
+          return ((OElement) vertex).asVertex().get();
+
+        // THE VERTEX HAS BEEN DELETED
+        adjacencyCache.invalidate(rid);
+      }
+    }
+
+    // TAKEN BEFORE LOADING THE EDGE, SO AN UPDATE COMMITTED IN THE MEANTIME PREVENTS CACHING THE OLD VERTICES
+    final long stamp = adjacencyCache.getStamp(rid);
+    final ORecord record = ((OIdentifiable) iObject).getRecord();
+    if (!(record instanceof OElement)) {
+      // SKIP IT
+      OLogManager.instance()
+          .warn(this, "Found a record (%s) that is not an edge. Source vertex : %s, Database : %s", iObject,
+              sourceVertex.getIdentity(), database.getURL());
+      return null;
+    }
+
+    final OElement value = (OElement) record;
+    if (value.isVertex())
+      // LIGHTWEIGHT EDGE: THE FIELD POINTS DIRECTLY TO THE VERTEX
+      return value.asVertex().get();
+
+    if (!value.isEdge())
+      throw new IllegalStateException("Invalid content found while iterating edges, value '" + value + "' is not an edge");
+
+    final OEdge edge = value.asEdge().get();
+    if (record instanceof ODocument) {
+      final Object out = ((ODocument) record).rawField("out");
+      final Object in = ((ODocument) record).rawField("in");
+      if (out instanceof OIdentifiable && in instanceof OIdentifiable && !record.isDirty())
+        adjacencyCache.put(record, (OIdentifiable) out, (OIdentifiable) in, stamp);
+    }
+
+    return direction == ODirection.OUT ? edge.getTo() : edge.getFrom();
+  }
+
+  @Override
+  public boolean filter(final OVertex iObject) {
+    return true;
+  }
+
+  @Override
+  public boolean canUseMultiValueDirectly() {
+    return false;
+  }
+}
@@ -21,6 +21,7 @@ package com.orientechnologies.orient.core.record.impl;
 
 import com.orientechnologies.common.collection.OMultiCollectionIterator;
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.cache.OAdjacencyCache;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
@@ -81,7 +82,16 @@ public class OVertexDelegate implements OVertex {
 
   @Override
   public Iterable<OEdge> getEdges(ODirection direction, String... labels) {
-    final OMultiCollectionIterator<OEdge> iterable = new OMultiCollectionIterator<OEdge>().setEmbedded(true);
+    return getConnections(direction, labels, (multiValue, iterator, connection, size) -> new OEdgeIterator(this, multiValue, iterator,
+        connection, labels, size));
+  }
+
+  /**
+   * Creates an iterator for every field of the vertex that keeps the connections in the passed direction with the passed labels.
+   */
+  protected <T> OMultiCollectionIterator<T> getConnections(final ODirection direction, final String[] labels,
+      final OConnectionIteratorFactory<T> factory) {
+    final OMultiCollectionIterator<T> iterable = new OMultiCollectionIterator<T>().setEmbedded(true);
 
     Set<String> fieldNames = null;
     if (labels != null && labels.length > 0) {
@@ -116,14 +126,12 @@ public class OVertexDelegate implements OVertex {
 
           // CREATE LAZY Iterable AGAINST COLLECTION FIELD
           if (coll instanceof ORecordLazyMultiValue) {
-            iterable
-                .add(new OEdgeIterator(this, coll, ((ORecordLazyMultiValue) coll).rawIterator(), connection, labels, coll.size()));
+            iterable.add(factory.create(coll, ((ORecordLazyMultiValue) coll).rawIterator(), connection, coll.size()));
           } else
-            iterable.add(new OEdgeIterator(this, coll, coll.iterator(), connection, labels, -1));
+            iterable.add(factory.create(coll, coll.iterator(), connection, -1));
 
         } else if (fieldValue instanceof ORidBag) {
-          iterable.add(new OEdgeIterator(this, fieldValue, ((ORidBag) fieldValue).rawIterator(), connection, labels,
-              ((ORidBag) fieldValue).size()));
+          iterable.add(factory.create(fieldValue, ((ORidBag) fieldValue).rawIterator(), connection, ((ORidBag) fieldValue).size()));
         }
       }
     }
@@ -157,6 +165,14 @@ public class OVertexDelegate implements OVertex {
       result.add(getVertices(ODirection.IN, type));
       return result;
     } else {
+      final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+      final OAdjacencyCache adjacencyCache = db != null ? db.getSharedContext().getAdjacencyCache() : null;
+      if (adjacencyCache != null && adjacencyCache.isEnabled())
+        // RESOLVE THE VERTICES FROM THE CACHE WITHOUT LOADING THE EDGES
+        return getConnections(direction, type,
+            (multiValue, iterator, connection, size) -> new OAdjacentVertexIterator(this, multiValue, iterator, direction,
+                adjacencyCache, db, size));
+
       Iterable<OEdge> edges = getEdges(direction, type);
       return new OEdgeToVertexIterable(edges, direction);
     }
@@ -873,4 +889,9 @@ public class OVertexDelegate implements OVertex {
     }
     return super.toString();
   }
+
+  @FunctionalInterface
+  protected interface OConnectionIteratorFactory<T> {
+    Iterator<T> create(Object multiValue, Iterator<?> iterator, OPair<ODirection, String> connection, int size);
+  }
 }
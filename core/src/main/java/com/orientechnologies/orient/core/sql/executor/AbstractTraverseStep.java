@@ -97,10 +97,10 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
       return;
     }
     while (this.results.isEmpty()) {
-      if (this.entryPoints.isEmpty()) {
+      if (!hasEntryPoints()) {
         fetchNextEntryPoints(ctx, nRecords);
       }
-      if (this.entryPoints.isEmpty()) {
+      if (!hasEntryPoints()) {
         return;
       }
       long begin = profilingEnabled ? System.nanoTime() : 0;
@@ -118,8 +118,15 @@ public abstract class AbstractTraverseStep extends AbstractExecutionStep {
 
   protected abstract void fetchNextResults(OCommandContext ctx, int nRecords);
 
+  /**
+   * @return true if there are entry points left to traverse
+   */
+  protected boolean hasEntryPoints() {
+    return !entryPoints.isEmpty();
+  }
+
   protected boolean isFinished() {
-    return entryPoints != null && entryPoints.isEmpty() && results.isEmpty();
+    return entryPoints != null && !hasEntryPoints() && results.isEmpty();
   }
 
   @Override
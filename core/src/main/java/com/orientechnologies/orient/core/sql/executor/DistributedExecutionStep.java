@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 
 import java.util.Map;
 import java.util.Optional;
@@ -31,19 +32,25 @@ public class DistributedExecutionStep extends AbstractExecutionStep {
     init(ctx);
     getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
     return new OResultSet() {
+      int localCount = 0;
+
       @Override
       public boolean hasNext() {
-        throw new UnsupportedOperationException("Implement distributed execution step!");
+        return localCount < nRecords && remoteResultSet.hasNext();
       }
 
       @Override
       public OResult next() {
-        throw new UnsupportedOperationException("Implement distributed execution step!");
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        localCount++;
+        return remoteResultSet.next();
       }
 
       @Override
       public void close() {
-        DistributedExecutionStep.this.close();
+        // the remote query is closed with the step, not after each block
       }
 
       @Override
@@ -66,7 +73,8 @@ public class DistributedExecutionStep extends AbstractExecutionStep {
   }
 
   private OResultSet sendSerializedExecutionPlan(String nodeName, OExecutionPlan serializedExecutionPlan, OCommandContext ctx) {
-    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    // the database of the current thread: the step can be pulled by a worker thread with a database of its own
+    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.get();
     return db.queryOnNode(nodeName, serializedExecutionPlan, ctx.getInputParameters());
   }
 
@@ -75,6 +83,7 @@ public class DistributedExecutionStep extends AbstractExecutionStep {
     super.close();
     if (this.remoteResultSet != null) {
       this.remoteResultSet.close();
+      this.remoteResultSet = null;
     }
   }
 
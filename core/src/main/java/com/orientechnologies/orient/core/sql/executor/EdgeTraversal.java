@@ -10,6 +10,8 @@ public class EdgeTraversal {
   public  PatternEdge  edge;
   private String       leftClass;
   private OWhereClause leftFilter;
+  private long         estimatedRows   = -1;
+  private double       estimatedFanout = -1;
 
   public EdgeTraversal(PatternEdge edge, boolean out) {
     this.edge = edge;
@@ -31,4 +33,26 @@ public class EdgeTraversal {
   public OWhereClause getLeftFilter() {
     return leftFilter;
   }
+
+  /**
+   * @return the number of results estimated by the planner after this traversal, or -1 if unknown
+   */
+  public long getEstimatedRows() {
+    return estimatedRows;
+  }
+
+  public void setEstimatedRows(long estimatedRows) {
+    this.estimatedRows = estimatedRows;
+  }
+
+  /**
+   * @return the number of records estimated by the planner to be reached from each record with this traversal, or -1 if unknown
+   */
+  public double getEstimatedFanout() {
+    return estimatedFanout;
+  }
+
+  public void setEstimatedFanout(double estimatedFanout) {
+    this.estimatedFanout = estimatedFanout;
+  }
 }
\ No newline at end of file
@@ -1,17 +1,26 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OLimit;
 
 /**
  * Created by luigidellaquila on 08/07/16.
  */
 public class LimitExecutionStep extends AbstractExecutionStep {
-  private final OLimit limit;
+  private OLimit limit;
 
   int loaded = 0;
 
+  /**
+   * used to deserialize the step on the node that executes it
+   */
+  public LimitExecutionStep() {
+    this(null, null, false);
+  }
+
   public LimitExecutionStep(OLimit limit, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.limit = limit;
@@ -43,4 +52,20 @@ public class LimitExecutionStep extends AbstractExecutionStep {
     return OExecutionStepInternal.getIndent(depth, indent) + "+ LIMIT (" + limit.toString() + ")";
   }
 
+  @Override public OResult serialize() {
+    OResultInternal result = OExecutionStepInternal.basicSerialize(this);
+    result.setProperty("limit", limit.serialize());
+    return result;
+  }
+
+  @Override public void deserialize(OResult fromResult) {
+    try {
+      OExecutionStepInternal.basicDeserialize(fromResult, this);
+      limit = new OLimit(-1);
+      limit.deserialize(fromResult.getProperty("limit"));
+    } catch (Exception e) {
+      throw OException.wrapException(new OCommandExecutionException(""), e);
+    }
+  }
+
 }
@@ -0,0 +1,229 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OMethodCall;
+import com.orientechnologies.orient.core.sql.parser.OMultiMatchPathItem;
+
+import java.util.*;
+
+/**
+ * Loads in advance the records reached by a MATCH traversal from a batch of upstream results: the RIDs of the edges of all the
+ * starting vertices are collected and loaded sorted by cluster and position, then the same is done for the vertices on the other
+ * side of the edges. Reading the records in physical order turns the random reads of the traversal into almost sequential ones.
+ * The loaded records are returned, so the caller keeps them in the local cache until the batch is traversed.
+ *
+ * @see MatchStep
+ */
+public class MatchBatchLoader {
+  private static final Set<String> VERTEX_METHODS = new HashSet<>(Arrays.asList("out", "in", "both"));
+  private static final Set<String> EDGE_METHODS   = new HashSet<>(Arrays.asList("oute", "ine", "bothe"));
+  private static final Set<String> EDGE_VERTICES  = new HashSet<>(Arrays.asList("outv", "inv", "bothv"));
+
+  private final EdgeTraversal   edge;
+  private final int             maxRecords;
+  private final OCommandContext ctx;
+  private final List<ORecord>   loaded = new ArrayList<>();
+
+  public MatchBatchLoader(EdgeTraversal edge, int maxRecords, OCommandContext ctx) {
+    this.edge = edge;
+    this.maxRecords = maxRecords;
+    this.ctx = ctx;
+  }
+
+  /**
+   * Loads the records reached from the upstream results, up to the max number of records.
+   *
+   * @return the loaded records
+   */
+  public List<ORecord> load(List<OResult> upstreamRecords) {
+    loaded.clear();
+    if (edge.edge.item instanceof OMultiMatchPathItem || edge.edge.item.getMethod() == null) {
+      return loaded;
+    }
+    OMethodCall method = edge.edge.item.getMethod();
+    String methodName = method.getMethodName().getStringValue().toLowerCase(Locale.ENGLISH);
+    Set<String> labels = getLabels(method);
+    if (labels != null && labels.isEmpty()) {
+      // LABELS CALCULATED AT RUNTIME
+      return loaded;
+    }
+
+    String startingAlias = edge.out ? edge.edge.out.alias : edge.edge.in.alias;
+    List<ORID> startingPoints = new ArrayList<>();
+    for (OResult upstream : upstreamRecords) {
+      Object startingPoint = upstream.getProperty(startingAlias);
+      if (startingPoint instanceof OResult) {
+        startingPoint = ((OResult) startingPoint).getElement().orElse(null);
+      }
+      if (startingPoint instanceof OIdentifiable) {
+        startingPoints.add(((OIdentifiable) startingPoint).getIdentity());
+      }
+    }
+    List<ORecord> starts = loadSorted(startingPoints);
+
+    if ((EDGE_VERTICES.contains(methodName) && edge.out) || (EDGE_METHODS.contains(methodName) && !edge.out)) {
+      // FROM EDGES TO THEIR VERTICES: outV() AND THE REVERSE OF outE() REACH THE "out" VERTEX
+      loadSorted(getEdgeVertices(starts, getDirection(methodName).opposite()));
+    } else if (VERTEX_METHODS.contains(methodName) || EDGE_METHODS.contains(methodName) || EDGE_VERTICES.contains(methodName)) {
+      // FROM VERTICES TO THEIR EDGES, THEN TO THE VERTICES ON THE OTHER SIDE
+      ODirection direction = getDirection(methodName);
+      if (!edge.out && VERTEX_METHODS.contains(methodName)) {
+        direction = direction.opposite();
+      }
+      List<ORecord> edges = loadSorted(getConnections(starts, direction, labels));
+      if (VERTEX_METHODS.contains(methodName)) {
+        loadSorted(getEdgeVertices(edges, direction));
+      }
+    }
+    return loaded;
+  }
+
+  private static ODirection getDirection(String methodName) {
+    if (methodName.startsWith("out")) {
+      return ODirection.OUT;
+    } else if (methodName.startsWith("in")) {
+      return ODirection.IN;
+    }
+    return ODirection.BOTH;
+  }
+
+  /**
+   * @return the edge classes of the traversal with their subclasses, null for all the edges or an empty set if they cannot be
+   * calculated before the execution
+   */
+  private Set<String> getLabels(OMethodCall method) {
+    if (method.getParams().isEmpty()) {
+      return null;
+    }
+    Set<String> result = new HashSet<>();
+    for (OExpression param : method.getParams()) {
+      if (!param.isEarlyCalculated()) {
+        return Collections.emptySet();
+      }
+      Object label = param.execute((OResult) null, ctx);
+      if (label == null) {
+        continue;
+      }
+      if ("E".equalsIgnoreCase(label.toString())) {
+        return null;
+      }
+      OClass clazz = ctx.getDatabase().getMetadata().getSchema().getClass(label.toString());
+      if (clazz != null) {
+        result.add(clazz.getName());
+        for (OClass subclass : clazz.getAllSubclasses()) {
+          result.add(subclass.getName());
+        }
+      } else {
+        result.add(label.toString());
+      }
+    }
+    return result;
+  }
+
+  private List<ORID> getConnections(List<ORecord> vertices, ODirection direction, Set<String> labels) {
+    List<ORID> result = new ArrayList<>();
+    for (ORecord vertex : vertices) {
+      if (!(vertex instanceof ODocument)) {
+        continue;
+      }
+      ODocument doc = (ODocument) vertex;
+      for (String fieldName : doc.fieldNames()) {
+        if (isConnectionField(fieldName, direction, labels)) {
+          addRids(doc.rawField(fieldName), result);
+        }
+      }
+      if (loaded.size() + result.size() >= maxRecords) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  private static boolean isConnectionField(String fieldName, ODirection direction, Set<String> labels) {
+    String label;
+    if (direction != ODirection.IN && fieldName.startsWith("out_")) {
+      label = fieldName.substring("out_".length());
+    } else if (direction != ODirection.OUT && fieldName.startsWith("in_")) {
+      label = fieldName.substring("in_".length());
+    } else {
+      return false;
+    }
+    return labels == null || labels.contains(label);
+  }
+
+  /**
+   * @return the vertices on the other side of edges reached in the direction
+   */
+  private List<ORID> getEdgeVertices(List<ORecord> edges, ODirection direction) {
+    List<ORID> result = new ArrayList<>();
+    for (ORecord edge : edges) {
+      if (!(edge instanceof ODocument)) {
+        continue;
+      }
+      ODocument doc = (ODocument) edge;
+      if (direction != ODirection.IN) {
+        addRids(doc.rawField("in"), result);
+      }
+      if (direction != ODirection.OUT) {
+        addRids(doc.rawField("out"), result);
+      }
+    }
+    return result;
+  }
+
+  private static void addRids(Object value, List<ORID> result) {
+    if (value instanceof ORidBag) {
+      for (Iterator<OIdentifiable> it = ((ORidBag) value).rawIterator(); it.hasNext(); ) {
+        OIdentifiable item = it.next();
+        if (item != null) {
+          result.add(item.getIdentity());
+        }
+      }
+    } else if (value instanceof Collection) {
+      for (Object item : (Collection) value) {
+        if (item instanceof OIdentifiable) {
+          result.add(((OIdentifiable) item).getIdentity());
+        }
+      }
+    } else if (value instanceof OIdentifiable) {
+      result.add(((OIdentifiable) value).getIdentity());
+    }
+  }
+
+  /**
+   * Loads the records in the order of cluster and position.
+   */
+  private List<ORecord> loadSorted(List<ORID> rids) {
+    List<ORID> sorted = new ArrayList<>(new TreeSet<>(rids));
+    List<ORecord> result = new ArrayList<>(sorted.size());
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    for (ORID rid : sorted) {
+      if (loaded.size() >= maxRecords) {
+        break;
+      }
+      if (!rid.isPersistent()) {
+        continue;
+      }
+      try {
+        ORecord record = db.load(rid);
+        if (record != null) {
+          result.add(record);
+          loaded.add(record);
+        }
+      } catch (ORecordNotFoundException e) {
+        // DELETED IN THE MEANTIME: THE TRAVERSAL WILL SKIP IT
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,180 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.util.OSizeable;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.OVertexDelegate;
+import com.orientechnologies.orient.core.sql.parser.*;
+
+import java.util.*;
+
+/**
+ * Reads the edges of a supernode that satisfy a filter from an index of the edge class, instead of loading all of them. An index
+ * on (out, since) of the edge class Rated works as an edge index of each vertex, partitioned by label and sorted by property: the
+ * traversal <code>outE('Rated'){where: (since > 10)}</code> from a vertex with more edges than the supernode threshold reads only
+ * the index entries between [vertex, 10] and [vertex, +inf]. The filter is still evaluated on the returned edges.
+ *
+ * @see OGlobalConfiguration#QUERY_SUPERNODE_THRESHOLD
+ */
+public class MatchEdgeIndexScan {
+  private final OMethodCall     method;
+  private final OWhereClause    filter;
+  private final OCommandContext ctx;
+
+  public MatchEdgeIndexScan(OMethodCall method, OWhereClause filter, OCommandContext ctx) {
+    this.method = method;
+    this.filter = filter;
+    this.ctx = ctx;
+  }
+
+  /**
+   * @return the edges of the starting point that can satisfy the filter, or null if the starting point is not a supernode or no
+   * index can be used
+   */
+  public List<OIdentifiable> scan(OIdentifiable startingPoint) {
+    if (method == null || filter == null || filter.getBaseExpression() == null || startingPoint == null) {
+      return null;
+    }
+    ODirection direction = getDirection(method.getMethodName().getStringValue());
+    if (direction == null || method.getParams().size() != 1 || !method.getParams().get(0).isEarlyCalculated()) {
+      return null;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    if (db.getTransaction().isActive()) {
+      // THE EDGES CREATED IN THE TRANSACTION ARE IN THE RIDBAG ONLY
+      return null;
+    }
+    Object label = method.getParams().get(0).execute((OResult) null, ctx);
+    OClass edgeClass = label == null ? null : db.getMetadata().getSchema().getClass(label.toString());
+    if (edgeClass == null || !edgeClass.getSubclasses().isEmpty()) {
+      return null;
+    }
+
+    ORecord record = startingPoint.getRecord();
+    if (!(record instanceof ODocument)) {
+      return null;
+    }
+    Object edges = ((ODocument) record).rawField(OVertexDelegate.getConnectionFieldName(direction, edgeClass.getName(), true));
+    if (!(edges instanceof OSizeable) || ((OSizeable) edges).size() <= db.getConfiguration()
+        .getValueAsInteger(OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD)) {
+      return null;
+    }
+
+    List<OBinaryCondition> conditions = new ArrayList<>();
+    if (!collectConditions(filter.getBaseExpression(), conditions)) {
+      return null;
+    }
+    String vertexField = direction == ODirection.OUT ? "out" : "in";
+    for (OIndex<?> index : edgeClass.getIndexes()) {
+      OIndexDefinition definition = index.getDefinition();
+      if (definition == null || !index.supportsOrderedIterations() || definition.getFields().size() < 2 || !vertexField
+          .equals(definition.getFields().get(0))) {
+        continue;
+      }
+      List<OIdentifiable> result = scan(index, record.getIdentity(), definition.getFields().get(1), conditions);
+      if (result != null) {
+        return result;
+      }
+    }
+    return null;
+  }
+
+  private static ODirection getDirection(String methodName) {
+    if ("outE".equalsIgnoreCase(methodName)) {
+      return ODirection.OUT;
+    } else if ("inE".equalsIgnoreCase(methodName)) {
+      return ODirection.IN;
+    }
+    return null;
+  }
+
+  /**
+   * Collects the binary conditions of a filter made only of AND blocks
+   *
+   * @return false if the filter contains OR blocks or negations, that cannot be used to restrict the range
+   */
+  private static boolean collectConditions(OBooleanExpression expression, List<OBinaryCondition> result) {
+    if (expression instanceof OOrBlock) {
+      List<OBooleanExpression> subBlocks = ((OOrBlock) expression).getSubBlocks();
+      return subBlocks.size() == 1 && collectConditions(subBlocks.get(0), result);
+    } else if (expression instanceof OAndBlock) {
+      for (OBooleanExpression sub : ((OAndBlock) expression).getSubBlocks()) {
+        if (!collectConditions(sub, result)) {
+          return false;
+        }
+      }
+      return true;
+    } else if (expression instanceof ONotBlock) {
+      return !((ONotBlock) expression).isNegate() && collectConditions(((ONotBlock) expression).getSub(), result);
+    } else if (expression instanceof OBinaryCondition) {
+      result.add((OBinaryCondition) expression);
+    }
+    // OTHER CONDITIONS DO NOT RESTRICT THE RANGE, BUT ARE STILL EVALUATED ON THE RESULT
+    return true;
+  }
+
+  private List<OIdentifiable> scan(OIndex<?> index, OIdentifiable vertex, String propertyName, List<OBinaryCondition> conditions) {
+    Object lower = null;
+    Object upper = null;
+    boolean lowerInclusive = true;
+    boolean upperInclusive = true;
+    for (OBinaryCondition condition : conditions) {
+      OExpression left = condition.getLeft();
+      OExpression right = condition.getRight();
+      if (left == null || !left.isBaseIdentifier() || !propertyName.equals(left.getDefaultAlias().getStringValue()) || right == null
+          || !right.isEarlyCalculated()) {
+        continue;
+      }
+      Object value = right.execute((OResult) null, ctx);
+      if (value == null) {
+        continue;
+      }
+      OBinaryCompareOperator operator = condition.getOperator();
+      if (operator instanceof OEqualsCompareOperator && lower == null && upper == null) {
+        lower = value;
+        upper = value;
+      } else if ((operator instanceof OGtOperator || operator instanceof OGeOperator) && lower == null) {
+        lower = value;
+        lowerInclusive = operator instanceof OGeOperator;
+      } else if ((operator instanceof OLtOperator || operator instanceof OLeOperator) && upper == null) {
+        upper = value;
+        upperInclusive = operator instanceof OLeOperator;
+      }
+    }
+    if (lower == null && upper == null) {
+      return null;
+    }
+
+    OIndexDefinition definition = index.getDefinition();
+    Object from;
+    Object to;
+    try {
+      from = lower == null ? definition.createValue(vertex) : definition.createValue(vertex, lower);
+      to = upper == null ? definition.createValue(vertex) : definition.createValue(vertex, upper);
+    } catch (RuntimeException e) {
+      // THE VALUE CANNOT BE CONVERTED TO THE TYPE OF THE PROPERTY
+      return null;
+    }
+    if (from == null || to == null) {
+      return null;
+    }
+
+    List<OIdentifiable> result = new ArrayList<>();
+    OIndexCursor cursor = index.iterateEntriesBetween(from, lower == null || lowerInclusive, to, upper == null || upperInclusive,
+        true);
+    Map.Entry<Object, OIdentifiable> entry;
+    while ((entry = cursor.nextEntry()) != null) {
+      result.add(entry.getValue());
+    }
+    return result;
+  }
+}
@@ -109,7 +109,10 @@ public class MatchEdgeTraverser {
 
     if (whileCondition == null && maxDepth == null) {// in this case starting point is not returned and only one level depth is
       // evaluated
-      Iterable<OIdentifiable> queryResult = traversePatternEdge(startingPoint, iCommandContext);
+      Iterable<OIdentifiable> queryResult = traverseIndexedEdges(startingPoint, filter, iCommandContext);
+      if (queryResult == null) {
+        queryResult = traversePatternEdge(startingPoint, iCommandContext);
+      }
 
       for (OIdentifiable origin : queryResult) {
         Object previousMatch = iCommandContext.getVariable("$currentMatch");
@@ -187,6 +190,15 @@ public class MatchEdgeTraverser {
     return filter == null || filter.matchesFilters(origin, iCommandContext);
   }
 
+  /**
+   * @return the edges of a supernode that can satisfy the filter read from an index of the edge class, or null if the edges have
+   * to be traversed
+   */
+  protected Iterable<OIdentifiable> traverseIndexedEdges(OIdentifiable startingPoint, OWhereClause filter,
+      OCommandContext iCommandContext) {
+    return new MatchEdgeIndexScan(this.item.getMethod(), filter, iCommandContext).scan(startingPoint);
+  }
+
   //TODO refactor this method to receive the item.
 
   protected Iterable<OIdentifiable> traversePatternEdge(OIdentifiable startingPoint, OCommandContext iCommandContext) {
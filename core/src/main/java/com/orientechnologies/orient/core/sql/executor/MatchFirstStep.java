@@ -16,6 +16,7 @@ import java.util.Optional;
 public class MatchFirstStep extends AbstractExecutionStep {
   private final PatternNode node;
   OInternalExecutionPlan executionPlan;
+  private long estimatedRows = -1;
 
   Iterator<OResult> iterator;
   OResultSet        subResultSet;
@@ -30,6 +31,13 @@ public class MatchFirstStep extends AbstractExecutionStep {
     this.executionPlan = subPlan;
   }
 
+  /**
+   * Sets the number of records of the alias estimated by the planner, shown in the execution plan.
+   */
+  public void setEstimatedRows(long estimatedRows) {
+    this.estimatedRows = estimatedRows;
+  }
+
   @Override
   public void reset() {
     this.iterator = null;
@@ -133,6 +141,9 @@ public class MatchFirstStep extends AbstractExecutionStep {
     result.append(spaces);
     result.append("   ");
     result.append(getAlias());
+    if (estimatedRows >= 0) {
+      result.append(" (estimated rows: " + estimatedRows + ")");
+    }
     if (executionPlan != null) {
       result.append("\n");
       result.append(spaces);
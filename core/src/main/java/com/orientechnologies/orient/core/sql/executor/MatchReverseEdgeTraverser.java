@@ -29,6 +29,12 @@ public class MatchReverseEdgeTraverser extends MatchEdgeTraverser {
     return edge.getLeftFilter();
   }
 
+  @Override
+  protected Iterable<OIdentifiable> traverseIndexedEdges(OIdentifiable startingPoint, OWhereClause filter,
+      OCommandContext iCommandContext) {
+    return null;
+  }
+
   @Override
   protected Iterable<OIdentifiable> traversePatternEdge(OIdentifiable startingPoint, OCommandContext iCommandContext) {
 
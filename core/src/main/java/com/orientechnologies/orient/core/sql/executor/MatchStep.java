@@ -2,10 +2,11 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.sql.parser.OMultiMatchPathItem;
 
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * @author Luigi Dell'Aquila
@@ -18,6 +19,10 @@ public class MatchStep extends AbstractExecutionStep {
   MatchEdgeTraverser traverser;
   OResult            nextResult;
 
+  // BATCH OF UPSTREAM RECORDS WHOSE TRAVERSALS ARE LOADED TOGETHER
+  Iterator<OResult> batch;
+  List<ORecord>     batchRecords;
+
   public MatchStep(OCommandContext context, EdgeTraversal edge, boolean profilingEnabled) {
     super(context, profilingEnabled);
     this.edge = edge;
@@ -29,6 +34,8 @@ public class MatchStep extends AbstractExecutionStep {
     this.lastUpstreamRecord = null;
     this.traverser = null;
     this.nextResult = null;
+    this.batch = null;
+    this.batchRecords = null;
   }
 
   @Override
@@ -93,15 +100,11 @@ public class MatchStep extends AbstractExecutionStep {
         break;
       }
 
-      if (upstream == null || !upstream.hasNext()) {
-        upstream = getPrev().get().syncPull(ctx, nRecords);
-      }
-      if (!upstream.hasNext()) {
+      lastUpstreamRecord = nextUpstreamRecord(ctx, nRecords);
+      if (lastUpstreamRecord == null) {
         return;
       }
 
-      lastUpstreamRecord = upstream.next();
-
       traverser = createTraverser(lastUpstreamRecord);
 
       boolean found = false;
@@ -118,6 +121,33 @@ public class MatchStep extends AbstractExecutionStep {
     }
   }
 
+  private OResult nextUpstreamRecord(OCommandContext ctx, int nRecords) {
+    int batchSize = ctx.getDatabase().getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_MATCH_BATCH_SIZE);
+    if (batchSize <= 1) {
+      if (upstream == null || !upstream.hasNext()) {
+        upstream = getPrev().get().syncPull(ctx, nRecords);
+      }
+      return upstream.hasNext() ? upstream.next() : null;
+    }
+
+    if (batch == null || !batch.hasNext()) {
+      List<OResult> records = new ArrayList<>(batchSize);
+      while (records.size() < batchSize) {
+        if (upstream == null || !upstream.hasNext()) {
+          upstream = getPrev().get().syncPull(ctx, nRecords);
+          if (!upstream.hasNext()) {
+            break;
+          }
+        }
+        records.add(upstream.next());
+      }
+      // THE LOADED RECORDS ARE KEPT UNTIL THE WHOLE BATCH IS TRAVERSED, SO THE TRAVERSALS FIND THEM IN THE LOCAL CACHE
+      batchRecords = new MatchBatchLoader(edge, batchSize * 100, ctx).load(records);
+      batch = records.iterator();
+    }
+    return batch.hasNext() ? batch.next() : null;
+  }
+
   protected MatchEdgeTraverser createTraverser(OResult lastUpstreamRecord) {
     if (edge.edge.item instanceof OMultiMatchPathItem) {
       return new MatchMultiEdgeTraverser(lastUpstreamRecord, edge);
@@ -144,6 +174,11 @@ public class MatchStep extends AbstractExecutionStep {
     result.append("{" + edge.edge.out.alias + "}");
     result.append(edge.edge.item.getMethod());
     result.append("{" + edge.edge.in.alias + "}");
+    if (edge.getEstimatedRows() >= 0) {
+      result.append("\n");
+      result.append(spaces);
+      result.append(String.format("  (estimated fanout: %.2f, rows: %d)", edge.getEstimatedFanout(), edge.getEstimatedRows()));
+    }
     return result.toString();
   }
 }
@@ -0,0 +1,497 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.parser.*;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.util.*;
+
+/**
+ * Statistics of a class, collected on a sample of its records: the out/in degree of the vertices for each edge class and, for
+ * each property, the fraction of null values, the number of distinct values, the most common values and an equi-depth histogram.
+ * They are used by the MATCH planner to estimate how many records a filter selects and how many records a traversal reaches.
+ *
+ * @see OQueryStats#getClassStatistics(ODatabaseDocumentInternal, String)
+ */
+public class OClassStatistics {
+  protected static final int    MOST_COMMON_VALUES  = 10;
+  protected static final int    HISTOGRAM_BUCKETS   = 10;
+  protected static final double DEFAULT_SELECTIVITY = 0.1;
+  protected static final double DEFAULT_RANGE       = 1.0 / 3;
+  protected static final double RECOLLECT_THRESHOLD = 0.2;
+  private static final   String OUT_PREFIX          = ODirection.OUT.name().toLowerCase() + "_";
+  private static final   String IN_PREFIX           = ODirection.IN.name().toLowerCase() + "_";
+
+  private final String                          className;
+  private final long                            count;
+  private final int                             sampled;
+  private final Map<String, DegreeStatistics>   outDegrees = new HashMap<>();
+  private final Map<String, DegreeStatistics>   inDegrees  = new HashMap<>();
+  private final Map<String, PropertyStatistics> properties = new HashMap<>();
+
+  /**
+   * Statistics of the degree of the vertices of a class for an edge class.
+   */
+  public static class DegreeStatistics {
+    private final double average;
+    private final int    p50;
+    private final int    p90;
+    private final int    p99;
+    private final int    max;
+
+    protected DegreeStatistics(final List<Integer> nonZeroDegrees, final int sampled) {
+      final int[] sorted = new int[nonZeroDegrees.size()];
+      long sum = 0;
+      for (int i = 0; i < sorted.length; i++) {
+        sorted[i] = nonZeroDegrees.get(i);
+        sum += sorted[i];
+      }
+      Arrays.sort(sorted);
+
+      this.average = sampled == 0 ? 0 : (double) sum / sampled;
+      this.p50 = percentile(sorted, sampled, 0.5);
+      this.p90 = percentile(sorted, sampled, 0.9);
+      this.p99 = percentile(sorted, sampled, 0.99);
+      this.max = sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    private static int percentile(final int[] sortedNonZero, final int sampled, final double percentile) {
+      if (sampled == 0)
+        return 0;
+      // THE VERTICES WITHOUT EDGES ARE NOT IN THE ARRAY: THEY ARE THE FIRST ONES OF THE SAMPLE
+      final int index = Math.max(0, (int) Math.ceil(percentile * sampled) - 1);
+      final int zeros = sampled - sortedNonZero.length;
+      return index < zeros ? 0 : sortedNonZero[index - zeros];
+    }
+
+    public double getAverage() {
+      return average;
+    }
+
+    public int getP50() {
+      return p50;
+    }
+
+    public int getP90() {
+      return p90;
+    }
+
+    public int getP99() {
+      return p99;
+    }
+
+    public int getMax() {
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("avg=%.2f p50=%d p90=%d p99=%d max=%d", average, p50, p90, p99, max);
+    }
+  }
+
+  /**
+   * Statistics of the values of a property.
+   */
+  public static class PropertyStatistics {
+    private final double              nullFraction;
+    private final long                distinctValues;
+    private final Map<Object, Double> mostCommonValues = new LinkedHashMap<>();
+    private final Object[]            bucketBounds;
+
+    protected PropertyStatistics(final List<Object> values, final int sampled, final long count) {
+      this.nullFraction = sampled == 0 ? 0 : (double) (sampled - values.size()) / sampled;
+
+      final Map<Object, Integer> frequencies = new HashMap<>();
+      for (Object value : values)
+        frequencies.merge(value, 1, Integer::sum);
+
+      if (frequencies.size() == values.size())
+        // ALL THE VALUES OF THE SAMPLE ARE DIFFERENT: ASSUME THEY ARE UNIQUE ALSO OUT OF THE SAMPLE
+        this.distinctValues = Math.max(frequencies.size(), Math.round(count * (1 - nullFraction)));
+      else
+        this.distinctValues = frequencies.size();
+
+      final List<Map.Entry<Object, Integer>> sortedFrequencies = new ArrayList<>(frequencies.entrySet());
+      sortedFrequencies.sort((a, b) -> b.getValue() - a.getValue());
+      for (Map.Entry<Object, Integer> entry : sortedFrequencies) {
+        if (mostCommonValues.size() >= MOST_COMMON_VALUES || entry.getValue() < 2)
+          break;
+        mostCommonValues.put(entry.getKey(), (double) entry.getValue() / sampled);
+      }
+
+      this.bucketBounds = computeBuckets(values);
+    }
+
+    private static Object[] computeBuckets(final List<Object> values) {
+      final List<Object> comparables = new ArrayList<>(values.size());
+      for (Object value : values)
+        if (value instanceof Comparable)
+          comparables.add(value);
+      if (comparables.isEmpty() || comparables.size() < values.size())
+        return null;
+
+      try {
+        comparables.sort((a, b) -> compare(a, b));
+      } catch (ClassCastException e) {
+        // MIXED TYPES: NO HISTOGRAM
+        return null;
+      }
+
+      final int buckets = Math.min(HISTOGRAM_BUCKETS, comparables.size());
+      final Object[] bounds = new Object[buckets + 1];
+      bounds[0] = comparables.get(0);
+      for (int i = 1; i <= buckets; i++)
+        bounds[i] = comparables.get((int) ((long) i * comparables.size() / buckets) - 1);
+      return bounds;
+    }
+
+    public double getNullFraction() {
+      return nullFraction;
+    }
+
+    public long getDistinctValues() {
+      return distinctValues;
+    }
+
+    public Map<Object, Double> getMostCommonValues() {
+      return mostCommonValues;
+    }
+
+    public Object[] getBucketBounds() {
+      return bucketBounds;
+    }
+
+    /**
+     * @return the fraction of the records whose value is equal to the passed one
+     */
+    public double getEqualsSelectivity(final Object value) {
+      if (value == null)
+        return nullFraction;
+
+      double commonFraction = 0;
+      for (Map.Entry<Object, Double> entry : mostCommonValues.entrySet()) {
+        if (sameValue(entry.getKey(), value))
+          return entry.getValue();
+        commonFraction += entry.getValue();
+      }
+
+      final long otherValues = distinctValues - mostCommonValues.size();
+      if (otherValues <= 0)
+        return 0;
+      return Math.max(0, 1 - nullFraction - commonFraction) / otherValues;
+    }
+
+    /**
+     * @return the fraction of the records whose value is lower (or greater) than the passed one
+     */
+    public double getRangeSelectivity(final Object value, final boolean lower) {
+      if (bucketBounds == null || value == null)
+        return DEFAULT_RANGE;
+
+      final int buckets = bucketBounds.length - 1;
+      double lowerFraction;
+      try {
+        if (compare(value, bucketBounds[0]) <= 0)
+          lowerFraction = 0;
+        else if (compare(value, bucketBounds[buckets]) > 0)
+          lowerFraction = 1;
+        else {
+          int bucket = 1;
+          while (compare(value, bucketBounds[bucket]) > 0)
+            bucket++;
+          // THE VALUE IS IN THE BUCKET: COUNT HALF OF IT
+          lowerFraction = (bucket - 0.5) / buckets;
+        }
+      } catch (ClassCastException e) {
+        return DEFAULT_RANGE;
+      }
+
+      final double notNull = 1 - nullFraction;
+      return notNull * (lower ? lowerFraction : 1 - lowerFraction);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("nulls=%.2f distinct=%d mcv=%s", nullFraction, distinctValues, mostCommonValues);
+    }
+  }
+
+  protected OClassStatistics(final String className, final long count, final int sampled) {
+    this.className = className;
+    this.count = count;
+    this.sampled = sampled;
+  }
+
+  /**
+   * Collects the statistics of a class reading up to <code>sampleSize</code> records of it (subclasses included). Every cluster
+   * of the class contributes to the sample in proportion to its records, read at positions spread across the whole cluster.
+   */
+  public static OClassStatistics collect(final ODatabaseDocumentInternal db, final OClass oClass, final int sampleSize) {
+    final int[] clusterIds = oClass.getPolymorphicClusterIds();
+    final long[] clusterCounts = new long[clusterIds.length];
+    long count = 0;
+    for (int i = 0; i < clusterIds.length; i++) {
+      if (clusterIds[i] >= 0) {
+        clusterCounts[i] = db.countClusterElements(clusterIds[i]);
+        count += clusterCounts[i];
+      }
+    }
+
+    final List<Map<String, Integer>> degrees = new ArrayList<>();
+    final Map<String, List<Object>> values = new HashMap<>();
+    for (int i = 0; i < clusterIds.length; i++) {
+      if (clusterCounts[i] == 0)
+        continue;
+      final int clusterSample = (int) Math.max(1, Math.round((double) sampleSize * clusterCounts[i] / count));
+      for (ODocument doc : sampleCluster(db, clusterIds[i], clusterSample))
+        addSample(doc, degrees, values);
+    }
+
+    final int sampled = degrees.size();
+    final OClassStatistics result = new OClassStatistics(oClass.getName(), count, sampled);
+
+    final Map<String, List<Integer>> nonZeroDegrees = new HashMap<>();
+    for (Map<String, Integer> docDegrees : degrees)
+      for (Map.Entry<String, Integer> entry : docDegrees.entrySet())
+        if (entry.getValue() > 0)
+          nonZeroDegrees.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+
+    for (Map.Entry<String, List<Integer>> entry : nonZeroDegrees.entrySet()) {
+      final String field = entry.getKey();
+      final DegreeStatistics stats = new DegreeStatistics(entry.getValue(), sampled);
+      if (field.startsWith(OUT_PREFIX))
+        result.outDegrees.put(field.substring(OUT_PREFIX.length()), stats);
+      else
+        result.inDegrees.put(field.substring(IN_PREFIX.length()), stats);
+    }
+
+    for (Map.Entry<String, List<Object>> entry : values.entrySet())
+      result.properties.put(entry.getKey(), new PropertyStatistics(entry.getValue(), sampled, count));
+
+    return result;
+  }
+
+  /**
+   * Reads up to <code>size</code> records of a cluster, taking the first record at or after positions evenly spaced between the
+   * first and the last position of the cluster.
+   */
+  private static List<ODocument> sampleCluster(final ODatabaseDocumentInternal db, final int clusterId, final int size) {
+    final List<ODocument> result = new ArrayList<>(size);
+    final OStorage storage = db.getStorage();
+    final long[] range = storage.getClusterDataRange(clusterId);
+    if (range[0] < 0 || range[1] < range[0])
+      return result;
+
+    final double step = (double) (range[1] - range[0] + 1) / size;
+    long lastPosition = -1;
+    for (int i = 0; i < size; i++) {
+      final OPhysicalPosition[] positions = storage
+          .ceilingPhysicalPositions(clusterId, new OPhysicalPosition(Math.max(range[0] + (long) (i * step), lastPosition + 1)));
+      if (positions == null || positions.length == 0)
+        break;
+
+      lastPosition = positions[0].clusterPosition;
+      final ORecord record = db.load(new ORecordId(clusterId, lastPosition));
+      if (record instanceof ODocument)
+        result.add((ODocument) record);
+    }
+    return result;
+  }
+
+  private static void addSample(final ODocument doc, final List<Map<String, Integer>> degrees,
+      final Map<String, List<Object>> values) {
+    final Map<String, Integer> docDegrees = new HashMap<>();
+    for (String field : doc.fieldNames()) {
+      final Object value = doc.rawField(field);
+      if (field.startsWith(OUT_PREFIX) || field.startsWith(IN_PREFIX)) {
+        final int degree = getDegree(value);
+        if (degree >= 0) {
+          docDegrees.put(field, degree);
+          continue;
+        }
+      }
+      if (value != null && isSimpleValue(value))
+        values.computeIfAbsent(field, k -> new ArrayList<>()).add(value);
+    }
+    degrees.add(docDegrees);
+  }
+
+  private static int getDegree(final Object value) {
+    if (value instanceof ORidBag)
+      return ((ORidBag) value).size();
+    if (value instanceof Collection)
+      return ((Collection) value).size();
+    if (value instanceof OIdentifiable)
+      return 1;
+    return -1;
+  }
+
+  private static boolean isSimpleValue(final Object value) {
+    return value instanceof Number || value instanceof String || value instanceof Boolean || value instanceof Date;
+  }
+
+  private static int compare(final Object a, final Object b) {
+    if (a instanceof Number && b instanceof Number)
+      return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+    return ((Comparable) a).compareTo(b);
+  }
+
+  private static boolean sameValue(final Object a, final Object b) {
+    if (a instanceof Number && b instanceof Number)
+      return ((Number) a).doubleValue() == ((Number) b).doubleValue();
+    return a.equals(b);
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  /**
+   * @return the number of records of the class when the statistics were collected
+   */
+  public long getCount() {
+    return count;
+  }
+
+  public int getSampled() {
+    return sampled;
+  }
+
+  /**
+   * @return true if the number of records of the class changed too much since the statistics were collected
+   */
+  public boolean isStale(final long currentCount) {
+    return Math.abs(currentCount - count) > Math.max(1, count * RECOLLECT_THRESHOLD);
+  }
+
+  /**
+   * @return the degree statistics of the vertices for an edge class (not its subclasses), or null if no sampled vertex has edges
+   * of that class in that direction
+   */
+  public DegreeStatistics getDegree(final String edgeClass, final ODirection direction) {
+    return direction == ODirection.IN ? inDegrees.get(edgeClass) : outDegrees.get(edgeClass);
+  }
+
+  public Map<String, DegreeStatistics> getOutDegrees() {
+    return outDegrees;
+  }
+
+  public Map<String, DegreeStatistics> getInDegrees() {
+    return inDegrees;
+  }
+
+  /**
+   * Returns the average number of edges of a vertex of this class.
+   *
+   * @param edgeClasses the edge classes to consider, or null for all of them
+   * @param direction   the direction of the edges, BOTH sums OUT and IN
+   */
+  public double getAverageDegree(final Collection<String> edgeClasses, final ODirection direction) {
+    double result = 0;
+    if (direction != ODirection.IN)
+      result += sumDegrees(outDegrees, edgeClasses);
+    if (direction != ODirection.OUT)
+      result += sumDegrees(inDegrees, edgeClasses);
+    return result;
+  }
+
+  private static double sumDegrees(final Map<String, DegreeStatistics> degrees, final Collection<String> edgeClasses) {
+    double result = 0;
+    for (Map.Entry<String, DegreeStatistics> entry : degrees.entrySet())
+      if (edgeClasses == null || edgeClasses.contains(entry.getKey()))
+        result += entry.getValue().getAverage();
+    return result;
+  }
+
+  public PropertyStatistics getProperty(final String name) {
+    return properties.get(name);
+  }
+
+  public Map<String, PropertyStatistics> getProperties() {
+    return properties;
+  }
+
+  /**
+   * Estimates the fraction of the records of the class that satisfy a condition. Only the conditions on a property compared to
+   * a constant are estimated with the histograms, the others are considered not selective.
+   */
+  public double estimateSelectivity(final OWhereClause where, final OCommandContext ctx) {
+    if (where == null || where.getBaseExpression() == null)
+      return 1;
+    return estimateSelectivity(where.getBaseExpression(), ctx);
+  }
+
+  protected double estimateSelectivity(final OBooleanExpression condition, final OCommandContext ctx) {
+    if (condition instanceof OAndBlock) {
+      double result = 1;
+      for (OBooleanExpression sub : ((OAndBlock) condition).getSubBlocks())
+        result *= estimateSelectivity(sub, ctx);
+      return result;
+    } else if (condition instanceof OOrBlock) {
+      double notSelected = 1;
+      for (OBooleanExpression sub : ((OOrBlock) condition).getSubBlocks())
+        notSelected *= 1 - estimateSelectivity(sub, ctx);
+      return 1 - notSelected;
+    } else if (condition instanceof ONotBlock) {
+      final ONotBlock not = (ONotBlock) condition;
+      final double sub = estimateSelectivity(not.getSub(), ctx);
+      return not.isNegate() ? 1 - sub : sub;
+    } else if (condition instanceof OIsNullCondition) {
+      final PropertyStatistics stats = getPropertyOf(((OIsNullCondition) condition).getExpression());
+      return stats == null ? 1 : stats.getNullFraction();
+    } else if (condition instanceof OBinaryCondition)
+      return estimateSelectivity((OBinaryCondition) condition, ctx);
+
+    return 1;
+  }
+
+  private double estimateSelectivity(final OBinaryCondition condition, final OCommandContext ctx) {
+    final OExpression right = condition.getRight();
+    if (right == null || !right.isEarlyCalculated())
+      return 1;
+
+    final PropertyStatistics stats = getPropertyOf(condition.getLeft());
+    if (stats == null)
+      return 1;
+
+    final Object value;
+    try {
+      value = right.execute((OResult) null, ctx);
+    } catch (Exception e) {
+      return 1;
+    }
+
+    final OBinaryCompareOperator operator = condition.getOperator();
+    if (operator instanceof OEqualsCompareOperator)
+      return stats.getEqualsSelectivity(value);
+    if (operator instanceof ONeqOperator || operator instanceof ONeOperator)
+      return Math.max(0, 1 - stats.getNullFraction() - stats.getEqualsSelectivity(value));
+    if (operator instanceof OLtOperator || operator instanceof OLeOperator)
+      return stats.getRangeSelectivity(value, true);
+    if (operator instanceof OGtOperator || operator instanceof OGeOperator)
+      return stats.getRangeSelectivity(value, false);
+    return DEFAULT_SELECTIVITY;
+  }
+
+  private PropertyStatistics getPropertyOf(final OExpression expression) {
+    if (expression == null || !expression.isBaseIdentifier())
+      return null;
+    return properties.get(expression.getDefaultAlias().getStringValue());
+  }
+
+  @Override
+  public String toString() {
+    return className + " count=" + count + " sampled=" + sampled + " out=" + outDegrees + " in=" + inDegrees + " properties="
+        + properties;
+  }
+}
@@ -3,11 +3,13 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.sql.parser.*;
 
 import java.util.*;
@@ -20,6 +22,11 @@ public class OMatchExecutionPlanner {
 
   static final String DEFAULT_ALIAS_PREFIX = "$ORIENT_DEFAULT_ALIAS_";
 
+  private static final double      DEFAULT_FANOUT          = 10;
+  private static final int         DEFAULT_RECURSION_DEPTH = 5;
+  private static final Set<String> TRAVERSAL_METHODS       = new HashSet<>(
+      Arrays.asList("out", "in", "both", "oute", "ine", "bothe", "outv", "inv", "bothv"));
+
   protected List<OMatchExpression>  matchExpressions;
   protected List<OExpression>       returnItems;
   protected List<OIdentifier>       returnAliases;
@@ -38,6 +45,8 @@ public class OMatchExecutionPlanner {
   private List<Pattern>             subPatterns;
   private Map<String, OWhereClause> aliasFilters;
   private Map<String, String>       aliasClasses;
+  private Map<String, Double>       aliasRows;
+  private Map<String, Double>       aliasSelectivity;
   boolean foundOptional = false;
   private long threshold = 100;
 
@@ -72,6 +81,10 @@ public class OMatchExecutionPlanner {
       return result;
     }
 
+    if (context.getDatabase().getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE) > 0) {
+      estimateRows(estimatedRootEntries, context);
+    }
+
     addPrefetchSteps(result, aliasesToPrefetch, context, enableProfiling);
 
     if (subPatterns.size() > 1) {
@@ -138,7 +151,12 @@ public class OMatchExecutionPlanner {
   private OInternalExecutionPlan createPlanForPattern(Pattern pattern, OCommandContext context,
       Map<String, Long> estimatedRootEntries, Set<String> prefetchedAliases, boolean profilingEnabled) {
     OSelectExecutionPlan plan = new OSelectExecutionPlan(context);
-    List<EdgeTraversal> sortedEdges = getTopologicalSortedSchedule(estimatedRootEntries, pattern);
+    List<EdgeTraversal> sortedEdges;
+    if (aliasRows != null) {
+      sortedEdges = getCheapestSchedule(estimatedRootEntries, pattern, context);
+    } else {
+      sortedEdges = getTopologicalSortedSchedule(estimatedRootEntries, pattern, null);
+    }
 
     boolean first = true;
     if (sortedEdges.size() > 0) {
@@ -152,24 +170,209 @@ public class OMatchExecutionPlanner {
       }
     } else {
       PatternNode node = pattern.getAliasToNode().values().iterator().next();
+      MatchFirstStep step;
       if (prefetchedAliases.contains(node.alias)) {
         //from prefetch
-        plan.chain(new MatchFirstStep(context, node, profilingEnabled));
+        step = new MatchFirstStep(context, node, profilingEnabled);
       } else {
         //from actual execution plan
         String clazz = aliasClasses.get(node.alias);
         OWhereClause filter = aliasFilters.get(node.alias);
         OSelectStatement select = createSelectStatement(clazz, filter);
-        plan.chain(new MatchFirstStep(context, node, select.createExecutionPlan(context, profilingEnabled), profilingEnabled));
+        step = new MatchFirstStep(context, node, select.createExecutionPlan(context, profilingEnabled), profilingEnabled);
       }
+      setEstimatedRows(step, node.alias);
+      plan.chain(step);
     }
     return plan;
   }
 
+  /**
+   * Computes a schedule starting from each alias that can be a root and returns the one with the lowest estimated cost. With the
+   * same cost, the schedule starting from the root with less estimated entries is preferred.
+   */
+  private List<EdgeTraversal> getCheapestSchedule(Map<String, Long> estimatedRootEntries, Pattern pattern, OCommandContext ctx) {
+    List<OPair<Long, String>> rootWeights = new ArrayList<>();
+    for (Map.Entry<String, Long> root : estimatedRootEntries.entrySet()) {
+      rootWeights.add(new OPair<>(root.getValue(), root.getKey()));
+    }
+    Collections.sort(rootWeights);
+
+    Map<String, Set<String>> dependencies = getDependencies(pattern);
+    List<EdgeTraversal> cheapestSchedule = null;
+    double cheapestCost = Double.MAX_VALUE;
+    for (OPair<Long, String> root : rootWeights) {
+      String alias = root.getValue();
+      PatternNode node = pattern.aliasToNode.get(alias);
+      if (node == null || node.isOptionalNode() || !dependencies.get(alias).isEmpty()) {
+        continue;
+      }
+
+      // FORCE THE ROOT TO BE THE FIRST ONE
+      Map<String, Long> weights = new LinkedHashMap<>(estimatedRootEntries);
+      weights.put(alias, -1L);
+      List<EdgeTraversal> schedule = getTopologicalSortedSchedule(weights, pattern, ctx);
+
+      double cost = estimateCost(schedule, ctx);
+      if (cheapestSchedule == null || cost < cheapestCost) {
+        cheapestSchedule = schedule;
+        cheapestCost = cost;
+      }
+    }
+
+    if (cheapestSchedule == null) {
+      return getTopologicalSortedSchedule(estimatedRootEntries, pattern, ctx);
+    }
+    return cheapestSchedule;
+  }
+
+  /**
+   * Estimates the cost of a schedule as the number of records read from the root plus the number of records reached by each
+   * traversal. The estimated rows and fanout of each traversal are stored in the schedule, to be shown in the execution plan.
+   */
+  private double estimateCost(List<EdgeTraversal> schedule, OCommandContext ctx) {
+    if (schedule.isEmpty()) {
+      return 0;
+    }
+    EdgeTraversal first = schedule.get(0);
+    PatternNode root = first.out ? first.edge.out : first.edge.in;
+    Set<PatternNode> visited = new HashSet<>();
+    visited.add(root);
+
+    double rows = getEstimatedRows(root.alias);
+    double cost = rows;
+    for (EdgeTraversal traversal : schedule) {
+      PatternNode target = traversal.out ? traversal.edge.in : traversal.edge.out;
+      double fanout = estimateFanout(traversal.edge, traversal.out, ctx);
+      double reached = rows * fanout;
+      cost += reached;
+
+      double nextRows;
+      if (visited.contains(target)) {
+        // THE TRAVERSAL ONLY CHECKS THE EDGE BETWEEN TWO ALIASES ALREADY MATCHED
+        nextRows = rows * Math.min(1, fanout);
+      } else {
+        nextRows = reached * getSelectivity(target.alias);
+      }
+      if (target.isOptionalNode()) {
+        nextRows = Math.max(rows, nextRows);
+      }
+      rows = nextRows;
+      visited.add(target);
+
+      traversal.setEstimatedFanout(fanout);
+      traversal.setEstimatedRows(Math.round(rows));
+    }
+    return cost;
+  }
+
+  /**
+   * Estimates the number of records reached from a record of the pattern node with a traversal, using the average degree of the
+   * vertices of its class. Recursive traversals reach the records of all the levels up to their max depth.
+   */
+  private double estimateFanout(PatternEdge edge, boolean out, OCommandContext ctx) {
+    OMethodCall method = edge.item.getMethod();
+    double fanout;
+    if (edge.item instanceof OMultiMatchPathItem || method == null) {
+      fanout = DEFAULT_FANOUT;
+    } else {
+      fanout = estimateFanout(method, out ? edge.out.alias : edge.in.alias, out, ctx);
+    }
+
+    OMatchFilter filter = edge.item.getFilter();
+    if (filter != null && (filter.getWhileCondition() != null || filter.getMaxDepth() != null)) {
+      int depth = filter.getMaxDepth() != null ? filter.getMaxDepth() : DEFAULT_RECURSION_DEPTH;
+      double level = 1;
+      double reached = 1;
+      for (int i = 0; i < depth; i++) {
+        level *= fanout;
+        reached += level;
+      }
+      fanout = reached;
+    }
+    return fanout;
+  }
+
+  private double estimateFanout(OMethodCall method, String sourceAlias, boolean out, OCommandContext ctx) {
+    String methodName = method.getMethodName().getStringValue().toLowerCase(Locale.ENGLISH);
+    if (!TRAVERSAL_METHODS.contains(methodName)) {
+      return DEFAULT_FANOUT;
+    }
+
+    boolean toEdges = methodName.endsWith("e");
+    boolean fromEdges = methodName.endsWith("v");
+    if ((toEdges && !out) || (fromEdges && out)) {
+      // FROM AN EDGE TO ITS VERTICES
+      return methodName.startsWith("both") ? 2 : 1;
+    }
+
+    ODirection direction;
+    if (methodName.startsWith("out")) {
+      direction = ODirection.OUT;
+    } else if (methodName.startsWith("in")) {
+      direction = ODirection.IN;
+    } else {
+      direction = ODirection.BOTH;
+    }
+    if (!out && !fromEdges) {
+      direction = direction.opposite();
+    }
+
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    String sourceClass = aliasClasses.get(sourceAlias);
+    if (sourceClass == null && schema.existsClass("V")) {
+      sourceClass = "V";
+    }
+    OClassStatistics stats = OQueryStats.get(db).getClassStatistics(db, sourceClass);
+    if (stats == null) {
+      return DEFAULT_FANOUT;
+    }
+
+    Set<String> edgeClasses = null;
+    if (!method.getParams().isEmpty()) {
+      edgeClasses = new HashSet<>();
+      for (OExpression param : method.getParams()) {
+        if (!param.isEarlyCalculated()) {
+          edgeClasses = null;
+          break;
+        }
+        Object label = param.execute((OResult) null, ctx);
+        OClass edgeClass = label == null ? null : schema.getClass(label.toString());
+        if (edgeClass != null) {
+          edgeClasses.add(edgeClass.getName());
+          for (OClass subclass : edgeClass.getAllSubclasses()) {
+            edgeClasses.add(subclass.getName());
+          }
+        } else if (label != null) {
+          edgeClasses.add(label.toString());
+        }
+      }
+    }
+    return stats.getAverageDegree(edgeClasses, direction);
+  }
+
+  private double getEstimatedRows(String alias) {
+    Double rows = aliasRows.get(alias);
+    return rows == null ? Long.MAX_VALUE : rows;
+  }
+
+  private double getSelectivity(String alias) {
+    Double selectivity = aliasSelectivity.get(alias);
+    return selectivity == null ? 1 : selectivity;
+  }
+
+  private void setEstimatedRows(MatchFirstStep step, String alias) {
+    if (aliasRows != null && aliasRows.containsKey(alias)) {
+      step.setEstimatedRows(Math.round(aliasRows.get(alias)));
+    }
+  }
+
   /**
    * sort edges in the order they will be matched
    */
-  private List<EdgeTraversal> getTopologicalSortedSchedule(Map<String, Long> estimatedRootEntries, Pattern pattern) {
+  private List<EdgeTraversal> getTopologicalSortedSchedule(Map<String, Long> estimatedRootEntries, Pattern pattern,
+      OCommandContext ctx) {
     List<EdgeTraversal> resultingSchedule = new ArrayList<>();
     Map<String, Set<String>> remainingDependencies = getDependencies(pattern);
     Set<PatternNode> visitedNodes = new HashSet<>();
@@ -224,7 +427,7 @@ public class OMatchExecutionPlanner {
 
       // 2. Having found a starting vertex, traverse its neighbors depth-first,
       //    adding any non-visited ones with satisfied dependencies to our schedule.
-      updateScheduleStartingAt(startingNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule);
+      updateScheduleStartingAt(startingNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule, ctx);
     }
 
     if (resultingSchedule.size() != pattern.numOfEdges) {
@@ -244,9 +447,11 @@ public class OMatchExecutionPlanner {
    * @param remainingDependencies dependency map including only the dependencies that haven't yet been satisfied (mutated in this
    *                              function)
    * @param resultingSchedule     the schedule being computed i.e. appended to (mutated in this function)
+   * @param ctx                   the context used to estimate the cost of the traversals, so the neighboring nodes that
+   *                              produce less results are visited first, or null to visit them in the order of the query
    */
   private void updateScheduleStartingAt(PatternNode startNode, Set<PatternNode> visitedNodes, Set<PatternEdge> visitedEdges,
-      Map<String, Set<String>> remainingDependencies, List<EdgeTraversal> resultingSchedule) {
+      Map<String, Set<String>> remainingDependencies, List<EdgeTraversal> resultingSchedule, OCommandContext ctx) {
     // OrientDB requires the schedule to contain all edges present in the query, which is a stronger condition
     // than simply visiting all nodes in the query. Consider the following example query:
     //     MATCH {
@@ -280,6 +485,20 @@ public class OMatchExecutionPlanner {
     for (PatternEdge inEdge : startNode.in) {
       edges.put(inEdge, false);
     }
+    if (ctx != null && aliasRows != null) {
+      List<Map.Entry<PatternEdge, Boolean>> sortedEdges = new ArrayList<>(edges.entrySet());
+      Map<PatternEdge, Double> expansions = new HashMap<>();
+      for (Map.Entry<PatternEdge, Boolean> edgeData : sortedEdges) {
+        PatternNode neighboringNode = edgeData.getValue() ? edgeData.getKey().in : edgeData.getKey().out;
+        expansions.put(edgeData.getKey(),
+            estimateFanout(edgeData.getKey(), edgeData.getValue(), ctx) * getSelectivity(neighboringNode.alias));
+      }
+      sortedEdges.sort(Comparator.comparing(x -> expansions.get(x.getKey())));
+      edges = new LinkedHashMap<>();
+      for (Map.Entry<PatternEdge, Boolean> edgeData : sortedEdges) {
+        edges.put(edgeData.getKey(), edgeData.getValue());
+      }
+    }
 
     for (Map.Entry<PatternEdge, Boolean> edgeData : edges.entrySet()) {
       PatternEdge edge = edgeData.getKey();
@@ -327,7 +546,7 @@ public class OMatchExecutionPlanner {
 
         visitedEdges.add(edge);
         resultingSchedule.add(new EdgeTraversal(edge, isOutbound));
-        updateScheduleStartingAt(neighboringNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule);
+        updateScheduleStartingAt(neighboringNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule, ctx);
       }
     }
   }
@@ -380,8 +599,10 @@ public class OMatchExecutionPlanner {
       select.setWhereClause(where == null ? null : where.copy());
       OBasicCommandContext subContxt = new OBasicCommandContext();
       subContxt.setParentWithoutOverridingChild(context);
-      plan.chain(
-          new MatchFirstStep(context, patternNode, select.createExecutionPlan(subContxt, profilingEnabled), profilingEnabled));
+      MatchFirstStep step = new MatchFirstStep(context, patternNode, select.createExecutionPlan(subContxt, profilingEnabled),
+          profilingEnabled);
+      setEstimatedRows(step, patternNode.alias);
+      plan.chain(step);
     }
     if (edge.edge.in.isOptionalNode()) {
       foundOptional = true;
@@ -625,4 +846,39 @@ public class OMatchExecutionPlanner {
     return result;
   }
 
+  /**
+   * Refines the estimated root entries with the statistics of the classes, to estimate the number of records of each alias and
+   * the fraction of the records of its class selected by its filter. The refined estimates are used only to compare the costs
+   * of the schedules, while the prefetch still relies on the upper bounds.
+   */
+  private void estimateRows(Map<String, Long> estimatedRootEntries, OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OSchema schema = db.getMetadata().getImmutableSchemaSnapshot();
+    OQueryStats queryStats = OQueryStats.get(db);
+
+    Map<String, Double> rows = new HashMap<>();
+    Map<String, Double> selectivity = new HashMap<>();
+    for (Map.Entry<String, Long> entry : estimatedRootEntries.entrySet()) {
+      String alias = entry.getKey();
+      long upperBound = entry.getValue();
+      long count = schema.getClass(aliasClasses.get(alias)).count();
+
+      double aliasRows = upperBound;
+      OClassStatistics stats = queryStats.getClassStatistics(db, aliasClasses.get(alias));
+      if (stats != null && aliasFilters.get(alias) != null) {
+        aliasRows = Math.min(upperBound, count * stats.estimateSelectivity(aliasFilters.get(alias), ctx));
+      } else if (aliasFilters.get(alias) == null) {
+        aliasRows = count;
+      }
+      if (upperBound > 0) {
+        aliasRows = Math.max(1, aliasRows);
+      }
+
+      rows.put(alias, aliasRows);
+      selectivity.put(alias, count > 0 ? Math.min(1, aliasRows / count) : 1);
+    }
+    this.aliasRows = rows;
+    this.aliasSelectivity = selectivity;
+  }
+
 }
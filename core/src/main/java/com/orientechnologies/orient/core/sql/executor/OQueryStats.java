@@ -1,8 +1,13 @@
 package com.orientechnologies.orient.core.sql.executor;
 
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -16,6 +21,9 @@ public class OQueryStats {
 
   public Map<String, Long> stats = new ConcurrentHashMap<>();
 
+  protected final Map<String, OClassStatistics> classStats = new ConcurrentHashMap<>();
+  protected final Set<String>                   collecting = ConcurrentHashMap.newKeySet();
+
   public static OQueryStats get(ODatabaseDocumentInternal db) {
     return db.getSharedContext().getQueryStats();
   }
@@ -76,6 +84,74 @@ public class OQueryStats {
     pushValue(key, value);
   }
 
+  /**
+   * Returns the last statistics collected for a class without reading its records: this is called while planning a query. The
+   * first time and every time the number of records of the class changed too much, the statistics are collected again in
+   * background on a copy of the database.
+   *
+   * @return the statistics, or null if they are disabled, not collected yet or the class does not exist
+   */
+  public OClassStatistics getClassStatistics(ODatabaseDocumentInternal db, String className) {
+    OClass oClass = getStatisticsClass(db, className);
+    if (oClass == null) {
+      return null;
+    }
+
+    OClassStatistics result = classStats.get(oClass.getName());
+    if ((result == null || result.isStale(oClass.count())) && collecting.add(oClass.getName())) {
+      try {
+        ODatabaseDocumentInternal copy = db.copy();
+        Orient.instance().submit(() -> {
+          try {
+            copy.activateOnCurrentThread();
+            collect(copy, oClass);
+          } finally {
+            collecting.remove(oClass.getName());
+            copy.close();
+          }
+        });
+      } catch (RuntimeException e) {
+        collecting.remove(oClass.getName());
+        OLogManager.instance().debug(this, "Cannot collect the statistics of class '%s'", e, className);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Collects the statistics of a class on a sample of its records in the current thread.
+   *
+   * @return the statistics, or null if they are disabled, cannot be collected or the class does not exist
+   */
+  public OClassStatistics collectClassStatistics(ODatabaseDocumentInternal db, String className) {
+    OClass oClass = getStatisticsClass(db, className);
+    return oClass == null ? null : collect(db, oClass);
+  }
+
+  private OClass getStatisticsClass(ODatabaseDocumentInternal db, String className) {
+    int sampleSize = db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE);
+    if (sampleSize <= 0 || className == null) {
+      return null;
+    }
+    return db.getMetadata().getImmutableSchemaSnapshot().getClass(className);
+  }
+
+  private OClassStatistics collect(ODatabaseDocumentInternal db, OClass oClass) {
+    try {
+      OClassStatistics result = OClassStatistics
+          .collect(db, oClass, db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE));
+      classStats.put(oClass.getName(), result);
+      return result;
+    } catch (RuntimeException e) {
+      OLogManager.instance().debug(this, "Cannot collect the statistics of class '%s'", e, oClass.getName());
+      return null;
+    }
+  }
+
+  public void clearClassStatistics() {
+    classStats.clear();
+  }
+
   private void pushValue(String key, Long value) {
     if (value == null) {
       return;
@@ -74,7 +74,8 @@ public class OSelectExecutionPlanner {
 
     handleWhere(result, info, ctx, enableProfiling);
 
-    // TODO optimization: in most cases the projections can be calculated on remote nodes
+    handleShardedPushDown(info, ctx, enableProfiling);
+
     buildDistributedExecutionPlan(result, info, ctx, enableProfiling);
 
     handleProjectionsBeforeOrderBy(result, info, ctx, enableProfiling);
@@ -138,22 +139,83 @@ public class OSelectExecutionPlanner {
       }
       info.distributedFetchExecutionPlans = null;
     } else {
-      //sharded fetching
-      List<OExecutionPlan> subPlans = new ArrayList<>();
+      //sharded fetching: all the nodes execute their part concurrently
+      OInternalExecutionPlan localPlan = null;
+      List<OInternalExecutionPlan> remotePlans = new ArrayList<>();
       for (Map.Entry<String, OSelectExecutionPlan> entry : info.distributedFetchExecutionPlans.entrySet()) {
         if (entry.getKey().equals(currentNode)) {
-          subPlans.add(entry.getValue());
+          localPlan = entry.getValue();
         } else {
           DistributedExecutionStep step = new DistributedExecutionStep(entry.getValue(), entry.getKey(), ctx, enableProfiling);
           OSelectExecutionPlan subPlan = new OSelectExecutionPlan(ctx);
           subPlan.chain(step);
-          subPlans.add(subPlan);
+          remotePlans.add(subPlan);
         }
       }
+      result.chain(new ScatterGatherExecutionStep(localPlan, remotePlans, ctx, enableProfiling));
+      info.distributedFetchExecutionPlans = null;
     }
     info.distributedPlanCreated = true;
   }
 
+  /**
+   * in a sharded query, moves to the nodes that own the data the operations that can be calculated on a single shard, so the
+   * coordinator only merges partial results: the projections (or the projections that prepare the aggregation) and, when the
+   * query has a LIMIT, the ORDER BY limited to the first SKIP + LIMIT records of each node (top-N). The coordinator applies them
+   * again on the merged results.
+   *
+   * @param info
+   * @param ctx
+   * @param profilingEnabled
+   */
+  void handleShardedPushDown(QueryPlanningInfo info, OCommandContext ctx, boolean profilingEnabled) {
+    if (info.distributedPlanCreated || info.distributedFetchExecutionPlans == null
+        || info.distributedFetchExecutionPlans.size() < 2) {
+      return;
+    }
+    if (info.expand || info.unwind != null) {
+      return;
+    }
+
+    if (info.aggregateProjection != null) {
+      // the aggregation needs all the records, only the values it aggregates are calculated on the nodes
+      if (info.preAggregateProjection != null) {
+        for (OSelectExecutionPlan shardedPlan : info.distributedFetchExecutionPlans.values()) {
+          shardedPlan.chain(new ProjectionCalculationStep(info.preAggregateProjection.copy(), ctx, profilingEnabled));
+        }
+        info.preAggregateProjection = null;
+      }
+      return;
+    }
+
+    if (info.projection != null) {
+      for (OSelectExecutionPlan shardedPlan : info.distributedFetchExecutionPlans.values()) {
+        shardedPlan.chain(new ProjectionCalculationStep(info.projection.copy(), ctx, profilingEnabled));
+      }
+      info.projectionsCalculated = true;
+    }
+
+    if (info.distinct || info.limit == null) {
+      return;
+    }
+    int limitSize = info.limit.getValue(ctx);
+    int skipSize = info.skip == null ? 0 : info.skip.getValue(ctx);
+    if (limitSize < 0 || skipSize < 0) {
+      return;
+    }
+    for (OSelectExecutionPlan shardedPlan : info.distributedFetchExecutionPlans.values()) {
+      if (info.orderBy != null && info.orderBy.getItems() != null && info.orderBy.getItems().size() > 0) {
+        shardedPlan.chain(new OrderByStep(info.orderBy.copy(), skipSize + limitSize, ctx, profilingEnabled));
+      } else {
+        OLimit shardLimit = new OLimit(-1);
+        OInteger num = new OInteger(-1);
+        num.setValue(skipSize + limitSize);
+        shardLimit.setNum(num);
+        shardedPlan.chain(new LimitExecutionStep(shardLimit, ctx, profilingEnabled));
+      }
+    }
+  }
+
   /**
    * based on the cluster/server map and the query target, this method tries to find an optimal
    * strategy to execute the query on the cluster.
@@ -2,6 +2,7 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
@@ -70,7 +71,13 @@ public class OTraverseExecutionPlanner {
   private void handleTraversal(OSelectExecutionPlan result, OCommandContext ctx, boolean profilingEnabled) {
     switch (strategy) {
     case BREADTH_FIRST:
-      result.chain(new BreadthFirstTraverseStep(this.projections, this.whileClause, maxDepth, ctx, profilingEnabled));
+      int parallelism = getTraverseParallelism(ctx);
+      if (parallelism > 1) {
+        result.chain(
+            new ParallelBreadthFirstTraverseStep(this.projections, this.whileClause, maxDepth, parallelism, ctx, profilingEnabled));
+      } else {
+        result.chain(new BreadthFirstTraverseStep(this.projections, this.whileClause, maxDepth, ctx, profilingEnabled));
+      }
       break;
     case DEPTH_FIRST:
       result.chain(new DepthFirstTraverseStep(this.projections, this.whileClause, maxDepth, ctx, profilingEnabled));
@@ -79,6 +86,14 @@ public class OTraverseExecutionPlanner {
     //TODO
   }
 
+  private int getTraverseParallelism(OCommandContext ctx) {
+    ODatabase db = ctx.getDatabase();
+    if (db != null && db.getConfiguration() != null) {
+      return db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_TRAVERSE_PARALLELISM);
+    }
+    return OGlobalConfiguration.QUERY_TRAVERSE_PARALLELISM.getValueAsInteger();
+  }
+
   private void handleFetchFromTarger(OSelectExecutionPlan result, OCommandContext ctx, boolean profilingEnabled) {
 
     OFromItem target = this.target == null ? null : this.target.getItem();
@@ -1,7 +1,9 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
 
 import java.util.*;
@@ -10,7 +12,7 @@ import java.util.*;
  * Created by luigidellaquila on 11/07/16.
  */
 public class OrderByStep extends AbstractExecutionStep {
-  private final OOrderBy orderBy;
+  private       OOrderBy orderBy;
   private       Integer  maxResults;
 
   private long cost = 0;
@@ -18,6 +20,13 @@ public class OrderByStep extends AbstractExecutionStep {
   List<OResult> cachedResult = null;
   int           nextElement  = 0;
 
+  /**
+   * used to deserialize the step on the node that executes it
+   */
+  public OrderByStep() {
+    this(null, null, null, false);
+  }
+
   public OrderByStep(OOrderBy orderBy, OCommandContext ctx, boolean profilingEnabled) {
     this(orderBy, null, ctx, profilingEnabled);
   }
@@ -164,4 +173,26 @@ public class OrderByStep extends AbstractExecutionStep {
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public OResult serialize() {
+    OResultInternal result = OExecutionStepInternal.basicSerialize(this);
+    if (orderBy != null) {
+      result.setProperty("orderBy", orderBy.serialize());
+    }
+    result.setProperty("maxResults", maxResults);
+    return result;
+  }
+
+  @Override
+  public void deserialize(OResult fromResult) {
+    try {
+      OExecutionStepInternal.basicDeserialize(fromResult, this);
+      orderBy = new OOrderBy(-1);
+      orderBy.deserialize(fromResult.getProperty("orderBy"));
+      maxResults = fromResult.getProperty("maxResults");
+    } catch (Exception e) {
+      throw OException.wrapException(new OCommandExecutionException(""), e);
+    }
+  }
 }
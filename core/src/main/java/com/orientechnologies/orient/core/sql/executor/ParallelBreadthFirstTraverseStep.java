@@ -0,0 +1,259 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.parser.OInteger;
+import com.orientechnologies.orient.core.sql.parser.OTraverseProjectionItem;
+import com.orientechnologies.orient.core.sql.parser.OWhereClause;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Breadth-first traversal that expands a whole level at a time. The records of the level are split among parallel tasks, each
+ * one with a database instance and a copy of the context variables of its own, that check the WHILE condition and evaluate the
+ * projections. The records traversed so far are only read by the tasks and are updated by the current thread when all of them
+ * are finished, then the records of the level are returned before the next level is expanded, so a LIMIT stops the traversal
+ * early. The level is expanded by the current thread only inside a transaction or when the query runs in a worker of the pool.
+ */
+public class ParallelBreadthFirstTraverseStep extends AbstractTraverseStep {
+
+  /**
+   * Minimum number of records of a level expanded by a parallel task.
+   */
+  protected static final int PARALLEL_CHUNK_SIZE = 256;
+
+  private final int parallelism;
+
+  private List<Candidate> frontier = new ArrayList<>();
+
+  private static class Candidate {
+    private final ORID rid;
+    private final int  depth;
+
+    private Candidate(ORID rid, int depth) {
+      this.rid = rid;
+      this.depth = depth;
+    }
+  }
+
+  /**
+   * Context of a parallel task: it has a snapshot of the variables of the query context, so the task never changes them, and it
+   * checks the timeout of the query.
+   */
+  private static class TaskContext extends OBasicCommandContext {
+    private final OCommandContext queryCtx;
+
+    private TaskContext(OCommandContext queryCtx, Map<String, Object> variables) {
+      this.queryCtx = queryCtx;
+      for (Map.Entry<String, Object> variable : variables.entrySet()) {
+        setVariable(variable.getKey(), variable.getValue());
+      }
+      setInputParameters(queryCtx.getInputParameters());
+    }
+
+    @Override
+    public boolean checkTimeout() {
+      return queryCtx.checkTimeout();
+    }
+  }
+
+  private static class Expansion {
+    private final List<Candidate> matched = new ArrayList<>();
+    private final List<Candidate> next    = new ArrayList<>();
+  }
+
+  public ParallelBreadthFirstTraverseStep(List<OTraverseProjectionItem> projections, OWhereClause whileClause, OInteger maxDepth,
+      int parallelism, OCommandContext ctx, boolean profilingEnabled) {
+    super(projections, whileClause, maxDepth, ctx, profilingEnabled);
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  protected boolean hasEntryPoints() {
+    return !frontier.isEmpty();
+  }
+
+  @Override
+  protected void fetchNextEntryPoints(OCommandContext ctx, int nRecords) {
+    OResultSet nextN = getPrev().get().syncPull(ctx, nRecords);
+    while (nextN.hasNext()) {
+      while (nextN.hasNext()) {
+        OResult item = nextN.next();
+        if (item.isElement()) {
+          ORID rid = item.getElement().get().getIdentity();
+          if (rid.isPersistent() && traversed.add(rid)) {
+            int depth = item instanceof OTraverseResult && ((OTraverseResult) item).depth != null ?
+                ((OTraverseResult) item).depth :
+                0;
+            frontier.add(new Candidate(rid, depth));
+          }
+        }
+      }
+      nextN = getPrev().get().syncPull(ctx, nRecords);
+    }
+  }
+
+  @Override
+  protected void fetchNextResults(OCommandContext ctx, int nRecords) {
+    List<Expansion> expansions = expandLevel(ctx);
+
+    List<Candidate> nextLevel = new ArrayList<>();
+    for (Expansion expansion : expansions) {
+      for (Candidate candidate : expansion.matched) {
+        OTraverseResult res = new OTraverseResult();
+        res.setElement(candidate.rid);
+        res.depth = candidate.depth;
+        res.setMetadata("$depth", candidate.depth);
+        this.results.add(res);
+      }
+      for (Candidate candidate : expansion.next) {
+        if (traversed.add(candidate.rid)) {
+          nextLevel.add(candidate);
+        }
+      }
+    }
+    this.frontier = nextLevel;
+  }
+
+  private List<Expansion> expandLevel(OCommandContext ctx) {
+    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.get();
+    List<Candidate> level = this.frontier;
+
+    int tasks = Math.max(1, Math.min(parallelism, (level.size() + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE));
+    if (db.getTransaction().isActive()) {
+      // THE TASKS USE DATABASE INSTANCES OF THEIR OWN, THAT DO NOT SEE THE CHANGES OF THE CURRENT TRANSACTION
+      tasks = 1;
+    } else if (Orient.instance().isWorkerThread()) {
+      // WAITING FOR OTHER TASKS OF THE SAME POOL COULD EXHAUST IT
+      tasks = 1;
+    }
+    int chunkSize = (level.size() + tasks - 1) / tasks;
+
+    Map<String, Object> variables = tasks > 1 ? snapshotVariables(ctx) : null;
+    List<Future<Expansion>> jobs = new ArrayList<>(tasks - 1);
+    for (int i = 1; i < tasks; i++) {
+      List<Candidate> chunk = level.subList(i * chunkSize, Math.min(level.size(), (i + 1) * chunkSize));
+      List<OTraverseProjectionItem> taskProjections = projections.stream().map(x -> x.copy()).collect(Collectors.toList());
+      OWhereClause taskWhileClause = whileClause == null ? null : whileClause.copy();
+      jobs.add(Orient.instance().submit(() -> {
+        ODatabaseDocumentInternal localDatabase = db.copy();
+        try {
+          localDatabase.activateOnCurrentThread();
+          OBasicCommandContext taskCtx = new TaskContext(ctx, variables);
+          taskCtx.setDatabase(localDatabase);
+          return expandChunk(chunk, taskProjections, taskWhileClause, taskCtx);
+        } finally {
+          localDatabase.close();
+        }
+      }));
+    }
+
+    List<Expansion> expansions = new ArrayList<>(tasks);
+    try {
+      expansions.add(expandChunk(level.subList(0, Math.min(level.size(), chunkSize)), projections, whileClause, ctx));
+      for (Future<Expansion> job : jobs) {
+        expansions.add(job.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OCommandExecutionException("The traversal has been interrupted"), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof OTimeoutException) {
+        throw (OTimeoutException) e.getCause();
+      }
+      throw OException.wrapException(new OCommandExecutionException("Error on expanding a level of the traversal"), e);
+    } finally {
+      db.activateOnCurrentThread();
+    }
+    return expansions;
+  }
+
+  /**
+   * Returns the variables visible from the context, the ones of the nearest context winning over the ones of its parents.
+   */
+  private static Map<String, Object> snapshotVariables(OCommandContext ctx) {
+    Map<String, Object> variables = new HashMap<>();
+    for (OCommandContext current = ctx; current != null; current = current.getParent()) {
+      for (Map.Entry<String, Object> variable : current.getVariables().entrySet()) {
+        variables.putIfAbsent(variable.getKey(), variable.getValue());
+      }
+    }
+    return variables;
+  }
+
+  /**
+   * Loads the records of a part of the level with the database of the current thread, returning the ones that match the WHILE
+   * condition and the records reached from them that have not been traversed yet.
+   */
+  private Expansion expandChunk(List<Candidate> chunk, List<OTraverseProjectionItem> projections, OWhereClause whileClause,
+      OCommandContext ctx) {
+    Expansion expansion = new Expansion();
+    for (Candidate candidate : chunk) {
+      OTraverseResult item = new OTraverseResult();
+      item.setElement(candidate.rid);
+      if (!(item.getElement().orElse(null) instanceof OElement)) {
+        continue;
+      }
+      item.depth = candidate.depth;
+      item.setMetadata("$depth", candidate.depth);
+      if (whileClause != null && !whileClause.matchesFilters(item, ctx)) {
+        continue;
+      }
+      expansion.matched.add(candidate);
+
+      if (this.maxDepth == null || this.maxDepth.getValue().intValue() > candidate.depth) {
+        for (OTraverseProjectionItem proj : projections) {
+          addNextCandidates(proj.execute(item, ctx), candidate.depth + 1, expansion.next);
+        }
+      }
+    }
+    return expansion;
+  }
+
+  private void addNextCandidates(Object nextStep, int depth, List<Candidate> next) {
+    if (nextStep instanceof OIdentifiable) {
+      ORID rid = ((OIdentifiable) nextStep).getIdentity();
+      if (!traversed.contains(rid)) {
+        next.add(new Candidate(rid, depth));
+      }
+    } else if (nextStep instanceof Iterable) {
+      addNextCandidates(((Iterable) nextStep).iterator(), depth, next);
+    } else if (nextStep instanceof Iterator) {
+      Iterator iterator = (Iterator) nextStep;
+      while (iterator.hasNext()) {
+        addNextCandidates(iterator.next(), depth, next);
+      }
+    } else if (nextStep instanceof OResult && ((OResult) nextStep).isElement()) {
+      addNextCandidates(((OResult) nextStep).getElement().get(), depth, next);
+    }
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    StringBuilder result = new StringBuilder();
+    result.append(spaces);
+    result.append("+ PARALLEL BREADTH-FIRST TRAVERSE (parallelism " + parallelism + ")\n");
+    if (whileClause != null) {
+      result.append(spaces);
+      result.append("WHILE " + whileClause.toString());
+    }
+    return result.toString();
+  }
+}
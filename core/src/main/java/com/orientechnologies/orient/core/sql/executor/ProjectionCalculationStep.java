@@ -1,7 +1,9 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
 
 import java.util.Map;
@@ -11,10 +13,17 @@ import java.util.Optional;
  * Created by luigidellaquila on 12/07/16.
  */
 public class ProjectionCalculationStep extends AbstractExecutionStep {
-  protected final OProjection projection;
+  protected OProjection projection;
 
   protected long cost = 0;
 
+  /**
+   * used to deserialize the step on the node that executes it
+   */
+  public ProjectionCalculationStep() {
+    this(null, null, false);
+  }
+
   public ProjectionCalculationStep(OProjection projection, OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.projection = projection;
@@ -82,4 +91,24 @@ public class ProjectionCalculationStep extends AbstractExecutionStep {
   public long getCost() {
     return cost;
   }
+
+  @Override
+  public OResult serialize() {
+    OResultInternal result = OExecutionStepInternal.basicSerialize(this);
+    if (projection != null) {
+      result.setProperty("projection", projection.serialize());
+    }
+    return result;
+  }
+
+  @Override
+  public void deserialize(OResult fromResult) {
+    try {
+      OExecutionStepInternal.basicDeserialize(fromResult, this);
+      projection = new OProjection(-1);
+      projection.deserialize(fromResult.getProperty("projection"));
+    } catch (Exception e) {
+      throw OException.wrapException(new OCommandExecutionException(""), e);
+    }
+  }
 }
@@ -0,0 +1,279 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes the sub-plans of a sharded query concurrently, one per node, and returns their results as they arrive. The remote
+ * sub-plans are pulled by worker threads, each one with a copy of the database of the caller, while the local one, bound to the
+ * database of the current thread, is executed by the caller when no remote result is ready. Every remote sub-plan is closed by
+ * its worker thread, with the database the remote query has been opened with.
+ * <p>
+ * When the query is executed by a worker thread of the pool, the remote sub-plans are pulled one after the other by the current
+ * thread, after the local one, because waiting for other tasks of the pool from one of its workers could exhaust it.
+ * <p>
+ * The order of the results is not defined: ordering, if any, is applied by the next steps.
+ */
+public class ScatterGatherExecutionStep extends AbstractExecutionStep {
+  private static final Object END         = new Object();
+  private static final int    BATCH_SIZE  = 100;
+  private static final long   PUT_TIMEOUT = 100;
+
+  private final OInternalExecutionPlan       localPlan;
+  private final List<OInternalExecutionPlan> remotePlans;
+
+  private BlockingQueue<Object> queue;
+  private List<Future<?>>       producers;
+  private int                   runningProducers;
+  private volatile boolean      closed;
+  private boolean               inline;
+
+  private int        currentRemote;
+  private OResultSet remoteResultSet;
+
+  private OResultSet localResultSet;
+  private boolean    localFinished;
+
+  /**
+   * @param localPlan   the sub-plan to execute on the current node, or null if no data is local
+   * @param remotePlans the sub-plans that execute the query on the other nodes
+   */
+  public ScatterGatherExecutionStep(OInternalExecutionPlan localPlan, List<OInternalExecutionPlan> remotePlans,
+      OCommandContext ctx, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.localPlan = localPlan;
+    this.remotePlans = remotePlans;
+    this.localFinished = localPlan == null;
+  }
+
+  @Override
+  public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+    getPrev().ifPresent(x -> x.syncPull(ctx, nRecords));
+    init();
+
+    return new OResultSet() {
+      int localCount = 0;
+      OResult nextItem = null;
+
+      @Override
+      public boolean hasNext() {
+        if (localCount >= nRecords) {
+          return false;
+        }
+        if (nextItem == null) {
+          nextItem = fetchNextItem(nRecords);
+        }
+        return nextItem != null;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext()) {
+          throw new IllegalStateException();
+        }
+        OResult result = nextItem;
+        nextItem = null;
+        localCount++;
+        return result;
+      }
+
+      @Override
+      public void close() {
+
+      }
+
+      @Override
+      public Optional<OExecutionPlan> getExecutionPlan() {
+        return null;
+      }
+
+      @Override
+      public Map<String, Long> getQueryStats() {
+        return null;
+      }
+    };
+  }
+
+  private void init() {
+    if (queue != null) {
+      return;
+    }
+    queue = new ArrayBlockingQueue<>(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.getValueAsInteger());
+    if (Orient.instance().isWorkerThread()) {
+      // WAITING FOR PRODUCERS FROM A WORKER OF THE POOL COULD EXHAUST IT: THE REMOTE SUB-PLANS ARE PULLED BY THE CURRENT THREAD
+      inline = true;
+      return;
+    }
+    producers = new ArrayList<>(remotePlans.size());
+    runningProducers = remotePlans.size();
+    ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+    for (OInternalExecutionPlan plan : remotePlans) {
+      producers.add(Orient.instance().submit(() -> produce(plan, db)));
+    }
+  }
+
+  private void produce(OInternalExecutionPlan plan, ODatabaseDocumentInternal db) {
+    ODatabaseDocumentInternal localDatabase = db == null ? null : db.copy();
+    try {
+      if (localDatabase != null) {
+        localDatabase.activateOnCurrentThread();
+      }
+      while (!closed) {
+        OResultSet block = plan.fetchNext(BATCH_SIZE);
+        if (!block.hasNext()) {
+          break;
+        }
+        while (block.hasNext()) {
+          if (!put(block.next())) {
+            return;
+          }
+        }
+      }
+      put(END);
+    } catch (RuntimeException e) {
+      put(e);
+    } finally {
+      try {
+        plan.close();
+      } catch (RuntimeException e) {
+        OLogManager.instance().warn(this, "Error on closing the sub-plan of a sharded query", e);
+      } finally {
+        if (localDatabase != null) {
+          localDatabase.close();
+        }
+      }
+    }
+  }
+
+  private boolean put(Object item) {
+    try {
+      while (!closed) {
+        if (queue.offer(item, PUT_TIMEOUT, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  private OResult fetchNextItem(int nRecords) {
+    while (true) {
+      Object item = runningProducers > 0 ? queue.poll() : null;
+      if (item == null) {
+        if (!localFinished) {
+          // NO REMOTE RESULT READY: MEANWHILE GO ON WITH THE LOCAL DATA
+          if (localResultSet == null || !localResultSet.hasNext()) {
+            localResultSet = localPlan.fetchNext(nRecords);
+            if (!localResultSet.hasNext()) {
+              localFinished = true;
+              continue;
+            }
+          }
+          return localResultSet.next();
+        }
+        if (runningProducers == 0) {
+          return inline ? fetchNextRemoteItem(nRecords) : null;
+        }
+        try {
+          item = queue.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new OCommandInterruptedException("Interrupted while waiting for the results of a sharded query");
+        }
+      }
+
+      if (item == END) {
+        runningProducers--;
+      } else if (item instanceof RuntimeException) {
+        close();
+        throw OException.wrapException(new OCommandExecutionException("Error on executing a sharded query"), (Throwable) item);
+      } else {
+        return (OResult) item;
+      }
+    }
+  }
+
+  private OResult fetchNextRemoteItem(int nRecords) {
+    try {
+      while (currentRemote < remotePlans.size()) {
+        if (remoteResultSet == null || !remoteResultSet.hasNext()) {
+          remoteResultSet = remotePlans.get(currentRemote).fetchNext(nRecords);
+          if (!remoteResultSet.hasNext()) {
+            currentRemote++;
+            continue;
+          }
+        }
+        return remoteResultSet.next();
+      }
+      return null;
+    } catch (RuntimeException e) {
+      close();
+      throw OException.wrapException(new OCommandExecutionException("Error on executing a sharded query"), e);
+    }
+  }
+
+  @Override
+  public void sendTimeout() {
+    super.sendTimeout();
+    close();
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (producers != null) {
+      for (Future<?> producer : producers) {
+        producer.cancel(true);
+      }
+    }
+    if (localPlan != null) {
+      localPlan.close();
+    }
+    if (producers == null) {
+      // the remote sub-plans have been pulled inline or never started, otherwise they are closed by their producers
+      for (OInternalExecutionPlan plan : remotePlans) {
+        plan.close();
+      }
+    }
+    super.close();
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    StringBuilder builder = new StringBuilder();
+    String ind = OExecutionStepInternal.getIndent(depth, indent);
+    builder.append(ind);
+    builder.append("+ SCATTER-GATHER ON " + (remotePlans.size() + (localPlan == null ? 0 : 1)) + " NODES\n");
+    if (localPlan != null) {
+      builder.append(localPlan.prettyPrint(depth + 1, indent));
+      builder.append("\n");
+    }
+    for (OInternalExecutionPlan plan : remotePlans) {
+      builder.append(plan.prettyPrint(depth + 1, indent));
+      builder.append("\n");
+    }
+    return builder.toString();
+  }
+}
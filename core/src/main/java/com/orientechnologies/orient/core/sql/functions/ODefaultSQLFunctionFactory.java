@@ -65,6 +65,8 @@ public final class ODefaultSQLFunctionFactory extends OSQLFunctionFactoryTemplat
     register(OSQLFunctionMode.NAME, OSQLFunctionMode.class);
     register(OSQLFunctionPercentile.NAME, OSQLFunctionPercentile.class);
     register(OSQLFunctionMedian.NAME, OSQLFunctionMedian.class);
+    register(OSQLFunctionApproxPercentile.NAME, OSQLFunctionApproxPercentile.class);
+    register(OSQLFunctionApproxCountDistinct.NAME, OSQLFunctionApproxCountDistinct.class);
     register(OSQLFunctionVariance.NAME, OSQLFunctionVariance.class);
     register(OSQLFunctionStandardDeviation.NAME, OSQLFunctionStandardDeviation.class);
     register(OSQLFunctionUUID.NAME, OSQLFunctionUUID.class);
@@ -86,6 +88,11 @@ public final class ODefaultSQLFunctionFactory extends OSQLFunctionFactoryTemplat
     register(OSQLFunctionShortestPath.NAME, OSQLFunctionShortestPath.class);
     register(OSQLFunctionDijkstra.NAME, OSQLFunctionDijkstra.class);
     register(OSQLFunctionAstar.NAME, OSQLFunctionAstar.class);
+    register(OSQLFunctionGraphSnapshot.NAME, new OSQLFunctionGraphSnapshot());
+    register(OSQLFunctionDropGraphSnapshot.NAME, new OSQLFunctionDropGraphSnapshot());
+    register(OSQLFunctionPageRank.NAME, new OSQLFunctionPageRank());
+    register(OSQLFunctionConnectedComponents.NAME, new OSQLFunctionConnectedComponents());
+    register(OSQLFunctionBfsLevels.NAME, new OSQLFunctionBfsLevels());
 
   }
 
@@ -0,0 +1,672 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only snapshot of the vertices of a class and of the edges between them in compressed sparse row (CSR) format: the vertices
+ * have dense int ids in the order of their RIDs and the edges are kept in primitive arrays, with an optional weight column. The
+ * graph algorithms run over the arrays without loading any record, so they are much faster than the ones that walk the documents,
+ * at the price of working on the state of the graph at the time of the snapshot.
+ * <p>
+ * The snapshot is built scanning the clusters of the vertex class in parallel and it's registered by name in the database, so the
+ * graph functions can use it.
+ *
+ * @see OSQLFunctionGraphSnapshot
+ */
+public class OGraphSnapshot {
+  private static final int  CLUSTER_SHIFT = 48;
+  private static final long POSITION_MASK = (1L << CLUSTER_SHIFT) - 1;
+
+  private final String   name;
+  private final String   vertexClass;
+  private final String   edgeClass;
+  private final String   weightField;
+  private final long[]   vertices;
+  private final int[]    outOffsets;
+  private final int[]    outTargets;
+  private final double[] outWeights;
+  private final int[]    inOffsets;
+  private final int[]    inTargets;
+  private final double[] inWeights;
+  private final long     buildTime;
+
+  private OGraphSnapshot(final String name, final String vertexClass, final String edgeClass, final String weightField,
+      final long[] vertices, final int[] outOffsets, final int[] outTargets, final double[] outWeights, final long buildTime) {
+    this.name = name;
+    this.vertexClass = vertexClass;
+    this.edgeClass = edgeClass;
+    this.weightField = weightField;
+    this.vertices = vertices;
+    this.outOffsets = outOffsets;
+    this.outTargets = outTargets;
+    this.outWeights = outWeights;
+    this.buildTime = buildTime;
+
+    // TRANSPOSE THE OUTGOING EDGES TO NAVIGATE ALSO THE INCOMING ONES
+    final int n = vertices.length;
+    inOffsets = new int[n + 1];
+    for (int target : outTargets)
+      inOffsets[target + 1]++;
+    for (int i = 0; i < n; ++i)
+      inOffsets[i + 1] += inOffsets[i];
+
+    inTargets = new int[outTargets.length];
+    inWeights = outWeights != null ? new double[outWeights.length] : null;
+    final int[] fill = Arrays.copyOf(inOffsets, n);
+    for (int source = 0; source < n; ++source) {
+      for (int e = outOffsets[source]; e < outOffsets[source + 1]; ++e) {
+        final int pos = fill[outTargets[e]]++;
+        inTargets[pos] = source;
+        if (inWeights != null)
+          inWeights[pos] = outWeights[e];
+      }
+    }
+  }
+
+  /**
+   * Builds the snapshot of the vertices of a class, polymorphically, and of the outgoing edges between them.
+   *
+   * @param vertexClass the vertex class
+   * @param edgeClass   the edge class to follow, polymorphically, or null for all the edges
+   * @param weightField the field of the edges to keep as weight, or null to not keep weights. Missing weights are 0
+   */
+  public static OGraphSnapshot build(final ODatabaseDocumentInternal db, final String name, final String vertexClass,
+      final String edgeClass, final String weightField) {
+    final long begin = System.currentTimeMillis();
+
+    final OClass vClass = db.getMetadata().getImmutableSchemaSnapshot().getClass(vertexClass);
+    if (vClass == null || !vClass.isVertexType())
+      throw new OCommandExecutionException("Class '" + vertexClass + "' is not a vertex class");
+
+    if (edgeClass != null) {
+      final OClass eClass = db.getMetadata().getImmutableSchemaSnapshot().getClass(edgeClass);
+      if (eClass == null || !eClass.isEdgeType())
+        throw new OCommandExecutionException("Class '" + edgeClass + "' is not an edge class");
+    }
+
+    final int[] clusterIds = vClass.getPolymorphicClusterIds().clone();
+    Arrays.sort(clusterIds);
+
+    // SCAN THE CLUSTERS IN PARALLEL, UNLESS ON A WORKER OF THE POOL: WAITING FOR OTHER TASKS OF THE POOL COULD EXHAUST IT
+    final boolean parallel = !Orient.instance().isWorkerThread();
+    final OClusterScan[] scans = new OClusterScan[clusterIds.length];
+    final List<Future<?>> jobs = new ArrayList<Future<?>>(clusterIds.length);
+    try {
+      for (int i = 0; i < clusterIds.length; ++i) {
+        final OClusterScan scan = new OClusterScan(clusterIds[i], edgeClass, weightField);
+        scans[i] = scan;
+        if (parallel)
+          jobs.add(Orient.instance().submit(() -> scan.scan(db)));
+        else
+          scan.scan(db);
+      }
+
+      for (Future<?> job : jobs)
+        job.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OCommandExecutionException("Building of graph snapshot '" + name + "' interrupted"), e);
+    } catch (ExecutionException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on building graph snapshot '" + name + "'"), e);
+    } finally {
+      db.activateOnCurrentThread();
+    }
+
+    // THE CLUSTERS ARE SORTED AND EVERY CLUSTER IS SCANNED BY POSITION, SO THE VERTICES ARE ALREADY SORTED
+    int n = 0;
+    for (OClusterScan scan : scans)
+      n += scan.vertexCount;
+
+    final long[] vertices = new long[n];
+    int offset = 0;
+    for (OClusterScan scan : scans) {
+      System.arraycopy(scan.vertices, 0, vertices, offset, scan.vertexCount);
+      offset += scan.vertexCount;
+    }
+
+    // RESOLVE THE IDS OF THE TARGETS, THE EDGES TO VERTICES OF OTHER CLASSES ARE DISCARDED
+    Arrays.stream(scans).parallel().forEach(scan -> scan.resolveTargets(vertices));
+
+    final int[] outOffsets = new int[n + 1];
+    int m = 0;
+    int v = 0;
+    for (OClusterScan scan : scans) {
+      for (int i = 0; i < scan.vertexCount; ++i, ++v) {
+        outOffsets[v] = m;
+        for (int e = scan.edgeOffsets[i]; e < scan.edgeOffsets[i + 1]; ++e)
+          if (scan.resolvedTargets[e] > -1)
+            m++;
+      }
+    }
+    outOffsets[n] = m;
+
+    final int[] outTargets = new int[m];
+    final double[] outWeights = weightField != null ? new double[m] : null;
+    m = 0;
+    for (OClusterScan scan : scans) {
+      for (int e = 0; e < scan.edgeCount; ++e) {
+        if (scan.resolvedTargets[e] > -1) {
+          outTargets[m] = scan.resolvedTargets[e];
+          if (outWeights != null)
+            outWeights[m] = scan.weights[e];
+          m++;
+        }
+      }
+    }
+
+    final OGraphSnapshot snapshot = new OGraphSnapshot(name, vertexClass, edgeClass, weightField, vertices, outOffsets, outTargets,
+        outWeights, System.currentTimeMillis());
+
+    OLogManager.instance()
+        .info(OGraphSnapshot.class, "Built graph snapshot '%s' of class '%s' with %d vertices and %d edges in %dms", name,
+            vertexClass, n, m, System.currentTimeMillis() - begin);
+
+    return snapshot;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getVertexClass() {
+    return vertexClass;
+  }
+
+  public String getEdgeClass() {
+    return edgeClass;
+  }
+
+  public String getWeightField() {
+    return weightField;
+  }
+
+  public long getBuildTime() {
+    return buildTime;
+  }
+
+  public int getVertexCount() {
+    return vertices.length;
+  }
+
+  public int getEdgeCount() {
+    return outTargets.length;
+  }
+
+  /**
+   * Returns the dense id of a vertex, or -1 if the vertex is not in the snapshot.
+   */
+  public int getId(final OIdentifiable vertex) {
+    final ORID rid = vertex.getIdentity();
+    if (!rid.isPersistent())
+      return -1;
+
+    final int id = Arrays.binarySearch(vertices, toKey(rid.getClusterId(), rid.getClusterPosition()));
+    return id > -1 ? id : -1;
+  }
+
+  public ORID getRID(final int id) {
+    final long key = vertices[id];
+    return new ORecordId((int) (key >>> CLUSTER_SHIFT), key & POSITION_MASK);
+  }
+
+  public int getDegree(final int id, final ODirection direction) {
+    switch (direction) {
+    case OUT:
+      return outOffsets[id + 1] - outOffsets[id];
+    case IN:
+      return inOffsets[id + 1] - inOffsets[id];
+    default:
+      return outOffsets[id + 1] - outOffsets[id] + inOffsets[id + 1] - inOffsets[id];
+    }
+  }
+
+  /**
+   * Finds the path with the minimum number of edges between two vertices with a breadth-first search.
+   *
+   * @param maxDepth the maximum number of edges of the path plus one, like in {@link OSQLFunctionShortestPath}, or -1 for no limit
+   *
+   * @return the ids of the vertices of the path, or an empty array if there is no path
+   */
+  public int[] shortestPath(final int source, final int destination, final ODirection direction, final int maxDepth) {
+    if (source == destination)
+      return new int[] { source };
+
+    final int[] previous = new int[vertices.length];
+    Arrays.fill(previous, -1);
+    previous[source] = source;
+
+    int[] frontier = new int[] { source };
+    for (int depth = 1; frontier.length > 0 && (maxDepth < 0 || depth < maxDepth); ++depth) {
+      final IntList next = new IntList();
+      for (int current : frontier) {
+        if (direction != ODirection.IN && visit(current, outOffsets, outTargets, previous, next, destination))
+          return buildPath(previous, source, destination);
+        if (direction != ODirection.OUT && visit(current, inOffsets, inTargets, previous, next, destination))
+          return buildPath(previous, source, destination);
+      }
+      frontier = next.toArray();
+    }
+    return new int[0];
+  }
+
+  /**
+   * Finds the path with the minimum sum of the weights between two vertices with the Dijkstra's algorithm.
+   *
+   * @return the ids of the vertices of the path, or an empty array if there is no path
+   */
+  public int[] weightedShortestPath(final int source, final int destination, final ODirection direction) {
+    if (outWeights == null)
+      throw new OCommandExecutionException("Graph snapshot '" + name + "' has no weights");
+
+    final double[] distance = new double[vertices.length];
+    Arrays.fill(distance, Double.POSITIVE_INFINITY);
+    final int[] previous = new int[vertices.length];
+    Arrays.fill(previous, -1);
+
+    final DistanceHeap heap = new DistanceHeap();
+    distance[source] = 0;
+    previous[source] = source;
+    heap.push(source, 0);
+
+    while (!heap.isEmpty()) {
+      final double currentDistance = heap.peekKey();
+      final int current = heap.pop();
+      if (currentDistance > distance[current])
+        // ALREADY SETTLED WITH A SHORTER DISTANCE
+        continue;
+
+      if (current == destination)
+        return buildPath(previous, source, destination);
+
+      if (direction != ODirection.IN)
+        relax(current, outOffsets, outTargets, outWeights, distance, previous, heap);
+      if (direction != ODirection.OUT)
+        relax(current, inOffsets, inTargets, inWeights, distance, previous, heap);
+    }
+    return new int[0];
+  }
+
+  /**
+   * Computes the level of every vertex reachable from the source, that is the minimum number of edges to reach it.
+   *
+   * @param maxDepth the maximum level, or -1 for no limit
+   *
+   * @return the levels by vertex id, -1 for the vertices not reached
+   */
+  public int[] bfsLevels(final int source, final ODirection direction, final int maxDepth) {
+    final int[] levels = new int[vertices.length];
+    Arrays.fill(levels, -1);
+    levels[source] = 0;
+
+    int[] frontier = new int[] { source };
+    for (int level = 1; frontier.length > 0 && (maxDepth < 0 || level <= maxDepth); ++level) {
+      final IntList next = new IntList();
+      for (int current : frontier) {
+        if (direction != ODirection.IN)
+          for (int e = outOffsets[current]; e < outOffsets[current + 1]; ++e)
+            if (levels[outTargets[e]] == -1) {
+              levels[outTargets[e]] = level;
+              next.add(outTargets[e]);
+            }
+        if (direction != ODirection.OUT)
+          for (int e = inOffsets[current]; e < inOffsets[current + 1]; ++e)
+            if (levels[inTargets[e]] == -1) {
+              levels[inTargets[e]] = level;
+              next.add(inTargets[e]);
+            }
+      }
+      frontier = next.toArray();
+    }
+    return levels;
+  }
+
+  /**
+   * Computes the PageRank of the vertices following the outgoing edges. The rank of the vertices without outgoing edges is
+   * distributed to all the vertices. Every iteration is computed in parallel.
+   *
+   * @param damping    the damping factor, usually 0.85
+   * @param iterations the maximum number of iterations
+   * @param tolerance  the sum of the changes of the ranks under which the iterations stop
+   *
+   * @return the ranks by vertex id, their sum is 1
+   */
+  public double[] pageRank(final double damping, final int iterations, final double tolerance) {
+    final int n = vertices.length;
+    if (n == 0)
+      return new double[0];
+
+    double[] rank = new double[n];
+    Arrays.fill(rank, 1d / n);
+    double[] next = new double[n];
+
+    for (int iteration = 0; iteration < iterations; ++iteration) {
+      final double[] current = rank;
+      double dangling = 0;
+      for (int v = 0; v < n; ++v)
+        if (outOffsets[v + 1] == outOffsets[v])
+          dangling += current[v];
+
+      final double base = (1 - damping) / n + damping * dangling / n;
+      final double[] result = next;
+      IntStream.range(0, n).parallel().forEach(v -> {
+        double sum = 0;
+        for (int e = inOffsets[v]; e < inOffsets[v + 1]; ++e) {
+          final int source = inTargets[e];
+          sum += current[source] / (outOffsets[source + 1] - outOffsets[source]);
+        }
+        result[v] = base + damping * sum;
+      });
+
+      double delta = 0;
+      for (int v = 0; v < n; ++v)
+        delta += Math.abs(result[v] - current[v]);
+
+      next = rank;
+      rank = result;
+
+      if (delta < tolerance)
+        break;
+    }
+    return rank;
+  }
+
+  /**
+   * Computes the weakly connected components, ignoring the direction of the edges.
+   *
+   * @return the component by vertex id. The components are numbered from 0 in the order of their first vertex
+   */
+  public int[] connectedComponents() {
+    final int n = vertices.length;
+    final int[] parent = new int[n];
+    for (int v = 0; v < n; ++v)
+      parent[v] = v;
+
+    for (int v = 0; v < n; ++v) {
+      for (int e = outOffsets[v]; e < outOffsets[v + 1]; ++e) {
+        final int a = find(parent, v);
+        final int b = find(parent, outTargets[e]);
+        if (a != b)
+          // THE SMALLEST ID IS THE ROOT
+          parent[Math.max(a, b)] = Math.min(a, b);
+      }
+    }
+
+    final int[] components = new int[n];
+    int count = 0;
+    for (int v = 0; v < n; ++v) {
+      final int root = find(parent, v);
+      components[v] = root == v ? count++ : components[root];
+    }
+    return components;
+  }
+
+  @Override
+  public String toString() {
+    return "OGraphSnapshot{name=" + name + ", vertexClass=" + vertexClass + ", edgeClass=" + edgeClass + ", vertices="
+        + vertices.length + ", edges=" + outTargets.length + "}";
+  }
+
+  private static long toKey(final int clusterId, final long clusterPosition) {
+    return ((long) clusterId << CLUSTER_SHIFT) | clusterPosition;
+  }
+
+  private static int find(final int[] parent, int v) {
+    while (parent[v] != v) {
+      // PATH HALVING
+      parent[v] = parent[parent[v]];
+      v = parent[v];
+    }
+    return v;
+  }
+
+  private static boolean visit(final int current, final int[] offsets, final int[] targets, final int[] previous,
+      final IntList next, final int destination) {
+    for (int e = offsets[current]; e < offsets[current + 1]; ++e) {
+      final int target = targets[e];
+      if (previous[target] == -1) {
+        previous[target] = current;
+        if (target == destination)
+          return true;
+        next.add(target);
+      }
+    }
+    return false;
+  }
+
+  private static void relax(final int current, final int[] offsets, final int[] targets, final double[] weights,
+      final double[] distance, final int[] previous, final DistanceHeap heap) {
+    for (int e = offsets[current]; e < offsets[current + 1]; ++e) {
+      final int target = targets[e];
+      final double d = distance[current] + weights[e];
+      if (d < distance[target]) {
+        distance[target] = d;
+        previous[target] = current;
+        heap.push(target, d);
+      }
+    }
+  }
+
+  private static int[] buildPath(final int[] previous, final int source, final int destination) {
+    final IntList path = new IntList();
+    for (int v = destination; v != source; v = previous[v])
+      path.add(v);
+    path.add(source);
+
+    final int[] result = path.toArray();
+    for (int i = 0, j = result.length - 1; i < j; ++i, --j) {
+      final int tmp = result[i];
+      result[i] = result[j];
+      result[j] = tmp;
+    }
+    return result;
+  }
+
+  /**
+   * Scan of the vertices of a cluster with their outgoing edges, in a database instance of its own.
+   */
+  private static class OClusterScan {
+    private final int    clusterId;
+    private final String edgeClass;
+    private final String weightField;
+
+    private long[]   vertices    = new long[1024];
+    private int      vertexCount;
+    private int[]    edgeOffsets = new int[1025];
+    private long[]   targets     = new long[1024];
+    private double[] weights;
+    private int      edgeCount;
+    private int[]    resolvedTargets;
+
+    private OClusterScan(final int clusterId, final String edgeClass, final String weightField) {
+      this.clusterId = clusterId;
+      this.edgeClass = edgeClass;
+      this.weightField = weightField;
+      if (weightField != null)
+        weights = new double[1024];
+    }
+
+    private void scan(final ODatabaseDocumentInternal db) {
+      final ODatabaseDocumentInternal localDatabase = db.copy();
+      try {
+        localDatabase.activateOnCurrentThread();
+
+        for (ORecord record : localDatabase.browseCluster(localDatabase.getClusterNameById(clusterId))) {
+          if (!(record instanceof OElement))
+            continue;
+
+          final OVertex vertex = ((OElement) record).asVertex().orElse(null);
+          if (vertex == null)
+            continue;
+
+          if (vertexCount == vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertexCount * 2);
+            edgeOffsets = Arrays.copyOf(edgeOffsets, vertexCount * 2 + 1);
+          }
+          vertices[vertexCount++] = toKey(clusterId, record.getIdentity().getClusterPosition());
+
+          final Iterable<OEdge> edges =
+              edgeClass != null ? vertex.getEdges(ODirection.OUT, edgeClass) : vertex.getEdges(ODirection.OUT);
+          for (OEdge edge : edges)
+            addEdge(edge);
+
+          edgeOffsets[vertexCount] = edgeCount;
+        }
+      } finally {
+        localDatabase.close();
+      }
+    }
+
+    private void addEdge(final OEdge edge) {
+      final OIdentifiable target;
+      final Object weight;
+      if (edge.isLightweight()) {
+        target = edge.getTo();
+        weight = null;
+      } else {
+        final ODocument doc = edge.getRecord();
+        target = doc.rawField("in");
+        weight = weightField != null ? doc.field(weightField) : null;
+      }
+
+      if (target == null || !target.getIdentity().isPersistent())
+        return;
+
+      if (edgeCount == targets.length) {
+        targets = Arrays.copyOf(targets, edgeCount * 2);
+        if (weights != null)
+          weights = Arrays.copyOf(weights, edgeCount * 2);
+      }
+      targets[edgeCount] = toKey(target.getIdentity().getClusterId(), target.getIdentity().getClusterPosition());
+      if (weights != null)
+        weights[edgeCount] = weight instanceof Number ? ((Number) weight).doubleValue() : 0;
+      edgeCount++;
+    }
+
+    private void resolveTargets(final long[] allVertices) {
+      resolvedTargets = new int[edgeCount];
+      for (int e = 0; e < edgeCount; ++e) {
+        final int id = Arrays.binarySearch(allVertices, targets[e]);
+        resolvedTargets[e] = id > -1 ? id : -1;
+      }
+      // FREE THE MEMORY AS SOON AS POSSIBLE
+      targets = null;
+    }
+  }
+
+  /**
+   * Growable array of ints.
+   */
+  private static class IntList {
+    private int[] values = new int[16];
+    private int   size;
+
+    private void add(final int value) {
+      if (size == values.length)
+        values = Arrays.copyOf(values, size * 2);
+      values[size++] = value;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+
+  /**
+   * Binary min-heap of vertex ids by distance. A vertex can be pushed more times, the entries with an old distance are skipped by
+   * the caller.
+   */
+  private static class DistanceHeap {
+    private int[]    nodes = new int[16];
+    private double[] keys  = new double[16];
+    private int      size;
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+
+    private double peekKey() {
+      return keys[0];
+    }
+
+    private void push(final int node, final double key) {
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, size * 2);
+        keys = Arrays.copyOf(keys, size * 2);
+      }
+      int i = size++;
+      while (i > 0) {
+        final int parent = (i - 1) >>> 1;
+        if (keys[parent] <= key)
+          break;
+        nodes[i] = nodes[parent];
+        keys[i] = keys[parent];
+        i = parent;
+      }
+      nodes[i] = node;
+      keys[i] = key;
+    }
+
+    private int pop() {
+      final int result = nodes[0];
+      final int lastNode = nodes[--size];
+      final double lastKey = keys[size];
+
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size)
+          break;
+        if (child + 1 < size && keys[child + 1] < keys[child])
+          child++;
+        if (keys[child] >= lastKey)
+          break;
+        nodes[i] = nodes[child];
+        keys[i] = keys[child];
+        i = child;
+      }
+      nodes[i] = lastNode;
+      keys[i] = lastKey;
+      return result;
+    }
+  }
+}
@@ -115,6 +115,11 @@ public class OSQLFunctionAstar extends OSQLFunctionHeuristicPathFinderAbstract {
     if (iParams.length > 3) {
       bindAdditionalParams(iParams[3], context);
     }
+    if (paramSnapshot != null && paramEdgeTypeNames.length == 0 && paramMaxDepth == Long.MAX_VALUE
+        && paramVertexAxisNames.length == 0)
+      // THE OTHER OPTIONS NEED THE LIVE GRAPH: THE HEURISTIC OPTIONS ARE USED ONLY WITH THE VERTEX AXES
+      return walkSnapshot(iContext);
+
     iContext.setVariable("getNeighbors", 0);
     return internalExecute(iContext, iContext.getDatabase());
 
@@ -182,6 +187,28 @@ public class OSQLFunctionAstar extends OSQLFunctionHeuristicPathFinderAbstract {
     return getPath();
   }
 
+  /**
+   * Finds the cheapest path over a graph snapshot with the Dijkstra's algorithm. The heuristic is not needed because the weights
+   * are already in memory. The snapshot must have been built with the weight field of the function. It is used only without edge
+   * types, max depth and vertex axes, otherwise the live graph is walked.
+   */
+  private LinkedList<OVertex> walkSnapshot(final OCommandContext iContext) {
+    final OGraphSnapshot snapshot = OSQLFunctionGraphSnapshotAbstract.getSnapshot(iContext, paramSnapshot);
+    if (!paramWeightFieldName.equals(snapshot.getWeightField()))
+      throw new IllegalArgumentException(
+          "Graph snapshot '" + snapshot.getName() + "' has not been built with weight field '" + paramWeightFieldName + "'");
+
+    final int source = snapshot.getId(paramSourceVertex);
+    final int destination = snapshot.getId(paramDestinationVertex);
+    if (source < 0 || destination < 0)
+      throw new IllegalArgumentException(
+          "The sourceVertex and the destinationVertex must be vertices of graph snapshot '" + snapshot.getName() + "'");
+
+    for (int id : snapshot.weightedShortestPath(source, destination, paramDirection))
+      route.add(toVertex(snapshot.getRID(id)));
+    return getPath();
+  }
+
   private OVertex getNeighbor(OVertex current, OEdge neighborEdge, ODatabase graph) {
     if (neighborEdge.getFrom().equals(current)) {
       return toVertex(neighborEdge.getTo());
@@ -251,11 +278,12 @@ public class OSQLFunctionAstar extends OSQLFunctionHeuristicPathFinderAbstract {
       }
 
       ctx.paramCustomHeuristicFormula = stringOrDefault(mapParams.get(OSQLFunctionAstar.PARAM_CUSTOM_HEURISTIC_FORMULA), "");
+      ctx.paramSnapshot = stringOrDefault(mapParams.get(OSQLFunctionAstar.PARAM_SNAPSHOT), null);
     }
   }
 
   public String getSyntax() {
-    return "astar(<sourceVertex>, <destinationVertex>, <weightEdgeFieldName>, [<options>]) \n // options  : {direction:\"OUT\",edgeTypeNames:[] , vertexAxisNames:[] , parallel : false , tieBreaker:true,maxDepth:99999,dFactor:1.0,customHeuristicFormula:'custom_Function_Name_here'  }";
+    return "astar(<sourceVertex>, <destinationVertex>, <weightEdgeFieldName>, [<options>]) \n // options  : {direction:\"OUT\",edgeTypeNames:[] , vertexAxisNames:[] , parallel : false , tieBreaker:true,maxDepth:99999,dFactor:1.0,customHeuristicFormula:'custom_Function_Name_here', snapshot:'graph_snapshot_name'  }";
   }
 
   @Override
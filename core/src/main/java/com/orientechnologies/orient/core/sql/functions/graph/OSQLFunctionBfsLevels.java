@@ -0,0 +1,74 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Computes with a breadth-first search over a graph snapshot the level of the vertices reachable from a source vertex, that is the
+ * minimum number of edges to reach them. Returns a result for every vertex reached, source included, with its RID in 'rid' and its
+ * level in 'level'.
+ *
+ * @see OGraphSnapshot#bfsLevels(int, ODirection, int)
+ */
+public class OSQLFunctionBfsLevels extends OSQLFunctionGraphSnapshotAbstract {
+  public static final String NAME = "bfsLevels";
+
+  public OSQLFunctionBfsLevels() {
+    super(NAME, 2, 4);
+  }
+
+  @Override
+  public Object execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
+      final OCommandContext iContext) {
+    final OGraphSnapshot snapshot = getSnapshot(iContext, iParams[0]);
+    final int source = getVertexId(snapshot, iParams[1], iCurrentRecord, iContext);
+    final ODirection direction = iParams.length > 2 && iParams[2] != null ?
+        ODirection.valueOf(iParams[2].toString().toUpperCase(Locale.ENGLISH)) :
+        ODirection.OUT;
+    final int maxDepth = iParams.length > 3 && iParams[3] != null ? ((Number) iParams[3]).intValue() : -1;
+
+    final int[] levels = snapshot.bfsLevels(source, direction, maxDepth);
+
+    final List<OResult> result = new ArrayList<OResult>();
+    for (int id = 0; id < levels.length; ++id) {
+      if (levels[id] > -1) {
+        final OResultInternal item = new OResultInternal();
+        item.setProperty("rid", snapshot.getRID(id));
+        item.setProperty("level", levels[id]);
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String getSyntax() {
+    return "bfsLevels(<snapshotName>, <sourceVertex>, [<direction>, [<maxDepth>]])";
+  }
+}
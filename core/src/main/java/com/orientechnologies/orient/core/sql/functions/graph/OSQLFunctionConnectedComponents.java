@@ -0,0 +1,63 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the weakly connected components of a graph snapshot. Returns a result for every vertex with its RID in 'rid' and the
+ * number of its component in 'component'.
+ *
+ * @see OGraphSnapshot#connectedComponents()
+ */
+public class OSQLFunctionConnectedComponents extends OSQLFunctionGraphSnapshotAbstract {
+  public static final String NAME = "connectedComponents";
+
+  public OSQLFunctionConnectedComponents() {
+    super(NAME, 1, 1);
+  }
+
+  @Override
+  public Object execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
+      final OCommandContext iContext) {
+    final OGraphSnapshot snapshot = getSnapshot(iContext, iParams[0]);
+    final int[] components = snapshot.connectedComponents();
+
+    final List<OResult> result = new ArrayList<OResult>(components.length);
+    for (int id = 0; id < components.length; ++id) {
+      final OResultInternal item = new OResultInternal();
+      item.setProperty("rid", snapshot.getRID(id));
+      item.setProperty("component", components[id]);
+      result.add(item);
+    }
+    return result;
+  }
+
+  @Override
+  public String getSyntax() {
+    return "connectedComponents(<snapshotName>)";
+  }
+}
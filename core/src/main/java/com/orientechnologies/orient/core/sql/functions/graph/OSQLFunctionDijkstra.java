@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.sql.functions.graph;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -43,7 +44,7 @@ public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
   private String paramWeightFieldName;
 
   public OSQLFunctionDijkstra() {
-    super(NAME, 3, 4);
+    super(NAME, 3, 5);
   }
 
   public LinkedList<OVertex> execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult,
@@ -61,6 +62,11 @@ public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
     if(iParams.length > 3) {
       options.put("direction", iParams[3]);
     }
+    if (iParams.length > 4 && iParams[4] instanceof Map) {
+      options.putAll((Map<String, Object>) iParams[4]);
+    } else if (iParams.length > 4 && iParams[4] instanceof OIdentifiable) {
+      options.putAll(((ODocument) ((OIdentifiable) iParams[4]).getRecord()).toMap());
+    }
     result[3] = options;
     return result;
   }
@@ -70,7 +76,7 @@ public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
   }
 
   public String getSyntax() {
-    return "dijkstra(<sourceVertex>, <destinationVertex>, <weightEdgeFieldName>, [<direction>])";
+    return "dijkstra(<sourceVertex>, <destinationVertex>, <weightEdgeFieldName>, [<direction>, [<options>]])";
   }
 
   protected float getDistance(final OVertex node, final OVertex target) {
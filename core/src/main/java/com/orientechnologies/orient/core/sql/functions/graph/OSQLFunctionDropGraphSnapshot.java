@@ -0,0 +1,51 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+
+/**
+ * Removes a graph snapshot from the database, freeing its memory. Returns true if the snapshot existed.
+ *
+ * @see OGraphSnapshot
+ */
+public class OSQLFunctionDropGraphSnapshot extends OSQLFunctionAbstract {
+  public static final String NAME = "dropGraphSnapshot";
+
+  public OSQLFunctionDropGraphSnapshot() {
+    super(NAME, 1, 1);
+  }
+
+  @Override
+  public Object execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
+      final OCommandContext iContext) {
+    final String snapshotName = OIOUtils.getStringContent(iParams[0]);
+    return ((ODatabaseDocumentInternal) iContext.getDatabase()).getSharedContext().getGraphSnapshots().remove(snapshotName) != null;
+  }
+
+  @Override
+  public String getSyntax() {
+    return "dropGraphSnapshot(<name>)";
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds a graph snapshot and registers it by name in the database, replacing the previous one with the same name. Returns the
+ * size of the snapshot.
+ *
+ * @see OGraphSnapshot
+ */
+public class OSQLFunctionGraphSnapshot extends OSQLFunctionAbstract {
+  public static final String NAME = "graphSnapshot";
+
+  public OSQLFunctionGraphSnapshot() {
+    super(NAME, 2, 4);
+  }
+
+  @Override
+  public Object execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
+      final OCommandContext iContext) {
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) iContext.getDatabase();
+
+    final String snapshotName = OIOUtils.getStringContent(iParams[0]);
+    final String vertexClass = OIOUtils.getStringContent(iParams[1]);
+    final String edgeClass = iParams.length > 2 && iParams[2] != null ? OIOUtils.getStringContent(iParams[2]) : null;
+    final String weightField = iParams.length > 3 && iParams[3] != null ? OIOUtils.getStringContent(iParams[3]) : null;
+
+    final long begin = System.currentTimeMillis();
+    final OGraphSnapshot snapshot = OGraphSnapshot.build(db, snapshotName, vertexClass, edgeClass, weightField);
+    db.getSharedContext().getGraphSnapshots().put(snapshotName, snapshot);
+
+    final Map<String, Object> result = new LinkedHashMap<String, Object>();
+    result.put("name", snapshotName);
+    result.put("vertices", snapshot.getVertexCount());
+    result.put("edges", snapshot.getEdgeCount());
+    result.put("elapsed", System.currentTimeMillis() - begin);
+    return result;
+  }
+
+  @Override
+  public String getSyntax() {
+    return "graphSnapshot(<name>, <vertexClass>, [<edgeClass>, [<weightEdgeFieldName>]])";
+  }
+}
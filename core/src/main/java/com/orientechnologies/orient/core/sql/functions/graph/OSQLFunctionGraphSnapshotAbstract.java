@@ -0,0 +1,81 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+
+/**
+ * Base class of the functions that run over a graph snapshot, passed by name as first parameter.
+ *
+ * @see OGraphSnapshot
+ */
+public abstract class OSQLFunctionGraphSnapshotAbstract extends OSQLFunctionAbstract {
+
+  public OSQLFunctionGraphSnapshotAbstract(final String iName, final int iMinParams, final int iMaxParams) {
+    super(iName, iMinParams, iMaxParams);
+  }
+
+  /**
+   * Returns the graph snapshot registered with the passed name.
+   *
+   * @throws OCommandExecutionException if the snapshot does not exist
+   */
+  public static OGraphSnapshot getSnapshot(final OCommandContext iContext, final Object iName) {
+    final String snapshotName = OIOUtils.getStringContent(iName);
+    final OGraphSnapshot snapshot = ((ODatabaseDocumentInternal) iContext.getDatabase()).getSharedContext().getGraphSnapshots()
+        .get(snapshotName);
+    if (snapshot == null)
+      throw new OCommandExecutionException("Graph snapshot '" + snapshotName + "' not found");
+    return snapshot;
+  }
+
+  /**
+   * Returns the id in the snapshot of the vertex passed as parameter.
+   *
+   * @throws IllegalArgumentException if the parameter is not a vertex of the snapshot
+   */
+  protected static int getVertexId(final OGraphSnapshot snapshot, Object iParam, final OIdentifiable iCurrentRecord,
+      final OCommandContext iContext) {
+    if (OMultiValue.isMultiValue(iParam)) {
+      if (OMultiValue.getSize(iParam) > 1)
+        throw new IllegalArgumentException("Only one vertex is allowed");
+      iParam = OMultiValue.getFirstValue(iParam);
+    }
+    if (iParam instanceof OResult && ((OResult) iParam).isElement())
+      iParam = ((OResult) iParam).getElement().get();
+
+    final ORecord record = iCurrentRecord != null ? iCurrentRecord.getRecord() : null;
+    iParam = OSQLHelper.getValue(iParam, record, iContext);
+
+    final int id = iParam instanceof OIdentifiable ? snapshot.getId((OIdentifiable) iParam) : -1;
+    if (id < 0)
+      throw new IllegalArgumentException("'" + iParam + "' is not a vertex of graph snapshot '" + snapshot.getName() + "'");
+    return id;
+  }
+}
@@ -42,6 +42,7 @@ public abstract class OSQLFunctionHeuristicPathFinderAbstract extends OSQLFuncti
     public static final String PARAM_D_FACTOR = "dFactor";
     public static final String PARAM_TIE_BREAKER = "tieBreaker";
     public static final String PARAM_EMPTY_IF_MAX_DEPTH = "emptyIfMaxDepth";
+    public static final String PARAM_SNAPSHOT = "snapshot";
     protected static Random rnd = new Random();
 
     protected Boolean paramParallel = false;
@@ -56,6 +57,7 @@ public abstract class OSQLFunctionHeuristicPathFinderAbstract extends OSQLFuncti
     protected long paramMaxDepth = Long.MAX_VALUE;
     protected double paramDFactor = 1.0;
     protected String paramCustomHeuristicFormula = "";
+    protected String paramSnapshot;
 
     protected OCommandContext context;
     protected List<OVertex> route = new LinkedList<OVertex>();
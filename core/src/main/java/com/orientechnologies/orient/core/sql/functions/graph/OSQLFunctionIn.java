@@ -44,7 +44,7 @@ public class OSQLFunctionIn extends OSQLFunctionMoveFiltered {
     Object edges = v2e(graph, iRecord, ODirection.IN, iLabels);
     if (edges instanceof OSizeable) {
       int size = ((OSizeable) edges).size();
-      if (size > supernodeThreshold) {
+      if (size > getSupernodeThreshold(graph)) {
         Object result = fetchFromIndex(graph, iRecord, iPossibleResults, iLabels);
         if (result != null) {
           return result;
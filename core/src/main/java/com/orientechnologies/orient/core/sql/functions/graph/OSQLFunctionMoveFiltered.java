@@ -4,6 +4,7 @@ import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.util.OCallable;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
@@ -14,8 +15,6 @@ import com.orientechnologies.orient.core.sql.functions.OSQLFunctionFiltered;
  */
 public abstract class OSQLFunctionMoveFiltered extends OSQLFunctionMove implements OSQLFunctionFiltered {
 
-  protected static int supernodeThreshold = 1000; // move to some configuration
-
   public OSQLFunctionMoveFiltered() {
     super(NAME, 1, 2);
   }
@@ -48,6 +47,15 @@ public abstract class OSQLFunctionMoveFiltered extends OSQLFunctionMove implemen
 
   }
 
+  /**
+   * @return the number of edges above which the possible results are looked up in the indexes of the edge class
+   */
+  protected int getSupernodeThreshold(final ODatabase graph) {
+    if (graph == null || graph.getConfiguration() == null)
+      return OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD.getValueAsInteger();
+    return graph.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD);
+  }
+
   protected abstract Object move(ODatabase graph, OIdentifiable iArgument, String[] labels,
       Iterable<OIdentifiable> iPossibleResults);
 
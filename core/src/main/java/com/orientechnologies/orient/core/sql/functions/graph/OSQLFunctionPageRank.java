@@ -0,0 +1,67 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the PageRank of the vertices of a graph snapshot. Returns a result for every vertex with its RID in 'rid' and its rank
+ * in 'rank'.
+ *
+ * @see OGraphSnapshot#pageRank(double, int, double)
+ */
+public class OSQLFunctionPageRank extends OSQLFunctionGraphSnapshotAbstract {
+  public static final String NAME = "pageRank";
+
+  public OSQLFunctionPageRank() {
+    super(NAME, 1, 4);
+  }
+
+  @Override
+  public Object execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
+      final OCommandContext iContext) {
+    final OGraphSnapshot snapshot = getSnapshot(iContext, iParams[0]);
+    final double damping = iParams.length > 1 && iParams[1] != null ? ((Number) iParams[1]).doubleValue() : 0.85;
+    final int iterations = iParams.length > 2 && iParams[2] != null ? ((Number) iParams[2]).intValue() : 20;
+    final double tolerance = iParams.length > 3 && iParams[3] != null ? ((Number) iParams[3]).doubleValue() : 1e-6;
+
+    final double[] ranks = snapshot.pageRank(damping, iterations, tolerance);
+
+    final List<OResult> result = new ArrayList<OResult>(ranks.length);
+    for (int id = 0; id < ranks.length; ++id) {
+      final OResultInternal item = new OResultInternal();
+      item.setProperty("rid", snapshot.getRID(id));
+      item.setProperty("rank", ranks[id]);
+      result.add(item);
+    }
+    return result;
+  }
+
+  @Override
+  public String getSyntax() {
+    return "pageRank(<snapshotName>, [<damping>, [<maxIterations>, [<tolerance>]]])";
+  }
+}
@@ -1,8 +1,12 @@
 package com.orientechnologies.orient.core.sql.functions.graph;
 
 import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OCommandExecutorAbstract;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
@@ -16,6 +20,8 @@ import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Shortest path algorithm to find the shortest path from one node to another node in a directed graph.
@@ -23,11 +29,19 @@ import java.util.*;
  * @author Luca Garulli (l.garulli--(at)--orientdb.com)
  */
 public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
-  public static final String NAME            = "shortestPath";
-  public static final String PARAM_MAX_DEPTH = "maxDepth";
+  public static final String NAME              = "shortestPath";
+  public static final String PARAM_MAX_DEPTH   = "maxDepth";
+  public static final String PARAM_SNAPSHOT    = "snapshot";
+  public static final String PARAM_PARALLEL    = "parallel";
+  public static final String PARAM_MAX_VISITED = "maxVisited";
 
   protected static final float DISTANCE = 1f;
 
+  /**
+   * Minimum number of vertices of a frontier expanded by a parallel task.
+   */
+  protected static final int PARALLEL_CHUNK_SIZE = 256;
+
   public OSQLFunctionShortestPath() {
     super(NAME, 2, 5);
   }
@@ -53,6 +67,54 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     OVertex current;
     OVertex currentRight;
     public Integer maxDepth;
+    String  snapshot;
+    boolean parallel;
+    Integer maxVisited;
+
+    // FRONTIERS AND VISITED VERTICES OF THE PARALLEL EXPANSION
+    List<ORID>     frontierLeft;
+    List<ORID>     frontierRight;
+    OVisitedBitmap leftVisitedBitmap;
+    OVisitedBitmap rightVisitedBitmap;
+  }
+
+  /**
+   * Set of visited RIDs kept as a bitmap of the cluster positions for each cluster.
+   */
+  protected static class OVisitedBitmap {
+    private final Map<Integer, BitSet> clusters = new HashMap<Integer, BitSet>();
+    private final Set<ORID>            overflow = new HashSet<ORID>();
+    private       int                  size;
+
+    public boolean contains(final ORID rid) {
+      final long position = rid.getClusterPosition();
+      if (position > Integer.MAX_VALUE || position < 0)
+        return overflow.contains(rid);
+      final BitSet positions = clusters.get(rid.getClusterId());
+      return positions != null && positions.get((int) position);
+    }
+
+    public boolean add(final ORID rid) {
+      final long position = rid.getClusterPosition();
+      if (position > Integer.MAX_VALUE || position < 0) {
+        if (!overflow.add(rid))
+          return false;
+      } else {
+        BitSet positions = clusters.get(rid.getClusterId());
+        if (positions == null) {
+          positions = new BitSet();
+          clusters.put(rid.getClusterId(), positions);
+        } else if (positions.get((int) position))
+          return false;
+        positions.set((int) position);
+      }
+      size++;
+      return true;
+    }
+
+    public int size() {
+      return size;
+    }
   }
 
   public List<ORID> execute(Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
@@ -127,6 +189,17 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
       bindAdditionalParams(iParams[4], ctx);
     }
 
+    if (ctx.snapshot != null) {
+      final OGraphSnapshot snapshot = OSQLFunctionGraphSnapshotAbstract.getSnapshot(iContext, ctx.snapshot);
+      // THE SNAPSHOT DOES NOT KEEP THE OTHER EDGE CLASSES AND DOES NOT COUNT THE VISITED VERTICES: WALK THE LIVE GRAPH
+      if (ctx.maxVisited == null && (ctx.edgeType == null || ctx.edgeType.equalsIgnoreCase(snapshot.getEdgeClass())))
+        return walkSnapshot(ctx, snapshot);
+    }
+
+    if (ctx.parallel && !ODatabaseRecordThreadLocal.INSTANCE.get().getTransaction().isActive())
+      // THE TASKS USE DATABASE INSTANCES OF THEIR OWN, THAT DO NOT SEE THE CHANGES OF THE CURRENT TRANSACTION
+      return walkParallel(ctx, iContext);
+
     ctx.queueLeft.add(ctx.sourceVertex);
     ctx.leftVisited.add(ctx.sourceVertex.getIdentity());
 
@@ -166,6 +239,9 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
         if (neighborIdentity != null)
           return neighborIdentity;
 
+        if (isMaxVisitedReached(ctx))
+          break;
+
       } else {
 
         // START EVALUATING FROM RIGHT
@@ -184,6 +260,9 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
         neighborIdentity = walkLeft(ctx);
         if (neighborIdentity != null)
           return neighborIdentity;
+
+        if (isMaxVisitedReached(ctx))
+          break;
       }
 
       depth++;
@@ -204,6 +283,11 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     }
     if (mapParams != null) {
       ctx.maxDepth = integer(mapParams.get("maxDepth"));
+      final Object snapshot = mapParams.get(PARAM_SNAPSHOT);
+      ctx.snapshot = snapshot != null ? snapshot.toString() : null;
+      final Object parallel = mapParams.get(PARAM_PARALLEL);
+      ctx.parallel = parallel != null && Boolean.parseBoolean(parallel.toString());
+      ctx.maxVisited = integer(mapParams.get(PARAM_MAX_VISITED));
     }
   }
 
@@ -227,6 +311,167 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     return "shortestPath(<sourceVertex>, <destinationVertex>, [<direction>, [ <edgeTypeAsString> ]])";
   }
 
+  private boolean isMaxVisitedReached(final OShortestPathContext ctx) {
+    return ctx.maxVisited != null && ctx.leftVisited.size() + ctx.rightVisited.size() > ctx.maxVisited;
+  }
+
+  /**
+   * Finds the path expanding a whole level of the smaller frontier at a time. The vertices of the frontier are split among
+   * parallel tasks, each one with a database instance of its own, while the visited vertices are merged by the current thread.
+   */
+  protected List<ORID> walkParallel(final OShortestPathContext ctx, final OCommandContext iContext) {
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.get();
+
+    ctx.frontierLeft = new ArrayList<ORID>();
+    ctx.frontierLeft.add(ctx.sourceVertex.getIdentity());
+    ctx.leftVisitedBitmap = new OVisitedBitmap();
+    ctx.leftVisitedBitmap.add(ctx.sourceVertex.getIdentity());
+
+    ctx.frontierRight = new ArrayList<ORID>();
+    ctx.frontierRight.add(ctx.destinationVertex.getIdentity());
+    ctx.rightVisitedBitmap = new OVisitedBitmap();
+    ctx.rightVisitedBitmap.add(ctx.destinationVertex.getIdentity());
+
+    int depth = 1;
+    while (true) {
+      if (ctx.maxDepth != null && ctx.maxDepth <= depth)
+        break;
+      if (ctx.frontierLeft.isEmpty() || ctx.frontierRight.isEmpty())
+        break;
+
+      if (Thread.interrupted())
+        throw new OCommandExecutionException("The shortestPath() function has been interrupted");
+
+      if (!OCommandExecutorAbstract.checkInterruption(iContext))
+        break;
+
+      final List<ORID> path = expandLevel(db, ctx, ctx.frontierLeft.size() <= ctx.frontierRight.size());
+      if (path != null)
+        return path;
+
+      if (ctx.maxVisited != null && ctx.leftVisitedBitmap.size() + ctx.rightVisitedBitmap.size() > ctx.maxVisited)
+        break;
+
+      depth++;
+    }
+    return new ArrayList<ORID>();
+  }
+
+  private List<ORID> expandLevel(final ODatabaseDocumentInternal db, final OShortestPathContext ctx, final boolean left) {
+    final List<ORID> frontier = left ? ctx.frontierLeft : ctx.frontierRight;
+    final ODirection direction = left ? ctx.directionLeft : ctx.directionRight;
+    final OVisitedBitmap visited = left ? ctx.leftVisitedBitmap : ctx.rightVisitedBitmap;
+    final OVisitedBitmap otherVisited = left ? ctx.rightVisitedBitmap : ctx.leftVisitedBitmap;
+    final Map<ORID, ORID> parents = left ? ctx.previouses : ctx.nexts;
+    final String[] edgeTypes = ctx.edgeType != null ? ctx.edgeTypeParam : null;
+
+    // WAITING FOR OTHER TASKS OF THE POOL FROM ONE OF ITS WORKERS COULD EXHAUST IT
+    final int tasks = Orient.instance().isWorkerThread() ?
+        1 :
+        Math.max(1,
+            Math.min(Runtime.getRuntime().availableProcessors(), (frontier.size() + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE));
+    final int chunkSize = (frontier.size() + tasks - 1) / tasks;
+
+    // THE TASKS ONLY READ THE VISITED BITMAPS, THAT ARE UPDATED BY THE CURRENT THREAD AFTER ALL OF THEM ARE FINISHED
+    final List<Future<List<ORID>>> jobs = new ArrayList<Future<List<ORID>>>(tasks - 1);
+    for (int i = 1; i < tasks; ++i) {
+      final List<ORID> chunk = frontier.subList(i * chunkSize, Math.min(frontier.size(), (i + 1) * chunkSize));
+      jobs.add(Orient.instance().submit(() -> {
+        final ODatabaseDocumentInternal localDatabase = db.copy();
+        try {
+          localDatabase.activateOnCurrentThread();
+          return expandChunk(chunk, direction, edgeTypes, visited);
+        } finally {
+          localDatabase.close();
+        }
+      }));
+    }
+
+    final List<List<ORID>> expansions = new ArrayList<List<ORID>>(tasks);
+    try {
+      expansions.add(expandChunk(frontier.subList(0, Math.min(frontier.size(), chunkSize)), direction, edgeTypes, visited));
+      for (Future<List<ORID>> job : jobs)
+        expansions.add(job.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OCommandExecutionException("The shortestPath() function has been interrupted"), e);
+    } catch (ExecutionException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on expanding the shortestPath() frontier"), e);
+    } finally {
+      db.activateOnCurrentThread();
+    }
+
+    final List<ORID> nextLevel = new ArrayList<ORID>();
+    for (List<ORID> expansion : expansions) {
+      for (int i = 0; i < expansion.size(); i += 2) {
+        final ORID parent = expansion.get(i);
+        final ORID neighbor = expansion.get(i + 1);
+
+        if (otherVisited.contains(neighbor)) {
+          parents.put(neighbor, parent);
+          return computePath(ctx.previouses, ctx.nexts, neighbor);
+        }
+        if (visited.add(neighbor)) {
+          parents.put(neighbor, parent);
+          nextLevel.add(neighbor);
+        }
+      }
+    }
+
+    if (left)
+      ctx.frontierLeft = nextLevel;
+    else
+      ctx.frontierRight = nextLevel;
+    return null;
+  }
+
+  /**
+   * Loads the vertices of a part of the frontier with the database of the current thread.
+   *
+   * @return the pairs of vertex and neighbour not visited yet, one after the other
+   */
+  private static List<ORID> expandChunk(final List<ORID> chunk, final ODirection direction, final String[] edgeTypes,
+      final OVisitedBitmap visited) {
+    final List<ORID> result = new ArrayList<ORID>();
+    for (ORID rid : chunk) {
+      final ORecord record = rid.getRecord();
+      if (!(record instanceof OElement))
+        continue;
+      final OVertex vertex = ((OElement) record).asVertex().orElse(null);
+      if (vertex == null)
+        continue;
+
+      final Iterable<OVertex> neighbors = edgeTypes != null ? vertex.getVertices(direction, edgeTypes) : vertex.getVertices(direction);
+      for (OVertex neighbor : neighbors) {
+        final ORID neighborIdentity = neighbor.getIdentity();
+        if (!visited.contains(neighborIdentity)) {
+          result.add(rid);
+          result.add(neighborIdentity);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds the path over a graph snapshot, that already contains only the edges of its edge class. It is used only when the edge
+   * type is not passed or is the edge class of the snapshot and maxVisited is not set, otherwise the live graph is walked.
+   */
+  protected List<ORID> walkSnapshot(final OShortestPathContext ctx, final OGraphSnapshot snapshot) {
+    final int source = snapshot.getId(ctx.sourceVertex);
+    final int destination = snapshot.getId(ctx.destinationVertex);
+    if (source < 0 || destination < 0)
+      throw new IllegalArgumentException(
+          "The sourceVertex and the destinationVertex must be vertices of graph snapshot '" + snapshot.getName() + "'");
+
+    final int[] path = snapshot.shortestPath(source, destination, ctx.directionLeft, ctx.maxDepth != null ? ctx.maxDepth : -1);
+
+    final List<ORID> result = new ArrayList<ORID>(path.length);
+    for (int id : path)
+      result.add(snapshot.getRID(id));
+    return result;
+  }
+
   protected List<ORID> walkLeft(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
     ArrayDeque<OVertex> nextLevelQueue = new ArrayDeque<OVertex>();
     while (!ctx.queueLeft.isEmpty()) {
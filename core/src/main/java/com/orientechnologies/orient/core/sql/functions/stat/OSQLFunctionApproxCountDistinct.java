@@ -0,0 +1,107 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+
+import java.util.List;
+
+/**
+ * Estimates the number of distinct values of a field with a HyperLogLog sketch, using fixed memory instead of keeping all the
+ * distinct values. The optional precision (4-18, default 14) sets the memory (2^precision bytes) and the error (about
+ * 1.04 / sqrt(2^precision)). Nulls are ignored in the calculation.
+ *
+ * @see OHyperLogLog
+ */
+public class OSQLFunctionApproxCountDistinct extends OSQLFunctionAbstract {
+
+  public static final String NAME = "approx_count_distinct";
+
+  private OHyperLogLog sketch;
+
+  public OSQLFunctionApproxCountDistinct() {
+    super(NAME, 1, 2);
+  }
+
+  @Override
+  public Object execute(Object iThis, OIdentifiable iCurrentRecord, Object iCurrentResult, Object[] iParams,
+      OCommandContext iContext) {
+
+    if (sketch == null) { // set precision once
+      if (iParams.length > 1 && iParams[1] != null)
+        sketch = new OHyperLogLog(Integer.parseInt(iParams[1].toString()));
+      else
+        sketch = new OHyperLogLog();
+    }
+
+    if (OMultiValue.isMultiValue(iParams[0])) {
+      for (Object value : OMultiValue.getMultiValueIterable(iParams[0])) {
+        sketch.add(value);
+      }
+    } else {
+      sketch.add(iParams[0]);
+    }
+    return null;
+  }
+
+  @Override
+  public boolean aggregateResults() {
+    return true;
+  }
+
+  @Override
+  public Object getResult() {
+    if (returnDistributedResult()) {
+      return sketch == null ? null : sketch.getRegisters();
+    } else {
+      return sketch == null ? 0L : sketch.estimate();
+    }
+  }
+
+  @Override
+  public Object mergeDistributedResult(List<Object> resultsToMerge) {
+    if (returnDistributedResult()) {
+      OHyperLogLog merged = null;
+      for (Object iParameter : resultsToMerge) {
+        if (iParameter instanceof byte[]) {
+          if (merged == null) {
+            merged = new OHyperLogLog((byte[]) iParameter);
+          } else {
+            merged.merge(new OHyperLogLog((byte[]) iParameter));
+          }
+        }
+      }
+      return merged == null ? 0L : merged.estimate();
+    }
+
+    if (!resultsToMerge.isEmpty())
+      return resultsToMerge.get(0);
+
+    return null;
+  }
+
+  @Override
+  public String getSyntax() {
+    return NAME + "(<field> [,<precision>])";
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estimates the percentiles of a field with a t-digest, using fixed memory instead of collecting all the values like
+ * {@link OSQLFunctionPercentile}. Nulls are ignored in the calculation.
+ *
+ * @see OTDigest
+ */
+public class OSQLFunctionApproxPercentile extends OSQLFunctionAbstract {
+
+  public static final String NAME = "approx_percentile";
+
+  protected List<Double> quantiles = new ArrayList<Double>();
+  private   OTDigest     digest    = new OTDigest();
+
+  public OSQLFunctionApproxPercentile() {
+    super(NAME, 2, -1);
+  }
+
+  @Override
+  public Object execute(Object iThis, OIdentifiable iCurrentRecord, Object iCurrentResult, Object[] iParams,
+      OCommandContext iContext) {
+
+    if (quantiles.isEmpty()) { // set quantiles once
+      for (int i = 1; i < iParams.length; ++i) {
+        this.quantiles.add(Double.parseDouble(iParams[i].toString()));
+      }
+    }
+
+    if (iParams[0] instanceof Number) {
+      digest.add(((Number) iParams[0]).doubleValue());
+    } else if (OMultiValue.isMultiValue(iParams[0])) {
+      for (Object n : OMultiValue.getMultiValueIterable(iParams[0])) {
+        if (n instanceof Number) {
+          digest.add(((Number) n).doubleValue());
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public boolean aggregateResults() {
+    return true;
+  }
+
+  @Override
+  public Object getResult() {
+    if (returnDistributedResult()) {
+      return digest.getCentroids();
+    } else {
+      return evaluate(digest);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Object mergeDistributedResult(List<Object> resultsToMerge) {
+    if (returnDistributedResult()) {
+      OTDigest merged = new OTDigest();
+      for (Object iParameter : resultsToMerge) {
+        merged.addCentroids((List<Number>) iParameter);
+      }
+      return evaluate(merged);
+    }
+
+    if (!resultsToMerge.isEmpty())
+      return resultsToMerge.get(0);
+
+    return null;
+  }
+
+  @Override
+  public String getSyntax() {
+    return NAME + "(<field>, <quantile> [,<quantile>*])";
+  }
+
+  private Object evaluate(OTDigest iDigest) {
+    if (iDigest.size() == 0) { // result set is empty
+      return null;
+    }
+    if (quantiles.size() > 1) {
+      List<Number> results = new ArrayList<Number>();
+      for (Double q : this.quantiles) {
+        results.add(iDigest.quantile(q));
+      }
+      return results;
+    } else {
+      return iDigest.quantile(this.quantiles.get(0));
+    }
+  }
+}
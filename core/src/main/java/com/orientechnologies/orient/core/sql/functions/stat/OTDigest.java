@@ -0,0 +1,219 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Merging t-digest that estimates the quantiles of a distribution in fixed memory. The values are summarized by at most about
+ * 2 * compression centroids (mean and weight), which are smaller near the tails, so the extreme quantiles are more accurate than
+ * the median. Incoming values are buffered and merged into the centroids when the buffer is full. Two digests are merged adding the
+ * centroids of one to the other, so partial digests can be computed in parallel.
+ */
+public class OTDigest {
+  public static final double DEFAULT_COMPRESSION = 100;
+
+  private final double compression;
+
+  private double[] means;
+  private double[] weights;
+  private int      centroids;
+
+  private final double[] bufferMeans;
+  private final double[] bufferWeights;
+  private int            buffered;
+
+  private double totalWeight;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  public OTDigest() {
+    this(DEFAULT_COMPRESSION);
+  }
+
+  public OTDigest(final double compression) {
+    if (compression < 10)
+      throw new IllegalArgumentException("t-digest compression must be at least 10, found " + compression);
+    this.compression = compression;
+    final int size = (int) Math.ceil(2 * compression) + 10;
+    this.means = new double[size];
+    this.weights = new double[size];
+    this.bufferMeans = new double[size * 5];
+    this.bufferWeights = new double[size * 5];
+  }
+
+  public void add(final double value) {
+    add(value, 1);
+  }
+
+  public void add(final double value, final double weight) {
+    if (Double.isNaN(value) || weight <= 0)
+      return;
+    if (buffered == bufferMeans.length)
+      compress();
+    bufferMeans[buffered] = value;
+    bufferWeights[buffered] = weight;
+    buffered++;
+    totalWeight += weight;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  public void merge(final OTDigest other) {
+    other.compress();
+    for (int i = 0; i < other.centroids; i++)
+      add(other.means[i], other.weights[i]);
+    if (other.totalWeight > 0) {
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+    }
+  }
+
+  public double size() {
+    return totalWeight;
+  }
+
+  /**
+   * @param q the quantile, between 0 and 1
+   *
+   * @return the estimated value of the quantile, or NaN if no value has been added
+   */
+  public double quantile(final double q) {
+    if (q < 0 || q > 1)
+      throw new IllegalArgumentException("Quantile must be between 0 and 1, found " + q);
+    compress();
+    if (centroids == 0)
+      return Double.NaN;
+    if (centroids == 1)
+      return means[0];
+
+    final double index = q * totalWeight;
+    if (index <= weights[0] / 2)
+      return min + (means[0] - min) * (weights[0] == 1 ? 0 : index / (weights[0] / 2));
+
+    // THE CENTROIDS ARE CENTERED ON THEIR CUMULATIVE WEIGHT: INTERPOLATE BETWEEN THE TWO AROUND THE INDEX
+    double weightSoFar = weights[0] / 2;
+    for (int i = 0; i < centroids - 1; i++) {
+      final double delta = (weights[i] + weights[i + 1]) / 2;
+      if (weightSoFar + delta > index) {
+        final double fraction = (index - weightSoFar) / delta;
+        return means[i] + fraction * (means[i + 1] - means[i]);
+      }
+      weightSoFar += delta;
+    }
+
+    final double last = weights[centroids - 1];
+    final double fraction = last == 1 ? 1 : (index - weightSoFar) / (last / 2);
+    return means[centroids - 1] + Math.min(1, fraction) * (max - means[centroids - 1]);
+  }
+
+  /**
+   * @return the centroids as [mean, weight, mean, weight...], to transfer the digest
+   */
+  public List<Double> getCentroids() {
+    compress();
+    final List<Double> result = new ArrayList<Double>(centroids * 2);
+    for (int i = 0; i < centroids; i++) {
+      result.add(means[i]);
+      result.add(weights[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Adds the centroids of another digest.
+   *
+   * @see #getCentroids()
+   */
+  public void addCentroids(final List<? extends Number> centroids) {
+    for (int i = 0; i + 1 < centroids.size(); i += 2)
+      add(centroids.get(i).doubleValue(), centroids.get(i + 1).doubleValue());
+  }
+
+  /**
+   * Merges the buffered values with the centroids, sorted by mean, limiting the weight of each centroid by the k1 scale function.
+   */
+  private void compress() {
+    if (buffered == 0)
+      return;
+
+    final int total = centroids + buffered;
+    final double[] allMeans = new double[total];
+    final double[] allWeights = new double[total];
+    System.arraycopy(means, 0, allMeans, 0, centroids);
+    System.arraycopy(weights, 0, allWeights, 0, centroids);
+    System.arraycopy(bufferMeans, 0, allMeans, centroids, buffered);
+    System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+    buffered = 0;
+
+    final Integer[] order = new Integer[total];
+    for (int i = 0; i < total; i++)
+      order[i] = i;
+    Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+    double weight = 0;
+    for (int i = 0; i < total; i++)
+      weight += allWeights[i];
+
+    int count = 0;
+    double currentMean = allMeans[order[0]];
+    double currentWeight = allWeights[order[0]];
+    double weightSoFar = 0;
+    double limit = weight * integratedQ(integratedLocation(0) + 1);
+    for (int i = 1; i < total; i++) {
+      final int next = order[i];
+      if (weightSoFar + currentWeight + allWeights[next] <= limit) {
+        currentWeight += allWeights[next];
+        currentMean += (allMeans[next] - currentMean) * allWeights[next] / currentWeight;
+      } else {
+        count = addCentroid(count, currentMean, currentWeight);
+        weightSoFar += currentWeight;
+        limit = weight * integratedQ(integratedLocation(weightSoFar / weight) + 1);
+        currentMean = allMeans[next];
+        currentWeight = allWeights[next];
+      }
+    }
+    count = addCentroid(count, currentMean, currentWeight);
+    centroids = count;
+  }
+
+  private int addCentroid(final int count, final double mean, final double weight) {
+    if (count == means.length) {
+      means = Arrays.copyOf(means, count * 2);
+      weights = Arrays.copyOf(weights, count * 2);
+    }
+    means[count] = mean;
+    weights[count] = weight;
+    return count + 1;
+  }
+
+  /**
+   * k1 scale function: maps a quantile to the index of the centroid that contains it.
+   */
+  private double integratedLocation(final double q) {
+    return compression * (Math.asin(2 * Math.min(1, Math.max(0, q)) - 1) + Math.PI / 2) / Math.PI;
+  }
+
+  private double integratedQ(final double k) {
+    return (Math.sin(Math.min(k, compression) * Math.PI / compression - Math.PI / 2) + 1) / 2;
+  }
+}
@@ -222,7 +222,7 @@ public abstract class OBooleanExpression extends SimpleNode {
 
   public static OBooleanExpression deserializeFromOResult(OResult doc) {
     try {
-      OBooleanExpression result = (OBooleanExpression) Class.forName(doc.getProperty("__class")).getConstructor(Integer.class)
+      OBooleanExpression result = (OBooleanExpression) Class.forName(doc.getProperty("__class")).getConstructor(Integer.TYPE)
           .newInstance(-1);
       result.deserialize(doc);
     } catch (Exception e) {
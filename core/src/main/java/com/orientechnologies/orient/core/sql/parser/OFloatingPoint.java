@@ -110,6 +110,7 @@ public class OFloatingPoint extends ONumber {
 
   public OResult serialize() {
     OResultInternal result = new OResultInternal();
+    result.setProperty("__class", getClass().getName());
     result.setProperty("sign", sign);
     result.setProperty("stringValue", stringValue);
     result.setProperty("finalValue", finalValue);
@@ -10,6 +10,7 @@ class OHaSyncClusterStatement extends OStatement {
   public OIdentifier clusterName;
   public boolean modeFull = true;
   public boolean modeMerge = false;
+  public boolean modeMigrate = false;
 
   public OHaSyncClusterStatement(int id) {
     super(id);
@@ -28,6 +29,11 @@ class OHaSyncClusterStatement extends OStatement {
   @Override public void toString(Map<Object, Object> params, StringBuilder builder) {
     builder.append("HA SYNC CLUSTER ");
     clusterName.toString(params, builder);
+    if (modeMigrate) {
+      builder.append(" -migrate");
+    } else if (modeMerge) {
+      builder.append(" -merge");
+    }
   }
 }
 /* JavaCC - OriginalChecksum=fbf0df8004d889ebc80f39be85008720 (do not edit this line) */
@@ -156,7 +156,7 @@ public class OInputParameter extends SimpleNode {
 
   public static OInputParameter deserializeFromOResult(OResult doc) {
     try {
-      OInputParameter result = (OInputParameter) Class.forName(doc.getProperty("__class")).getConstructor(Integer.class)
+      OInputParameter result = (OInputParameter) Class.forName(doc.getProperty("__class")).getConstructor(Integer.TYPE)
           .newInstance(-1);
       result.deserialize(doc);
     } catch (Exception e) {
@@ -99,6 +99,7 @@ public class OInteger extends ONumber {
 
   public OResult serialize() {
     OResultInternal result = new OResultInternal();
+    result.setProperty("__class", getClass().getName());
     result.setProperty("value", value);
     return result;
   }
@@ -42,6 +42,10 @@ public class OLimit extends SimpleNode {
     }
   }
 
+  public void setNum(OInteger num) {
+    this.num = num;
+  }
+
   public int getValue(OCommandContext ctx) {
     if (num != null) {
       return num.getValue().intValue();
@@ -2,6 +2,7 @@
 /* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
 package com.orientechnologies.orient.core.sql.parser;
 
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
@@ -990,11 +991,11 @@ public class OMathExpression extends SimpleNode {
   public static OMathExpression deserializeFromResult(OResult fromResult) {
     String className = fromResult.getProperty("__class");
     try {
-      OMathExpression result = (OMathExpression) Class.forName(className).getConstructor(Integer.class).newInstance(-1);
+      OMathExpression result = (OMathExpression) Class.forName(className).getConstructor(Integer.TYPE).newInstance(-1);
       result.deserialize(fromResult);
       return result;
     } catch (Exception e) {
-      throw new OCommandExecutionException("");
+      throw OException.wrapException(new OCommandExecutionException(""), e);
     }
 
   }
@@ -58,6 +58,14 @@ public class OMethodCall extends SimpleNode {
     builder.append(")");
   }
 
+  public OIdentifier getMethodName() {
+    return methodName;
+  }
+
+  public List<OExpression> getParams() {
+    return params;
+  }
+
   public boolean isBidirectional() {
     return bidirectionalMethods.contains(methodName.getStringValue().toLowerCase(Locale.ENGLISH));
   }
@@ -232,8 +240,7 @@ public class OMethodCall extends SimpleNode {
 
   public void deserialize(OResult fromResult) {
     if (fromResult.getProperty("methodName") != null) {
-      methodName = new OIdentifier(-1);
-      methodName.deserialize(fromResult.getProperty("methodName"));
+      methodName = OIdentifier.deserialize(fromResult.getProperty("methodName"));
     }
     if (fromResult.getProperty("params") != null) {
       List<OResult> ser = fromResult.getProperty("params");
@@ -2,6 +2,8 @@
 /* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
 package com.orientechnologies.orient.core.sql.parser;
 
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 
 import java.util.Map;
@@ -36,6 +38,17 @@ public class ONumber extends SimpleNode {
     return result;
   }
 
+  public static ONumber deserializeFromResult(OResult fromResult) {
+    String className = fromResult.getProperty("__class");
+    try {
+      ONumber result = (ONumber) Class.forName(className).getConstructor(Integer.TYPE).newInstance(-1);
+      result.deserialize(fromResult);
+      return result;
+    } catch (Exception e) {
+      throw OException.wrapException(new OCommandExecutionException(""), e);
+    }
+  }
+
   public OResult serialize() {
     throw new UnsupportedOperationException();
   }
@@ -107,7 +107,7 @@ public class OStatement extends SimpleNode {
 
   public static OStatement deserializeFromOResult(OResult doc) {
     try {
-      OStatement result = (OStatement) Class.forName(doc.getProperty("__class")).getConstructor(Integer.class)
+      OStatement result = (OStatement) Class.forName(doc.getProperty("__class")).getConstructor(Integer.TYPE)
           .newInstance(-1);
       result.deserialize(doc);
     } catch (Exception e) {
@@ -18713,6 +18713,7 @@ Token token;
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case 261:
       case 262:
+      case 263:
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
         case 261:
           jj_consume_token(261);
@@ -18722,6 +18723,10 @@ Token token;
           jj_consume_token(262);
                           jjtn000.modeMerge = true;
           break;
+        case 263:
+          jj_consume_token(263);
+                            jjtn000.modeMigrate = true;
+          break;
         default:
           jj_la1[383] = jj_gen;
           jj_consume_token(-1);
@@ -19899,13 +19904,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_761() {
+  private boolean jj_3R_762() {
     if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_858()) {
+    if (jj_3R_859()) {
     jj_scanpos = xsp;
-    if (jj_3R_859()) return true;
+    if (jj_3R_860()) return true;
     }
     return false;
   }
@@ -19915,7 +19920,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_858() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -19974,14 +19979,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_760() {
+  private boolean jj_3R_761() {
     if (jj_scan_token(PARAMETERS)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_3R_148()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_857()) { jj_scanpos = xsp; break; }
+      if (jj_3R_858()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -20058,14 +20063,14 @@ Token token;
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(FUNCTION)) return true;
     if (jj_3R_148()) return true;
-    if (jj_3R_557()) return true;
+    if (jj_3R_558()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_760()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_761()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_762()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_763()) jj_scanpos = xsp;
     return false;
   }
 
@@ -20106,9 +20111,9 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_784() {
+  private boolean jj_3R_785() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_782()) return true;
+    if (jj_3R_783()) return true;
     return false;
   }
 
@@ -20173,13 +20178,13 @@ Token token;
 
   private boolean jj_3R_281() {
     if (jj_scan_token(REVOKE)) return true;
-    if (jj_3R_484()) return true;
+    if (jj_3R_485()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_782()) return true;
+    if (jj_3R_783()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_784()) { jj_scanpos = xsp; break; }
+      if (jj_3R_785()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(FROM)) return true;
     if (jj_3R_148()) return true;
@@ -20203,9 +20208,9 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_783() {
+  private boolean jj_3R_784() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_782()) return true;
+    if (jj_3R_783()) return true;
     return false;
   }
 
@@ -20259,7 +20264,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_661() {
+  private boolean jj_3R_662() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -20278,41 +20283,41 @@ Token token;
 
   private boolean jj_3R_280() {
     if (jj_scan_token(GRANT)) return true;
-    if (jj_3R_484()) return true;
+    if (jj_3R_485()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_782()) return true;
+    if (jj_3R_783()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_783()) { jj_scanpos = xsp; break; }
+      if (jj_3R_784()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(TO)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_560() {
+  private boolean jj_3R_561() {
     if (jj_3R_138()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_661()) { jj_scanpos = xsp; break; }
+      if (jj_3R_662()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_660() {
+  private boolean jj_3R_661() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_863() {
+  private boolean jj_3R_864() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_862() {
+  private boolean jj_3R_863() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -20341,17 +20346,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_862() {
     if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_559() {
+  private boolean jj_3R_560() {
     if (jj_3R_138()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_660()) { jj_scanpos = xsp; break; }
+      if (jj_3R_661()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -20361,14 +20366,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_782() {
+  private boolean jj_3R_783() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_861()) {
-    jj_scanpos = xsp;
     if (jj_3R_862()) {
     jj_scanpos = xsp;
-    if (jj_3R_863()) return true;
+    if (jj_3R_863()) {
+    jj_scanpos = xsp;
+    if (jj_3R_864()) return true;
     }
     }
     return false;
@@ -20385,28 +20390,28 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_659() {
+  private boolean jj_3R_660() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_605() {
+  private boolean jj_3R_606() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_604() {
+  private boolean jj_3R_605() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
+  private boolean jj_3R_559() {
     if (jj_3R_138()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_659()) { jj_scanpos = xsp; break; }
+      if (jj_3R_660()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -20416,32 +20421,32 @@ Token token;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_559()) jj_scanpos = xsp;
+    if (jj_3R_560()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     if (jj_scan_token(AND)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_560()) jj_scanpos = xsp;
+    if (jj_3R_561()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_603() {
+  private boolean jj_3R_604() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_602() {
+  private boolean jj_3R_603() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_601() {
+  private boolean jj_3R_602() {
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_600() {
+  private boolean jj_3R_601() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
@@ -20461,7 +20466,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_599() {
+  private boolean jj_3R_600() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
@@ -20471,7 +20476,7 @@ Token token;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_558()) jj_scanpos = xsp;
+    if (jj_3R_559()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
@@ -20481,11 +20486,9 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_484() {
+  private boolean jj_3R_485() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_599()) {
-    jj_scanpos = xsp;
     if (jj_3R_600()) {
     jj_scanpos = xsp;
     if (jj_3R_601()) {
@@ -20496,7 +20499,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_604()) {
     jj_scanpos = xsp;
-    if (jj_3R_605()) return true;
+    if (jj_3R_605()) {
+    jj_scanpos = xsp;
+    if (jj_3R_606()) return true;
     }
     }
     }
@@ -20523,7 +20528,7 @@ Token token;
   }
 
   private boolean jj_3R_410() {
-    if (jj_3R_557()) return true;
+    if (jj_3R_558()) return true;
     return false;
   }
 
@@ -20565,18 +20570,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_570() {
+  private boolean jj_3R_571() {
     if (jj_scan_token(EXPLAIN)) return true;
     if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_759() {
+  private boolean jj_3R_760() {
     if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_758() {
+  private boolean jj_3R_759() {
     if (jj_3R_156()) return true;
     return false;
   }
@@ -20586,7 +20591,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_757() {
+  private boolean jj_3R_758() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -20628,12 +20633,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_756() {
+  private boolean jj_3R_757() {
     if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_755() {
+  private boolean jj_3R_756() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -20655,7 +20660,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_621() {
+  private boolean jj_3R_622() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_152()) return true;
     return false;
@@ -20684,25 +20689,25 @@ Token token;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_755()) {
+    if (jj_3R_756()) {
     jj_scanpos = xsp;
-    if (jj_3R_756()) return true;
+    if (jj_3R_757()) return true;
     }
     if (jj_scan_token(TO)) return true;
     if (jj_3R_148()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_757()) {
+    if (jj_3R_758()) {
     jj_scanpos = xsp;
-    if (jj_3R_758()) return true;
+    if (jj_3R_759()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_759()) jj_scanpos = xsp;
+    if (jj_3R_760()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_781() {
-    if (jj_3R_860()) return true;
+  private boolean jj_3R_782() {
+    if (jj_3R_861()) return true;
     return false;
   }
 
@@ -20730,17 +20735,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_516() {
+  private boolean jj_3R_517() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
+  private boolean jj_3R_503() {
     if (jj_3R_152()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_621()) { jj_scanpos = xsp; break; }
+      if (jj_3R_622()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -20758,7 +20763,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_781()) { jj_scanpos = xsp; break; }
+      if (jj_3R_782()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -20766,7 +20771,7 @@ Token token;
   private boolean jj_3R_351() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_516()) jj_scanpos = xsp;
+    if (jj_3R_517()) jj_scanpos = xsp;
     if (jj_3R_396()) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -20776,7 +20781,7 @@ Token token;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_502()) jj_scanpos = xsp;
+    if (jj_3R_503()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
@@ -20792,7 +20797,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_861() {
     if (jj_scan_token(MINUS)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -20808,18 +20813,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_780() {
+  private boolean jj_3R_781() {
     if (jj_3R_148()) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_727() {
+  private boolean jj_3R_728() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_726() {
+  private boolean jj_3R_727() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
@@ -20861,7 +20866,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_779() {
+  private boolean jj_3R_780() {
     if (jj_3R_63()) return true;
     return false;
   }
@@ -20873,17 +20878,17 @@ Token token;
     xsp = jj_scanpos;
     if (jj_3_144()) {
     jj_scanpos = xsp;
-    if (jj_3R_780()) return true;
+    if (jj_3R_781()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_646() {
+  private boolean jj_3R_647() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_726()) {
+    if (jj_3R_727()) {
     jj_scanpos = xsp;
-    if (jj_3R_727()) return true;
+    if (jj_3R_728()) return true;
     }
     return false;
   }
@@ -20893,7 +20898,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_778() {
+  private boolean jj_3R_779() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -20933,9 +20938,9 @@ Token token;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_778()) {
+    if (jj_3R_779()) {
     jj_scanpos = xsp;
-    if (jj_3R_779()) return true;
+    if (jj_3R_780()) return true;
     }
     return false;
   }
@@ -20945,7 +20950,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_654() {
+  private boolean jj_3R_655() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
@@ -20974,34 +20979,34 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_741() {
+  private boolean jj_3R_742() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_3R_438()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_741() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_743() {
+  private boolean jj_3R_744() {
     if (jj_3R_432()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
+  private boolean jj_3R_743() {
     if (jj_3R_443()) return true;
     return false;
   }
 
-  private boolean jj_3R_739() {
+  private boolean jj_3R_740() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_658() {
+  private boolean jj_3R_659() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
@@ -21018,7 +21023,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_754() {
+  private boolean jj_3R_755() {
     if (jj_scan_token(ID)) return true;
     if (jj_3R_63()) return true;
     return false;
@@ -21030,28 +21035,28 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_657() {
+  private boolean jj_3R_658() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_738() {
+  private boolean jj_3R_739() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_737() {
+  private boolean jj_3R_738() {
     if (jj_3R_443()) return true;
     return false;
   }
 
-  private boolean jj_3R_736() {
+  private boolean jj_3R_737() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_3R_438()) return true;
     return false;
   }
 
-  private boolean jj_3R_735() {
+  private boolean jj_3R_736() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
@@ -21062,20 +21067,20 @@ Token token;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_739()) jj_scanpos = xsp;
-    if (jj_3R_229()) return true;
-    xsp = jj_scanpos;
     if (jj_3R_740()) jj_scanpos = xsp;
+    if (jj_3R_229()) return true;
     xsp = jj_scanpos;
     if (jj_3R_741()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_742()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_743()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_744()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_656() {
+  private boolean jj_3R_657() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
@@ -21090,37 +21095,37 @@ Token token;
     }
     if (jj_3R_148()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_754()) jj_scanpos = xsp;
+    if (jj_3R_755()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_777() {
+  private boolean jj_3R_778() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_776() {
+  private boolean jj_3R_777() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_841() {
+  private boolean jj_3R_842() {
     if (jj_3R_443()) return true;
     return false;
   }
 
-  private boolean jj_3R_840() {
-    if (jj_3R_490()) return true;
+  private boolean jj_3R_841() {
+    if (jj_3R_491()) return true;
     return false;
   }
 
-  private boolean jj_3R_775() {
-    if (jj_3R_503()) return true;
+  private boolean jj_3R_776() {
+    if (jj_3R_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_655() {
+  private boolean jj_3R_656() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
@@ -21131,39 +21136,39 @@ Token token;
     if (jj_3R_229()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_735()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_736()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_737()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_738()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_739()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_889() {
+  private boolean jj_3R_890() {
     if (jj_scan_token(AS)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_888() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_889() {
+    if (jj_3R_511()) return true;
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_888()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_889()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_890()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_653() {
+  private boolean jj_3R_654() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
@@ -21173,16 +21178,16 @@ Token token;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_775()) {
+    if (jj_3R_776()) {
     jj_scanpos = xsp;
-    if (jj_3R_776()) return true;
+    if (jj_3R_777()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_777()) jj_scanpos = xsp;
+    if (jj_3R_778()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_774() {
+  private boolean jj_3R_775() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -21192,53 +21197,53 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_887() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_888() {
+    if (jj_3R_511()) return true;
     return false;
   }
 
-  private boolean jj_3R_773() {
-    if (jj_3R_503()) return true;
+  private boolean jj_3R_774() {
+    if (jj_3R_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_839() {
     if (jj_scan_token(AS)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_652() {
+  private boolean jj_3R_653() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_910() {
+  private boolean jj_3R_911() {
     if (jj_scan_token(METADATA)) return true;
     if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_909() {
+  private boolean jj_3R_910() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_886() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_887() {
+    if (jj_3R_511()) return true;
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_838() {
     if (jj_3R_138()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_887()) jj_scanpos = xsp;
+    if (jj_3R_888()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_651() {
+  private boolean jj_3R_652() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
@@ -21248,22 +21253,22 @@ Token token;
     if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_773()) {
+    if (jj_3R_774()) {
     jj_scanpos = xsp;
-    if (jj_3R_774()) return true;
+    if (jj_3R_775()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_898() {
+  private boolean jj_3R_899() {
     if (jj_3R_148()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_909()) { jj_scanpos = xsp; break; }
+      if (jj_3R_910()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_910()) jj_scanpos = xsp;
+    if (jj_3R_911()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21272,27 +21277,27 @@ Token token;
     if (jj_3R_138()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_886()) jj_scanpos = xsp;
+    if (jj_3R_887()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_837() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_645()) return true;
+    if (jj_3R_646()) return true;
     return false;
   }
 
-  private boolean jj_3R_650() {
+  private boolean jj_3R_651() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_857() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_142()) {
     jj_scanpos = xsp;
-    if (jj_3R_898()) return true;
+    if (jj_3R_899()) return true;
     }
     return false;
   }
@@ -21303,90 +21308,90 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_908() {
+  private boolean jj_3R_909() {
     if (jj_scan_token(METADATA)) return true;
     if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_907() {
+  private boolean jj_3R_908() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_649() {
+  private boolean jj_3R_650() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_753() {
+  private boolean jj_3R_754() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3R_857()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_543() {
+  private boolean jj_3R_544() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_645()) return true;
+    if (jj_3R_646()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_836()) { jj_scanpos = xsp; break; }
+      if (jj_3R_837()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
     if (jj_3_45()) {
     jj_scanpos = xsp;
-    if (jj_3R_837()) return true;
+    if (jj_3R_838()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_838()) jj_scanpos = xsp;
+    if (jj_3R_839()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_839()) { jj_scanpos = xsp; break; }
+      if (jj_3R_840()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_840()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_841()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_842()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_897() {
+  private boolean jj_3R_898() {
     if (jj_3R_148()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_907()) { jj_scanpos = xsp; break; }
+      if (jj_3R_908()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_908()) jj_scanpos = xsp;
+    if (jj_3R_909()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_884() {
+  private boolean jj_3R_885() {
     if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_648() {
+  private boolean jj_3R_649() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_883() {
+  private boolean jj_3R_884() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_855() {
+  private boolean jj_3R_856() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_141()) {
     jj_scanpos = xsp;
-    if (jj_3R_897()) return true;
+    if (jj_3R_898()) return true;
     }
     return false;
   }
@@ -21397,92 +21402,92 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_647() {
+  private boolean jj_3R_648() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_836() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_883()) {
+    if (jj_3R_884()) {
     jj_scanpos = xsp;
-    if (jj_3R_884()) return true;
+    if (jj_3R_885()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_556() {
-    if (jj_3R_658()) return true;
+  private boolean jj_3R_557() {
+    if (jj_3R_659()) return true;
     return false;
   }
 
-  private boolean jj_3R_834() {
+  private boolean jj_3R_835() {
     if (jj_3R_443()) return true;
     return false;
   }
 
-  private boolean jj_3R_555() {
-    if (jj_3R_657()) return true;
+  private boolean jj_3R_556() {
+    if (jj_3R_658()) return true;
     return false;
   }
 
-  private boolean jj_3R_833() {
+  private boolean jj_3R_834() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_3R_438()) return true;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_3R_656()) return true;
+  private boolean jj_3R_555() {
+    if (jj_3R_657()) return true;
     return false;
   }
 
-  private boolean jj_3R_882() {
+  private boolean jj_3R_883() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_725()) return true;
+    if (jj_3R_726()) return true;
     return false;
   }
 
-  private boolean jj_3R_832() {
+  private boolean jj_3R_833() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_63()) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
-    if (jj_3R_655()) return true;
+  private boolean jj_3R_554() {
+    if (jj_3R_656()) return true;
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_3R_654()) return true;
+  private boolean jj_3R_553() {
+    if (jj_3R_655()) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_646()) return true;
+  private boolean jj_3R_545() {
+    if (jj_3R_647()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
-    if (jj_3R_653()) return true;
+  private boolean jj_3R_552() {
+    if (jj_3R_654()) return true;
     return false;
   }
 
-  private boolean jj_3R_644() {
-    if (jj_3R_725()) return true;
+  private boolean jj_3R_645() {
+    if (jj_3R_726()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_882()) { jj_scanpos = xsp; break; }
+      if (jj_3R_883()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_550() {
-    if (jj_3R_652()) return true;
+  private boolean jj_3R_551() {
+    if (jj_3R_653()) return true;
     return false;
   }
 
@@ -21491,92 +21496,92 @@ Token token;
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_855()) jj_scanpos = xsp;
+    if (jj_3R_856()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_615() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_616() {
+    if (jj_3R_614()) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
-    if (jj_3R_651()) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_652()) return true;
     return false;
   }
 
-  private boolean jj_3R_906() {
+  private boolean jj_3R_907() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_896() {
+  private boolean jj_3R_897() {
     if (jj_scan_token(COLLATE)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
-    if (jj_3R_650()) return true;
+  private boolean jj_3R_549() {
+    if (jj_3R_651()) return true;
     return false;
   }
 
-  private boolean jj_3R_547() {
-    if (jj_3R_649()) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_650()) return true;
     return false;
   }
 
-  private boolean jj_3R_905() {
+  private boolean jj_3R_906() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_752() {
+  private boolean jj_3R_753() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_546() {
-    if (jj_3R_648()) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_649()) return true;
     return false;
   }
 
-  private boolean jj_3R_614() {
+  private boolean jj_3R_615() {
     if (jj_3R_443()) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_647()) return true;
+  private boolean jj_3R_546() {
+    if (jj_3R_648()) return true;
     return false;
   }
 
-  private boolean jj_3R_895() {
+  private boolean jj_3R_896() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_905()) {
+    if (jj_3R_906()) {
     jj_scanpos = xsp;
-    if (jj_3R_906()) return true;
+    if (jj_3R_907()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_542() {
+  private boolean jj_3R_543() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_644()) jj_scanpos = xsp;
+    if (jj_3R_645()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_3R_229()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_832()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_833()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_834()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_835()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_836()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21590,7 +21595,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_498() {
+  private boolean jj_3R_499() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
@@ -21603,8 +21608,6 @@ Token token;
   private boolean jj_3R_399() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_544()) {
-    jj_scanpos = xsp;
     if (jj_3R_545()) {
     jj_scanpos = xsp;
     if (jj_3R_546()) {
@@ -21627,7 +21630,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_555()) {
     jj_scanpos = xsp;
-    if (jj_3R_556()) return true;
+    if (jj_3R_556()) {
+    jj_scanpos = xsp;
+    if (jj_3R_557()) return true;
     }
     }
     }
@@ -21643,7 +21648,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_497() {
+  private boolean jj_3R_498() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
@@ -21653,7 +21658,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_894() {
+  private boolean jj_3R_895() {
     if (jj_3R_156()) return true;
     return false;
   }
@@ -21663,7 +21668,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_496() {
+  private boolean jj_3R_497() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
@@ -21673,7 +21678,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_495() {
+  private boolean jj_3R_496() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
@@ -21698,7 +21703,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_893() {
+  private boolean jj_3R_894() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -21723,16 +21728,16 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_900() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_901() {
+    if (jj_3R_614()) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
+  private boolean jj_3R_494() {
     if (jj_3R_443()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_615()) jj_scanpos = xsp;
+    if (jj_3R_616()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21740,48 +21745,48 @@ Token token;
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_495()) {
-    jj_scanpos = xsp;
     if (jj_3R_496()) {
     jj_scanpos = xsp;
     if (jj_3R_497()) {
     jj_scanpos = xsp;
-    if (jj_3R_498()) return true;
+    if (jj_3R_498()) {
+    jj_scanpos = xsp;
+    if (jj_3R_499()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_854() {
+  private boolean jj_3R_855() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_893()) {
+    if (jj_3R_894()) {
     jj_scanpos = xsp;
-    if (jj_3R_894()) return true;
+    if (jj_3R_895()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_895()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_896()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_897()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_492() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_493() {
+    if (jj_3R_614()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_614()) jj_scanpos = xsp;
+    if (jj_3R_615()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_295() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_492()) {
+    if (jj_3R_493()) {
     jj_scanpos = xsp;
-    if (jj_3R_493()) return true;
+    if (jj_3R_494()) return true;
     }
     return false;
   }
@@ -21797,11 +21802,11 @@ Token token;
   }
 
   private boolean jj_3R_296() {
-    if (jj_3R_494()) return true;
+    if (jj_3R_495()) return true;
     return false;
   }
 
-  private boolean jj_3R_899() {
+  private boolean jj_3R_900() {
     if (jj_3R_443()) return true;
     return false;
   }
@@ -21821,12 +21826,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_892() {
+  private boolean jj_3R_893() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_853() {
+  private boolean jj_3R_854() {
     if (jj_scan_token(COLLATE)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -21837,7 +21842,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_891() {
+  private boolean jj_3R_892() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
@@ -21848,7 +21853,7 @@ Token token;
   }
 
   private boolean jj_3R_294() {
-    if (jj_3R_491()) return true;
+    if (jj_3R_492()) return true;
     return false;
   }
 
@@ -21858,7 +21863,7 @@ Token token;
   }
 
   private boolean jj_3R_293() {
-    if (jj_3R_490()) return true;
+    if (jj_3R_491()) return true;
     return false;
   }
 
@@ -21868,7 +21873,7 @@ Token token;
   }
 
   private boolean jj_3R_292() {
-    if (jj_3R_489()) return true;
+    if (jj_3R_490()) return true;
     return false;
   }
 
@@ -21877,13 +21882,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_852() {
+  private boolean jj_3R_853() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_891()) {
+    if (jj_3R_892()) {
     jj_scanpos = xsp;
-    if (jj_3R_892()) return true;
+    if (jj_3R_893()) return true;
     }
     return false;
   }
@@ -21900,7 +21905,7 @@ Token token;
   }
 
   private boolean jj_3R_290() {
-    if (jj_3R_488()) return true;
+    if (jj_3R_489()) return true;
     return false;
   }
 
@@ -21924,7 +21929,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_852() {
     if (jj_3R_156()) return true;
     return false;
   }
@@ -21949,11 +21954,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_877() {
+  private boolean jj_3R_878() {
     if (jj_3R_443()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_900()) jj_scanpos = xsp;
+    if (jj_3R_901()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21989,25 +21994,25 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_850() {
+  private boolean jj_3R_851() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_876() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_877() {
+    if (jj_3R_614()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_899()) jj_scanpos = xsp;
+    if (jj_3R_900()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_826() {
+  private boolean jj_3R_827() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_876()) {
+    if (jj_3R_877()) {
     jj_scanpos = xsp;
-    if (jj_3R_877()) return true;
+    if (jj_3R_878()) return true;
     }
     return false;
   }
@@ -22017,17 +22022,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_881() {
+  private boolean jj_3R_882() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_880() {
+  private boolean jj_3R_881() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_832() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
@@ -22037,12 +22042,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_830() {
+  private boolean jj_3R_831() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_879() {
+  private boolean jj_3R_880() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
@@ -22052,7 +22057,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_878() {
+  private boolean jj_3R_879() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
@@ -22063,17 +22068,17 @@ Token token;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_850()) {
+    if (jj_3R_851()) {
     jj_scanpos = xsp;
-    if (jj_3R_851()) return true;
+    if (jj_3R_852()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_852()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_853()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_854()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_854()) { jj_scanpos = xsp; break; }
+      if (jj_3R_855()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     if (jj_3R_148()) return true;
@@ -22085,17 +22090,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_829() {
+  private boolean jj_3R_830() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_878()) {
-    jj_scanpos = xsp;
     if (jj_3R_879()) {
     jj_scanpos = xsp;
     if (jj_3R_880()) {
     jj_scanpos = xsp;
-    if (jj_3R_881()) return true;
+    if (jj_3R_881()) {
+    jj_scanpos = xsp;
+    if (jj_3R_882()) return true;
     }
     }
     }
@@ -22157,13 +22162,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_828() {
+  private boolean jj_3R_829() {
     if (jj_3R_444()) return true;
     return false;
   }
 
-  private boolean jj_3R_827() {
-    if (jj_3R_494()) return true;
+  private boolean jj_3R_828() {
+    if (jj_3R_495()) return true;
     return false;
   }
 
@@ -22175,17 +22180,17 @@ Token token;
   private boolean jj_3R_71() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_503()) return true;
+    if (jj_3R_504()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_140()) {
     jj_scanpos = xsp;
-    if (jj_3R_752()) return true;
+    if (jj_3R_753()) return true;
     }
     xsp = jj_scanpos;
     if (jj_3_143()) {
     jj_scanpos = xsp;
-    if (jj_3R_753()) return true;
+    if (jj_3R_754()) return true;
     }
     return false;
   }
@@ -22207,18 +22212,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_825() {
-    if (jj_3R_491()) return true;
+  private boolean jj_3R_826() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_721() {
+  private boolean jj_3R_722() {
     if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_824() {
-    if (jj_3R_488()) return true;
+  private boolean jj_3R_825() {
+    if (jj_3R_489()) return true;
     return false;
   }
 
@@ -22233,7 +22238,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_720() {
+  private boolean jj_3R_721() {
     if (jj_3R_182()) return true;
     return false;
   }
@@ -22243,22 +22248,22 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_719() {
+  private boolean jj_3R_720() {
     if (jj_3R_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_718() {
+  private boolean jj_3R_719() {
     if (jj_3R_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_634() {
+  private boolean jj_3R_635() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_720()) {
+    if (jj_3R_721()) {
     jj_scanpos = xsp;
-    if (jj_3R_721()) return true;
+    if (jj_3R_722()) return true;
     }
     return false;
   }
@@ -22288,8 +22293,6 @@ Token token;
     if (jj_3R_428()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_824()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_825()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_826()) jj_scanpos = xsp;
@@ -22303,6 +22306,8 @@ Token token;
     if (jj_3R_830()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_831()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_832()) jj_scanpos = xsp;
     return false;
   }
 
@@ -22317,7 +22322,7 @@ Token token;
   }
 
   private boolean jj_3R_377() {
-    if (jj_3R_543()) return true;
+    if (jj_3R_544()) return true;
     return false;
   }
 
@@ -22330,17 +22335,17 @@ Token token;
   }
 
   private boolean jj_3R_376() {
-    if (jj_3R_542()) return true;
+    if (jj_3R_543()) return true;
     return false;
   }
 
-  private boolean jj_3R_633() {
+  private boolean jj_3R_634() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_718()) {
+    if (jj_3R_719()) {
     jj_scanpos = xsp;
-    if (jj_3R_719()) return true;
+    if (jj_3R_720()) return true;
     }
     return false;
   }
@@ -22355,19 +22360,19 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_520() {
+  private boolean jj_3R_521() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_633()) {
+    if (jj_3R_634()) {
     jj_scanpos = xsp;
-    if (jj_3R_634()) return true;
+    if (jj_3R_635()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_521() {
+  private boolean jj_3R_522() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_520()) return true;
+    if (jj_3R_521()) return true;
     return false;
   }
 
@@ -22412,11 +22417,11 @@ Token token;
   }
 
   private boolean jj_3R_355() {
-    if (jj_3R_520()) return true;
+    if (jj_3R_521()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_521()) { jj_scanpos = xsp; break; }
+      if (jj_3R_522()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -22442,7 +22447,7 @@ Token token;
   }
 
   private boolean jj_3R_426() {
-    if (jj_3R_571()) return true;
+    if (jj_3R_572()) return true;
     return false;
   }
 
@@ -22471,7 +22476,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_890() {
+  private boolean jj_3R_891() {
     if (jj_3R_138()) return true;
     return false;
   }
@@ -22482,7 +22487,7 @@ Token token;
   }
 
   private boolean jj_3R_424() {
-    if (jj_3R_570()) return true;
+    if (jj_3R_571()) return true;
     return false;
   }
 
@@ -22496,18 +22501,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_506() {
+  private boolean jj_3R_507() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_850() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_848()) return true;
+    if (jj_3R_849()) return true;
     return false;
   }
 
-  private boolean jj_3R_751() {
+  private boolean jj_3R_752() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
@@ -22517,12 +22522,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_505() {
+  private boolean jj_3R_506() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_749() {
+  private boolean jj_3R_750() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -22532,19 +22537,19 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_750() {
+  private boolean jj_3R_751() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_848()) return true;
+    if (jj_3R_849()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_849()) { jj_scanpos = xsp; break; }
+      if (jj_3R_850()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
+  private boolean jj_3R_505() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
@@ -22554,11 +22559,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_848() {
+  private boolean jj_3R_849() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_890()) jj_scanpos = xsp;
+    if (jj_3R_891()) jj_scanpos = xsp;
     return false;
   }
 
@@ -22590,11 +22595,11 @@ Token token;
   private boolean jj_3R_330() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
-    jj_scanpos = xsp;
     if (jj_3R_505()) {
     jj_scanpos = xsp;
-    if (jj_3R_506()) return true;
+    if (jj_3R_506()) {
+    jj_scanpos = xsp;
+    if (jj_3R_507()) return true;
     }
     }
     return false;
@@ -22617,7 +22622,7 @@ Token token;
 
   private boolean jj_3R_329() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_503()) return true;
+    if (jj_3R_504()) return true;
     return false;
   }
 
@@ -22667,11 +22672,11 @@ Token token;
     if (jj_3_138()) jj_scanpos = xsp;
     if (jj_3R_148()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_749()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_750()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_751()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_752()) jj_scanpos = xsp;
     return false;
   }
 
@@ -22685,7 +22690,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_713() {
+  private boolean jj_3R_714() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -22700,7 +22705,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_712() {
+  private boolean jj_3R_713() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
@@ -22720,12 +22725,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_623() {
+  private boolean jj_3R_624() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_712()) {
+    if (jj_3R_713()) {
     jj_scanpos = xsp;
-    if (jj_3R_713()) return true;
+    if (jj_3R_714()) return true;
     }
     if (jj_3R_148()) return true;
     return false;
@@ -22759,7 +22764,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_622() {
+  private boolean jj_3R_623() {
     if (jj_scan_token(251)) return true;
     return false;
   }
@@ -22796,14 +22801,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_503() {
+  private boolean jj_3R_504() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_622()) jj_scanpos = xsp;
+    if (jj_3R_623()) jj_scanpos = xsp;
     if (jj_3R_148()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_623()) { jj_scanpos = xsp; break; }
+      if (jj_3R_624()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -22819,7 +22824,7 @@ Token token;
   }
 
   private boolean jj_3R_471() {
-    if (jj_3R_557()) return true;
+    if (jj_3R_558()) return true;
     return false;
   }
 
@@ -22869,7 +22874,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_867() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -22885,17 +22890,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_788() {
+  private boolean jj_3R_789() {
     if (jj_3R_148()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_866()) { jj_scanpos = xsp; break; }
+      if (jj_3R_867()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_673() {
+  private boolean jj_3R_674() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
@@ -22985,13 +22990,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_672() {
+  private boolean jj_3R_673() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_788()) jj_scanpos = xsp;
+    if (jj_3R_789()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
@@ -23062,7 +23067,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_676() {
+  private boolean jj_3R_677() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -23110,7 +23115,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_675() {
+  private boolean jj_3R_676() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -23125,11 +23130,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_584() {
+  private boolean jj_3R_585() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_676()) jj_scanpos = xsp;
+    if (jj_3R_677()) jj_scanpos = xsp;
     return false;
   }
 
@@ -23169,12 +23174,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_674() {
+  private boolean jj_3R_675() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_596() {
+  private boolean jj_3R_597() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -23184,7 +23189,7 @@ Token token;
     if (jj_3R_154()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_675()) jj_scanpos = xsp;
+    if (jj_3R_676()) jj_scanpos = xsp;
     return false;
   }
 
@@ -23193,7 +23198,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_583() {
+  private boolean jj_3R_584() {
     if (jj_3R_153()) return true;
     return false;
   }
@@ -23229,13 +23234,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_582() {
+  private boolean jj_3R_583() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_674()) jj_scanpos = xsp;
+    if (jj_3R_675()) jj_scanpos = xsp;
     return false;
   }
 
@@ -23244,8 +23249,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_3R_673()) return true;
+  private boolean jj_3R_582() {
+    if (jj_3R_674()) return true;
     return false;
   }
 
@@ -23259,18 +23264,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_787() {
-    if (jj_3R_513()) return true;
+  private boolean jj_3R_788() {
+    if (jj_3R_514()) return true;
     return false;
   }
 
-  private boolean jj_3R_580() {
+  private boolean jj_3R_581() {
     if (jj_3R_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_3R_672()) return true;
+  private boolean jj_3R_580() {
+    if (jj_3R_673()) return true;
     return false;
   }
 
@@ -23285,25 +23290,25 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_786() {
+  private boolean jj_3R_787() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_512()) return true;
+    if (jj_3R_513()) return true;
     return false;
   }
 
-  private boolean jj_3R_671() {
+  private boolean jj_3R_672() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_786()) {
+    if (jj_3R_787()) {
     jj_scanpos = xsp;
-    if (jj_3R_787()) return true;
+    if (jj_3R_788()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_607() {
+  private boolean jj_3R_608() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_606()) return true;
+    if (jj_3R_607()) return true;
     return false;
   }
 
@@ -23312,18 +23317,18 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_596()) { jj_scanpos = xsp; break; }
+      if (jj_3R_597()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_578() {
+  private boolean jj_3R_579() {
     if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_670() {
-    if (jj_3R_513()) return true;
+  private boolean jj_3R_671() {
+    if (jj_3R_514()) return true;
     return false;
   }
 
@@ -23333,8 +23338,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_669() {
-    if (jj_3R_512()) return true;
+  private boolean jj_3R_670() {
+    if (jj_3R_513()) return true;
     return false;
   }
 
@@ -23494,7 +23499,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_668() {
+  private boolean jj_3R_669() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_152()) return true;
     return false;
@@ -23521,28 +23526,28 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_577() {
+  private boolean jj_3R_578() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_669()) {
+    if (jj_3R_670()) {
     jj_scanpos = xsp;
-    if (jj_3R_670()) return true;
+    if (jj_3R_671()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_671()) { jj_scanpos = xsp; break; }
+      if (jj_3R_672()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_595() {
+  private boolean jj_3R_596() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_594() {
+  private boolean jj_3R_595() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
@@ -23550,9 +23555,9 @@ Token token;
   private boolean jj_3R_455() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_594()) {
+    if (jj_3R_595()) {
     jj_scanpos = xsp;
-    if (jj_3R_595()) return true;
+    if (jj_3R_596()) return true;
     }
     return false;
   }
@@ -23585,13 +23590,13 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_668()) { jj_scanpos = xsp; break; }
+      if (jj_3R_669()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
+  private boolean jj_3R_577() {
     if (jj_3R_152()) return true;
     return false;
   }
@@ -23617,12 +23622,10 @@ Token token;
   private boolean jj_3R_433() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_576()) {
+    if (jj_3R_577()) {
     jj_scanpos = xsp;
     if (jj_3_96()) {
     jj_scanpos = xsp;
-    if (jj_3R_577()) {
-    jj_scanpos = xsp;
     if (jj_3R_578()) {
     jj_scanpos = xsp;
     if (jj_3R_579()) {
@@ -23635,9 +23638,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_583()) {
     jj_scanpos = xsp;
+    if (jj_3R_584()) {
+    jj_scanpos = xsp;
     if (jj_3_98()) {
     jj_scanpos = xsp;
-    if (jj_3R_584()) return true;
+    if (jj_3R_585()) return true;
     }
     }
     }
@@ -23651,7 +23656,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_598() {
+  private boolean jj_3R_599() {
     if (jj_3R_65()) return true;
     return false;
   }
@@ -23661,7 +23666,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_597() {
+  private boolean jj_3R_598() {
     if (jj_3R_63()) return true;
     return false;
   }
@@ -23682,14 +23687,14 @@ Token token;
   private boolean jj_3R_460() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_597()) {
+    if (jj_3R_598()) {
     jj_scanpos = xsp;
-    if (jj_3R_598()) return true;
+    if (jj_3R_599()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_692() {
+  private boolean jj_3R_693() {
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_181()) return true;
     if (jj_scan_token(RPAREN)) return true;
@@ -23701,7 +23706,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_691() {
+  private boolean jj_3R_692() {
     if (jj_3R_138()) return true;
     return false;
   }
@@ -23731,19 +23736,19 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_606() {
+  private boolean jj_3R_607() {
     if (jj_3R_148()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_691()) {
+    if (jj_3R_692()) {
     jj_scanpos = xsp;
-    if (jj_3R_692()) return true;
+    if (jj_3R_693()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_847() {
+  private boolean jj_3R_848() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_63()) return true;
     return false;
@@ -23754,7 +23759,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_846() {
+  private boolean jj_3R_847() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -23808,13 +23813,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_488() {
+  private boolean jj_3R_489() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_606()) return true;
+    if (jj_3R_607()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_607()) { jj_scanpos = xsp; break; }
+      if (jj_3R_608()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -23824,24 +23829,24 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_748() {
+  private boolean jj_3R_749() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_747() {
+  private boolean jj_3R_748() {
     if (jj_scan_token(CLUSTERS)) return true;
     if (jj_3R_63()) return true;
     return false;
   }
 
-  private boolean jj_3R_746() {
+  private boolean jj_3R_747() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_63()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_847()) { jj_scanpos = xsp; break; }
+      if (jj_3R_848()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -23859,18 +23864,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_745() {
+  private boolean jj_3R_746() {
     if (jj_scan_token(EXTENDS)) return true;
     if (jj_3R_148()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_846()) { jj_scanpos = xsp; break; }
+      if (jj_3R_847()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_541() {
+  private boolean jj_3R_542() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -23880,24 +23885,24 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_540() {
+  private boolean jj_3R_541() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_540() {
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_744() {
+  private boolean jj_3R_745() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_619() {
+  private boolean jj_3R_620() {
     if (jj_3R_150()) return true;
     return false;
   }
@@ -23907,12 +23912,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_618() {
+  private boolean jj_3R_619() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
+  private boolean jj_3R_539() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -23920,12 +23925,12 @@ Token token;
   private boolean jj_3R_373() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_539()) {
+    if (jj_3R_540()) {
     jj_scanpos = xsp;
-    if (jj_3R_540()) return true;
+    if (jj_3R_541()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_541()) jj_scanpos = xsp;
+    if (jj_3R_542()) jj_scanpos = xsp;
     return false;
   }
 
@@ -23935,8 +23940,6 @@ Token token;
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_744()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_745()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_746()) jj_scanpos = xsp;
@@ -23944,10 +23947,12 @@ Token token;
     if (jj_3R_747()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_748()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_749()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_537() {
+  private boolean jj_3R_538() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -23956,26 +23961,26 @@ Token token;
     if (jj_3R_153()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_538()) jj_scanpos = xsp;
+    if (jj_3R_539()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_501() {
+  private boolean jj_3R_502() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_618()) {
+    if (jj_3R_619()) {
     jj_scanpos = xsp;
-    if (jj_3R_619()) return true;
+    if (jj_3R_620()) return true;
     }
     return false;
   }
 
   private boolean jj_3R_371() {
-    if (jj_3R_536()) return true;
+    if (jj_3R_537()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_537()) jj_scanpos = xsp;
+    if (jj_3R_538()) jj_scanpos = xsp;
     return false;
   }
 
@@ -23984,18 +23989,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_500() {
+  private boolean jj_3R_501() {
     if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_593() {
+  private boolean jj_3R_594() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
+  private boolean jj_3R_500() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -24035,13 +24040,13 @@ Token token;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_499()) {
+    if (jj_3R_500()) {
     jj_scanpos = xsp;
-    if (jj_3R_500()) return true;
+    if (jj_3R_501()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_501()) { jj_scanpos = xsp; break; }
+      if (jj_3R_502()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -24052,7 +24057,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_593()) { jj_scanpos = xsp; break; }
+      if (jj_3R_594()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -24340,37 +24345,37 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_535() {
+  private boolean jj_3R_536() {
     if (jj_3R_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
+  private boolean jj_3R_535() {
     if (jj_3R_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
+  private boolean jj_3R_534() {
     if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
+  private boolean jj_3R_533() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
+  private boolean jj_3R_532() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_569() {
+  private boolean jj_3R_570() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
+  private boolean jj_3R_531() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
@@ -24383,8 +24388,6 @@ Token token;
   private boolean jj_3R_364() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_530()) {
-    jj_scanpos = xsp;
     if (jj_3R_531()) {
     jj_scanpos = xsp;
     if (jj_3R_532()) {
@@ -24393,7 +24396,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_534()) {
     jj_scanpos = xsp;
-    if (jj_3R_535()) return true;
+    if (jj_3R_535()) {
+    jj_scanpos = xsp;
+    if (jj_3R_536()) return true;
     }
     }
     }
@@ -24406,7 +24411,7 @@ Token token;
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_569()) jj_scanpos = xsp;
+    if (jj_3R_570()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -24455,7 +24460,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_568() {
+  private boolean jj_3R_569() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -24489,7 +24494,7 @@ Token token;
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_568()) jj_scanpos = xsp;
+    if (jj_3R_569()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -24588,7 +24593,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_529() {
+  private boolean jj_3R_530() {
     if (jj_3R_162()) return true;
     return false;
   }
@@ -24598,17 +24603,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_528() {
+  private boolean jj_3R_529() {
     if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
+  private boolean jj_3R_528() {
     if (jj_3R_160()) return true;
     return false;
   }
 
-  private boolean jj_3R_567() {
+  private boolean jj_3R_568() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -24618,7 +24623,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_526() {
+  private boolean jj_3R_527() {
     if (jj_3R_159()) return true;
     return false;
   }
@@ -24627,7 +24632,7 @@ Token token;
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_567()) jj_scanpos = xsp;
+    if (jj_3R_568()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -24919,13 +24924,13 @@ Token token;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_526()) {
-    jj_scanpos = xsp;
     if (jj_3R_527()) {
     jj_scanpos = xsp;
     if (jj_3R_528()) {
     jj_scanpos = xsp;
-    if (jj_3R_529()) return true;
+    if (jj_3R_529()) {
+    jj_scanpos = xsp;
+    if (jj_3R_530()) return true;
     }
     }
     }
@@ -24946,7 +24951,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_514() {
+  private boolean jj_3R_515() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -24962,7 +24967,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_557() {
+  private boolean jj_3R_558() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(168)) {
@@ -24987,7 +24992,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_643() {
+  private boolean jj_3R_644() {
     if (jj_3R_158()) return true;
     return false;
   }
@@ -24997,12 +25002,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_642() {
+  private boolean jj_3R_643() {
     if (jj_3R_157()) return true;
     return false;
   }
 
-  private boolean jj_3R_566() {
+  private boolean jj_3R_567() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -25012,12 +25017,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_536() {
+  private boolean jj_3R_537() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_642()) {
+    if (jj_3R_643()) {
     jj_scanpos = xsp;
-    if (jj_3R_643()) return true;
+    if (jj_3R_644()) return true;
     }
     return false;
   }
@@ -25031,7 +25036,7 @@ Token token;
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_566()) jj_scanpos = xsp;
+    if (jj_3R_567()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -25100,12 +25105,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_917() {
+  private boolean jj_3R_918() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
+  private boolean jj_3R_526() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -25129,16 +25134,16 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_525()) { jj_scanpos = xsp; break; }
+      if (jj_3R_526()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_915() {
+  private boolean jj_3R_916() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_917()) jj_scanpos = xsp;
+    if (jj_3R_918()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -25164,11 +25169,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_911() {
+  private boolean jj_3R_912() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_915()) {
+    if (jj_3R_916()) {
     jj_scanpos = xsp;
     if (jj_scan_token(200)) return true;
     }
@@ -25200,7 +25205,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_514()) { jj_scanpos = xsp; break; }
+      if (jj_3R_515()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -25228,7 +25233,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_564() {
+  private boolean jj_3R_565() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -25251,7 +25256,7 @@ Token token;
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_564()) jj_scanpos = xsp;
+    if (jj_3R_565()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -25268,7 +25273,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_845() {
+  private boolean jj_3R_846() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
@@ -25278,39 +25283,39 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_844() {
+  private boolean jj_3R_845() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
+  private boolean jj_3R_512() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_519() {
+  private boolean jj_3R_520() {
     if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_518() {
+  private boolean jj_3R_519() {
     if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_734() {
+  private boolean jj_3R_735() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_844()) {
+    if (jj_3R_845()) {
     jj_scanpos = xsp;
-    if (jj_3R_845()) return true;
+    if (jj_3R_846()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_733() {
+  private boolean jj_3R_734() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_63()) return true;
@@ -25318,21 +25323,21 @@ Token token;
   }
 
   private boolean jj_3R_354() {
-    if (jj_3R_517()) return true;
+    if (jj_3R_518()) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(202)) {
     jj_scanpos = xsp;
-    if (jj_3R_518()) {
+    if (jj_3R_519()) {
     jj_scanpos = xsp;
-    if (jj_3R_519()) return true;
+    if (jj_3R_520()) return true;
     }
     }
-    if (jj_3R_517()) return true;
+    if (jj_3R_518()) return true;
     return false;
   }
 
-  private boolean jj_3R_732() {
+  private boolean jj_3R_733() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
@@ -25341,7 +25346,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_731() {
+  private boolean jj_3R_732() {
     if (jj_scan_token(WHERE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
@@ -25355,30 +25360,30 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_730() {
+  private boolean jj_3R_731() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_729() {
+  private boolean jj_3R_730() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_728() {
+  private boolean jj_3R_729() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_663() {
+  private boolean jj_3R_664() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_662()) return true;
+    if (jj_3R_663()) return true;
     return false;
   }
 
@@ -25387,11 +25392,9 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_662() {
+  private boolean jj_3R_663() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_728()) {
-    jj_scanpos = xsp;
     if (jj_3R_729()) {
     jj_scanpos = xsp;
     if (jj_3R_730()) {
@@ -25402,7 +25405,9 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_733()) {
     jj_scanpos = xsp;
-    if (jj_3R_734()) return true;
+    if (jj_3R_734()) {
+    jj_scanpos = xsp;
+    if (jj_3R_735()) return true;
     }
     }
     }
@@ -25412,12 +25417,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_3R_662()) return true;
+  private boolean jj_3R_566() {
+    if (jj_3R_663()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_663()) { jj_scanpos = xsp; break; }
+      if (jj_3R_664()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -25475,7 +25480,7 @@ Token token;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_565()) jj_scanpos = xsp;
+    if (jj_3R_566()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
@@ -25485,22 +25490,22 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_912() {
+  private boolean jj_3R_913() {
     if (jj_3R_415()) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
+  private boolean jj_3R_564() {
     if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_632() {
+  private boolean jj_3R_633() {
     if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
+  private boolean jj_3R_563() {
     if (jj_3R_205()) return true;
     return false;
   }
@@ -25510,12 +25515,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_631() {
+  private boolean jj_3R_632() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
+  private boolean jj_3R_562() {
     if (jj_3R_204()) return true;
     return false;
   }
@@ -25525,12 +25530,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_517() {
+  private boolean jj_3R_518() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_631()) {
+    if (jj_3R_632()) {
     jj_scanpos = xsp;
-    if (jj_3R_632()) return true;
+    if (jj_3R_633()) return true;
     }
     return false;
   }
@@ -25543,22 +25548,22 @@ Token token;
   private boolean jj_3R_412() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_561()) {
-    jj_scanpos = xsp;
     if (jj_3R_562()) {
     jj_scanpos = xsp;
-    if (jj_3R_563()) return true;
+    if (jj_3R_563()) {
+    jj_scanpos = xsp;
+    if (jj_3R_564()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_524() {
+  private boolean jj_3R_525() {
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_523() {
+  private boolean jj_3R_524() {
     if (jj_3R_153()) return true;
     return false;
   }
@@ -25568,7 +25573,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_522() {
+  private boolean jj_3R_523() {
     if (jj_3R_152()) return true;
     return false;
   }
@@ -25584,71 +25589,71 @@ Token token;
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_912()) jj_scanpos = xsp;
+    if (jj_3R_913()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_357() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_522()) {
-    jj_scanpos = xsp;
     if (jj_3R_523()) {
     jj_scanpos = xsp;
-    if (jj_3R_524()) return true;
+    if (jj_3R_524()) {
+    jj_scanpos = xsp;
+    if (jj_3R_525()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_914() {
+  private boolean jj_3R_915() {
     if (jj_3R_415()) return true;
     return false;
   }
 
-  private boolean jj_3R_913() {
+  private boolean jj_3R_914() {
     if (jj_3R_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
+  private boolean jj_3R_824() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_717() {
+  private boolean jj_3R_718() {
     if (jj_scan_token(AS)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_716() {
-    if (jj_3R_510()) return true;
+  private boolean jj_3R_717() {
+    if (jj_3R_511()) return true;
     return false;
   }
 
-  private boolean jj_3R_822() {
+  private boolean jj_3R_823() {
     if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_715() {
+  private boolean jj_3R_716() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_822()) jj_scanpos = xsp;
+    if (jj_3R_823()) jj_scanpos = xsp;
     if (jj_3R_138()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_823()) jj_scanpos = xsp;
+    if (jj_3R_824()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_667() {
+  private boolean jj_3R_668() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_151()) return true;
     return false;
   }
 
-  private boolean jj_3R_714() {
+  private boolean jj_3R_715() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -25660,34 +25665,34 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_913()) { jj_scanpos = xsp; break; }
+      if (jj_3R_914()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_914()) jj_scanpos = xsp;
+    if (jj_3R_915()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_916() {
+  private boolean jj_3R_917() {
     if (jj_3R_415()) return true;
     return false;
   }
 
-  private boolean jj_3R_625() {
+  private boolean jj_3R_626() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_714()) {
+    if (jj_3R_715()) {
     jj_scanpos = xsp;
-    if (jj_3R_715()) return true;
+    if (jj_3R_716()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_716()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_717()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_718()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_666() {
+  private boolean jj_3R_667() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_151()) return true;
     return false;
@@ -25702,7 +25707,7 @@ Token token;
     if (jj_3R_154()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_916()) jj_scanpos = xsp;
+    if (jj_3R_917()) jj_scanpos = xsp;
     return false;
   }
 
@@ -25716,7 +25721,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_904() {
+  private boolean jj_3R_905() {
     if (jj_3R_203()) return true;
     return false;
   }
@@ -25729,18 +25734,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_903() {
-    if (jj_3R_911()) return true;
+  private boolean jj_3R_904() {
+    if (jj_3R_912()) return true;
     return false;
   }
 
-  private boolean jj_3R_626() {
+  private boolean jj_3R_627() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_625()) return true;
+    if (jj_3R_626()) return true;
     return false;
   }
 
-  private boolean jj_3R_902() {
+  private boolean jj_3R_903() {
     if (jj_3R_202()) return true;
     return false;
   }
@@ -25760,7 +25765,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_885() {
+  private boolean jj_3R_886() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_129()) {
@@ -25769,11 +25774,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_131()) {
     jj_scanpos = xsp;
-    if (jj_3R_902()) {
-    jj_scanpos = xsp;
     if (jj_3R_903()) {
     jj_scanpos = xsp;
-    if (jj_3R_904()) return true;
+    if (jj_3R_904()) {
+    jj_scanpos = xsp;
+    if (jj_3R_905()) return true;
     }
     }
     }
@@ -25782,14 +25787,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_510() {
+  private boolean jj_3R_511() {
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_625()) return true;
+    if (jj_3R_626()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_626()) { jj_scanpos = xsp; break; }
+      if (jj_3R_627()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
@@ -25797,41 +25802,41 @@ Token token;
 
   private boolean jj_3R_336() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_511()) return true;
+    if (jj_3R_512()) return true;
     return false;
   }
 
   private boolean jj_3R_335() {
-    if (jj_3R_510()) return true;
+    if (jj_3R_511()) return true;
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_821() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_645() {
+  private boolean jj_3R_646() {
     if (jj_3R_415()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_885()) { jj_scanpos = xsp; break; }
+      if (jj_3R_886()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_820() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_821() {
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_819() {
+  private boolean jj_3R_820() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
@@ -25846,7 +25851,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_818() {
+  private boolean jj_3R_819() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -25856,28 +25861,28 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_573() {
+  private boolean jj_3R_574() {
     if (jj_scan_token(DISTINCT)) return true;
     if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_667()) { jj_scanpos = xsp; break; }
+      if (jj_3R_668()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_711() {
+  private boolean jj_3R_712() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_818()) {
-    jj_scanpos = xsp;
     if (jj_3R_819()) {
     jj_scanpos = xsp;
     if (jj_3R_820()) {
     jj_scanpos = xsp;
-    if (jj_3R_821()) return true;
+    if (jj_3R_821()) {
+    jj_scanpos = xsp;
+    if (jj_3R_822()) return true;
     }
     }
     }
@@ -25886,32 +25891,32 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_572() {
+  private boolean jj_3R_573() {
     if (jj_3R_151()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_666()) { jj_scanpos = xsp; break; }
+      if (jj_3R_667()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_710() {
+  private boolean jj_3R_711() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_817() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_709() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_710() {
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_708() {
+  private boolean jj_3R_709() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
@@ -25919,38 +25924,38 @@ Token token;
   private boolean jj_3R_428() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_572()) {
+    if (jj_3R_573()) {
     jj_scanpos = xsp;
-    if (jj_3R_573()) return true;
+    if (jj_3R_574()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_707() {
+  private boolean jj_3R_708() {
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_630() {
+  private boolean jj_3R_631() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_628() {
+  private boolean jj_3R_629() {
     if (jj_scan_token(SKIP2)) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
+  private boolean jj_3R_621() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_707()) {
-    jj_scanpos = xsp;
     if (jj_3R_708()) {
     jj_scanpos = xsp;
     if (jj_3R_709()) {
     jj_scanpos = xsp;
-    if (jj_3R_710()) return true;
+    if (jj_3R_710()) {
+    jj_scanpos = xsp;
+    if (jj_3R_711()) return true;
     }
     }
     }
@@ -25958,17 +25963,17 @@ Token token;
     if (jj_3R_138()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_711()) { jj_scanpos = xsp; break; }
+      if (jj_3R_712()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_629() {
+  private boolean jj_3R_630() {
     if (jj_scan_token(LIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_627() {
+  private boolean jj_3R_628() {
     if (jj_3R_148()) return true;
     return false;
   }
@@ -25982,27 +25987,27 @@ Token token;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_620()) jj_scanpos = xsp;
+    if (jj_3R_621()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_901() {
+  private boolean jj_3R_902() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
+  private boolean jj_3R_514() {
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_627()) {
-    jj_scanpos = xsp;
     if (jj_3R_628()) {
     jj_scanpos = xsp;
     if (jj_3R_629()) {
     jj_scanpos = xsp;
-    if (jj_3R_630()) return true;
+    if (jj_3R_630()) {
+    jj_scanpos = xsp;
+    if (jj_3R_631()) return true;
     }
     }
     }
@@ -26015,39 +26020,39 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_725() {
-    if (jj_3R_536()) return true;
+  private boolean jj_3R_726() {
+    if (jj_3R_537()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_901()) jj_scanpos = xsp;
+    if (jj_3R_902()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_512() {
+  private boolean jj_3R_513() {
     if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
   private boolean jj_3R_339() {
-    if (jj_3R_513()) return true;
+    if (jj_3R_514()) return true;
     return false;
   }
 
-  private boolean jj_3R_817() {
+  private boolean jj_3R_818() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_875()) jj_scanpos = xsp;
+    if (jj_3R_876()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3R_338() {
-    if (jj_3R_512()) return true;
+    if (jj_3R_513()) return true;
     return false;
   }
 
-  private boolean jj_3R_874() {
+  private boolean jj_3R_875() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -26062,7 +26067,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_874() {
     if (jj_3R_63()) return true;
     return false;
   }
@@ -26072,13 +26077,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_816() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_873()) {
+    if (jj_3R_874()) {
     jj_scanpos = xsp;
-    if (jj_3R_874()) return true;
+    if (jj_3R_875()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -26099,21 +26104,21 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_706() {
+  private boolean jj_3R_707() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_815()) jj_scanpos = xsp;
+    if (jj_3R_816()) jj_scanpos = xsp;
     if (jj_3R_148()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_816()) jj_scanpos = xsp;
+    if (jj_3R_817()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_817()) { jj_scanpos = xsp; break; }
+      if (jj_3R_818()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_705() {
+  private boolean jj_3R_706() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -26126,12 +26131,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_616() {
+  private boolean jj_3R_617() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_705()) {
+    if (jj_3R_706()) {
     jj_scanpos = xsp;
-    if (jj_3R_706()) return true;
+    if (jj_3R_707()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_63()) return true;
@@ -26159,45 +26164,45 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_617() {
-    if (jj_3R_616()) return true;
+  private boolean jj_3R_618() {
+    if (jj_3R_617()) return true;
     return false;
   }
 
-  private boolean jj_3R_769() {
+  private boolean jj_3R_770() {
     if (jj_3R_432()) return true;
     return false;
   }
 
-  private boolean jj_3R_768() {
+  private boolean jj_3R_769() {
     if (jj_3R_434()) return true;
     return false;
   }
 
-  private boolean jj_3R_767() {
+  private boolean jj_3R_768() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
+  private boolean jj_3R_495() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_616()) return true;
+    if (jj_3R_617()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_617()) { jj_scanpos = xsp; break; }
+      if (jj_3R_618()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_766() {
+  private boolean jj_3R_767() {
     if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -26208,7 +26213,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_515()) { jj_scanpos = xsp; break; }
+      if (jj_3R_516()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -26225,14 +26230,14 @@ Token token;
     if (jj_scan_token(TO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_766()) {
+    if (jj_3R_767()) {
     jj_scanpos = xsp;
-    if (jj_3R_767()) return true;
+    if (jj_3R_768()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_768()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_769()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_770()) jj_scanpos = xsp;
     return false;
   }
 
@@ -26298,22 +26303,22 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_690() {
+  private boolean jj_3R_691() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_689() {
+  private boolean jj_3R_690() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_592() {
+  private boolean jj_3R_593() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_689()) {
+    if (jj_3R_690()) {
     jj_scanpos = xsp;
-    if (jj_3R_690()) return true;
+    if (jj_3R_691()) return true;
     }
     return false;
   }
@@ -26366,11 +26371,11 @@ Token token;
     if (jj_3R_63()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_592()) jj_scanpos = xsp;
+    if (jj_3R_593()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_575() {
+  private boolean jj_3R_576() {
     if (jj_3R_153()) return true;
     return false;
   }
@@ -26381,7 +26386,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_574() {
+  private boolean jj_3R_575() {
     if (jj_3R_63()) return true;
     return false;
   }
@@ -26392,7 +26397,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_509() {
+  private boolean jj_3R_510() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     if (jj_scan_token(EQ)) return true;
@@ -26400,23 +26405,28 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_814() {
+  private boolean jj_3R_815() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_813() {
+  private boolean jj_3R_814() {
     if (jj_3R_63()) return true;
     return false;
   }
 
+  private boolean jj_3R_484() {
+    if (jj_scan_token(263)) return true;
+    return false;
+  }
+
   private boolean jj_3R_432() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_574()) {
+    if (jj_3R_575()) {
     jj_scanpos = xsp;
-    if (jj_3R_575()) return true;
+    if (jj_3R_576()) return true;
     }
     return false;
   }
@@ -26426,18 +26436,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_812() {
+  private boolean jj_3R_813() {
     if (jj_3R_153()) return true;
     return false;
   }
 
-  private boolean jj_3R_624() {
+  private boolean jj_3R_625() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_811() {
+  private boolean jj_3R_812() {
     if (jj_3R_63()) return true;
     return false;
   }
@@ -26452,18 +26462,21 @@ Token token;
     xsp = jj_scanpos;
     if (jj_3R_482()) {
     jj_scanpos = xsp;
-    if (jj_3R_483()) return true;
+    if (jj_3R_483()) {
+    jj_scanpos = xsp;
+    if (jj_3R_484()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_704() {
+  private boolean jj_3R_705() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_813()) {
+    if (jj_3R_814()) {
     jj_scanpos = xsp;
-    if (jj_3R_814()) return true;
+    if (jj_3R_815()) return true;
     }
     return false;
   }
@@ -26476,35 +26489,35 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_509()) { jj_scanpos = xsp; break; }
+      if (jj_3R_510()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_873() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_703() {
+  private boolean jj_3R_704() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_811()) {
+    if (jj_3R_812()) {
     jj_scanpos = xsp;
-    if (jj_3R_812()) return true;
+    if (jj_3R_813()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_508() {
+  private boolean jj_3R_509() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_3R_138()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_624()) { jj_scanpos = xsp; break; }
+      if (jj_3R_625()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
@@ -26526,23 +26539,23 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_613() {
+  private boolean jj_3R_614() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_703()) {
+    if (jj_3R_704()) {
     jj_scanpos = xsp;
-    if (jj_3R_704()) return true;
+    if (jj_3R_705()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_507() {
+  private boolean jj_3R_508() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_591() {
+  private boolean jj_3R_592() {
     if (jj_3R_153()) return true;
     return false;
   }
@@ -26562,12 +26575,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_590() {
+  private boolean jj_3R_591() {
     if (jj_3R_63()) return true;
     return false;
   }
 
-  private boolean jj_3R_869() {
+  private boolean jj_3R_870() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
@@ -26594,14 +26607,14 @@ Token token;
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_590()) {
+    if (jj_3R_591()) {
     jj_scanpos = xsp;
-    if (jj_3R_591()) return true;
+    if (jj_3R_592()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_612() {
+  private boolean jj_3R_613() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -26620,7 +26633,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_608() {
+  private boolean jj_3R_609() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -26650,28 +26663,28 @@ Token token;
     if (jj_3R_138()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_507()) { jj_scanpos = xsp; break; }
+      if (jj_3R_508()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_508()) { jj_scanpos = xsp; break; }
+      if (jj_3R_509()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_491() {
+  private boolean jj_3R_492() {
     if (jj_scan_token(UNWIND)) return true;
     if (jj_3R_148()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_612()) { jj_scanpos = xsp; break; }
+      if (jj_3R_613()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_871() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -26681,7 +26694,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_809() {
+  private boolean jj_3R_810() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
@@ -26691,7 +26704,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_809() {
     if (jj_3R_152()) return true;
     return false;
   }
@@ -26701,17 +26714,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_871() {
+  private boolean jj_3R_872() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_810() {
+  private boolean jj_3R_811() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_871()) {
+    if (jj_3R_872()) {
     jj_scanpos = xsp;
-    if (jj_3R_872()) return true;
+    if (jj_3R_873()) return true;
     }
     return false;
   }
@@ -26743,22 +26756,22 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_803() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_722() {
+  private boolean jj_3R_723() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
+  private boolean jj_3R_808() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_870()) jj_scanpos = xsp;
+    if (jj_3R_871()) jj_scanpos = xsp;
     return false;
   }
 
@@ -26775,14 +26788,14 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_489() {
+  private boolean jj_3R_490() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
     if (jj_3R_138()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_608()) { jj_scanpos = xsp; break; }
+      if (jj_3R_609()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -26813,42 +26826,42 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_641() {
+  private boolean jj_3R_642() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_868() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_806() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_843() {
+  private boolean jj_3R_844() {
     if (jj_3R_332()) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_805() {
     if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_869() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
+  private boolean jj_3R_807() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_868()) {
+    if (jj_3R_869()) {
     jj_scanpos = xsp;
-    if (jj_3R_869()) return true;
+    if (jj_3R_870()) return true;
     }
     return false;
   }
@@ -26865,29 +26878,29 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_842() {
+  private boolean jj_3R_843() {
     if (jj_3R_136()) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_800() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_702() {
+  private boolean jj_3R_703() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_807()) {
-    jj_scanpos = xsp;
     if (jj_3R_808()) {
     jj_scanpos = xsp;
-    if (jj_3R_809()) return true;
+    if (jj_3R_809()) {
+    jj_scanpos = xsp;
+    if (jj_3R_810()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_810()) jj_scanpos = xsp;
+    if (jj_3R_811()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
@@ -26899,31 +26912,31 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_804() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_867()) jj_scanpos = xsp;
+    if (jj_3R_868()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_724() {
+  private boolean jj_3R_725() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_842()) {
+    if (jj_3R_843()) {
     jj_scanpos = xsp;
-    if (jj_3R_843()) return true;
+    if (jj_3R_844()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_772() {
+  private boolean jj_3R_773() {
     if (jj_scan_token(CACHE)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_771() {
+  private boolean jj_3R_772() {
     if (jj_scan_token(INCREMENT)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -26934,7 +26947,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_770() {
+  private boolean jj_3R_771() {
     if (jj_scan_token(START)) return true;
     if (jj_3R_138()) return true;
     return false;
@@ -26945,58 +26958,58 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_723() {
+  private boolean jj_3R_724() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_640() {
+  private boolean jj_3R_641() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_723()) jj_scanpos = xsp;
+    if (jj_3R_724()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_724()) {
+    if (jj_3R_725()) {
     jj_scanpos = xsp;
     if (jj_3_56()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_637() {
+  private boolean jj_3R_638() {
     if (jj_3R_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_639() {
+  private boolean jj_3R_640() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_3R_428()) return true;
     return false;
   }
 
-  private boolean jj_3R_636() {
+  private boolean jj_3R_637() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_722()) jj_scanpos = xsp;
+    if (jj_3R_723()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_701() {
+  private boolean jj_3R_702() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_803()) {
-    jj_scanpos = xsp;
     if (jj_3R_804()) {
     jj_scanpos = xsp;
-    if (jj_3R_805()) return true;
+    if (jj_3R_805()) {
+    jj_scanpos = xsp;
+    if (jj_3R_806()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_806()) jj_scanpos = xsp;
+    if (jj_3R_807()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_638() {
+  private boolean jj_3R_639() {
     if (jj_3R_145()) return true;
     return false;
   }
@@ -27007,89 +27020,89 @@ Token token;
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_770()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_771()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_772()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_773()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_635() {
+  private boolean jj_3R_636() {
     if (jj_3R_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_765() {
+  private boolean jj_3R_766() {
     if (jj_scan_token(CACHE)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_800() {
+  private boolean jj_3R_801() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(EQ)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_764() {
+  private boolean jj_3R_765() {
     if (jj_scan_token(INCREMENT)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_763() {
+  private boolean jj_3R_764() {
     if (jj_scan_token(START)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_699() {
+  private boolean jj_3R_700() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_611() {
+  private boolean jj_3R_612() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_701()) {
+    if (jj_3R_702()) {
     jj_scanpos = xsp;
-    if (jj_3R_702()) return true;
+    if (jj_3R_703()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_698() {
+  private boolean jj_3R_699() {
     if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_802() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_700() {
+  private boolean jj_3R_701() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_801()) {
+    if (jj_3R_802()) {
     jj_scanpos = xsp;
-    if (jj_3R_802()) return true;
+    if (jj_3R_803()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_697() {
+  private boolean jj_3R_698() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_800()) jj_scanpos = xsp;
+    if (jj_3R_801()) jj_scanpos = xsp;
     return false;
   }
 
@@ -27098,25 +27111,25 @@ Token token;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_635()) {
-    jj_scanpos = xsp;
     if (jj_3R_636()) {
     jj_scanpos = xsp;
-    if (jj_3R_637()) return true;
+    if (jj_3R_637()) {
+    jj_scanpos = xsp;
+    if (jj_3R_638()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_638()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_639()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_640()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_641()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_642()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_797() {
+  private boolean jj_3R_798() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -27129,65 +27142,65 @@ Token token;
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_763()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
     if (jj_3R_764()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_765()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_766()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_695() {
+  private boolean jj_3R_696() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_694() {
+  private boolean jj_3R_695() {
     if (jj_3R_152()) return true;
     return false;
   }
 
-  private boolean jj_3R_798() {
+  private boolean jj_3R_799() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_696() {
+  private boolean jj_3R_697() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_798()) {
+    if (jj_3R_799()) {
     jj_scanpos = xsp;
-    if (jj_3R_799()) return true;
+    if (jj_3R_800()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_610() {
+  private boolean jj_3R_611() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_697()) {
-    jj_scanpos = xsp;
     if (jj_3R_698()) {
     jj_scanpos = xsp;
-    if (jj_3R_699()) return true;
+    if (jj_3R_699()) {
+    jj_scanpos = xsp;
+    if (jj_3R_700()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_700()) jj_scanpos = xsp;
+    if (jj_3R_701()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_693() {
+  private boolean jj_3R_694() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_797()) jj_scanpos = xsp;
+    if (jj_3R_798()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_679() {
+  private boolean jj_3R_680() {
     if (jj_3R_148()) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_3R_138()) return true;
@@ -27204,16 +27217,16 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_795() {
+  private boolean jj_3R_796() {
     if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_687() {
+  private boolean jj_3R_688() {
     if (jj_3R_138()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_796()) jj_scanpos = xsp;
+    if (jj_3R_797()) jj_scanpos = xsp;
     return false;
   }
 
@@ -27228,91 +27241,91 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_865() {
+  private boolean jj_3R_866() {
     if (jj_3R_288()) return true;
     return false;
   }
 
-  private boolean jj_3R_609() {
+  private boolean jj_3R_610() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_693()) {
-    jj_scanpos = xsp;
     if (jj_3R_694()) {
     jj_scanpos = xsp;
-    if (jj_3R_695()) return true;
+    if (jj_3R_695()) {
+    jj_scanpos = xsp;
+    if (jj_3R_696()) return true;
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_696()) jj_scanpos = xsp;
+    if (jj_3R_697()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_864() {
+  private boolean jj_3R_865() {
     if (jj_3R_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_785() {
+  private boolean jj_3R_786() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_864()) {
-    jj_scanpos = xsp;
     if (jj_3R_865()) {
     jj_scanpos = xsp;
+    if (jj_3R_866()) {
+    jj_scanpos = xsp;
     if (jj_scan_token(179)) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_685() {
+  private boolean jj_3R_686() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_795()) jj_scanpos = xsp;
+    if (jj_3R_796()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
     if (jj_3R_138()) return true;
     return false;
   }
 
-  private boolean jj_3R_794() {
+  private boolean jj_3R_795() {
     if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_793() {
+  private boolean jj_3R_794() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
+  private boolean jj_3R_792() {
     if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
+  private boolean jj_3R_491() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_609()) {
+    if (jj_3R_610()) {
     jj_scanpos = xsp;
-    if (jj_3R_610()) return true;
+    if (jj_3R_611()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_611()) { jj_scanpos = xsp; break; }
+      if (jj_3R_612()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_792() {
+  private boolean jj_3R_793() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_790() {
+  private boolean jj_3R_791() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
@@ -27322,7 +27335,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_789() {
+  private boolean jj_3R_790() {
     if (jj_3R_164()) return true;
     return false;
   }
@@ -27341,13 +27354,13 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_785()) { jj_scanpos = xsp; break; }
+      if (jj_3R_786()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
+  private boolean jj_3R_488() {
     if (jj_3R_138()) return true;
     return false;
   }
@@ -27358,13 +27371,13 @@ Token token;
   }
 
   private boolean jj_3R_404() {
-    if (jj_3R_557()) return true;
+    if (jj_3R_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_688() {
+  private boolean jj_3R_689() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_687()) return true;
+    if (jj_3R_688()) return true;
     return false;
   }
 
@@ -27373,21 +27386,21 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_677() {
+  private boolean jj_3R_678() {
     if (jj_3R_148()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_789()) jj_scanpos = xsp;
+    if (jj_3R_790()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_790()) {
-    jj_scanpos = xsp;
     if (jj_3R_791()) {
     jj_scanpos = xsp;
     if (jj_3R_792()) {
     jj_scanpos = xsp;
     if (jj_3R_793()) {
     jj_scanpos = xsp;
-    if (jj_3R_794()) return true;
+    if (jj_3R_794()) {
+    jj_scanpos = xsp;
+    if (jj_3R_795()) return true;
     }
     }
     }
@@ -27400,7 +27413,7 @@ Token token;
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_487()) jj_scanpos = xsp;
+    if (jj_3R_488()) jj_scanpos = xsp;
     return false;
   }
 
@@ -27419,24 +27432,24 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_686() {
+  private boolean jj_3R_687() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_685()) return true;
+    if (jj_3R_686()) return true;
     return false;
   }
 
-  private boolean jj_3R_589() {
+  private boolean jj_3R_590() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_687()) return true;
+    if (jj_3R_688()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_688()) { jj_scanpos = xsp; break; }
+      if (jj_3R_689()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_684() {
+  private boolean jj_3R_685() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
@@ -27446,7 +27459,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_683() {
+  private boolean jj_3R_684() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
@@ -27456,7 +27469,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_486() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_63()) return true;
     return false;
@@ -27476,27 +27489,27 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_682() {
+  private boolean jj_3R_683() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_681() {
+  private boolean jj_3R_682() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_588() {
+  private boolean jj_3R_589() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_683()) {
+    if (jj_3R_684()) {
     jj_scanpos = xsp;
-    if (jj_3R_684()) return true;
-    }
     if (jj_3R_685()) return true;
+    }
+    if (jj_3R_686()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_686()) { jj_scanpos = xsp; break; }
+      if (jj_3R_687()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -27505,11 +27518,11 @@ Token token;
     if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_486()) jj_scanpos = xsp;
+    if (jj_3R_487()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_485() {
+  private boolean jj_3R_486() {
     if (jj_scan_token(ISOLATION)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -27520,9 +27533,9 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_680() {
+  private boolean jj_3R_681() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_679()) return true;
+    if (jj_3R_680()) return true;
     return false;
   }
 
@@ -27536,12 +27549,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_587() {
+  private boolean jj_3R_588() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_681()) {
+    if (jj_3R_682()) {
     jj_scanpos = xsp;
-    if (jj_3R_682()) return true;
+    if (jj_3R_683()) return true;
     }
     if (jj_3R_208()) return true;
     return false;
@@ -27568,13 +27581,13 @@ Token token;
     if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_485()) jj_scanpos = xsp;
+    if (jj_3R_486()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_678() {
+  private boolean jj_3R_679() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_677()) return true;
+    if (jj_3R_678()) return true;
     return false;
   }
 
@@ -27585,7 +27598,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_665() {
+  private boolean jj_3R_666() {
     if (jj_3R_138()) return true;
     return false;
   }
@@ -27597,29 +27610,29 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_664() {
+  private boolean jj_3R_665() {
     if (jj_3R_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_586() {
+  private boolean jj_3R_587() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_679()) return true;
+    if (jj_3R_680()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_680()) { jj_scanpos = xsp; break; }
+      if (jj_3R_681()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_585() {
+  private boolean jj_3R_586() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_677()) return true;
+    if (jj_3R_678()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_678()) { jj_scanpos = xsp; break; }
+      if (jj_3R_679()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -27640,15 +27653,15 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_571() {
+  private boolean jj_3R_572() {
     if (jj_scan_token(LET)) return true;
     if (jj_3R_148()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_664()) {
+    if (jj_3R_665()) {
     jj_scanpos = xsp;
-    if (jj_3R_665()) return true;
+    if (jj_3R_666()) return true;
     }
     return false;
   }
@@ -27656,15 +27669,15 @@ Token token;
   private boolean jj_3R_434() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_585()) {
-    jj_scanpos = xsp;
     if (jj_3R_586()) {
     jj_scanpos = xsp;
     if (jj_3R_587()) {
     jj_scanpos = xsp;
     if (jj_3R_588()) {
     jj_scanpos = xsp;
-    if (jj_3R_589()) return true;
+    if (jj_3R_589()) {
+    jj_scanpos = xsp;
+    if (jj_3R_590()) return true;
     }
     }
     }
@@ -27679,12 +27692,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_859() {
+  private boolean jj_3R_860() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_762() {
+  private boolean jj_3R_763() {
     if (jj_scan_token(LANGUAGE)) return true;
     if (jj_3R_148()) return true;
     return false;
@@ -27695,7 +27708,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_858() {
+  private boolean jj_3R_859() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
@@ -27788,7 +27801,7 @@ Token token;
       jj_la1_7 = new int[] {0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x4000000,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x619004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x4000,0x0,0x600000,0x0,0x0,0x4000,0x19004,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x1,0x0,0x19004,0x0,0x4019004,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x604000,0x800000,0x19004,0x600000,0x0,0x19004,0x8000000,0x0,0x0,0x1c0000,0x1e0000,0x0,0x0,0x4019006,0x0,0x108,0x0,0x2,0x10e,0x19004,0x0,0x4019004,0x0,0x4019004,0x0,0x4019004,0x128,0x19004,0x19004,0x0,0x0,0x4019004,0x0,0x0,0x0,0x4019004,0x0,0x0,0x4019004,0x0,0x0,0x4019004,0x0,0x0,0x0,0x4019004,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x19004,0x0,0x0,0x0,0x0,0x0,0x19004,0x19004,0x0,0x19004,0x19004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x19004,0x0,0x19004,0x0,0x19004,0x0,0x0,0x19004,0x0,0x0,0x19004,0x0,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x4000000,0x4000000,0x4000000,0x619004,0x0,0x619004,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0x19004,0x0,0x0,0x19004,0x0,0x19004,0x0,0x19004,0x19004,0x0,0x10019004,0x19004,0x19004,0x0,0x0,0x0,0x0,0x19004,0x0,0x0,0x0,0x19004,0x0,0x0,0x19004,0x1000,0x0,0x0,0x0,0x19004,0x1000,0x0,0x0,0x19004,0x0,0x0,0x19004,0x19004,0x0,0x0,0x19004,0x19004,0x8019004,0x8019004,0x0,0x4000,0x0,0x0,0x19004,0x19004,0x0,0x19004,0x19004,0x0,0x0,0x1d004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4019004,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe0000000,0xe0000000,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_8() {
-      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x7,0x18,0x18,0x60,0x60,0x0,0x0,};
+      jj_la1_8 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x7,0x18,0x18,0xe0,0xe0,0x0,0x0,};
    }
   final private JJCalls[] jj_2_rtns = new JJCalls[148];
   private boolean jj_rescan = false;
@@ -27944,7 +27957,7 @@ Token token;
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[263];
+    boolean[] la1tokens = new boolean[264];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
@@ -27982,7 +27995,7 @@ Token token;
         }
       }
     }
-    for (int i = 0; i < 263; i++) {
+    for (int i = 0; i < 264; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
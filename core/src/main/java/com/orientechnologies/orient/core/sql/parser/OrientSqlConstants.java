@@ -765,6 +765,7 @@ public interface OrientSqlConstants {
     "\"-full\"",
     "\"-full_replace\"",
     "\"-merge\"",
+    "\"-migrate\"",
   };
 
 }
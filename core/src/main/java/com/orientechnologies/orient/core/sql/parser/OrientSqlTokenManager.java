@@ -25,7 +25,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
             return 37;
          if ((active2 & 0x80000000000000L) != 0L)
             return 31;
-         if ((active3 & 0xe000000000080500L) != 0L || (active4 & 0x7fL) != 0L)
+         if ((active3 & 0xe000000000080500L) != 0L || (active4 & 0xffL) != 0L)
             return 1104;
          if ((active2 & 0x20000000000000L) != 0L || (active3 & 0x180000000L) != 0L)
             return 13;
@@ -330,7 +330,7 @@ private int jjMoveStringLiteralDfa0_0()
          return jjStopAtPos(0, 180);
       case 45:
          jjmatchedKind = 202;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0xe000000000080100L, 0x7fL);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0xe000000000080100L, 0xffL);
       case 46:
          jjmatchedKind = 181;
          return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x180000000L, 0x0L);
@@ -465,7 +465,7 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active2, long active3,
       case 108:
          return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x8000000000000000L, active4, 0L);
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0x41L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0L, active4, 0xc1L);
       case 111:
          return jjMoveStringLiteralDfa2_0(active0, 0L, active2, 0L, active3, 0x1000000000000000L, active4, 0x4L);
       case 115:
@@ -517,6 +517,8 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old2, long a
          break;
       case 101:
          return jjMoveStringLiteralDfa3_0(active3, 0x2000000000000000L, active4, 0x41L);
+      case 105:
+         return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x80L);
       case 108:
          return jjMoveStringLiteralDfa3_0(active3, 0L, active4, 0x2L);
       case 111:
@@ -543,6 +545,8 @@ private int jjMoveStringLiteralDfa3_0(long old3, long active3, long old4, long a
          if ((active3 & 0x10000000L) != 0L)
             return jjStopAtPos(3, 220);
          break;
+      case 103:
+         return jjMoveStringLiteralDfa4_0(active3, 0L, active4, 0x80L);
       case 108:
          if ((active4 & 0x2L) != 0L)
             return jjStopAtPos(3, 257);
@@ -588,6 +592,8 @@ private int jjMoveStringLiteralDfa4_0(long old3, long active3, long old4, long a
          return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x20L);
       case 112:
          return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x4L);
+      case 114:
+         return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x80L);
       case 115:
          return jjMoveStringLiteralDfa5_0(active3, 0L, active4, 0x1L);
       case 118:
@@ -613,7 +619,7 @@ private int jjMoveStringLiteralDfa5_0(long old3, long active3, long old4, long a
       case 95:
          return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x20L);
       case 97:
-         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x1L);
+         return jjMoveStringLiteralDfa6_0(active3, 0L, active4, 0x81L);
       case 99:
          return jjMoveStringLiteralDfa6_0(active3, 0x800000000000000L, active4, 0L);
       case 101:
@@ -651,7 +657,7 @@ private int jjMoveStringLiteralDfa6_0(long old3, long active3, long old4, long a
       case 114:
          return jjMoveStringLiteralDfa7_0(active3, 0x3000000000000000L, active4, 0x20L);
       case 116:
-         return jjMoveStringLiteralDfa7_0(active3, 0L, active4, 0x4L);
+         return jjMoveStringLiteralDfa7_0(active3, 0L, active4, 0x84L);
       default :
          break;
    }
@@ -671,6 +677,8 @@ private int jjMoveStringLiteralDfa7_0(long old3, long active3, long old4, long a
       case 61:
          return jjMoveStringLiteralDfa8_0(active3, 0L, active4, 0x4L);
       case 101:
+         if ((active4 & 0x80L) != 0L)
+            return jjStopAtPos(7, 263);
          return jjMoveStringLiteralDfa8_0(active3, 0L, active4, 0x21L);
       case 111:
          return jjMoveStringLiteralDfa8_0(active3, 0x1000000000000000L, active4, 0L);
@@ -6051,7 +6059,7 @@ null, null, null, null, null, null, null, null, null, null, null, "\43",
 "\55\163\145\162\166\145\162\163", "\55\144\142", "\55\154\141\164\145\156\143\171", 
 "\55\155\145\163\163\141\147\145\163", "\55\141\154\154", "\55\157\165\164\160\165\164\75\164\145\170\164", 
 "\55\146\157\162\143\145", "\55\146\165\154\154", "\55\146\165\154\154\137\162\145\160\154\141\143\145", 
-"\55\155\145\162\147\145", };
+"\55\155\145\162\147\145", "\55\155\151\147\162\141\164\145", };
 
 /** Lexer state names. */
 public static final String[] lexStateNames = {
@@ -6072,11 +6080,11 @@ public static final int[] jjnewLexState = {
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
    0xfffffffffffff801L, 0xffffffffffffffffL, 0xffffff84403fffffL, 0xfcffffffffffffffL, 
-   0x7fL, 
+   0xffL, 
 };
 static final long[] jjtoSkip = {
    0x33eL, 0x0L, 0x0L, 0x0L, 
@@ -65,6 +65,7 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OSimpleKeySerializer;
+import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSaveThreadLocal;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.storage.*;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
@@ -74,6 +75,7 @@ import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.*;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationMetadata;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.*;
@@ -191,6 +193,11 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   protected volatile ScheduledExecutorService fuzzyCheckpointExecutor;
 
+  /**
+   * Ids of the records changed in the WAL segments already removed, null if they are not tracked.
+   */
+  protected volatile OChangedRecordsJournal changedRecordsJournal;
+
   private volatile Throwable dataFlushException = null;
 
   private final int id;
@@ -911,11 +918,15 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         // container of rids of changed records
         final SortedSet<ORID> sortedRids = new TreeSet<>();
 
-        final OLogSequenceNumber startLsn = writeAheadLog.next(lsn);
+        OLogSequenceNumber startLsn = writeAheadLog.next(lsn);
         if (startLsn == null) {
-          OLogManager.instance()
-              .info(this, "Cannot find requested LSN=%s for database sync operation (last available LSN is %s)", lsn, endLsn);
-          return null;
+          // THE WAL HAS BEEN TRUNCATED AFTER THE REQUESTED LSN: LOOK FOR THE RECORDS CHANGED IN THE REMOVED SEGMENTS
+          startLsn = collectChangedRecordsFromJournal(lsn, sortedRids, excludedClusterIds);
+          if (startLsn == null) {
+            OLogManager.instance()
+                .info(this, "Cannot find requested LSN=%s for database sync operation (last available LSN is %s)", lsn, endLsn);
+            return null;
+          }
         }
 
         writeAheadLog.preventCutTill(startLsn);
@@ -1053,6 +1064,206 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Collects the records changed in the WAL segments removed after the passed LSN.
+   *
+   * @return The first LSN of the WAL from which the collection has to continue, or <code>null</code> if the changed records of the
+   * removed segments are not available
+   */
+  private OLogSequenceNumber collectChangedRecordsFromJournal(final OLogSequenceNumber lsn, final Set<ORID> rids,
+      final Set<String> excludedClusterIds) throws IOException {
+    final OChangedRecordsJournal journal = changedRecordsJournal;
+    if (journal == null)
+      return null;
+
+    final OLogSequenceNumber beginLsn = writeAheadLog.begin();
+    if (beginLsn == null || lsn.compareTo(beginLsn) >= 0 || journal.getLastSegment() < beginLsn.getSegment() - 1)
+      // THE JOURNAL DOES NOT REACH THE FIRST SEGMENT OF THE WAL
+      return null;
+
+    final Set<ORID> journalRids = new HashSet<>();
+    if (!journal.collectChangedRecords(lsn, journalRids))
+      return null;
+
+    for (ORID rid : journalRids) {
+      // THE CLUSTER COULD HAVE BEEN DROPPED IN THE MEANTIME
+      final String clusterName = getPhysicalClusterNameById(rid.getClusterId());
+      if (clusterName != null && !excludedClusterIds.contains(clusterName))
+        rids.add(rid);
+    }
+
+    OLogManager.instance()
+        .info(this, "Collected %d records changed after LSN=%s from the journal of the removed WAL segments", rids.size(), lsn);
+
+    return beginLsn;
+  }
+
+  /**
+   * Stores the ids of the records changed in the closed WAL segments in the journal, before the segments are removed by a
+   * checkpoint. Only the segments after the last one already journaled are read.
+   */
+  private void journalChangedRecords() throws IOException {
+    final OChangedRecordsJournal journal = changedRecordsJournal;
+    if (journal == null)
+      return;
+
+    final OLogSequenceNumber beginLsn = writeAheadLog.begin();
+    final OLogSequenceNumber endLsn = writeAheadLog.end();
+    if (beginLsn == null || endLsn == null)
+      return;
+
+    if (journal.getLastSegment() < beginLsn.getSegment() - 1)
+      // SEGMENTS REMOVED WITHOUT JOURNALING THEM, LIKE BEFORE THE JOURNAL WAS ENABLED
+      journal.reset(beginLsn);
+
+    final long firstSegment = Math.max(beginLsn.getSegment(), journal.getLastSegment() + 1);
+    if (firstSegment >= endLsn.getSegment())
+      // THE CLOSED SEGMENTS ARE ALREADY JOURNALED
+      return;
+
+    long segment = -1;
+    final Set<ORID> rids = new HashSet<>();
+
+    for (OLogSequenceNumber lsn = writeAheadLog.begin(firstSegment);
+         lsn != null && lsn.getSegment() < endLsn.getSegment(); lsn = writeAheadLog.next(lsn)) {
+      if (lsn.getSegment() != segment) {
+        if (segment > -1)
+          journal.append(segment, rids);
+        segment = lsn.getSegment();
+        rids.clear();
+      }
+
+      final OWALRecord walRecord = writeAheadLog.read(lsn);
+      if (walRecord instanceof OFileCreatedWALRecord || walRecord instanceof OFileDeletedWALRecord) {
+        // A DELTA CANNOT CROSS THE CREATION OR THE REMOVAL OF A FILE
+        journal.reset(lsn);
+        rids.clear();
+      } else if (walRecord instanceof OAtomicUnitEndRecord) {
+        final Map<String, OAtomicOperationMetadata<?>> metadata = ((OAtomicUnitEndRecord) walRecord).getAtomicOperationMetadata();
+        final ORecordOperationMetadata recordOperationMetadata = (ORecordOperationMetadata) metadata
+            .get(ORecordOperationMetadata.RID_METADATA_KEY);
+        if (recordOperationMetadata != null)
+          rids.addAll(recordOperationMetadata.getValue());
+      }
+    }
+
+    if (segment > -1)
+      journal.append(segment, rids);
+  }
+
+  /**
+   * Reads the records logged in the WAL after the passed LSN, used to ship the changes of this storage to the read replicas that
+   * apply them with {@link #applyWALRecords(List, Map)}.
+   *
+   * @param lsn        LSN of the last record already received
+   * @param maxRecords Maximum number of records to read
+   *
+   * @return The records in LSN order, empty if there are no new records, or <code>null</code> if the LSN is not available in the
+   * WAL anymore
+   */
+  public List<OWALRecord> readWALRecords(final OLogSequenceNumber lsn, final int maxRecords) {
+    try {
+      stateLock.acquireReadLock();
+      try {
+        checkOpenness();
+
+        if (writeAheadLog == null)
+          return null;
+
+        final OLogSequenceNumber beginLsn = writeAheadLog.begin();
+        final OLogSequenceNumber endLsn = writeAheadLog.end();
+        if (beginLsn == null || lsn.compareTo(beginLsn) < 0 || lsn.compareTo(endLsn) > 0)
+          return null;
+
+        final List<OWALRecord> records = new ArrayList<>();
+        OLogSequenceNumber currentLsn = writeAheadLog.next(lsn);
+        while (currentLsn != null && records.size() < maxRecords) {
+          records.add(writeAheadLog.read(currentLsn));
+          currentLsn = writeAheadLog.next(currentLsn);
+        }
+        return records;
+
+      } catch (IOException e) {
+        throw OException.wrapException(new OStorageException("Error on reading WAL records after LSN " + lsn), e);
+      } finally {
+        stateLock.releaseReadLock();
+      }
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
+  /**
+   * Applies to the pages of this storage the WAL records read from another storage with {@link #readWALRecords(OLogSequenceNumber,
+   * int)}, the same way they are applied on restore. Only complete atomic operations are applied: the records of the operations
+   * still open at the end of the list are kept in <code>pendingOperations</code> for the next call. The records that create or
+   * delete files cannot be applied, because the configuration of the storage would not follow them.
+   *
+   * @return The RIDs of the records changed by the applied operations, tracked only if {@link OGlobalConfiguration#STORAGE_TRACK_CHANGED_RECORDS_IN_WAL}
+   * is enabled on the source storage
+   */
+  public Set<ORID> applyWALRecords(final List<OWALRecord> records,
+      final Map<OOperationUnitId, List<OWALRecord>> pendingOperations) {
+    try {
+      stateLock.acquireWriteLock();
+      try {
+        checkOpenness();
+
+        final OModifiableBoolean atLeastOnePageUpdate = new OModifiableBoolean();
+        final Set<ORID> changedRids = new HashSet<>();
+
+        for (OWALRecord walRecord : records) {
+          if (walRecord instanceof OFileCreatedWALRecord || walRecord instanceof OFileDeletedWALRecord)
+            throw new ODatabaseException(
+                "Cannot apply WAL record " + walRecord + " because a file has been created or deleted, storage has to be synchronized");
+
+          if (walRecord instanceof OAtomicUnitEndRecord) {
+            final OAtomicUnitEndRecord atomicUnitEndRecord = (OAtomicUnitEndRecord) walRecord;
+            final List<OWALRecord> atomicUnit = pendingOperations.remove(atomicUnitEndRecord.getOperationUnitId());
+
+            if (atomicUnit != null) {
+              atomicUnit.add(walRecord);
+              restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate);
+
+              final ORecordOperationMetadata recordOperationMetadata = (ORecordOperationMetadata) atomicUnitEndRecord
+                  .getAtomicOperationMetadata().get(ORecordOperationMetadata.RID_METADATA_KEY);
+              if (recordOperationMetadata != null)
+                changedRids.addAll(recordOperationMetadata.getValue());
+            }
+          } else if (walRecord instanceof OOperationUnitRecord) {
+            pendingOperations.computeIfAbsent(((OOperationUnitRecord) walRecord).getOperationUnitId(), k -> new ArrayList<>())
+                .add(walRecord);
+          }
+        }
+
+        if (!records.isEmpty() && writeAheadLog != null)
+          try {
+            // KEEP THE LOCAL WAL AHEAD OF THE LSN OF THE UPDATED PAGES, OR EVERY PAGE FLUSH WOULD FORCE A WAL FLUSH
+            writeAheadLog.moveLsnAfter(records.get(records.size() - 1).getLsn());
+          } catch (OStorageException e) {
+            OLogManager.instance().debug(this, "Cannot move the end of WAL after the applied records", e);
+          }
+
+        return changedRids;
+
+      } catch (IOException e) {
+        throw OException.wrapException(new OStorageException("Error on applying WAL records"), e);
+      } finally {
+        stateLock.releaseWriteLock();
+      }
+    } catch (RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Error ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (Throwable t) {
+      throw logAndPrepareForRethrow(t);
+    }
+  }
+
   @Override
   public long count(int[] iClusterIds, boolean countTombstones) {
     try {
@@ -3754,6 +3965,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         fuzzySegment = endLSN.getSegment();
       }
 
+      journalChangedRecords();
       writeCache.makeFuzzyCheckpoint(fuzzySegment);
 
     } catch (IOException ioe) {
@@ -3782,6 +3994,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
         writeAheadLog.logFullCheckpointEnd();
         writeAheadLog.flush();
 
+        journalChangedRecords();
         writeAheadLog.cutTill(lastLSN);
 
         clearStorageDirty();
@@ -4597,8 +4810,15 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       case ORecordOperation.UPDATED: {
         final byte[] stream = serializer.toStream(rec, false);
 
-        final OStorageOperationResult<Integer> updateRes = doUpdateRecord(rid, ORecordInternal.isContentChanged(rec), stream,
-            rec.getVersion(), ORecordInternal.getRecordType(rec), null, cluster);
+        // THE CONFLICT STRATEGY CAN MERGE THE TRACKED CHANGES OF THE RECORD
+        final OStorageOperationResult<Integer> updateRes;
+        ORecordSaveThreadLocal.setLast(rec);
+        try {
+          updateRes = doUpdateRecord(rid, ORecordInternal.isContentChanged(rec), stream, rec.getVersion(),
+              ORecordInternal.getRecordType(rec), null, cluster);
+        } finally {
+          ORecordSaveThreadLocal.removeLast();
+        }
         ORecordInternal.setVersion(rec, updateRes.getResult());
         if (updateRes.getModifiedRecordContent() != null)
           ORecordInternal.fill(rec, rid, updateRes.getResult(), updateRes.getModifiedRecordContent(), false);
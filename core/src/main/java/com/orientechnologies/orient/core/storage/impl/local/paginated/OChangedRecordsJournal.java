@@ -0,0 +1,267 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the ids of the records changed in each WAL segment after the segment is removed from the WAL, so the records changed
+ * after an LSN can be found also when the WAL has been truncated. A server that was offline for a long time can be aligned by
+ * sending the changed records only, instead of the whole database.
+ * <p>
+ * File format: <ol> <li>LSN from which the changes are tracked: segment and position - 16 bytes</li> <li>Last WAL segment covered
+ * by the journal - 8 bytes</li> <li>Length of the valid content of the file - 8 bytes</li> <li>One entry per WAL segment with
+ * changed records: the
+ * segment (8 bytes), the amount of records (4 bytes) and for each record the cluster id (4 bytes) and the cluster position (8
+ * bytes)</li> </ol> The header is updated only after the entry has been written, so a partially written entry is discarded on open.
+ * When the file grows over the maximum size, the oldest entries are removed.
+ *
+ * @see com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage#recordsChangedAfterLSN
+ */
+public class OChangedRecordsJournal {
+  public static final String EXTENSION = ".crj";
+
+  private static final int HEADER_SIZE       = 4 * 8;
+  private static final int ENTRY_HEADER_SIZE = 8 + 4;
+  private static final int RECORD_SIZE       = 4 + 8;
+
+  private final Path path;
+  private final long maxSize;
+
+  private FileChannel        channel;
+  private OLogSequenceNumber trackedFrom;
+  private long               lastSegment;
+  private long        length;
+
+  public OChangedRecordsJournal(final Path path, final long maxSize) {
+    this.path = path;
+    this.maxSize = maxSize;
+  }
+
+  public synchronized void open() throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+
+    if (channel.size() < HEADER_SIZE) {
+      trackedFrom = new OLogSequenceNumber(0, 0);
+      lastSegment = -1;
+      length = HEADER_SIZE;
+      writeHeader();
+    } else {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      OIOUtils.readByteBuffer(header, channel, 0, true);
+      header.flip();
+      trackedFrom = new OLogSequenceNumber(header.getLong(), header.getLong());
+      lastSegment = header.getLong();
+      length = header.getLong();
+
+      // DISCARD THE ENTRY WRITTEN PARTIALLY IF ANY
+      if (channel.size() > length)
+        channel.truncate(length);
+    }
+  }
+
+  public synchronized void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  public synchronized void delete() throws IOException {
+    close();
+    Files.deleteIfExists(path);
+  }
+
+  /**
+   * Returns the last WAL segment covered by the journal.
+   */
+  public synchronized long getLastSegment() {
+    return lastSegment;
+  }
+
+  /**
+   * Stores the records changed in a WAL segment. The segments must be appended in order: the segments skipped since the last one
+   * are considered without changes.
+   */
+  public synchronized void append(final long segment, final Collection<ORID> rids) throws IOException {
+    if (segment <= lastSegment)
+      throw new IllegalArgumentException(
+          "Cannot append the records of WAL segment " + segment + " to the journal, last segment is " + lastSegment);
+
+    if (!rids.isEmpty()) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream(ENTRY_HEADER_SIZE + rids.size() * RECORD_SIZE);
+      final DataOutputStream out = new DataOutputStream(bytes);
+      out.writeLong(segment);
+      out.writeInt(rids.size());
+      for (ORID rid : rids) {
+        out.writeInt(rid.getClusterId());
+        out.writeLong(rid.getClusterPosition());
+      }
+      out.flush();
+
+      OIOUtils.writeByteBuffer(ByteBuffer.wrap(bytes.toByteArray()), channel, length);
+      length += bytes.size();
+      channel.force(false);
+    }
+
+    lastSegment = segment;
+    writeHeader();
+
+    if (maxSize > 0 && length > maxSize)
+      removeOldestEntries();
+  }
+
+  /**
+   * Removes all the entries: the journal restarts tracking the changes from the passed LSN, the following changes of its segment
+   * have to be appended. It is needed when a gap in the stored segments cannot be filled, like when segments have been removed
+   * without storing their records, or when the changes cannot be represented by changed records, like the creation of a file.
+   */
+  public synchronized void reset(final OLogSequenceNumber lsn) throws IOException {
+    trackedFrom = lsn;
+    lastSegment = lsn.getSegment() - 1;
+    length = HEADER_SIZE;
+    channel.truncate(HEADER_SIZE);
+    writeHeader();
+  }
+
+  /**
+   * Collects the records changed after the passed LSN up to the last segment covered by the journal. The records changed in the
+   * segment of the LSN are collected also if they changed before it.
+   *
+   * @return false if the changes after the passed LSN are not tracked
+   */
+  public synchronized boolean collectChangedRecords(final OLogSequenceNumber lsn, final Collection<ORID> rids) throws IOException {
+    if (lsn.compareTo(trackedFrom) < 0)
+      return false;
+
+    for (Entry entry : readEntries())
+      if (entry.segment >= lsn.getSegment())
+        entry.addRecords(rids);
+
+    return true;
+  }
+
+  private void removeOldestEntries() throws IOException {
+    final List<Entry> entries = readEntries();
+
+    // KEEP THE NEWEST ENTRIES FILLING HALF OF THE MAXIMUM SIZE
+    long size = HEADER_SIZE;
+    int firstKept = entries.size();
+    while (firstKept > 0 && size + entries.get(firstKept - 1).content.length <= maxSize / 2) {
+      firstKept--;
+      size += entries.get(firstKept).content.length;
+    }
+
+    final OLogSequenceNumber newTrackedFrom =
+        firstKept > 0 ? new OLogSequenceNumber(entries.get(firstKept - 1).segment + 1, 0) : trackedFrom;
+
+    final Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+    try (FileChannel tmpChannel = FileChannel
+        .open(tmpPath, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      OIOUtils.writeByteBuffer(createHeader(newTrackedFrom, lastSegment, size), tmpChannel, 0);
+
+      long position = HEADER_SIZE;
+      for (int i = firstKept; i < entries.size(); i++) {
+        OIOUtils.writeByteBuffer(ByteBuffer.wrap(entries.get(i).content), tmpChannel, position);
+        position += entries.get(i).content.length;
+      }
+      tmpChannel.force(true);
+    }
+
+    channel.close();
+    Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    trackedFrom = newTrackedFrom;
+    length = size;
+  }
+
+  private List<Entry> readEntries() throws IOException {
+    final List<Entry> entries = new ArrayList<Entry>();
+
+    long position = HEADER_SIZE;
+    while (position < length) {
+      final ByteBuffer entryHeader = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+      OIOUtils.readByteBuffer(entryHeader, channel, position, true);
+      entryHeader.flip();
+      final long segment = entryHeader.getLong();
+      final int records = entryHeader.getInt();
+
+      final ByteBuffer content = ByteBuffer.allocate(ENTRY_HEADER_SIZE + records * RECORD_SIZE);
+      OIOUtils.readByteBuffer(content, channel, position, true);
+      entries.add(new Entry(segment, content.array()));
+
+      position += content.capacity();
+    }
+
+    return entries;
+  }
+
+  private void writeHeader() throws IOException {
+    OIOUtils.writeByteBuffer(createHeader(trackedFrom, lastSegment, length), channel, 0);
+    channel.force(false);
+  }
+
+  private static ByteBuffer createHeader(final OLogSequenceNumber trackedFrom, final long lastSegment, final long length) {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putLong(trackedFrom.getSegment());
+    header.putLong(trackedFrom.getPosition());
+    header.putLong(lastSegment);
+    header.putLong(length);
+    header.flip();
+    return header;
+  }
+
+  private static final class Entry {
+    private final long   segment;
+    private final byte[] content;
+
+    private Entry(final long segment, final byte[] content) {
+      this.segment = segment;
+      this.content = content;
+    }
+
+    private void addRecords(final Collection<ORID> rids) {
+      final ByteBuffer buffer = ByteBuffer.wrap(content, ENTRY_HEADER_SIZE, content.length - ENTRY_HEADER_SIZE);
+      while (buffer.hasRemaining()) {
+        final int clusterId = buffer.getInt();
+        final long clusterPosition = buffer.getLong();
+        rids.add(new ORecordId(clusterId, clusterPosition));
+      }
+    }
+  }
+}
@@ -365,6 +365,23 @@ public class OClusterPage extends ODurablePage {
     }
   }
 
+  public int getRecordIntValue(final int recordPosition, final int offset) {
+    assert isPositionInsideInterval(recordPosition);
+
+    final int entryIndexPosition = PAGE_INDEXES_OFFSET + recordPosition * INDEX_ITEM_SIZE;
+    final int entryPointer = getIntValue(entryIndexPosition);
+    final int entryPosition = entryPointer & POSITION_MASK;
+
+    if (offset >= 0) {
+      assert insideRecordBounds(entryPosition, offset, OIntegerSerializer.INT_SIZE);
+      return getIntValue(entryPosition + offset + 3 * OIntegerSerializer.INT_SIZE);
+    } else {
+      final int recordSize = getIntValue(entryPosition + 2 * OIntegerSerializer.INT_SIZE);
+      assert insideRecordBounds(entryPosition, recordSize + offset, OIntegerSerializer.INT_SIZE);
+      return getIntValue(entryPosition + 3 * OIntegerSerializer.INT_SIZE + recordSize + offset);
+    }
+  }
+
   public byte[] getRecordBinaryValue(final int recordPosition, final int offset, final int size) throws IOException {
     assert isPositionInsideInterval(recordPosition);
 
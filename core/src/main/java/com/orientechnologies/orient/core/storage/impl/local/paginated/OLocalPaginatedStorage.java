@@ -73,7 +73,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       OHashTableIndexEngine.TREE_FILE_EXTENSION, OHashTableIndexEngine.NULL_BUCKET_FILE_EXTENSION,
       OClusterPositionMap.DEF_EXTENSION, OSBTreeIndexEngine.DATA_FILE_EXTENSION, OWOWCache.NAME_ID_MAP_EXTENSION,
       OIndexRIDContainer.INDEX_FILE_EXTENSION, OSBTreeCollectionManagerShared.DEFAULT_EXTENSION,
-      OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION, O2QCache.CACHE_STATISTIC_FILE_EXTENSION };
+      OSBTreeIndexEngine.NULL_BUCKET_FILE_EXTENSION, O2QCache.CACHE_STATISTIC_FILE_EXTENSION, OChangedRecordsJournal.EXTENSION };
 
   private static final int ONE_KB = 1024;
 
@@ -201,7 +201,8 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
         final OutputStream bo = bufferSize > 0 ? new BufferedOutputStream(out, bufferSize) : out;
         try {
           return OZIPCompressionUtil.compressDirectory(getStoragePath().toString(), bo,
-              new String[] { ".wal", ".fl", O2QCache.CACHE_STATISTIC_FILE_EXTENSION }, iOutput, compressionLevel);
+              new String[] { ".wal", ".fl", O2QCache.CACHE_STATISTIC_FILE_EXTENSION, OChangedRecordsJournal.EXTENSION }, iOutput,
+              compressionLevel);
         } finally {
           if (bufferSize > 0) {
             bo.flush();
@@ -403,6 +404,14 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       dirtyFlag.clearDirty();
       dirtyFlag.close();
     }
+
+    if (changedRecordsJournal != null) {
+      if (onDelete)
+        changedRecordsJournal.delete();
+      else
+        changedRecordsJournal.close();
+      changedRecordsJournal = null;
+    }
   }
 
   @Override
@@ -484,6 +493,13 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
       diskWriteAheadLog.checkFreeSpace();
       writeAheadLog = diskWriteAheadLog;
       writeAheadLog.addFullCheckpointListener(this);
+
+      final int journalSize = contextConfiguration.getValueAsInteger(OGlobalConfiguration.STORAGE_CHANGED_RECORDS_JOURNAL_SIZE);
+      if (journalSize > 0 && contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL)) {
+        changedRecordsJournal = new OChangedRecordsJournal(storagePath.resolve(name + OChangedRecordsJournal.EXTENSION),
+            journalSize * 1024L * 1024L);
+        changedRecordsJournal.open();
+      }
     } else
       writeAheadLog = null;
 
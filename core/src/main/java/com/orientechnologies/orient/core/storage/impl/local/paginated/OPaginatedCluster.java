@@ -667,6 +667,9 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
             return null;
 
           int recordVersion = 0;
+          byte singlePageRecordType = 0;
+          byte[] singlePageContent = null;
+
           final OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, pageIndex, false, pageCount);
           try {
             final OClusterPage localPage = new OClusterPage(cacheEntry, false);
@@ -674,10 +677,28 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
               return null;
 
             recordVersion = localPage.getRecordVersion(recordPosition);
+
+            // RECORD FITS INSIDE A SINGLE PAGE: COPY THE CONTENT STRAIGHT FROM THE PAGE WITHOUT AN INTERMEDIATE ENTRY BUFFER
+            if (localPage.getRecordLongValue(recordPosition, -OLongSerializer.LONG_SIZE) < 0) {
+              if (localPage.getRecordByteValue(recordPosition, -OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE) == 0)
+                return null;
+
+              singlePageRecordType = localPage.getRecordByteValue(recordPosition, 0);
+              final int contentSize = localPage.getRecordIntValue(recordPosition, OByteSerializer.BYTE_SIZE);
+              singlePageContent = localPage
+                  .getRecordBinaryValue(recordPosition, OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE, contentSize);
+            }
           } finally {
             releasePageFromRead(atomicOperation, cacheEntry);
           }
 
+          if (singlePageContent != null) {
+            singlePageContent = encryption.decrypt(singlePageContent);
+            singlePageContent = compression.uncompress(singlePageContent);
+
+            return new ORawBuffer(singlePageContent, recordVersion, singlePageRecordType);
+          }
+
           final byte[] fullContent = readFullEntry(clusterPosition, pageIndex, recordPosition, atomicOperation, pageCount);
           if (fullContent == null)
             return null;
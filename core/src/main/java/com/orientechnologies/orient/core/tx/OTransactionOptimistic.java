@@ -494,6 +494,8 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
 
         // RESET TRACKING
         if (iRecord instanceof ODocument && ((ODocument) iRecord).isTrackingChanges()) {
+          if (iStatus == ORecordOperation.UPDATED)
+            addRidBagDeltas((ODocument) iRecord);
           ODocumentInternal.clearTrackData(((ODocument) iRecord));
         }
 
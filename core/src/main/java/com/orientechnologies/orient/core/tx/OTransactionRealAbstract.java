@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.tx;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBagDelta;
 import com.orientechnologies.orient.core.exception.OTransactionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
@@ -51,6 +52,12 @@ public abstract class OTransactionRealAbstract extends OTransactionAbstract {
   protected int                 newObjectCounter = -2;
   protected Map<String, Object> userData         = new HashMap<String, Object>();
 
+  /**
+   * Items added to and removed from the RidBags of the updated documents, that are merged with the concurrent updates by
+   * {@link com.orientechnologies.orient.core.conflict.ORidBagDeltaRecordConflictStrategy}.
+   */
+  protected final Map<ORID, Map<String, ORidBagDelta>> ridBagDeltas = new HashMap<ORID, Map<String, ORidBagDelta>>();
+
   /**
    * This set is used to track which documents are changed during tx, if documents are changed but not saved all changes are made
    * during tx will be undone.
@@ -103,6 +110,7 @@ public abstract class OTransactionRealAbstract extends OTransactionAbstract {
     allEntries.clear();
     indexEntries.clear();
     recordIndexOperations.clear();
+    ridBagDeltas.clear();
     newObjectCounter = -2;
     status = TXSTATUS.INVALID;
 
@@ -111,6 +119,24 @@ public abstract class OTransactionRealAbstract extends OTransactionAbstract {
     userData.clear();
   }
 
+  /**
+   * Keeps the changes of the RidBags of a document before its tracking data is reset.
+   */
+  public void addRidBagDeltas(final ODocument document) {
+    Map<String, ORidBagDelta> deltas = ridBagDeltas.get(document.getIdentity());
+    if (deltas == null) {
+      deltas = new HashMap<String, ORidBagDelta>();
+      ORidBagDelta.collect(document, deltas);
+      if (!deltas.isEmpty())
+        ridBagDeltas.put(document.getIdentity(), deltas);
+    } else
+      ORidBagDelta.collect(document, deltas);
+  }
+
+  public Map<String, ORidBagDelta> getRidBagDeltas(final ORID rid) {
+    return ridBagDeltas.get(rid);
+  }
+
   public int getId() {
     return id;
   }
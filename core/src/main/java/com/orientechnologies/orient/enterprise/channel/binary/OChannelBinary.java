@@ -22,6 +22,7 @@ package com.orientechnologies.orient.enterprise.channel.binary;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOException;
 import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.compression.OCompression;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.id.ORID;
@@ -45,6 +46,9 @@ public abstract class OChannelBinary extends OChannel implements OChannelDataInp
   private final   int              maxChunkSize;
   public          DataInputStream  in;
   public          DataOutputStream out;
+  private         DataInputStream  frameSourceIn;
+  private         DataOutputStream frameTargetOut;
+  private         OFrameBuffer     frameBuffer;
 
   public OChannelBinary(final Socket iSocket, final OContextConfiguration iConfig) throws IOException {
     super(iSocket, iConfig);
@@ -292,6 +296,110 @@ public abstract class OChannelBinary extends OChannel implements OChannelDataInp
     writeInt(version);
   }
 
+  /**
+   * Starts a response frame: all the following writes are buffered in memory until {@link #endFrame(OCompression)} is called.
+   */
+  public void beginFrame() {
+    if (frameBuffer != null)
+      throw new IllegalStateException("A frame is already open on channel " + socket.getRemoteSocketAddress());
+
+    frameTargetOut = out;
+    frameBuffer = new OFrameBuffer();
+    out = new DataOutputStream(frameBuffer);
+  }
+
+  /**
+   * Returns the amount of bytes buffered by the current frame, -1 if no frame is open.
+   */
+  public int getFrameSize() {
+    return frameBuffer != null ? frameBuffer.size() : -1;
+  }
+
+  /**
+   * Closes the current frame and writes it to the channel. The frame is written as a flag byte (1 if compressed), the content
+   * length and the content.
+   *
+   * @param compression compression to apply to the frame content, null to send it as is
+   *
+   * @return the size of the content actually written
+   */
+  public int endFrame(final OCompression compression) throws IOException {
+    if (frameBuffer == null)
+      throw new IllegalStateException("No frame is open on channel " + socket.getRemoteSocketAddress());
+
+    final OFrameBuffer buffer = frameBuffer;
+    out = frameTargetOut;
+    frameTargetOut = null;
+    frameBuffer = null;
+
+    final byte[] content;
+    if (compression != null)
+      content = compression.compress(buffer.getBuffer(), 0, buffer.size());
+    else
+      content = buffer.getBuffer();
+    final int length = compression != null ? content.length : buffer.size();
+
+    if (debug)
+      OLogManager.instance()
+          .info(this, "%s - Writing frame (compressed=%s, %d bytes, original %d bytes)", socket.getRemoteSocketAddress(),
+              compression != null, length, buffer.size());
+
+    out.writeByte(compression != null ? 1 : 0);
+    out.writeInt(length);
+    out.write(content, 0, length);
+    updateMetricTransmittedBytes(OBinaryProtocol.SIZE_BYTE + OBinaryProtocol.SIZE_INT + length);
+
+    return length;
+  }
+
+  /**
+   * Discards the content buffered by the current frame, if any, restoring the channel output.
+   */
+  public void discardFrame() {
+    if (frameBuffer != null) {
+      out = frameTargetOut;
+      frameTargetOut = null;
+      frameBuffer = null;
+    }
+  }
+
+  /**
+   * Reads a frame written by {@link #endFrame(OCompression)}: all the following reads are served by the frame content until
+   * {@link #endReadFrame()} is called.
+   *
+   * @param compression compression used to uncompress compressed frames
+   */
+  public void beginReadFrame(final OCompression compression) throws IOException {
+    endReadFrame();
+
+    final boolean compressed = in.readByte() == 1;
+    final int length = in.readInt();
+    byte[] content = new byte[length];
+    in.readFully(content);
+    updateMetricReceivedBytes(OBinaryProtocol.SIZE_BYTE + OBinaryProtocol.SIZE_INT + length);
+
+    if (compressed)
+      content = compression.uncompress(content);
+
+    if (debug)
+      OLogManager.instance()
+          .info(this, "%s - Read frame (compressed=%s, %d bytes, uncompressed %d bytes)", socket.getRemoteSocketAddress(),
+              compressed, length, content.length);
+
+    frameSourceIn = in;
+    in = new DataInputStream(new ByteArrayInputStream(content));
+  }
+
+  /**
+   * Ends the frame opened by {@link #beginReadFrame(OCompression)}, if any, restoring the channel input.
+   */
+  public void endReadFrame() {
+    if (frameSourceIn != null) {
+      in = frameSourceIn;
+      frameSourceIn = null;
+    }
+  }
+
   public void clearInput() throws IOException {
     if (in == null)
       return;
@@ -368,4 +476,10 @@ public abstract class OChannelBinary extends OChannel implements OChannelDataInp
     if (s != null)
       s.setSoTimeout(OGlobalConfiguration.NETWORK_REQUEST_TIMEOUT.getValueAsInteger());
   }
+
+  private static final class OFrameBuffer extends ByteArrayOutputStream {
+    private byte[] getBuffer() {
+      return buf;
+    }
+  }
 }
@@ -75,6 +75,8 @@ public class OChannelBinaryProtocol {
   public static final byte REQUEST_QUERY                             = 45;                 // since 3.0
   public static final byte REQUEST_CLOSE_QUERY                       = 46;                 // since 3.0
   public static final byte REQUEST_QUERY_NEXT_PAGE                   = 47;                 // since 3.0
+  public static final byte REQUEST_PREPARE_STATEMENT                 = 48;                 // since 3.0
+  public static final byte REQUEST_QUERY_PREPARED                    = 49;                 // since 3.0
 
   public static final byte REQUEST_TX_COMMIT   = 60;
   public static final byte REQUEST_TX_BEGIN    = 61;
@@ -114,6 +116,7 @@ public class OChannelBinaryProtocol {
   public static final byte DISTRIBUTED_REQUEST  = 120;
   public static final byte DISTRIBUTED_RESPONSE = 121;
   public static final byte DISTRIBUTED_CONNECT  = 122;
+  public static final byte DISTRIBUTED_MESSAGES = 123; // SINCE DISTRIBUTED PROTOCOL 2: BATCH OF REQUESTS AND RESPONSES
 
   // INCOMING
   public static final byte RESPONSE_STATUS_OK    = 0;
@@ -147,8 +150,11 @@ public class OChannelBinaryProtocol {
   public static final int PROTOCOL_VERSION_35 = 35;
   public static final int PROTOCOL_VERSION_36 = 36;                 //ABILITY TO CREATE DATABASE FROM INCREMENTAL BACKUP
   public static final int PROTOCOL_VERSION_37 = 37;
+  public static final int PROTOCOL_VERSION_38 = 38;                 // RESPONSE FRAMES COMPRESSION NEGOTIATED ON HANDSHAKE
+  public static final int PROTOCOL_VERSION_39 = 39;                 // SERVER SIDE PREPARED STATEMENTS
+  public static final int PROTOCOL_VERSION_40 = 40;                 // RECORD INVALIDATION PUSH FOR THE CLIENT NEAR CACHE
 
-  public static final int CURRENT_PROTOCOL_VERSION = PROTOCOL_VERSION_37;
+  public static final int CURRENT_PROTOCOL_VERSION = PROTOCOL_VERSION_40;
 
   //This are specific messages inside the subscribe message
   public static final byte SUBSCRIBE_PUSH_DISTRIB_CONFIG = 1;
@@ -156,11 +162,14 @@ public class OChannelBinaryProtocol {
   public static final byte SUBSCRIBE_PUSH_LIVE_QUERY   = 2;
   public static final byte UNSUBSCRIBE_PUSH_LIVE_QUERY = 2;
 
+  public static final byte SUBSCRIBE_PUSH_RECORD_INVALIDATION = 3;   // SINCE 3.0
+
 
   //Used by the client to identify what data was pushed
   public static final byte REQUEST_PUSH_DISTRIB_CONFIG = 80;
   public static final byte REQUEST_PUSH_LIVE_QUERY     = 81;                 // SINCE 2.1
   public static final byte REQUEST_PUSH_STORAGE_CONFIG = 82;
+  public static final byte REQUEST_PUSH_RECORD_INVALIDATION = 83;      // SINCE 3.0
 
   // Default encoding, in future will be possible to have other encodings
   public static final byte ENCODING_DEFAULT     = 0;
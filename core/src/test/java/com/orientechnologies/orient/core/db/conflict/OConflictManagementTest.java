@@ -21,9 +21,14 @@
 package com.orientechnologies.orient.core.db.conflict;
 
 import com.orientechnologies.DatabaseAbstractTest;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
 import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import org.junit.Assert;
 import org.junit.Test;
@@ -120,4 +125,94 @@ public class OConflictManagementTest extends DatabaseAbstractTest {
     Assert.assertTrue(rels.contains(linkedDoc2));
     Assert.assertTrue(rels.contains(linkedDoc3));
   }
+
+  @Test
+  public void testRidBagDeltaStrategy() {
+    database.setConflictStrategy("ridbagdelta");
+    database.createEdgeClass("Link");
+    final OVertex hub = database.newVertex();
+    hub.setProperty("name", "hub");
+    hub.save();
+    database.newEdge(database.newVertex().save(), hub, "Link").save();
+
+    final OEdge[] edges = addConcurrentEdges(hub);
+
+    final ODocument reloaded = database.load(hub.getIdentity(), null, true);
+    final ORidBag bag = reloaded.field("in_Link");
+    Assert.assertTrue(bag.isEmbedded());
+    Assert.assertEquals(3, bag.size());
+    Assert.assertTrue(bag.contains(edges[0]));
+    Assert.assertTrue(bag.contains(edges[1]));
+  }
+
+  @Test
+  public void testRidBagDeltaStrategyOnSBTree() {
+    final int threshold = OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValueAsInteger();
+    OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(-1);
+    try {
+      database.setConflictStrategy("ridbagdelta");
+      database.createEdgeClass("Link");
+      final OVertex hub = database.newVertex();
+      hub.setProperty("name", "hub");
+      hub.save();
+      database.newEdge(database.newVertex().save(), hub, "Link").save();
+
+      final OEdge[] edges = addConcurrentEdges(hub);
+
+      final ODocument reloaded = database.load(hub.getIdentity(), null, true);
+      final ORidBag bag = reloaded.field("in_Link");
+      Assert.assertFalse(bag.isEmbedded());
+      Assert.assertEquals(3, bag.size());
+      Assert.assertTrue(bag.contains(edges[0]));
+      Assert.assertTrue(bag.contains(edges[1]));
+    } finally {
+      OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(threshold);
+    }
+  }
+
+  @Test
+  public void testRidBagDeltaStrategyWithChangedField() {
+    database.setConflictStrategy("ridbagdelta");
+    ODocument rootDoc = new ODocument().field("name", "Jay").save();
+
+    ODocument copy = rootDoc.copy();
+
+    rootDoc.field("name", "Jay1");
+    rootDoc.save();
+
+    copy.field("name", "Jay2");
+    try {
+      copy.save();
+      Assert.assertTrue(false);
+    } catch (OConcurrentModificationException e) {
+    }
+  }
+
+  /**
+   * Adds an edge to the hub in a transaction, while another transaction adds another edge to the same hub.
+   */
+  private OEdge[] addConcurrentEdges(final OVertex hub) {
+    final OEdge[] edges = new OEdge[2];
+
+    database.begin();
+    final OVertex first = ((ODocument) database.load(hub.getIdentity(), null, true)).asVertex().get();
+    edges[0] = database.newEdge(database.newVertex(), first, "Link");
+    edges[0].save();
+
+    final ODatabaseDocumentTx other = new ODatabaseDocumentTx(database.getURL());
+    other.open("admin", "admin");
+    try {
+      other.begin();
+      final OVertex second = ((ODocument) other.load(hub.getIdentity(), null, true)).asVertex().get();
+      edges[1] = other.newEdge(other.newVertex(), second, "Link");
+      edges[1].save();
+      other.commit();
+    } finally {
+      other.close();
+    }
+
+    database.activateOnCurrentThread();
+    database.commit();
+    return edges;
+  }
 }
@@ -0,0 +1,130 @@
+package com.orientechnologies.orient.core.db.graph;
+
+import com.orientechnologies.orient.core.cache.OAdjacencyCache;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.record.OVertex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestAdjacencyCache {
+
+  private OrientDB          orientDB;
+  private ODatabaseDocument database;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:",
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.GRAPH_ADJACENCY_CACHE_SIZE, 100).build());
+    orientDB.createIfNotExists("test", ODatabaseType.MEMORY);
+    database = orientDB.open("test", "admin", "admin");
+  }
+
+  @After
+  public void after() {
+    database.close();
+    orientDB.drop("test");
+    orientDB.close();
+  }
+
+  @Test
+  public void testNeighboursFromCache() {
+    final OAdjacencyCache cache = ((ODatabaseDocumentInternal) database).getSharedContext().getAdjacencyCache();
+    assertTrue(cache.isEnabled());
+
+    final OVertex vertex = database.newVertex("V");
+    final OVertex vertex1 = database.newVertex("V");
+    final OVertex vertex2 = database.newVertex("V");
+    final OEdge edge1 = vertex.addEdge(vertex1, "E");
+    database.save(edge1);
+    final OEdge edge2 = vertex.addEdge(vertex2, "E");
+    database.save(edge2);
+
+    // THE EDGES ARE CACHED ON THE FIRST TRAVERSAL
+    final OVertex loaded = loadVertex(vertex);
+    assertEquals(toSet(vertex1, vertex2), toSet(loaded.getVertices(ODirection.OUT)));
+    assertEquals(vertex1.getIdentity(), cache.getVertex(edge1.getIdentity(), ODirection.OUT));
+    assertEquals(vertex.getIdentity(), cache.getVertex(edge2.getIdentity(), ODirection.IN));
+
+    assertEquals(toSet(vertex1, vertex2), toSet(loaded.getVertices(ODirection.OUT)));
+    assertEquals(toSet(vertex), toSet(loadVertex(vertex2).getVertices(ODirection.IN)));
+
+    database.delete(edge1);
+    assertNull(cache.getVertex(edge1.getIdentity(), ODirection.OUT));
+    assertEquals(toSet(vertex2), toSet(loadVertex(vertex).getVertices(ODirection.OUT, "E")));
+
+    // UPDATED EDGES ARE CACHED AGAIN WHEN TRAVERSED
+    edge2.setProperty("weight", 10);
+    database.save(edge2);
+    assertNull(cache.getVertex(edge2.getIdentity(), ODirection.OUT));
+    assertEquals(toSet(vertex2), toSet(loadVertex(vertex).getVertices(ODirection.OUT)));
+    assertEquals(vertex2.getIdentity(), cache.getVertex(edge2.getIdentity(), ODirection.OUT));
+  }
+
+  @Test
+  public void testStaleEdgeNotCached() {
+    final OAdjacencyCache cache = new OAdjacencyCache(100);
+    final ORecordId edge = new ORecordId(10, 1);
+    final ORecordId out = new ORecordId(9, 1);
+    final ORecordId in = new ORecordId(9, 2);
+
+    // THE EDGE IS UPDATED AFTER A READER LOADED IT AND BEFORE THE READER PUTS IT
+    final long stamp = cache.getStamp(edge);
+    cache.invalidate(edge);
+    cache.put(edge, out, in, stamp);
+    assertNull(cache.getVertex(edge, ODirection.OUT));
+
+    cache.put(edge, out, in, cache.getStamp(edge));
+    assertEquals(in, cache.getVertex(edge, ODirection.OUT));
+    assertEquals(out, cache.getVertex(edge, ODirection.IN));
+  }
+
+  @Test
+  public void testDisable() {
+    final OAdjacencyCache cache = new OAdjacencyCache(100);
+    final ORecordId edge = new ORecordId(10, 1);
+    cache.put(edge, new ORecordId(9, 1), new ORecordId(9, 2), cache.getStamp(edge));
+    assertEquals(1, cache.size());
+
+    cache.disable();
+    assertFalse(cache.isEnabled());
+    assertEquals(0, cache.size());
+    cache.put(edge, new ORecordId(9, 1), new ORecordId(9, 2), cache.getStamp(edge));
+    assertNull(cache.getVertex(edge, ODirection.OUT));
+  }
+
+  private OVertex loadVertex(final OVertex vertex) {
+    return ((OElement) database.load(vertex.getIdentity())).asVertex().get();
+  }
+
+  private static Set<Object> toSet(final Object... vertices) {
+    final Set<Object> result = new HashSet<Object>();
+    for (Object v : vertices)
+      result.add(((OVertex) v).getIdentity());
+    return result;
+  }
+
+  private static Set<Object> toSet(final Iterable<OVertex> vertices) {
+    final Set<Object> result = new HashSet<Object>();
+    for (OVertex v : vertices)
+      result.add(v.getIdentity());
+    return result;
+  }
+}
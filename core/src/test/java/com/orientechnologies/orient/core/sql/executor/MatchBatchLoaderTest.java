@@ -0,0 +1,122 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.parser.OMatchStatement;
+import com.orientechnologies.orient.core.sql.parser.OrientSql;
+import com.orientechnologies.orient.core.sql.parser.Pattern;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class MatchBatchLoaderTest {
+  private OrientDB          orientDB;
+  private ODatabaseDocument db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.builder().addConfig(OGlobalConfiguration.QUERY_MATCH_BATCH_SIZE, 7).build());
+    orientDB.createIfNotExists("MatchBatchLoaderTest", ODatabaseType.MEMORY);
+    db = orientDB.open("MatchBatchLoaderTest", "admin", "admin");
+
+    db.createVertexClass("Person");
+    db.createEdgeClass("Knows");
+    db.createEdgeClass("Likes");
+
+    final List<OVertex> people = new ArrayList<OVertex>();
+    for (int i = 0; i < 30; i++) {
+      final OVertex person = db.newVertex("Person");
+      person.setProperty("num", i);
+      person.save();
+      people.add(person);
+    }
+    for (int i = 0; i < 30; i++) {
+      db.newEdge(people.get(i), people.get((i + 1) % 30), "Knows").save();
+      db.newEdge(people.get(i), people.get((i + 7) % 30), "Knows").save();
+      db.newEdge(people.get(i), people.get((i + 3) % 30), "Likes").save();
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop("MatchBatchLoaderTest");
+    orientDB.close();
+  }
+
+  @Test
+  public void testMatchWithBatches() {
+    final Set<String> result = new HashSet<String>();
+    final OResultSet rs = db.query(
+        "match {class: Person, as: a}.out('Knows'){as: b}.in('Likes'){as: c, where: (num < 10)} return a.num as a, b.num as b, c.num as c");
+    while (rs.hasNext()) {
+      final OResult item = rs.next();
+      result.add(item.getProperty("a") + "-" + item.getProperty("b") + "-" + item.getProperty("c"));
+    }
+    rs.close();
+
+    final Set<String> expected = new HashSet<String>();
+    for (int a = 0; a < 30; a++) {
+      for (int b : new int[] { (a + 1) % 30, (a + 7) % 30 }) {
+        final int c = (b + 27) % 30;
+        if (c < 10)
+          expected.add(a + "-" + b + "-" + c);
+      }
+    }
+    Assert.assertEquals(expected, result);
+  }
+
+  @Test
+  public void testLoadNeighbours() {
+    final OMatchStatement stm = (OMatchStatement) parse("match {class: Person, as: a}.out('Knows'){as: b} return a, b");
+    final Pattern pattern = new Pattern();
+    pattern.addExpression(stm.getMatchExpressions().get(0));
+    final PatternEdge patternEdge = pattern.get("a").out.iterator().next();
+
+    final List<OResult> upstream = new ArrayList<OResult>();
+    for (OResult person : toList(db.query("select from Person where num < 2"))) {
+      final OResultInternal item = new OResultInternal();
+      item.setProperty("a", person);
+      upstream.add(item);
+    }
+
+    final OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(db);
+    final List<ORecord> loaded = new MatchBatchLoader(new EdgeTraversal(patternEdge, true), 100, ctx).load(upstream);
+
+    // 2 PERSONS, 4 EDGES AND 4 NEIGHBOURS
+    Assert.assertEquals(10, loaded.size());
+
+    final List<ORecord> limited = new MatchBatchLoader(new EdgeTraversal(patternEdge, true), 5, ctx).load(upstream);
+    Assert.assertEquals(5, limited.size());
+  }
+
+  private static List<OResult> toList(final OResultSet rs) {
+    final List<OResult> result = new ArrayList<OResult>();
+    while (rs.hasNext())
+      result.add(rs.next());
+    rs.close();
+    return result;
+  }
+
+  private static Object parse(final String query) {
+    try {
+      return new OrientSql(new ByteArrayInputStream(query.getBytes())).parse();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.parser.OMatchStatement;
+import com.orientechnologies.orient.core.sql.parser.OrientSql;
+import com.orientechnologies.orient.core.sql.parser.Pattern;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class MatchEdgeIndexScanTest {
+  private OrientDB          orientDB;
+  private ODatabaseDocument db;
+  private OVertex           celebrity;
+  private OVertex           fan;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.builder().addConfig(OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD, 10).build());
+    orientDB.createIfNotExists("MatchEdgeIndexScanTest", ODatabaseType.MEMORY);
+    db = orientDB.open("MatchEdgeIndexScanTest", "admin", "admin");
+
+    db.createVertexClass("Account");
+    final OClass rated = db.createEdgeClass("Rated");
+    rated.createProperty("out", OType.LINK);
+    rated.createProperty("since", OType.INTEGER);
+    rated.createIndex("Rated.out_since", OClass.INDEX_TYPE.NOTUNIQUE, "out", "since");
+
+    celebrity = db.newVertex("Account");
+    celebrity.setProperty("name", "celebrity");
+    celebrity.save();
+    fan = db.newVertex("Account");
+    fan.setProperty("name", "fan");
+    fan.save();
+    for (int i = 0; i < 50; i++) {
+      final OEdge edge = db.newEdge(celebrity, fan, "Rated");
+      edge.setProperty("since", i);
+      edge.save();
+    }
+    for (int i = 0; i < 5; i++) {
+      final OEdge edge = db.newEdge(fan, celebrity, "Rated");
+      edge.setProperty("since", i * 10);
+      edge.save();
+    }
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop("MatchEdgeIndexScanTest");
+    orientDB.close();
+  }
+
+  @Test
+  public void testScan() {
+    final OMatchStatement stm = (OMatchStatement) parse(
+        "match {class: Account, as: a}.outE('Rated'){as: r, where: (since >= 40 and since < 45)} return a, r");
+    final Pattern pattern = new Pattern();
+    pattern.addExpression(stm.getMatchExpressions().get(0));
+    final PatternEdge patternEdge = pattern.get("a").out.iterator().next();
+
+    final OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(db);
+    final MatchEdgeIndexScan scan = new MatchEdgeIndexScan(patternEdge.item.getMethod(), patternEdge.item.getFilter().getFilter(), ctx);
+
+    final List<OIdentifiable> edges = scan.scan(celebrity);
+    Assert.assertEquals(5, edges.size());
+    for (OIdentifiable edge : edges) {
+      final int since = ((ODocument) edge.getRecord()).field("since");
+      Assert.assertTrue(since >= 40 && since < 45);
+    }
+
+    // NOT A SUPERNODE
+    Assert.assertNull(scan.scan(fan));
+  }
+
+  @Test
+  public void testMatch() {
+    final Set<String> result = new HashSet<String>();
+    final OResultSet rs = db.query(
+        "match {class: Account, as: a}.outE('Rated'){as: r, where: (since > 25 and since <= 30)} return a.name as name, r.since as since");
+    while (rs.hasNext()) {
+      final OResult item = rs.next();
+      result.add(item.getProperty("name") + "-" + item.getProperty("since"));
+    }
+    rs.close();
+
+    final Set<String> expected = new HashSet<String>();
+    for (int i = 26; i <= 30; i++)
+      expected.add("celebrity-" + i);
+    expected.add("fan-30");
+    Assert.assertEquals(expected, result);
+  }
+
+  private static Object parse(final String query) {
+    try {
+      return new OrientSql(new ByteArrayInputStream(query.getBytes())).parse();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class OClassStatisticsTest {
+  private static ODatabaseDocument db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OClassStatisticsTest");
+    db.create();
+    db.getConfiguration().setValue(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE, 1000);
+    db.command(new OCommandSQL("create class Hub extends V")).execute();
+    db.command(new OCommandSQL("create class Leaf extends V")).execute();
+    db.command(new OCommandSQL("create class Link extends E")).execute();
+
+    final OVertex[] hubs = new OVertex[10];
+    for (int i = 0; i < hubs.length; i++) {
+      hubs[i] = db.newVertex("Hub");
+      hubs[i].setProperty("name", "hub" + i);
+      hubs[i].save();
+    }
+    for (int i = 0; i < 1000; i++) {
+      final OVertex leaf = db.newVertex("Leaf");
+      leaf.setProperty("num", i);
+      leaf.setProperty("type", i < 990 ? "a" : "b");
+      leaf.save();
+      leaf.addEdge(hubs[i % hubs.length], "Link").save();
+    }
+
+    final OQueryStats queryStats = OQueryStats.get((ODatabaseDocumentInternal) db);
+    queryStats.collectClassStatistics((ODatabaseDocumentInternal) db, "Hub");
+    queryStats.collectClassStatistics((ODatabaseDocumentInternal) db, "Leaf");
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.drop();
+  }
+
+  @Test
+  public void testDegrees() {
+    final OClassStatistics hub = OQueryStats.get((ODatabaseDocumentInternal) db)
+        .getClassStatistics((ODatabaseDocumentInternal) db, "Hub");
+    Assert.assertEquals(10, hub.getCount());
+    Assert.assertEquals(100, hub.getDegree("Link", ODirection.IN).getAverage(), 0.001);
+    Assert.assertEquals(100, hub.getDegree("Link", ODirection.IN).getP99());
+    Assert.assertNull(hub.getDegree("Link", ODirection.OUT));
+    Assert.assertEquals(100, hub.getAverageDegree(null, ODirection.BOTH), 0.001);
+    Assert.assertEquals(0, hub.getAverageDegree(Collections.singleton("Other"), ODirection.BOTH), 0.001);
+
+    final OClassStatistics leaf = OQueryStats.get((ODatabaseDocumentInternal) db)
+        .getClassStatistics((ODatabaseDocumentInternal) db, "Leaf");
+    Assert.assertEquals(1, leaf.getDegree("Link", ODirection.OUT).getAverage(), 0.001);
+    Assert.assertEquals(1, leaf.getDegree("Link", ODirection.OUT).getMax());
+  }
+
+  @Test
+  public void testSelectivity() {
+    final OClassStatistics leaf = OQueryStats.get((ODatabaseDocumentInternal) db)
+        .getClassStatistics((ODatabaseDocumentInternal) db, "Leaf");
+
+    final OClassStatistics.PropertyStatistics type = leaf.getProperty("type");
+    Assert.assertEquals(2, type.getDistinctValues());
+    Assert.assertEquals(0.99, type.getEqualsSelectivity("a"), 0.001);
+    Assert.assertEquals(0.01, type.getEqualsSelectivity("b"), 0.001);
+
+    final OClassStatistics.PropertyStatistics num = leaf.getProperty("num");
+    Assert.assertEquals(1000, num.getDistinctValues());
+    Assert.assertEquals(0.001, num.getEqualsSelectivity(5), 0.0001);
+    Assert.assertEquals(0.1, num.getRangeSelectivity(100, true), 0.06);
+    Assert.assertEquals(0.9, num.getRangeSelectivity(100, false), 0.06);
+    Assert.assertEquals(1, num.getRangeSelectivity(5000, true), 0.001);
+  }
+
+  @Test
+  public void testSampleSpreadAcrossClusters() {
+    db.command(new OCommandSQL("create class Spread clusters 4")).execute();
+    for (int i = 0; i < 1000; i++)
+      db.save(new ODocument("Spread").field("num", i));
+
+    db.getConfiguration().setValue(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE, 100);
+    try {
+      final OClassStatistics spread = OQueryStats.get((ODatabaseDocumentInternal) db)
+          .collectClassStatistics((ODatabaseDocumentInternal) db, "Spread");
+      Assert.assertEquals(1000, spread.getCount());
+      Assert.assertEquals(100, spread.getSampled());
+
+      // THE FIRST RECORDS OF A CLUSTER WOULD ALL BE LOWER THAN 100
+      final Object[] bounds = spread.getProperty("num").getBucketBounds();
+      Assert.assertTrue((Integer) bounds[0] < 10);
+      Assert.assertTrue((Integer) bounds[bounds.length - 1] > 900);
+      Assert.assertEquals(0.5, spread.getProperty("num").getRangeSelectivity(500, true), 0.1);
+    } finally {
+      db.getConfiguration().setValue(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE, 1000);
+    }
+  }
+
+  @Test
+  public void testCollectedInBackground() throws InterruptedException {
+    db.command(new OCommandSQL("create class Background")).execute();
+    for (int i = 0; i < 10; i++)
+      db.save(new ODocument("Background").field("num", i));
+
+    final OQueryStats queryStats = OQueryStats.get((ODatabaseDocumentInternal) db);
+    // THE PLANNER DOES NOT WAIT FOR THE STATISTICS
+    Assert.assertNull(queryStats.getClassStatistics((ODatabaseDocumentInternal) db, "Background"));
+
+    OClassStatistics background = null;
+    for (int i = 0; i < 100 && background == null; i++) {
+      Thread.sleep(50);
+      background = queryStats.getClassStatistics((ODatabaseDocumentInternal) db, "Background");
+    }
+    Assert.assertNotNull(background);
+    Assert.assertEquals(10, background.getSampled());
+  }
+
+  @Test
+  public void testMatchStartsFromSelectiveAlias() {
+    // WITHOUT STATISTICS THE MATCH WOULD START FROM THE HUBS, THAT ARE LESS THAN THE LEAVES
+    final OResultSet result = db
+        .query("match {class: Leaf, as: l, where: (num = 5)}.out('Link'){class: Hub, as: h} return l.num as num, h.name as name");
+    Assert.assertTrue(result.hasNext());
+    final OResult item = result.next();
+    Assert.assertEquals(5, (int) item.getProperty("num"));
+    Assert.assertEquals("hub5", item.getProperty("name"));
+    Assert.assertFalse(result.hasNext());
+
+    final List<OExecutionStep> steps = result.getExecutionPlan().get().getSteps();
+    MatchFirstStep first = null;
+    MatchStep match = null;
+    for (OExecutionStep step : steps) {
+      if (step instanceof MatchFirstStep)
+        first = (MatchFirstStep) step;
+      else if (step instanceof MatchStep)
+        match = (MatchStep) step;
+    }
+    Assert.assertTrue(first.prettyPrint(0, 2).startsWith("+ SET \n   l (estimated rows: 1)"));
+    Assert.assertTrue(match.prettyPrint(0, 2).contains("(estimated fanout: 1.00, rows: 1)"));
+    result.close();
+  }
+}
@@ -0,0 +1,103 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import com.orientechnologies.orient.core.sql.parser.OrientSql;
+import com.orientechnologies.orient.core.sql.parser.ParseException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OSelectExecutionPlannerTest {
+
+  @Test
+  public void shouldPushDownProjectionsAndTopN() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectExecutionPlanner planner = createPlanner("select name from Foo order by name skip 5 limit 10", ctx, 2);
+
+    planner.handleShardedPushDown(planner.info, ctx, false);
+
+    Assert.assertTrue(planner.info.projectionsCalculated);
+    for (OSelectExecutionPlan shardedPlan : planner.info.distributedFetchExecutionPlans.values()) {
+      List<OExecutionStep> steps = shardedPlan.getSteps();
+      Assert.assertEquals(2, steps.size());
+      Assert.assertTrue(steps.get(0) instanceof ProjectionCalculationStep);
+      Assert.assertTrue(steps.get(1) instanceof OrderByStep);
+      Assert.assertTrue(steps.get(1).toString(), ((OrderByStep) steps.get(1)).prettyPrint(0, 2).contains("buffer size: 15"));
+    }
+    // the coordinator still applies ORDER BY, SKIP and LIMIT to the merged results
+    Assert.assertNotNull(planner.info.orderBy);
+    Assert.assertNotNull(planner.info.limit);
+  }
+
+  @Test
+  public void shouldPushDownLimitWithoutOrderBy() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectExecutionPlanner planner = createPlanner("select name from Foo limit 3", ctx, 3);
+
+    planner.handleShardedPushDown(planner.info, ctx, false);
+
+    for (OSelectExecutionPlan shardedPlan : planner.info.distributedFetchExecutionPlans.values()) {
+      List<OExecutionStep> steps = shardedPlan.getSteps();
+      Assert.assertEquals(2, steps.size());
+      Assert.assertTrue(steps.get(0) instanceof ProjectionCalculationStep);
+      Assert.assertTrue(steps.get(1) instanceof LimitExecutionStep);
+      Assert.assertTrue(((LimitExecutionStep) steps.get(1)).prettyPrint(0, 2).contains("LIMIT 3"));
+    }
+  }
+
+  @Test
+  public void shouldNotPushDownLimitWithDistinct() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectExecutionPlanner planner = createPlanner("select distinct name from Foo limit 3", ctx, 2);
+
+    planner.handleShardedPushDown(planner.info, ctx, false);
+
+    for (OSelectExecutionPlan shardedPlan : planner.info.distributedFetchExecutionPlans.values()) {
+      List<OExecutionStep> steps = shardedPlan.getSteps();
+      Assert.assertEquals(1, steps.size());
+      Assert.assertTrue(steps.get(0) instanceof ProjectionCalculationStep);
+    }
+  }
+
+  @Test
+  public void shouldNotPushDownOnASingleNode() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectExecutionPlanner planner = createPlanner("select name from Foo order by name limit 10", ctx, 1);
+
+    planner.handleShardedPushDown(planner.info, ctx, false);
+
+    Assert.assertFalse(planner.info.projectionsCalculated);
+    Assert.assertTrue(planner.info.distributedFetchExecutionPlans.values().iterator().next().getSteps().isEmpty());
+  }
+
+  @Test
+  public void shouldNotPushDownExpand() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectExecutionPlanner planner = createPlanner("select expand(out()) from Foo limit 10", ctx, 2);
+    planner.info.expand = true;
+
+    planner.handleShardedPushDown(planner.info, ctx, false);
+
+    Assert.assertFalse(planner.info.projectionsCalculated);
+    for (OSelectExecutionPlan shardedPlan : planner.info.distributedFetchExecutionPlans.values()) {
+      Assert.assertTrue(shardedPlan.getSteps().isEmpty());
+    }
+  }
+
+  private OSelectExecutionPlanner createPlanner(String query, OCommandContext ctx, int nodes) throws ParseException {
+    OSelectStatement statement = (OSelectStatement) new OrientSql(new ByteArrayInputStream(query.getBytes())).parse();
+    OSelectExecutionPlanner planner = new OSelectExecutionPlanner(statement);
+    Map<String, OSelectExecutionPlan> shardedPlans = new LinkedHashMap<>();
+    for (int i = 0; i < nodes; i++) {
+      shardedPlans.put("node" + i, new OSelectExecutionPlan(ctx));
+    }
+    planner.info.distributedFetchExecutionPlans = shardedPlans;
+    return planner;
+  }
+}
@@ -0,0 +1,202 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import com.orientechnologies.orient.core.sql.parser.OrientSql;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class ParallelBreadthFirstTraverseStepTest {
+  private static final int CHILDREN      = 600;
+  private static final int GRANDCHILDREN = 500;
+
+  private static final Set<String> threads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+  /**
+   * Sets the variable "owner" of the context to the name of the current thread and records the threads that called it.
+   */
+  private static class SetOwnerFunction extends OSQLFunctionAbstract {
+    private SetOwnerFunction() {
+      super("testSetOwner", 0, 0);
+    }
+
+    @Override
+    public Object execute(Object iThis, OIdentifiable iCurrentRecord, Object iCurrentResult, Object[] iParams,
+        OCommandContext iContext) {
+      threads.add(Thread.currentThread().getName());
+      iContext.setVariable("owner", Thread.currentThread().getName());
+      return true;
+    }
+
+    @Override
+    public String getSyntax() {
+      return "testSetOwner()";
+    }
+  }
+
+  private OrientDB          orientDB;
+  private ODatabaseDocument db;
+  private OVertex           root;
+  private OVertex           orphan;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:",
+        OrientDBConfig.builder().addConfig(OGlobalConfiguration.QUERY_TRAVERSE_PARALLELISM, 4).build());
+    orientDB.createIfNotExists("ParallelBreadthFirstTraverseStepTest", ODatabaseType.MEMORY);
+    db = orientDB.open("ParallelBreadthFirstTraverseStepTest", "admin", "admin");
+
+    db.createVertexClass("Node");
+    db.createEdgeClass("Child");
+
+    root = db.newVertex("Node");
+    root.save();
+    orphan = db.newVertex("Node");
+    orphan.save();
+    final List<OVertex> grandChildren = new ArrayList<OVertex>();
+    for (int i = 0; i < GRANDCHILDREN; i++) {
+      final OVertex grandChild = db.newVertex("Node");
+      grandChild.save();
+      grandChildren.add(grandChild);
+    }
+    for (int i = 0; i < CHILDREN; i++) {
+      final OVertex child = db.newVertex("Node");
+      child.save();
+      db.newEdge(root, child, "Child").save();
+      // EVERY GRANDCHILD IS REACHED FROM MORE CHILDREN
+      db.newEdge(child, grandChildren.get(i % GRANDCHILDREN), "Child").save();
+      db.newEdge(child, grandChildren.get((i + 1) % GRANDCHILDREN), "Child").save();
+    }
+  }
+
+  @After
+  public void after() {
+    OSQLEngine.getInstance().unregisterFunction("testSetOwner");
+    threads.clear();
+    db.close();
+    orientDB.drop("ParallelBreadthFirstTraverseStepTest");
+    orientDB.close();
+  }
+
+  @Test
+  public void testTraverse() {
+    final OResultSet result = db.query("traverse out() from " + root.getIdentity() + " strategy breadth_first");
+    Assert.assertTrue(result.getExecutionPlan().get().prettyPrint(0, 2).contains("PARALLEL BREADTH-FIRST TRAVERSE"));
+
+    final int[] depths = countByDepth(result);
+    Assert.assertEquals(1, depths[0]);
+    Assert.assertEquals(CHILDREN, depths[1]);
+    Assert.assertEquals(GRANDCHILDREN, depths[2]);
+  }
+
+  @Test
+  public void testWhileAndMaxDepth() {
+    int[] depths = countByDepth(
+        db.query("traverse out() from " + root.getIdentity() + " while $depth < 2 strategy breadth_first"));
+    Assert.assertEquals(1, depths[0]);
+    Assert.assertEquals(CHILDREN, depths[1]);
+    Assert.assertEquals(0, depths[2]);
+
+    depths = countByDepth(db.query("traverse out() from " + root.getIdentity() + " maxdepth 1 strategy breadth_first"));
+    Assert.assertEquals(1, depths[0]);
+    Assert.assertEquals(CHILDREN, depths[1]);
+    Assert.assertEquals(0, depths[2]);
+  }
+
+  @Test
+  public void testLimit() {
+    final int[] depths = countByDepth(
+        db.query("traverse out() from " + root.getIdentity() + " limit 10 strategy breadth_first"));
+    Assert.assertEquals(1, depths[0]);
+    Assert.assertEquals(9, depths[1]);
+  }
+
+  @Test
+  public void testInTransaction() {
+    db.begin();
+    final OVertex child = root.getVertices(ODirection.OUT).iterator().next();
+    db.newEdge(child, orphan, "Child").save();
+
+    final int[] depths = countByDepth(db.query("traverse out() from " + root.getIdentity() + " strategy breadth_first"));
+    Assert.assertEquals(CHILDREN, depths[1]);
+    Assert.assertEquals(GRANDCHILDREN + 1, depths[2]);
+    db.rollback();
+  }
+
+  @Test
+  public void testTasksDoNotChangeTheContext() throws Exception {
+    OSQLEngine.getInstance().registerFunction("testSetOwner", new SetOwnerFunction());
+    final OStatement statement = new OrientSql(new ByteArrayInputStream(
+        ("traverse out() from " + root.getIdentity() + " while testSetOwner() = true strategy breadth_first").getBytes())).parse();
+    final OBasicCommandContext parentCtx = new OBasicCommandContext();
+    parentCtx.setVariable("owner", "none");
+
+    final int[] depths = countByDepth(statement.execute(db, (Object[]) null, parentCtx));
+    Assert.assertEquals(CHILDREN, depths[1]);
+    Assert.assertEquals(GRANDCHILDREN, depths[2]);
+
+    Assert.assertTrue(threads.size() > 1);
+    Assert.assertEquals(Thread.currentThread().getName(), parentCtx.getVariable("owner"));
+  }
+
+  @Test
+  public void testSerialInWorkerThread() throws Exception {
+    OSQLEngine.getInstance().registerFunction("testSetOwner", new SetOwnerFunction());
+    final String worker = Orient.instance().submit(() -> {
+      final ODatabaseDocument workerDb = orientDB.open("ParallelBreadthFirstTraverseStepTest", "admin", "admin");
+      try {
+        final int[] depths = countByDepth(workerDb.query(
+            "traverse out() from " + root.getIdentity() + " while testSetOwner() = true strategy breadth_first"));
+        Assert.assertEquals(CHILDREN, depths[1]);
+        Assert.assertEquals(GRANDCHILDREN, depths[2]);
+      } finally {
+        workerDb.close();
+      }
+      return Thread.currentThread().getName();
+    }).get(60, TimeUnit.SECONDS);
+    db.activateOnCurrentThread();
+
+    Assert.assertFalse(Orient.instance().isWorkerThread());
+    Assert.assertEquals(Collections.singleton(worker), threads);
+  }
+
+  private static int[] countByDepth(final OResultSet result) {
+    final int[] depths = new int[4];
+    final Set<ORID> rids = new HashSet<ORID>();
+    int lastDepth = 0;
+    while (result.hasNext()) {
+      final OResult item = result.next();
+      final int depth = (Integer) item.getMetadata("$depth");
+      Assert.assertTrue(depth >= lastDepth);
+      Assert.assertTrue(rids.add(item.getElement().get().getIdentity()));
+      lastDepth = depth;
+      depths[depth]++;
+    }
+    result.close();
+    return depths;
+  }
+}
@@ -0,0 +1,109 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class ScatterGatherExecutionStepTest {
+
+  @Test
+  public void shouldMergeAllTheNodes() {
+    OCommandContext ctx = new OBasicCommandContext();
+    List<OInternalExecutionPlan> remotePlans = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      remotePlans.add(createPlan(ctx, "remote" + i, 250, false));
+    }
+
+    OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+    plan.chain(new ScatterGatherExecutionStep(createPlan(ctx, "local", 150, false), remotePlans, ctx, false));
+
+    Set<String> results = new HashSet<>();
+    OResultSet block = plan.fetchNext(100);
+    while (block.hasNext()) {
+      while (block.hasNext()) {
+        OResult item = block.next();
+        Assert.assertTrue(results.add(item.getProperty("node") + "/" + item.getProperty("id")));
+      }
+      block = plan.fetchNext(100);
+    }
+    plan.close();
+
+    Assert.assertEquals(150 + 3 * 250, results.size());
+  }
+
+  @Test
+  public void shouldMergeAllTheNodesInWorkerThread() throws Exception {
+    Set<String> results = Orient.instance().submit(() -> {
+      OCommandContext ctx = new OBasicCommandContext();
+      List<OInternalExecutionPlan> remotePlans = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        remotePlans.add(createPlan(ctx, "remote" + i, 250, false));
+      }
+
+      OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+      plan.chain(new ScatterGatherExecutionStep(createPlan(ctx, "local", 150, false), remotePlans, ctx, false));
+
+      Set<String> merged = new HashSet<>();
+      OResultSet block = plan.fetchNext(100);
+      while (block.hasNext()) {
+        while (block.hasNext()) {
+          OResult item = block.next();
+          Assert.assertTrue(merged.add(item.getProperty("node") + "/" + item.getProperty("id")));
+        }
+        block = plan.fetchNext(100);
+      }
+      plan.close();
+      return merged;
+    }).get(60, TimeUnit.SECONDS);
+
+    Assert.assertEquals(150 + 3 * 250, results.size());
+  }
+
+  @Test(expected = OCommandExecutionException.class)
+  public void shouldPropagateRemoteErrors() {
+    OCommandContext ctx = new OBasicCommandContext();
+    List<OInternalExecutionPlan> remotePlans = new ArrayList<>();
+    remotePlans.add(createPlan(ctx, "remote", 50, true));
+
+    OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+    plan.chain(new ScatterGatherExecutionStep(null, remotePlans, ctx, false));
+
+    OResultSet block = plan.fetchNext(100);
+    while (block.hasNext()) {
+      block.next();
+    }
+  }
+
+  private OInternalExecutionPlan createPlan(OCommandContext ctx, String node, int size, boolean fail) {
+    OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+    plan.chain(new AbstractExecutionStep(ctx, false) {
+      int produced = 0;
+
+      @Override
+      public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+        OInternalResultSet result = new OInternalResultSet();
+        for (int i = 0; i < nRecords && produced < size; i++) {
+          OResultInternal item = new OResultInternal();
+          item.setProperty("node", node);
+          item.setProperty("id", produced++);
+          result.add(item);
+        }
+        if (fail && produced == size) {
+          throw new IllegalStateException("Node " + node + " failed");
+        }
+        return result;
+      }
+    });
+    return plan;
+  }
+}
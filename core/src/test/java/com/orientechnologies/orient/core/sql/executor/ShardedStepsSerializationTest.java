@@ -0,0 +1,109 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import com.orientechnologies.orient.core.sql.parser.OrientSql;
+import com.orientechnologies.orient.core.sql.parser.ParseException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that the steps pushed down to the nodes of a sharded query survive the serialization of the sub-plan.
+ */
+public class ShardedStepsSerializationTest {
+
+  @Test
+  public void shouldSerializeLimit() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectStatement statement = parse("select from Foo limit 7");
+
+    List<OResult> results = roundTripAndExecute(new LimitExecutionStep(statement.getLimit(), ctx, false), ctx);
+
+    Assert.assertEquals(7, results.size());
+  }
+
+  @Test
+  public void shouldSerializeOrderBy() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectStatement statement = parse("select from Foo order by id desc");
+
+    List<OResult> results = roundTripAndExecute(new OrderByStep(statement.getOrderBy(), 5, ctx, false), ctx);
+
+    Assert.assertEquals(5, results.size());
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(19 - i, (int) results.get(i).getProperty("id"));
+    }
+  }
+
+  @Test
+  public void shouldSerializeProjection() throws ParseException {
+    OCommandContext ctx = new OBasicCommandContext();
+    OSelectStatement statement = parse("select id * 2 as double from Foo");
+
+    List<OResult> results = roundTripAndExecute(new ProjectionCalculationStep(statement.getProjection(), ctx, false), ctx);
+
+    Assert.assertEquals(20, results.size());
+    for (int i = 0; i < 20; i++) {
+      Assert.assertEquals(i * 2, ((Number) results.get(i).getProperty("double")).intValue());
+      Assert.assertNull(results.get(i).getProperty("id"));
+    }
+  }
+
+  private List<OResult> roundTripAndExecute(OExecutionStepInternal step, OCommandContext ctx) {
+    OResult serialized = step.serialize();
+
+    OExecutionStepInternal deserialized;
+    try {
+      // as the node that receives the sub-plan does
+      String className = serialized.getProperty(OInternalExecutionPlan.JAVA_TYPE);
+      deserialized = (OExecutionStepInternal) Class.forName(className).newInstance();
+    } catch (Exception e) {
+      throw new AssertionError("Cannot create the step", e);
+    }
+    deserialized.deserialize(serialized);
+    Assert.assertEquals(step.getClass(), deserialized.getClass());
+    Assert.assertEquals(step.prettyPrint(0, 2), deserialized.prettyPrint(0, 2));
+
+    OSelectExecutionPlan plan = new OSelectExecutionPlan(ctx);
+    plan.chain(createSource(ctx, 20));
+    plan.chain(deserialized);
+
+    List<OResult> results = new ArrayList<>();
+    OResultSet block = plan.fetchNext(100);
+    while (block.hasNext()) {
+      while (block.hasNext()) {
+        results.add(block.next());
+      }
+      block = plan.fetchNext(100);
+    }
+    plan.close();
+    return results;
+  }
+
+  private AbstractExecutionStep createSource(OCommandContext ctx, int size) {
+    return new AbstractExecutionStep(ctx, false) {
+      int produced = 0;
+
+      @Override
+      public OResultSet syncPull(OCommandContext ctx, int nRecords) throws OTimeoutException {
+        OInternalResultSet result = new OInternalResultSet();
+        for (int i = 0; i < nRecords && produced < size; i++) {
+          OResultInternal item = new OResultInternal();
+          item.setProperty("id", produced++);
+          result.add(item);
+        }
+        return result;
+      }
+    };
+  }
+
+  private OSelectStatement parse(String query) throws ParseException {
+    return (OSelectStatement) new OrientSql(new ByteArrayInputStream(query.getBytes())).parse();
+  }
+}
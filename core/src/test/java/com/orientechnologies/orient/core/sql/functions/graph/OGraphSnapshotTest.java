@@ -0,0 +1,208 @@
+package com.orientechnologies.orient.core.sql.functions.graph;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OEdge;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class OGraphSnapshotTest {
+
+  private OrientDB          orientDB;
+  private ODatabaseDocument graph;
+
+  private Map<Integer, OVertex> vertices = new HashMap<Integer, OVertex>();
+
+  @Before
+  public void setUp() throws Exception {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.createIfNotExists("OGraphSnapshotTest", ODatabaseType.MEMORY);
+    graph = orientDB.open("OGraphSnapshotTest", "admin", "admin");
+
+    graph.createVertexClass("City");
+    graph.createEdgeClass("Road");
+    graph.createEdgeClass("Flight");
+
+    // 1 -> 2 -> 3 -> 4 BY ROAD, 1 -> 4 BY FLIGHT. 5 -> 6 IS ANOTHER COMPONENT
+    for (int i = 1; i <= 6; i++) {
+      final OVertex v = graph.newVertex("City");
+      v.setProperty("name", "C" + i);
+      vertices.put(i, v.save());
+    }
+    addEdge(1, 2, "Road", 1);
+    addEdge(2, 3, "Road", 1);
+    addEdge(3, 4, "Road", 1);
+    addEdge(1, 3, "Road", 5);
+    addEdge(1, 4, "Flight", 1);
+    addEdge(5, 6, "Road", 1);
+
+    try (OResultSet rs = graph.query("select graphSnapshot('roads', 'City', 'Road', 'distance') as snapshot")) {
+      final Map<String, Object> snapshot = rs.next().getProperty("snapshot");
+      Assert.assertEquals(6, snapshot.get("vertices"));
+      Assert.assertEquals(5, snapshot.get("edges"));
+    }
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    graph.close();
+    orientDB.drop("OGraphSnapshotTest");
+    orientDB.close();
+  }
+
+  @Test
+  public void testShortestPath() {
+    final List<ORID> live = shortestPath("{'maxDepth': 10}");
+    final List<ORID> snapshot = shortestPath("{'snapshot': 'roads'}");
+    Assert.assertEquals(live, snapshot);
+    Assert.assertEquals(3, snapshot.size());
+    Assert.assertEquals(vertices.get(3).getIdentity(), snapshot.get(1));
+
+    // SAME LIMIT OF THE LIVE GRAPH
+    Assert.assertTrue(shortestPath("{'snapshot': 'roads', 'maxDepth': 2}").isEmpty());
+    Assert.assertTrue(shortestPath("{'maxDepth': 2}").isEmpty());
+
+    // THE OPTIONS NOT SUPPORTED BY THE SNAPSHOT WALK THE LIVE GRAPH
+    Assert.assertEquals(shortestPath("{'maxVisited': 100}"), shortestPath("{'snapshot': 'roads', 'maxVisited': 100}"));
+    try (OResultSet rs = graph.query("select shortestPath(?, ?, 'OUT', 'Flight', {'snapshot': 'roads'}) as path",
+        vertices.get(1), vertices.get(4))) {
+      final List<ORID> path = rs.next().getProperty("path");
+      Assert.assertEquals(2, path.size());
+    }
+  }
+
+  @Test
+  public void testBuildInWorkerThread() throws Exception {
+    final Map<String, Object> snapshot = Orient.instance().submit(() -> {
+      final ODatabaseDocument db = orientDB.open("OGraphSnapshotTest", "admin", "admin");
+      try (OResultSet rs = db.query("select graphSnapshot('worker', 'City', 'Road', 'distance') as snapshot")) {
+        return rs.next().<Map<String, Object>>getProperty("snapshot");
+      } finally {
+        db.close();
+      }
+    }).get(60, TimeUnit.SECONDS);
+    graph.activateOnCurrentThread();
+
+    Assert.assertEquals(6, snapshot.get("vertices"));
+    Assert.assertEquals(5, snapshot.get("edges"));
+  }
+
+  @Test
+  public void testDijkstra() {
+    try (OResultSet rs = graph.query("select dijkstra(?, ?, 'distance', 'OUT', {'snapshot': 'roads'}) as path", vertices.get(1),
+        vertices.get(4))) {
+      final List<Object> path = rs.next().getProperty("path");
+      Assert.assertEquals(4, path.size());
+      Assert.assertEquals(vertices.get(2).getIdentity(), ((OVertex) path.get(1)).getIdentity());
+    }
+  }
+
+  @Test
+  public void testAstar() {
+    List<Object> path = astar("{'snapshot': 'roads'}");
+    Assert.assertEquals(4, path.size());
+    Assert.assertEquals(vertices.get(2).getIdentity(), ((OVertex) path.get(1)).getIdentity());
+
+    // THE OPTIONS NOT SUPPORTED BY THE SNAPSHOT WALK THE LIVE GRAPH
+    path = astar("{'snapshot': 'roads', 'edgeTypeNames': 'Flight'}");
+    Assert.assertEquals(2, path.size());
+    Assert.assertEquals(astar("{'maxDepth': 1, 'emptyIfMaxDepth': true}"),
+        astar("{'snapshot': 'roads', 'maxDepth': 1, 'emptyIfMaxDepth': true}"));
+    Assert.assertEquals(astar("{'vertexAxisNames': 'name'}"), astar("{'snapshot': 'roads', 'vertexAxisNames': 'name'}"));
+  }
+
+  @Test
+  public void testBfsLevels() {
+    final Map<ORID, Integer> levels = new HashMap<ORID, Integer>();
+    try (OResultSet rs = graph.query("select expand(bfsLevels('roads', ?))", vertices.get(1))) {
+      while (rs.hasNext()) {
+        final OResult item = rs.next();
+        levels.put(item.getProperty("rid"), item.getProperty("level"));
+      }
+    }
+    Assert.assertEquals(4, levels.size());
+    Assert.assertEquals(Integer.valueOf(0), levels.get(vertices.get(1).getIdentity()));
+    Assert.assertEquals(Integer.valueOf(1), levels.get(vertices.get(3).getIdentity()));
+    Assert.assertEquals(Integer.valueOf(2), levels.get(vertices.get(4).getIdentity()));
+  }
+
+  @Test
+  public void testConnectedComponents() {
+    final Map<ORID, Integer> components = new HashMap<ORID, Integer>();
+    try (OResultSet rs = graph.query("select expand(connectedComponents('roads'))")) {
+      while (rs.hasNext()) {
+        final OResult item = rs.next();
+        components.put(item.getProperty("rid"), item.getProperty("component"));
+      }
+    }
+    Assert.assertEquals(6, components.size());
+    Assert.assertEquals(2, new HashSet<Integer>(components.values()).size());
+    Assert.assertEquals(components.get(vertices.get(1).getIdentity()), components.get(vertices.get(4).getIdentity()));
+    Assert.assertEquals(components.get(vertices.get(5).getIdentity()), components.get(vertices.get(6).getIdentity()));
+  }
+
+  @Test
+  public void testPageRank() {
+    final Map<ORID, Double> ranks = new HashMap<ORID, Double>();
+    try (OResultSet rs = graph.query("select expand(pageRank('roads'))")) {
+      while (rs.hasNext()) {
+        final OResult item = rs.next();
+        ranks.put(item.getProperty("rid"), item.getProperty("rank"));
+      }
+    }
+    double sum = 0;
+    for (double rank : ranks.values())
+      sum += rank;
+    Assert.assertEquals(1d, sum, 0.001);
+    Assert.assertTrue(ranks.get(vertices.get(4).getIdentity()) > ranks.get(vertices.get(1).getIdentity()));
+  }
+
+  @Test
+  public void testDrop() {
+    try (OResultSet rs = graph.query("select dropGraphSnapshot('roads') as dropped")) {
+      Assert.assertTrue(rs.next().getProperty("dropped"));
+    }
+    try {
+      shortestPath("{'snapshot': 'roads'}");
+      Assert.fail();
+    } catch (Exception e) {
+      // EXPECTED
+    }
+  }
+
+  private List<ORID> shortestPath(final String options) {
+    try (OResultSet rs = graph.query("select shortestPath(?, ?, 'OUT', 'Road', " + options + ") as path", vertices.get(1),
+        vertices.get(4))) {
+      return rs.next().getProperty("path");
+    }
+  }
+
+  private List<Object> astar(final String options) {
+    try (OResultSet rs = graph.query("select astar(?, ?, 'distance', " + options + ") as path", vertices.get(1),
+        vertices.get(4))) {
+      return rs.next().getProperty("path");
+    }
+  }
+
+  private void addEdge(final int from, final int to, final String label, final int distance) {
+    final OEdge edge = graph.newEdge(vertices.get(from), vertices.get(to), label);
+    edge.setProperty("distance", distance);
+    edge.save();
+  }
+}
@@ -1,5 +1,6 @@
 package com.orientechnologies.orient.core.sql.functions.graph;
 
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OrientDB;
@@ -12,9 +13,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class OSQLFunctionShortestPathTest {
 
@@ -163,4 +167,93 @@ public class OSQLFunctionShortestPathTest {
 
     Assert.assertEquals(0, result.size());
   }
+
+  @Test
+  public void testParallel() throws Exception {
+    Map<String, Object> additionalParams = new HashMap<String, Object>();
+    additionalParams.put(OSQLFunctionShortestPath.PARAM_PARALLEL, true);
+    final List<ORID> result = function
+        .execute(null, null, null, new Object[] { vertices.get(1), vertices.get(20), null, null, additionalParams },
+            new OBasicCommandContext());
+
+    Assert.assertEquals(11, result.size());
+    Assert.assertEquals(vertices.get(1).getIdentity(), result.get(0));
+    Assert.assertEquals(vertices.get(3).getIdentity(), result.get(1));
+    int next = 2;
+    for (int i = 4; i <= 20; i += 2) {
+      Assert.assertEquals(vertices.get(i).getIdentity(), result.get(next++));
+    }
+  }
+
+  @Test
+  public void testParallelInWorkerThreads() throws Exception {
+    final OVertex source = graph.newVertex().save();
+    final OVertex destination = graph.newVertex().save();
+    for (int i = 0; i < 600; i++) {
+      final OVertex left = graph.newVertex().save();
+      graph.newEdge(source, left, "Edge1").save();
+      final OVertex right = graph.newVertex().save();
+      graph.newEdge(right, destination, "Edge1").save();
+      if (i == 599)
+        graph.newEdge(left, right, "Edge2").save();
+    }
+
+    // AS MANY SEARCHES AS THE CORE WORKERS: THEY WOULD WAIT FOREVER FOR THEIR TASKS IF THEY SUBMITTED THEM
+    final List<Future<Integer>> searches = new ArrayList<Future<Integer>>();
+    for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++) {
+      searches.add(Orient.instance().submit(() -> {
+        final ODatabaseDocument db = orientDB.open("OSQLFunctionShortestPath", "admin", "admin");
+        try {
+          final Map<String, Object> additionalParams = new HashMap<String, Object>();
+          additionalParams.put(OSQLFunctionShortestPath.PARAM_PARALLEL, true);
+          return new OSQLFunctionShortestPath()
+              .execute(null, null, null, new Object[] { source, destination, "out", null, additionalParams },
+                  new OBasicCommandContext()).size();
+        } finally {
+          db.close();
+        }
+      }));
+    }
+    for (Future<Integer> search : searches)
+      Assert.assertEquals(4, (int) search.get(60, TimeUnit.SECONDS));
+    graph.activateOnCurrentThread();
+  }
+
+  @Test
+  public void testParallelWideFrontiers() throws Exception {
+    // THE FRONTIERS OF 600 VERTICES ARE EXPANDED BY MORE TASKS
+    final OVertex source = graph.newVertex().save();
+    final OVertex destination = graph.newVertex().save();
+    final OVertex[] left = new OVertex[600];
+    final OVertex[] right = new OVertex[600];
+    for (int i = 0; i < left.length; i++) {
+      left[i] = graph.newVertex().save();
+      graph.newEdge(source, left[i], "Edge1").save();
+      right[i] = graph.newVertex().save();
+      graph.newEdge(right[i], destination, "Edge1").save();
+    }
+    graph.newEdge(left[599], right[0], "Edge2").save();
+
+    Map<String, Object> additionalParams = new HashMap<String, Object>();
+    additionalParams.put(OSQLFunctionShortestPath.PARAM_PARALLEL, true);
+    List<ORID> result = function
+        .execute(null, null, null, new Object[] { source, destination, "out", null, additionalParams }, new OBasicCommandContext());
+
+    Assert.assertEquals(4, result.size());
+    Assert.assertEquals(source.getIdentity(), result.get(0));
+    Assert.assertEquals(left[599].getIdentity(), result.get(1));
+    Assert.assertEquals(right[0].getIdentity(), result.get(2));
+    Assert.assertEquals(destination.getIdentity(), result.get(3));
+
+    // THE FIRST TWO LEVELS ALREADY VISIT MORE THAN 1000 VERTICES
+    additionalParams.put(OSQLFunctionShortestPath.PARAM_MAX_VISITED, 1000);
+    result = function
+        .execute(null, null, null, new Object[] { source, destination, "out", null, additionalParams }, new OBasicCommandContext());
+    Assert.assertEquals(0, result.size());
+
+    additionalParams.remove(OSQLFunctionShortestPath.PARAM_PARALLEL);
+    result = function
+        .execute(null, null, null, new Object[] { source, destination, "out", null, additionalParams }, new OBasicCommandContext());
+    Assert.assertEquals(0, result.size());
+  }
 }
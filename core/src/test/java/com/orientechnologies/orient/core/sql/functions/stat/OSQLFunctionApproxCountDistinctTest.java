@@ -0,0 +1,80 @@
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OSQLFunctionApproxCountDistinctTest {
+
+  private OSQLFunctionApproxCountDistinct countDistinct;
+
+  @Before
+  public void beforeMethod() {
+    countDistinct = new OSQLFunctionApproxCountDistinct() {
+      @Override
+      protected boolean returnDistributedResult() {
+        return false;
+      }
+    };
+  }
+
+  @Test
+  public void testEmpty() {
+    assertEquals(0L, countDistinct.getResult());
+  }
+
+  @Test
+  public void testSmallCardinality() {
+    Object[] values = { 1, 2, 2, 3, null, 3L, "a", "a", "b" };
+
+    for (Object v : values) {
+      countDistinct.execute(null, null, null, new Object[] { v }, null);
+    }
+
+    assertEquals(5L, countDistinct.getResult());
+  }
+
+  @Test
+  public void testLargeCardinality() {
+    for (int i = 0; i < 200000; i++) {
+      countDistinct.execute(null, null, null, new Object[] { i % 100000 }, null);
+    }
+
+    long result = (Long) countDistinct.getResult();
+    assertEquals(100000, result, 100000 * 0.03);
+  }
+
+  @Test
+  public void testMergeDistributedResult() {
+    List<Object> results = new ArrayList<Object>();
+    for (int part = 0; part < 3; part++) {
+      OHyperLogLog sketch = new OHyperLogLog();
+      for (int i = part * 10000; i < part * 10000 + 20000; i++) {
+        sketch.add("value" + i);
+      }
+      results.add(sketch.getRegisters());
+    }
+
+    OSQLFunctionApproxCountDistinct merger = new OSQLFunctionApproxCountDistinct() {
+      @Override
+      protected boolean returnDistributedResult() {
+        return true;
+      }
+    };
+    long result = (Long) merger.mergeDistributedResult(results);
+    assertEquals(40000, result, 40000 * 0.03);
+  }
+
+  @Test
+  public void testMultiValue() {
+    countDistinct.execute(null, null, null, new Object[] { Arrays.asList(1, 2, 3), 10 }, null);
+    countDistinct.execute(null, null, null, new Object[] { Arrays.asList(3, 4), 10 }, null);
+
+    assertEquals(4L, countDistinct.getResult());
+  }
+}
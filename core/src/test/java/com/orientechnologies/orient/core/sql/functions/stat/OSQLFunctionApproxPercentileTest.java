@@ -0,0 +1,89 @@
+package com.orientechnologies.orient.core.sql.functions.stat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class OSQLFunctionApproxPercentileTest {
+
+  private OSQLFunctionApproxPercentile percentile;
+
+  @Before
+  public void beforeMethod() {
+    percentile = new OSQLFunctionApproxPercentile() {
+      @Override
+      protected boolean returnDistributedResult() {
+        return false;
+      }
+    };
+  }
+
+  @Test
+  public void testEmpty() {
+    Object result = percentile.getResult();
+    assertNull(result);
+  }
+
+  @Test
+  public void testSingleValue() {
+    percentile.execute(null, null, null, new Object[] { 10, .75 }, null);
+    assertEquals(10.0, percentile.getResult());
+  }
+
+  @Test
+  public void testUniformDistribution() {
+    List<Integer> scores = new ArrayList<Integer>();
+    for (int i = 1; i <= 100000; i++) {
+      scores.add(i);
+    }
+    java.util.Collections.shuffle(scores, new Random(42));
+
+    for (Integer s : scores) {
+      percentile.execute(null, null, null, new Object[] { s, .5, .99, .001 }, null);
+    }
+
+    List<Number> result = (List<Number>) percentile.getResult();
+    assertEquals(50000, result.get(0).doubleValue(), 500);
+    assertEquals(99000, result.get(1).doubleValue(), 100);
+    assertEquals(100, result.get(2).doubleValue(), 10);
+  }
+
+  @Test
+  public void testNulls() {
+    Integer[] scores = { null, 1, 2, null, 3, 4, null, 5 };
+
+    for (Integer s : scores) {
+      percentile.execute(null, null, null, new Object[] { s, .5 }, null);
+    }
+
+    assertEquals(3.0, (Double) percentile.getResult(), 0.001);
+  }
+
+  @Test
+  public void testMergeDistributedResult() {
+    OSQLFunctionApproxPercentile merger = new OSQLFunctionApproxPercentile() {
+      @Override
+      protected boolean returnDistributedResult() {
+        return true;
+      }
+    };
+    merger.quantiles.add(.9);
+
+    List<Object> results = new ArrayList<Object>();
+    for (int part = 0; part < 4; part++) {
+      OTDigest digest = new OTDigest();
+      for (int i = part; i < 40000; i += 4) {
+        digest.add(i);
+      }
+      results.add(digest.getCentroids());
+    }
+
+    assertEquals(36000, (Double) merger.mergeDistributedResult(results), 400);
+  }
+}
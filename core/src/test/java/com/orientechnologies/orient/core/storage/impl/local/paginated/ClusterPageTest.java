@@ -1,6 +1,8 @@
 package com.orientechnologies.orient.core.storage.impl.local.paginated;
 
 import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.orient.core.record.ORecordVersionHelper;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
@@ -928,6 +930,60 @@ public class ClusterPageTest {
     Assert.assertEquals(localPage.getNextPage(), 1034);
   }
 
+  @Test
+  public void testGetRecordFieldValues() throws Exception {
+    OByteBufferPool bufferPool = OByteBufferPool.instance();
+    ByteBuffer buffer = bufferPool.acquireDirect(true);
+
+    OCachePointer cachePointer = new OCachePointer(buffer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+
+    OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer, false);
+    cacheEntry.acquireExclusiveLock();
+
+    ByteBuffer directBuffer = bufferPool.acquireDirect(true);
+    OCachePointer directCachePointer = new OCachePointer(directBuffer, bufferPool, 0, 0);
+    directCachePointer.incrementReferrer();
+
+    OCacheEntry directCacheEntry = new OCacheEntryImpl(0, 0, directCachePointer, false);
+    directCacheEntry.acquireExclusiveLock();
+    try {
+      OClusterPage localPage = new OClusterPage(new OCacheEntryChanges(cacheEntry), true);
+      OClusterPage directLocalPage = new OClusterPage(directCacheEntry, true);
+
+      getRecordFieldValues(localPage);
+      getRecordFieldValues(directLocalPage);
+
+      assertChangesTracking(localPage, directBuffer, bufferPool);
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      directCacheEntry.releaseExclusiveLock();
+
+      cachePointer.decrementReferrer();
+      directCachePointer.decrementReferrer();
+    }
+  }
+
+  private void getRecordFieldValues(OClusterPage localPage) throws IOException {
+    final byte[] content = new byte[] { 1, 2, 3, 4, 5 };
+    final byte[] entry = new byte[1 + 4 + content.length + 1 + 8];
+
+    entry[0] = 'd';
+    OIntegerSerializer.INSTANCE.serializeNative(content.length, entry, 1);
+    System.arraycopy(content, 0, entry, 5, content.length);
+    entry[5 + content.length] = 1;
+    OLongSerializer.INSTANCE.serializeNative(-1L, entry, 6 + content.length);
+
+    int position = localPage.appendRecord(1, entry);
+
+    Assert.assertEquals(localPage.getRecordByteValue(position, 0), 'd');
+    Assert.assertEquals(localPage.getRecordIntValue(position, 1), content.length);
+    Assert.assertEquals(localPage.getRecordByteValue(position, -9), 1);
+    Assert.assertEquals(localPage.getRecordLongValue(position, -8), -1L);
+
+    assertThat(localPage.getRecordBinaryValue(position, 5, content.length)).isEqualTo(content);
+  }
+
   @Test
   public void testSetGetPrevPage() throws Exception {
     OByteBufferPool bufferPool = OByteBufferPool.instance();
@@ -0,0 +1,186 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.ODiskWriteAheadLog;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class LocalPaginatedStorageChangedRecordsJournalTest {
+  private File                directory;
+  private ODatabaseDocumentTx db;
+  private boolean             trackChangedRecords;
+  private int                 journalSize;
+
+  @Before
+  public void before() {
+    trackChangedRecords = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.getValueAsBoolean();
+    journalSize = OGlobalConfiguration.STORAGE_CHANGED_RECORDS_JOURNAL_SIZE.getValueAsInteger();
+    OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.setValue(true);
+    OGlobalConfiguration.STORAGE_CHANGED_RECORDS_JOURNAL_SIZE.setValue(16);
+
+    directory = new File(System.getProperty("buildDirectory", "."),
+        LocalPaginatedStorageChangedRecordsJournalTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(directory);
+  }
+
+  @After
+  public void after() {
+    if (db != null) {
+      db.activateOnCurrentThread();
+      db.drop();
+    }
+    OFileUtils.deleteRecursively(directory);
+
+    OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.setValue(trackChangedRecords);
+    OGlobalConfiguration.STORAGE_CHANGED_RECORDS_JOURNAL_SIZE.setValue(journalSize);
+  }
+
+  @Test
+  public void testChangedRecordsAfterWALCut() throws Exception {
+    db = new ODatabaseDocumentTx("plocal:" + new File(directory, "db").getPath());
+    db.create();
+    db.getMetadata().getSchema().createClass("Sample");
+
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage();
+    final ODiskWriteAheadLog wal = (ODiskWriteAheadLog) storage.getWALInstance();
+    final OLogSequenceNumber startLSN = wal.end();
+
+    final Set<ORID> changed = new HashSet<ORID>();
+    for (int i = 0; i < 100; i++)
+      changed.add(new ODocument("Sample").field("id", i).save().getIdentity());
+    wal.newSegment();
+
+    for (int i = 0; i < 10; i++) {
+      final ODocument document = new ODocument("Sample").field("id", i).save();
+      document.field("updated", true).save();
+      changed.add(document.getIdentity());
+    }
+    wal.newSegment();
+
+    // THE CHECKPOINT REMOVES THE SEGMENTS CONTAINING THE START LSN
+    storage.synch();
+    Assert.assertTrue(wal.begin().compareTo(startLSN) > 0);
+
+    Assert.assertTrue(exportChangedRecords(storage, startLSN).containsAll(changed));
+  }
+
+  @Test
+  public void testChangedRecordsAfterManyCheckpoints() throws Exception {
+    db = new ODatabaseDocumentTx("plocal:" + new File(directory, "db").getPath());
+    db.create();
+    db.getMetadata().getSchema().createClass("Sample");
+
+    final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage();
+    final ODiskWriteAheadLog wal = (ODiskWriteAheadLog) storage.getWALInstance();
+    final OLogSequenceNumber startLSN = wal.end();
+
+    // EVERY CHECKPOINT JOURNALS ONLY THE SEGMENTS CLOSED AFTER THE PREVIOUS ONE
+    final Set<ORID> changed = new HashSet<ORID>();
+    for (int checkpoint = 0; checkpoint < 3; checkpoint++) {
+      for (int i = 0; i < 20; i++)
+        changed.add(new ODocument("Sample").field("checkpoint", checkpoint).field("id", i).save().getIdentity());
+      wal.newSegment();
+      storage.synch();
+    }
+    final ODocument updated = db.load(changed.iterator().next());
+    updated.field("updated", true).save();
+    wal.newSegment();
+    storage.synch();
+
+    Assert.assertTrue(wal.begin().compareTo(startLSN) > 0);
+    Assert.assertTrue(exportChangedRecords(storage, startLSN).containsAll(changed));
+  }
+
+  private static Set<ORID> exportChangedRecords(final OAbstractPaginatedStorage storage, final OLogSequenceNumber lsn)
+      throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Assert.assertNotNull(storage.recordsChangedAfterLSN(lsn, out, new HashSet<String>(), null));
+
+    final DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    final long records = in.readLong();
+    final Set<ORID> exported = new HashSet<ORID>();
+    for (long i = 0; i < records; i++) {
+      final ORecordId rid = new ORecordId(in.readInt(), in.readLong());
+      if (!in.readBoolean()) {
+        in.readInt();
+        in.readByte();
+        in.skipBytes(in.readInt());
+      }
+      exported.add(rid);
+    }
+    return exported;
+  }
+
+  @Test
+  public void testJournal() throws IOException {
+    Assert.assertTrue(directory.mkdirs());
+    final File file = new File(directory, "test" + OChangedRecordsJournal.EXTENSION);
+
+    OChangedRecordsJournal journal = new OChangedRecordsJournal(file.toPath(), 0);
+    journal.open();
+    journal.reset(new OLogSequenceNumber(3, 100));
+    journal.append(3, Arrays.<ORID>asList(new ORecordId(10, 1), new ORecordId(10, 2)));
+    journal.append(4, Collections.<ORID>emptyList());
+    journal.append(6, Arrays.<ORID>asList(new ORecordId(11, 5)));
+    journal.close();
+
+    journal = new OChangedRecordsJournal(file.toPath(), 0);
+    journal.open();
+    Assert.assertEquals(6, journal.getLastSegment());
+
+    final Set<ORID> rids = new HashSet<ORID>();
+    Assert.assertFalse(journal.collectChangedRecords(new OLogSequenceNumber(2, 0), rids));
+    Assert.assertFalse(journal.collectChangedRecords(new OLogSequenceNumber(3, 50), rids));
+    Assert.assertTrue(journal.collectChangedRecords(new OLogSequenceNumber(4, 0), rids));
+    Assert.assertEquals(Collections.singleton(new ORecordId(11, 5)), rids);
+
+    rids.clear();
+    Assert.assertTrue(journal.collectChangedRecords(new OLogSequenceNumber(3, 100), rids));
+    Assert.assertEquals(3, rids.size());
+
+    // A FILE HAS BEEN CREATED IN SEGMENT 7
+    journal.reset(new OLogSequenceNumber(7, 200));
+    Assert.assertFalse(journal.collectChangedRecords(new OLogSequenceNumber(6, 0), rids));
+    Assert.assertEquals(6, journal.getLastSegment());
+    journal.delete();
+  }
+
+  @Test
+  public void testJournalMaxSize() throws IOException {
+    Assert.assertTrue(directory.mkdirs());
+    final File file = new File(directory, "test" + OChangedRecordsJournal.EXTENSION);
+
+    final OChangedRecordsJournal journal = new OChangedRecordsJournal(file.toPath(), 1024);
+    journal.open();
+    for (int segment = 0; segment < 100; segment++)
+      journal.append(segment, Arrays.<ORID>asList(new ORecordId(10, segment), new ORecordId(11, segment)));
+
+    Assert.assertTrue(file.length() <= 1024);
+    Assert.assertEquals(99, journal.getLastSegment());
+
+    final Set<ORID> rids = new HashSet<ORID>();
+    Assert.assertFalse(journal.collectChangedRecords(new OLogSequenceNumber(0, 0), rids));
+    Assert.assertTrue(journal.collectChangedRecords(new OLogSequenceNumber(90, 0), rids));
+    Assert.assertEquals(20, rids.size());
+    journal.delete();
+  }
+}
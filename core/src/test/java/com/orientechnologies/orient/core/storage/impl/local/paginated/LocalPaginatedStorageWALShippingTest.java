@@ -0,0 +1,137 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class LocalPaginatedStorageWALShippingTest {
+  private ODatabaseDocumentTx originalDB;
+  private ODatabaseDocumentTx replicaDB;
+  private boolean             trackChangedRecords;
+
+  @Before
+  public void before() throws Exception {
+    trackChangedRecords = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.getValueAsBoolean();
+    OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.setValue(true);
+
+    final String buildDirectory = System.getProperty("buildDirectory", ".");
+    final File originalDirectory = new File(buildDirectory, LocalPaginatedStorageWALShippingTest.class.getSimpleName() + "Original");
+    final File replicaDirectory = new File(buildDirectory, LocalPaginatedStorageWALShippingTest.class.getSimpleName() + "Replica");
+    OFileUtils.deleteRecursively(originalDirectory);
+    OFileUtils.deleteRecursively(replicaDirectory);
+
+    originalDB = new ODatabaseDocumentTx("plocal:" + originalDirectory.getPath());
+    originalDB.create();
+    originalDB.getMetadata().getSchema().createClass("Sample");
+    originalDB.getStorage().close(true, false);
+    originalDB.close();
+
+    // THE REPLICA STARTS FROM A COPY OF THE ORIGINAL DATABASE, LIKE AFTER A FULL SYNC
+    OFileUtils.copyDirectory(originalDirectory, replicaDirectory);
+
+    originalDB = new ODatabaseDocumentTx("plocal:" + originalDirectory.getPath());
+    originalDB.open("admin", "admin");
+    replicaDB = new ODatabaseDocumentTx("plocal:" + replicaDirectory.getPath());
+    replicaDB.open("admin", "admin");
+  }
+
+  @After
+  public void after() {
+    originalDB.activateOnCurrentThread();
+    originalDB.drop();
+
+    replicaDB.activateOnCurrentThread();
+    replicaDB.drop();
+
+    OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.setValue(trackChangedRecords);
+  }
+
+  @Test
+  public void testShipRecords() {
+    originalDB.activateOnCurrentThread();
+    final OAbstractPaginatedStorage originalStorage = (OAbstractPaginatedStorage) originalDB.getStorage();
+    final OLogSequenceNumber startLSN = originalStorage.getWALInstance().end();
+
+    final List<ORID> rids = new ArrayList<ORID>();
+    for (int i = 0; i < 100; i++)
+      rids.add(new ODocument("Sample").field("id", i).save().getIdentity());
+
+    for (int i = 0; i < 100; i += 10) {
+      final ODocument document = originalDB.load(rids.get(i));
+      document.field("updated", true).save();
+    }
+
+    originalDB.begin();
+    for (int i = 5; i < 100; i += 10)
+      originalDB.delete(rids.get(i));
+    originalDB.commit();
+
+    // SHIP THE RECORDS IN SMALL BATCHES, SO ATOMIC OPERATIONS SPAN MORE THAN ONE BATCH
+    final Map<OOperationUnitId, List<OWALRecord>> pendingOperations = new HashMap<OOperationUnitId, List<OWALRecord>>();
+    final Set<ORID> changed = new HashSet<ORID>();
+    OLogSequenceNumber lsn = startLSN;
+    while (true) {
+      originalDB.activateOnCurrentThread();
+      final List<OWALRecord> records = originalStorage.readWALRecords(lsn, 7);
+      Assert.assertNotNull(records);
+      if (records.isEmpty())
+        break;
+
+      replicaDB.activateOnCurrentThread();
+      changed.addAll(((OAbstractPaginatedStorage) replicaDB.getStorage()).applyWALRecords(records, pendingOperations));
+      lsn = records.get(records.size() - 1).getLsn();
+    }
+
+    Assert.assertTrue(pendingOperations.isEmpty());
+    Assert.assertTrue(changed.containsAll(rids));
+
+    originalDB.activateOnCurrentThread();
+    final OStorage replicaStorage = replicaDB.getStorage();
+    for (ORID rid : rids) {
+      final ORawBuffer originalBuffer = originalStorage.readRecord((ORecordId) rid, null, true, false, null).getResult();
+      final ORawBuffer replicaBuffer = replicaStorage.readRecord((ORecordId) rid, null, true, false, null).getResult();
+
+      if (originalBuffer == null)
+        Assert.assertNull(replicaBuffer);
+      else {
+        Assert.assertNotNull(replicaBuffer);
+        Assert.assertEquals(originalBuffer.version, replicaBuffer.version);
+        Assert.assertArrayEquals(originalBuffer.buffer, replicaBuffer.buffer);
+      }
+    }
+
+    replicaDB.activateOnCurrentThread();
+    Assert.assertEquals(90, replicaDB.countClass("Sample"));
+  }
+
+  @Test
+  public void testLSNNotAvailable() {
+    originalDB.activateOnCurrentThread();
+    final OAbstractPaginatedStorage originalStorage = (OAbstractPaginatedStorage) originalDB.getStorage();
+    final OLogSequenceNumber endLSN = originalStorage.getWALInstance().end();
+
+    Assert.assertTrue(originalStorage.readWALRecords(endLSN, 10).isEmpty());
+    Assert.assertNull(originalStorage.readWALRecords(new OLogSequenceNumber(endLSN.getSegment() + 1, 0), 10));
+  }
+}
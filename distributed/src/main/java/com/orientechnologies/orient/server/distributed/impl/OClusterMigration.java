@@ -0,0 +1,227 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed.impl;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.distributed.*;
+import com.orientechnologies.orient.server.distributed.ODistributedServerLog.DIRECTION;
+import com.orientechnologies.orient.server.distributed.impl.task.OCopyDatabaseChunkTask;
+import com.orientechnologies.orient.server.distributed.impl.task.OSyncClusterDeltaTask;
+import com.orientechnologies.orient.server.distributed.sql.OCommandExecutorSQLHASyncCluster;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves the ownership of a cluster to the local server while the cluster keeps on being changed, so a new server can take part of
+ * the load without exporting and importing the data. The migration:
+ * <ol>
+ * <li>copies the cluster from the current owner, that sends also its LSN before the copy</li>
+ * <li>aligns the copy with the records of the cluster changed after the last LSN, until they are few</li>
+ * <li>adds the local server to the servers of the cluster, so it receives the new changes, then aligns the last changes</li>
+ * <li>sets the local server as owner of the cluster in the distributed configuration, under the distributed lock of the
+ * database</li>
+ * </ol>
+ * The previous owner keeps the cluster as replica. If the local server already has the cluster, only the ownership is moved. The
+ * alignment never overwrites a local record with an older version, because once the local server is in the servers of the
+ * cluster the changes replicated to it can be newer than the delta.
+ * <p>
+ * It's started by the <code>HA SYNC CLUSTER &lt;cluster&gt; -migrate</code> command executed on the new owner.
+ *
+ * @see ODistributedAbstractPlugin#migrateCluster(String, String)
+ */
+public class OClusterMigration implements Runnable {
+  private static final int  MAX_ALIGN_ROUNDS    = 10;
+  private static final long MIN_CHANGED_RECORDS = 1000;
+  private static final long LOCK_TIMEOUT        = 20000;
+
+  private final ODistributedAbstractPlugin dManager;
+  private final OServer                    serverInstance;
+  private final String                     databaseName;
+  private final String                     clusterName;
+  private final String                     localNodeName;
+  private       long                       lastChangedRecords;
+
+  public OClusterMigration(final ODistributedAbstractPlugin dManager, final OServer serverInstance, final String databaseName,
+      final String clusterName) {
+    this.dManager = dManager;
+    this.serverInstance = serverInstance;
+    this.databaseName = databaseName;
+    this.clusterName = clusterName;
+    this.localNodeName = dManager.getLocalNodeName();
+  }
+
+  @Override
+  public void run() {
+    Thread.currentThread()
+        .setName("OrientDB ClusterMigration node=" + localNodeName + " db=" + databaseName + " cluster=" + clusterName);
+
+    try {
+      migrate();
+    } catch (Exception e) {
+      ODistributedServerLog
+          .error(this, localNodeName, null, DIRECTION.NONE, "Error on migrating cluster '%s.%s' to the local server", e,
+              databaseName, clusterName);
+    }
+  }
+
+  protected void migrate() throws IOException {
+    final ODistributedConfiguration cfg = dManager.getDatabaseConfiguration(databaseName);
+
+    final String owner = cfg.getClusterOwner(clusterName);
+    if (localNodeName.equals(owner)) {
+      ODistributedServerLog.info(this, localNodeName, null, DIRECTION.NONE, "Server is already the owner of cluster '%s.%s'",
+          databaseName, clusterName);
+      return;
+    }
+
+    if (dManager.getDatabaseStatus(owner, databaseName) != ODistributedServerManager.DB_STATUS.ONLINE)
+      throw new ODistributedException(
+          "Cannot migrate cluster '" + databaseName + "." + clusterName + "' because its owner '" + owner + "' is not online");
+
+    if (!cfg.getServers(clusterName, null).contains(localNodeName)) {
+      ODistributedServerLog
+          .info(this, localNodeName, owner, DIRECTION.IN, "Copying cluster '%s.%s' from its owner...", databaseName, clusterName);
+
+      final List<String> sourceNodes = new ArrayList<String>();
+      sourceNodes.add(owner);
+
+      final ODistributedMomentum momentum = new ODistributedMomentum();
+      OCommandExecutorSQLHASyncCluster.replaceCluster(dManager, serverInstance, databaseName, clusterName, sourceNodes, momentum);
+
+      OLogSequenceNumber lsn = momentum.getLSN(owner);
+      if (lsn == null)
+        throw new ODistributedException(
+            "Cannot migrate cluster '" + databaseName + "." + clusterName + "' because the copy has not been received");
+
+      // ALIGN THE CHANGES DONE DURING THE COPY. EVERY ROUND IS SHORTER THAN THE PREVIOUS ONE
+      for (int round = 0; round < MAX_ALIGN_ROUNDS; ++round) {
+        final OLogSequenceNumber endLSN = alignCluster(owner, lsn);
+        if (endLSN == null)
+          break;
+
+        lsn = endLSN;
+        if (lastChangedRecords < MIN_CHANGED_RECORDS)
+          break;
+      }
+
+      // FROM NOW ON THE CHANGES ARE REPLICATED ALSO TO THE LOCAL SERVER
+      dManager.executeInDistributedDatabaseLock(databaseName, LOCK_TIMEOUT, null,
+          new OCallable<Object, OModifiableDistributedConfiguration>() {
+            @Override
+            public Object call(final OModifiableDistributedConfiguration cfg) {
+              cfg.addServerInCluster(clusterName, localNodeName);
+              return null;
+            }
+          });
+
+      // ALIGN THE CHANGES DONE BEFORE JOINING THE SERVERS OF THE CLUSTER
+      alignCluster(owner, lsn);
+    }
+
+    dManager.executeInDistributedDatabaseLock(databaseName, LOCK_TIMEOUT, null,
+        new OCallable<Object, OModifiableDistributedConfiguration>() {
+          @Override
+          public Object call(final OModifiableDistributedConfiguration cfg) {
+            cfg.moveServerOwner(clusterName, localNodeName);
+            return null;
+          }
+        });
+
+    ODistributedServerLog
+        .info(this, localNodeName, owner, DIRECTION.NONE, "Cluster '%s.%s' migrated to the local server, previous owner was '%s'",
+            databaseName, clusterName, owner);
+  }
+
+  /**
+   * Applies the records of the cluster changed on the owner after the passed LSN.
+   *
+   * @return the LSN of the owner after the changes, or null if nothing changed
+   */
+  protected OLogSequenceNumber alignCluster(final String owner, final OLogSequenceNumber lsn) throws IOException {
+    final List<String> sourceNodes = new ArrayList<String>();
+    sourceNodes.add(owner);
+
+    Object result = dManager.sendRequest(databaseName, null, sourceNodes, new OSyncClusterDeltaTask(clusterName, lsn),
+        dManager.getNextMessageIdCounter(), ODistributedRequest.EXECUTION_MODE.RESPONSE, null, null, null).getPayload();
+
+    if (result instanceof Boolean) {
+      lastChangedRecords = 0;
+      return null;
+    }
+    if (result instanceof Exception)
+      throw OException.wrapException(new ODistributedException("Error on receiving the delta of cluster '" + clusterName + "'"),
+          (Exception) result);
+
+    ODistributedDatabaseChunk chunk = (ODistributedDatabaseChunk) result;
+    final OLogSequenceNumber endLSN = chunk.getMomentum().getLSN(owner);
+
+    final File deltaFile = new File(
+        Orient.getTempPath() + "/backup_" + databaseName + "_" + clusterName + "_delta_toInstall.dat");
+    deltaFile.getParentFile().mkdirs();
+
+    try {
+      final OutputStream out = new BufferedOutputStream(new FileOutputStream(deltaFile));
+      try {
+        out.write(chunk.buffer);
+        for (int chunkNum = 2; !chunk.last; chunkNum++) {
+          result = dManager.sendRequest(databaseName, null, sourceNodes,
+              new OCopyDatabaseChunkTask(chunk.filePath, chunkNum, chunk.offset + chunk.buffer.length, false),
+              dManager.getNextMessageIdCounter(), ODistributedRequest.EXECUTION_MODE.RESPONSE, null, null, null).getPayload();
+
+          if (result instanceof Exception)
+            throw OException.wrapException(new ODistributedException("Error on receiving chunk #" + chunkNum), (Exception) result);
+          else if (result instanceof ODistributedDatabaseChunk) {
+            chunk = (ODistributedDatabaseChunk) result;
+            out.write(chunk.buffer);
+          }
+        }
+      } finally {
+        out.close();
+      }
+
+      final DataInputStream in = new DataInputStream(new FileInputStream(deltaFile));
+      try {
+        lastChangedRecords = in.readLong();
+      } finally {
+        in.close();
+      }
+
+      ODistributedServerLog.info(this, localNodeName, owner, DIRECTION.IN, "Aligning %d records of cluster '%s.%s' (LSN=%s-%s)",
+          lastChangedRecords, databaseName, clusterName, lsn, endLSN);
+
+      final InputStream deltaIn = new BufferedInputStream(new FileInputStream(deltaFile));
+      try {
+        new OIncrementalServerSync().importDelta(serverInstance, databaseName, deltaIn, owner, true);
+      } finally {
+        deltaIn.close();
+      }
+    } finally {
+      deltaFile.delete();
+    }
+
+    return endLSN;
+  }
+}
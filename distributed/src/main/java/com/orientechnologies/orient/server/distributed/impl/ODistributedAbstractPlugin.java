@@ -124,6 +124,8 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
   protected final        List<String>                   registeredNodeById     = new CopyOnWriteArrayList<String>();
   protected final        ConcurrentMap<String, Integer> registeredNodeByName   = new ConcurrentHashMap<String, Integer>();
   protected              ConcurrentMap<String, Long>    autoRemovalOfServers   = new ConcurrentHashMap<String, Long>();
+  protected final        Set<String>                    migratingClusters      = Collections
+      .newSetFromMap(new ConcurrentHashMap<String, Boolean>());
   protected volatile ODistributedMessageServiceImpl messageService;
   protected Date                      startedOn              = new Date();
   protected ODistributedStrategy      responseManagerFactory = new ODefaultDistributedStrategy();
@@ -552,7 +554,21 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
 
     final ODistributedDatabaseImpl db = messageService.getDatabase(iDatabaseName);
 
-    if (iTargetNodes == null || iTargetNodes.isEmpty()) {
+    Collection<String> targetNodes = iTargetNodes;
+    if (targetNodes != null && !iTask.isIdempotent() && iTask.isUsingDatabase() && OGlobalConfiguration.DISTRIBUTED_WAL_SHIPPING
+        .getValueAsBoolean()) {
+      // THE REPLICAS RECEIVE THE CHANGES BY SHIPPING THE WAL: DON'T EXECUTE THE TASK ON THEM
+      final ODistributedConfiguration cfg = getDatabaseConfiguration(iDatabaseName);
+      targetNodes = new ArrayList<String>(iTargetNodes.size());
+      for (String node : iTargetNodes)
+        if (cfg.getServerRole(node) != ODistributedConfiguration.ROLES.REPLICA)
+          targetNodes.add(node);
+
+      if (targetNodes.isEmpty() && localResult != null)
+        return new ODistributedResponse(null, req.getId(), nodeName, nodeName, localResult);
+    }
+
+    if (targetNodes == null || targetNodes.isEmpty()) {
       ODistributedServerLog
           .error(this, nodeName, null, DIRECTION.OUT, "No nodes configured for partition '%s.%s' request: %s", iDatabaseName,
               iClusterNames, req);
@@ -567,7 +583,7 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
 
     messageService.updateMessageStats(iTask.getName());
 
-    return db.send2Nodes(req, iClusterNames, iTargetNodes, iExecutionMode, localResult, iAfterSentCallback, endCallback);
+    return db.send2Nodes(req, iClusterNames, targetNodes, iExecutionMode, localResult, iAfterSentCallback, endCallback);
   }
 
   /**
@@ -916,8 +932,20 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
                 // FIRST TIME, ASK FOR FULL REPLICA
                 databaseInstalled = requestFullDatabase(distrDatabase, databaseName, iStartup, cfg);
 
+              } else if (!forceDeployment && isWALShippingReplica(cfg)
+                  && distrDatabase.getSyncConfiguration().getWALShippingMaster() != null) {
+                // THE PAGES ARE A COPY OF THE ONES OF A MASTER: THE SHIPPING OF ITS WAL RESUMES FROM THE LAST LSN APPLIED
+                ODistributedServerLog.info(this, nodeName, distrDatabase.getSyncConfiguration().getWALShippingMaster(), DIRECTION.IN,
+                    "Skipping the synchronization of database '%s' because its WAL is shipped from the server", databaseName);
+
+                setDatabaseStatus(nodeName, databaseName, DB_STATUS.ONLINE);
+                distrDatabase.resume();
+                distrDatabase.setOnline();
+                return true;
+
               } else {
-                if (tryWithDeltaFirst) {
+                // A DELTA IS APPLIED RECORD BY RECORD: THE PAGES WOULD NOT BE A COPY OF THE ONES OF ANY SERVER ANYMORE
+                if (tryWithDeltaFirst && !isWALShippingReplica(cfg)) {
                   try {
 
                     // TRY WITH DELTA SYNC
@@ -982,6 +1010,11 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
         });
   }
 
+  private boolean isWALShippingReplica(final ODistributedConfiguration cfg) {
+    return OGlobalConfiguration.DISTRIBUTED_WAL_SHIPPING.getValueAsBoolean()
+        && cfg.getServerRole(nodeName) == ODistributedConfiguration.ROLES.REPLICA;
+  }
+
   protected boolean requestFullDatabase(final ODistributedDatabaseImpl distrDatabase, final String databaseName,
       final boolean backupDatabase, final OModifiableDistributedConfiguration cfg) {
     ODistributedServerLog.info(this, nodeName, null, DIRECTION.NONE, "Requesting full sync for database '%s'...", databaseName);
@@ -1152,6 +1185,10 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
     // GET ALL THE OTHER SERVERS
     final Collection<String> nodes = cfg.getServers(null, nodeName);
 
+    if (isWALShippingReplica(cfg))
+      // THE WAL WILL BE SHIPPED FROM THE SERVER THE DATABASE IS COPIED FROM: ONLY THE MASTERS HAVE ALL THE CHANGES IN THEIR WAL
+      nodes.removeIf(n -> cfg.getServerRole(n) != ODistributedConfiguration.ROLES.MASTER);
+
     if (nodes.isEmpty()) {
       ODistributedServerLog.warn(this, nodeName, null, DIRECTION.NONE,
           "Cannot request full deploy of database '%s' because there are no nodes available with such database", databaseName);
@@ -1400,29 +1437,19 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
       final ODistributedDatabaseImpl distrDatabase, final String iNode, final ODistributedDatabaseChunk firstChunk,
       final boolean delta, final File uniqueClustersBackupDirectory, final OModifiableDistributedConfiguration cfg) {
 
-    final String fileName = Orient.getTempPath() + "install_" + databaseName + ".zip";
-
     final String localNodeName = nodeName;
 
-    ODistributedServerLog
-        .info(this, localNodeName, iNode, DIRECTION.IN, "Copying remote database '%s' to: %s", databaseName, fileName);
-
-    final File file = new File(fileName);
-    if (file.exists())
-      file.delete();
+    ODistributedServerLog.info(this, localNodeName, iNode, DIRECTION.IN, "Copying remote database '%s'", databaseName);
 
+    // THE CHUNKS ARE INSTALLED WHILE THEY ARE RECEIVED: THE PIPE BUFFERS ONE CHUNK, SO THE NEXT ONE IS REQUESTED DURING THE INSTALL
+    final PipedInputStream in = new PipedInputStream(OSyncDatabaseTask.CHUNK_MAX_SIZE);
+    final PipedOutputStream fOut;
     try {
-      file.getParentFile().mkdirs();
-      file.createNewFile();
+      fOut = new PipedOutputStream(in);
     } catch (IOException e) {
-      throw OException.wrapException(new ODistributedException("Error on creating temp database file to install locally"), e);
+      throw OException.wrapException(new ODistributedException("Error on creating the stream to install the database locally"), e);
     }
 
-    // DELETE ANY PREVIOUS .COMPLETED FILE
-    final File completedFile = new File(file.getAbsolutePath() + ".completed");
-    if (completedFile.exists())
-      completedFile.delete();
-
     final AtomicReference<ODistributedMomentum> momentum = new AtomicReference<ODistributedMomentum>();
 
     try {
@@ -1435,60 +1462,50 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
 
             momentum.set(chunk.getMomentum());
 
-            final OutputStream fOut = new FileOutputStream(fileName, false);
-            try {
-
-              long fileSize = writeDatabaseChunk(1, chunk, fOut);
-              for (int chunkNum = 2; !chunk.last; chunkNum++) {
-                final ODistributedResponse response = sendRequest(databaseName, null, OMultiValue.getSingletonList(iNode),
-                    new OCopyDatabaseChunkTask(chunk.filePath, chunkNum, chunk.offset + chunk.buffer.length, false),
-                    getNextMessageIdCounter(), ODistributedRequest.EXECUTION_MODE.RESPONSE, null, null, null);
-
-                final Object result = response.getPayload();
-                if (result instanceof Boolean)
-                  continue;
-                else if (result instanceof Exception) {
-                  ODistributedServerLog
-                      .error(this, nodeName, iNode, DIRECTION.IN, "error on installing database %s in %s (chunk #%d)",
-                          (Exception) result, databaseName, dbPath, chunkNum);
-                } else if (result instanceof ODistributedDatabaseChunk) {
-                  chunk = (ODistributedDatabaseChunk) result;
-                  fileSize += writeDatabaseChunk(chunkNum, chunk, fOut);
-                }
+            long fileSize = writeDatabaseChunk(1, chunk, fOut);
+            for (int chunkNum = 2; !chunk.last; chunkNum++) {
+              final ODistributedResponse response = sendRequest(databaseName, null, OMultiValue.getSingletonList(iNode),
+                  new OCopyDatabaseChunkTask(chunk.filePath, chunkNum, chunk.offset + chunk.buffer.length, false),
+                  getNextMessageIdCounter(), ODistributedRequest.EXECUTION_MODE.RESPONSE, null, null, null);
+
+              final Object result = response.getPayload();
+              if (result instanceof Boolean)
+                continue;
+              else if (result instanceof Exception) {
+                ODistributedServerLog
+                    .error(this, nodeName, iNode, DIRECTION.IN, "error on installing database %s in %s (chunk #%d)",
+                        (Exception) result, databaseName, dbPath, chunkNum);
+                // THE REMOTE BACKUP COULD BE NOT AVAILABLE ANYMORE
+                throw OException.wrapException(new ODistributedException("Error on receiving chunk #" + chunkNum), (Exception) result);
+              } else if (result instanceof ODistributedDatabaseChunk) {
+                chunk = (ODistributedDatabaseChunk) result;
+                fileSize += writeDatabaseChunk(chunkNum, chunk, fOut);
               }
+            }
 
-              fOut.flush();
-
-              // CREATE THE .COMPLETED FILE TO SIGNAL EOF
-              new File(file.getAbsolutePath() + ".completed").createNewFile();
+            fOut.flush();
 
-              ODistributedServerLog.info(this, nodeName, null, DIRECTION.NONE, "Database copied correctly, size=%s",
-                  OFileUtils.getSizeAsString(fileSize));
+            ODistributedServerLog.info(this, nodeName, null, DIRECTION.NONE, "Database copied correctly, size=%s",
+                OFileUtils.getSizeAsString(fileSize));
 
-            } finally {
-              try {
-                fOut.flush();
-                fOut.close();
-              } catch (IOException e) {
-              }
-            }
+            // SIGNAL EOF. ON ERRORS THE PIPE IS LEFT OPEN: THE INSTALLER FAILS BECAUSE THIS THREAD IS TERMINATED, INSTEAD OF
+            // INSTALLING A TRUNCATED DATABASE
+            fOut.close();
 
           } catch (Exception e) {
             ODistributedServerLog
-                .error(this, nodeName, null, DIRECTION.NONE, "Error on transferring database '%s' to '%s'", e, databaseName,
-                    fileName);
+                .error(this, nodeName, null, DIRECTION.NONE, "Error on transferring database '%s'", e, databaseName);
             throw OException.wrapException(new ODistributedException("Error on transferring database"), e);
           }
         }
       }).start();
 
     } catch (Exception e) {
-      ODistributedServerLog
-          .error(this, nodeName, null, DIRECTION.NONE, "Error on transferring database '%s' to '%s'", e, databaseName, fileName);
+      ODistributedServerLog.error(this, nodeName, null, DIRECTION.NONE, "Error on transferring database '%s'", e, databaseName);
       throw OException.wrapException(new ODistributedException("Error on transferring database"), e);
     }
 
-    final ODatabaseDocumentInternal db = installDatabaseOnLocalNode(databaseName, dbPath, iNode, fileName, delta,
+    final ODatabaseDocumentInternal db = installDatabaseOnLocalNode(databaseName, dbPath, iNode, in, delta,
         uniqueClustersBackupDirectory, cfg);
 
     if (db != null) {
@@ -1497,6 +1514,8 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
         distrDatabase.getSyncConfiguration().load();
         distrDatabase.getSyncConfiguration()
             .setLastLSN(localNodeName, ((OLocalPaginatedStorage) db.getStorage().getUnderlying()).getLSN(), false);
+        // THE WAL CAN BE SHIPPED ONLY FROM THE SERVER THE PAGES HAVE BEEN COPIED FROM
+        distrDatabase.getSyncConfiguration().setWALShippingMaster(!delta && isWALShippingReplica(cfg) ? iNode : null);
       } catch (IOException e) {
         ODistributedServerLog.error(this, nodeName, null, DIRECTION.NONE, "Error on loading %s file for database '%s'", e,
             DISTRIBUTED_SYNC_JSON_FILENAME, databaseName);
@@ -1688,6 +1707,31 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
     return result;
   }
 
+  /**
+   * Moves the ownership of a cluster to the local server in background, while the cluster keeps on being changed.
+   *
+   * @return false if the cluster is already migrating
+   *
+   * @see OClusterMigration
+   */
+  public boolean migrateCluster(final String databaseName, final String clusterName) {
+    final String key = databaseName + "." + clusterName;
+    if (!migratingClusters.add(key))
+      return false;
+
+    new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          new OClusterMigration(ODistributedAbstractPlugin.this, serverInstance, databaseName, clusterName).run();
+        } finally {
+          migratingClusters.remove(key);
+        }
+      }
+    }).start();
+    return true;
+  }
+
   protected abstract void notifyClients(String databaseName);
 
   protected void onDatabaseEvent(final String nodeName, final String databaseName, final DB_STATUS status) {
@@ -1818,70 +1862,13 @@ public abstract class ODistributedAbstractPlugin extends OServerPluginAbstract
   }
 
   protected ODatabaseDocumentInternal installDatabaseOnLocalNode(final String databaseName, final String dbPath, final String iNode,
-      final String iDatabaseCompressedFile, final boolean delta, final File uniqueClustersBackupDirectory,
+      final InputStream in, final boolean delta, final File uniqueClustersBackupDirectory,
       final OModifiableDistributedConfiguration cfg) {
     ODistributedServerLog.info(this, nodeName, iNode, DIRECTION.IN, "Installing database '%s' to: %s...", databaseName, dbPath);
 
     try {
-      final File f = new File(iDatabaseCompressedFile);
-      final File fCompleted = new File(iDatabaseCompressedFile + ".completed");
-
       new File(dbPath).mkdirs();
 
-      // USES A CUSTOM WRAPPER OF IS TO WAIT FOR FILE IS WRITTEN (ASYNCH)
-      final FileInputStream in = new FileInputStream(f) {
-        @Override
-        public int read() throws IOException {
-          while (true) {
-            final int read = super.read();
-            if (read > -1)
-              return read;
-
-            if (fCompleted.exists())
-              return 0;
-
-            try {
-              Thread.sleep(100);
-            } catch (InterruptedException e) {
-            }
-          }
-        }
-
-        @Override
-        public int read(final byte[] b, final int off, final int len) throws IOException {
-          while (true) {
-            final int read = super.read(b, off, len);
-            if (read > 0)
-              return read;
-
-            if (fCompleted.exists())
-              return 0;
-
-            try {
-              Thread.sleep(100);
-            } catch (InterruptedException e) {
-            }
-          }
-        }
-
-        @Override
-        public int available() throws IOException {
-          while (true) {
-            final int avail = super.available();
-            if (avail > 0)
-              return avail;
-
-            if (fCompleted.exists())
-              return 0;
-
-            try {
-              Thread.sleep(100);
-            } catch (InterruptedException e) {
-            }
-          }
-        }
-      };
-
       try {
         final ODistributedAbstractPlugin me = this;
         executeInDistributedDatabaseLock(databaseName, 20000, cfg, new OCallable<Void, OModifiableDistributedConfiguration>() {
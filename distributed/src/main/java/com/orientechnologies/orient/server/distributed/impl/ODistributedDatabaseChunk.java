@@ -88,6 +88,15 @@ public class ODistributedDatabaseChunk implements OStreamable {
     }
   }
 
+  public ODistributedDatabaseChunk(final String iName, final long iOffset, final byte[] iBuffer,
+      final ODistributedMomentum momentum, final boolean last) {
+    filePath = iName;
+    offset = iOffset;
+    buffer = iBuffer;
+    this.momentum = momentum;
+    this.last = last;
+  }
+
   @Override
   public String toString() {
     return filePath + "[" + offset + "-" + buffer.length + "] (last=" + last + ")";
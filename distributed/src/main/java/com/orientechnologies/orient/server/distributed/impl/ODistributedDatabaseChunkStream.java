@@ -0,0 +1,190 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed.impl;
+
+import com.orientechnologies.orient.server.distributed.ODistributedException;
+import com.orientechnologies.orient.server.distributed.ODistributedMomentum;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Output stream that splits the backup of a database in chunks and hands them to the node that is installing it, without writing
+ * the backup on disk. Only a few chunks are kept in memory: the backup blocks while the joining node is slower, and fails if no
+ * chunk is requested within the timeout, like when the node installs the database from another server.
+ * <p>
+ * The stream is registered with a name that takes the place of the backup file path in the {@link ODistributedDatabaseChunk}s, so
+ * the joining node asks for the next chunks exactly like with a file.
+ *
+ * @see com.orientechnologies.orient.server.distributed.impl.task.OCopyDatabaseChunkTask
+ */
+public class ODistributedDatabaseChunkStream extends OutputStream {
+  private static final String                                              PREFIX  = "stream:";
+  private static final byte[]                                              END     = new byte[0];
+  private static final ConcurrentMap<String, ODistributedDatabaseChunkStream> STREAMS = new ConcurrentHashMap<String, ODistributedDatabaseChunkStream>();
+
+  private final String                name;
+  private final int                   chunkSize;
+  private final long                  timeout;
+  private final BlockingQueue<byte[]> chunks;
+  private       byte[]                buffer;
+  private       int                   position;
+  private          boolean            closed;
+  private volatile boolean            failed;
+
+  // READ SIDE
+  private long                      offset;
+  private ODistributedDatabaseChunk lastChunk;
+
+  private ODistributedDatabaseChunkStream(final String databaseName, final int chunkSize, final int bufferedChunks,
+      final long timeout) {
+    this.name = PREFIX + databaseName + "/" + UUID.randomUUID();
+    this.chunkSize = chunkSize;
+    this.timeout = timeout;
+    this.chunks = new ArrayBlockingQueue<byte[]>(bufferedChunks);
+    this.buffer = new byte[chunkSize];
+  }
+
+  public static ODistributedDatabaseChunkStream open(final String databaseName, final int chunkSize, final int bufferedChunks,
+      final long timeout) {
+    final ODistributedDatabaseChunkStream stream = new ODistributedDatabaseChunkStream(databaseName, chunkSize, bufferedChunks,
+        timeout);
+    STREAMS.put(stream.name, stream);
+    return stream;
+  }
+
+  /**
+   * Returns the stream registered with the name, or null if the name is a file path.
+   */
+  public static ODistributedDatabaseChunkStream get(final String name) {
+    if (!name.startsWith(PREFIX))
+      return null;
+
+    final ODistributedDatabaseChunkStream stream = STREAMS.get(name);
+    if (stream == null)
+      throw new ODistributedException("Database stream '" + name + "' is not available anymore");
+    return stream;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    buffer[position++] = (byte) b;
+    if (position == chunkSize)
+      flushChunk();
+  }
+
+  @Override
+  public void write(final byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      final int toCopy = Math.min(len, chunkSize - position);
+      System.arraycopy(b, off, buffer, position, toCopy);
+      position += toCopy;
+      off += toCopy;
+      len -= toCopy;
+      if (position == chunkSize)
+        flushChunk();
+    }
+  }
+
+  /**
+   * Signals the end of the backup: the chunk with the last bytes is marked as the last one.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed || failed)
+      return;
+    closed = true;
+    if (position > 0)
+      flushChunk();
+    enqueue(END);
+  }
+
+  /**
+   * Aborts the stream because the backup failed: the joining node receives an error on the next chunk.
+   */
+  public void fail() {
+    failed = true;
+    chunks.clear();
+    chunks.offer(END);
+  }
+
+  /**
+   * Returns the chunk that starts at the offset, waiting for the backup to produce it. The last chunk is sent again if the joining
+   * node asks for it twice, like on retry after a timeout.
+   */
+  public synchronized ODistributedDatabaseChunk nextChunk(final long requestedOffset, final ODistributedMomentum momentum)
+      throws InterruptedException {
+    if (lastChunk != null && lastChunk.offset == requestedOffset)
+      return lastChunk;
+
+    if (requestedOffset != offset)
+      throw new ODistributedException(
+          "Cannot read the chunk at offset " + requestedOffset + " from database stream '" + name + "', next offset is " + offset);
+
+    final byte[] chunk = chunks.poll(timeout, TimeUnit.MILLISECONDS);
+    if (chunk == null)
+      throw new ODistributedException("Timeout on waiting for the next chunk of database stream '" + name + "'");
+
+    if (failed) {
+      STREAMS.remove(name);
+      throw new ODistributedException("Backup of database stream '" + name + "' failed");
+    }
+
+    final boolean last = chunk == END;
+    lastChunk = new ODistributedDatabaseChunk(name, offset, chunk, momentum, last);
+    offset += chunk.length;
+
+    if (last)
+      STREAMS.remove(name);
+
+    return lastChunk;
+  }
+
+  private void flushChunk() throws IOException {
+    final byte[] chunk = position == chunkSize ? buffer : Arrays.copyOf(buffer, position);
+    enqueue(chunk);
+    buffer = new byte[chunkSize];
+    position = 0;
+  }
+
+  private void enqueue(final byte[] chunk) throws IOException {
+    try {
+      if (failed || !chunks.offer(chunk, timeout, TimeUnit.MILLISECONDS)) {
+        STREAMS.remove(name);
+        throw new IOException("Database stream '" + name + "' has not been consumed in " + timeout + "ms");
+      }
+    } catch (InterruptedException e) {
+      STREAMS.remove(name);
+      Thread.currentThread().interrupt();
+      throw new IOException("Database stream '" + name + "' interrupted");
+    }
+  }
+}
@@ -90,6 +90,7 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
   private final    AtomicReference<ODistributedMomentum> filterByMomentum      = new AtomicReference<ODistributedMomentum>();
 
   private String localNodeName;
+  private OWALShippingReplica walShipping;
 
   public class ODistributedLock {
     protected final    ODistributedRequestId reqId;
@@ -251,77 +252,28 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
         // JUST ONE QUEUE INVOLVED: PROCESS IT IMMEDIATELY
         processRequest(involvedWorkerQueues.iterator().next(), request);
       else {
-        // INVOLVING MULTIPLE QUEUES
-
-        // if (ODistributedServerLog.isDebugEnabled())
-        ODistributedServerLog.debug(this, localNodeName, null, DIRECTION.NONE,
-            "Request %s on database '%s' waiting for all the previous requests to be completed", request, databaseName);
-
-        // WAIT ALL THE INVOLVED QUEUES ARE FREE AND SYNCHRONIZED
-        final CountDownLatch syncLatch = new CountDownLatch(involvedWorkerQueues.size());
-        final ODistributedRequest syncRequest = new ODistributedRequest(null, request.getId().getNodeId(), -1, databaseName,
-            new OSynchronizedTaskWrapper(syncLatch));
-        for (int queue : involvedWorkerQueues)
-          workerThreads.get(queue).processRequest(syncRequest);
-
-        long taskTimeout = task.getDistributedTimeout();
-        try {
-          if (taskTimeout <= 0)
-            syncLatch.await();
-          else {
-            // WAIT FOR COMPLETION. THE TIMEOUT IS MANAGED IN SMALLER CYCLES TO PROPERLY RECOGNIZE WHEN THE DB IS REMOVED
-            final long start = System.currentTimeMillis();
-            final long cycleTimeout = Math.min(taskTimeout, 2000);
-
-            boolean locked = false;
-            do {
-              if (syncLatch.await(cycleTimeout, TimeUnit.MILLISECONDS)) {
-                // DONE
-                locked = true;
-                break;
-              }
-
-              if (this.workerThreads.size() == 0)
-                // DATABASE WAS SHUTDOWN
-                break;
-
-            } while (System.currentTimeMillis() - start < taskTimeout);
+        // INVOLVING MULTIPLE QUEUES: PUT THE TASK TO EXECUTE IN THE FIRST QUEUE AND WAIT-FOR TASKS IN THE OTHERS, WITHOUT BLOCKING
+        // THE DISPATCHING OF THE NEXT REQUESTS. THE TASK IS EXECUTED ONCE ALL THE OTHER QUEUES REACHED IT AND THEY ARE RELEASED
+        // WHEN IT IS COMPLETED, SO THE INVOLVED QUEUES ARE BUSY DURING THE EXECUTION OF THE TASK. THIS AVOID CONCURRENT EXECUTION
+        // FOR THE SAME PARTITION, WHILE THE QUEUES NOT INVOLVED GO ON PROCESSING THEIR REQUESTS
+        final List<ORemoteTask> queueTasks = createMultiQueueTasks(task,
+            manager.getNodeNameById(request.getId().getNodeId()), involvedWorkerQueues.size());
+
+        // THE QUEUES MUST RECEIVE THE MULTI-PARTITION TASKS IN THE SAME ORDER, OTHERWISE THEY COULD WAIT FOR EACH OTHER FOREVER
+        synchronized (workerThreads) {
+          int i = 0;
+          for (int queue : involvedWorkerQueues) {
+            final ODistributedRequest req;
+            if (i == 0) {
+              // USE THE FIRST QUEUE TO PROCESS THE REQUEST
+              request.setTask(queueTasks.get(i));
+              req = request;
+            } else
+              req = new ODistributedRequest(manager, request.getId().getNodeId(), -1, databaseName, queueTasks.get(i));
 
-            if (!locked) {
-              final String msg = String.format(
-                  "Cannot execute distributed request (%s) because all worker threads (%d) are busy (pending=%d timeout=%d)",
-                  request, workerThreads.size(), syncLatch.getCount(), taskTimeout);
-              ODistributedWorker.sendResponseBack(this, manager, request, new ODistributedOperationException(msg));
-              return;
-            }
+            workerThreads.get(queue).processRequest(req);
+            i++;
           }
-        } catch (InterruptedException e) {
-          // IGNORE
-          Thread.currentThread().interrupt();
-          final String msg = String
-              .format("Cannot execute distributed request (%s) because all worker threads (%d) are busy", request,
-                  workerThreads.size());
-          ODistributedWorker.sendResponseBack(this, manager, request, new ODistributedOperationException(msg));
-          return;
-        }
-
-        // PUT THE TASK TO EXECUTE ONLY IN THE FIRST QUEUE AND PUT WAIT-FOR TASKS IN THE OTHERS. WHEN THE REAL TASK IS EXECUTED,
-        // ALL THE OTHER TASKS WILL RETURN, SO THE QUEUES WILL BE BUSY DURING THE EXECUTION OF THE TASK. THIS AVOID CONCURRENT
-        // EXECUTION FOR THE SAME PARTITION
-        final CountDownLatch queueLatch = new CountDownLatch(1);
-
-        int i = 0;
-        for (int queue : involvedWorkerQueues) {
-          final ODistributedRequest req;
-          if (i++ == 0) {
-            // USE THE FIRST QUEUE TO PROCESS THE REQUEST
-            final String senderNodeName = manager.getNodeNameById(request.getId().getNodeId());
-            request.setTask(new OSynchronizedTaskWrapper(queueLatch, senderNodeName, task));
-            req = request;
-          } else
-            req = new ODistributedRequest(manager, request.getId().getNodeId(), -1, databaseName, new OWaitForTask(queueLatch));
-
-          workerThreads.get(queue).processRequest(req);
         }
       }
     } else if (partitionKeys.length == 1 && partitionKeys[0] == -2) {
@@ -383,6 +335,22 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
       }
   }
 
+  /**
+   * Returns the tasks to put in the queues involved by a multi-partition task: the first one executes the task after the others
+   * reached it, the others wait for its completion.
+   */
+  protected static List<ORemoteTask> createMultiQueueTasks(final ORemoteTask task, final String senderNodeName,
+      final int involvedQueues) {
+    final CountDownLatch arrivedLatch = new CountDownLatch(involvedQueues - 1);
+    final CountDownLatch queueLatch = new CountDownLatch(1);
+
+    final List<ORemoteTask> result = new ArrayList<ORemoteTask>(involvedQueues);
+    result.add(new OSynchronizedTaskWrapper(queueLatch, arrivedLatch, senderNodeName, task));
+    for (int i = 1; i < involvedQueues; ++i)
+      result.add(new OWaitForTask(arrivedLatch, queueLatch));
+    return result;
+  }
+
   protected Set<Integer> getInvolvedQueuesByPartitionKeys(final int[] partitionKeys) {
     final Set<Integer> involvedWorkerQueues = new HashSet<Integer>(partitionKeys.length);
     for (int pk : partitionKeys) {
@@ -571,6 +539,23 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
     manager.setDatabaseStatus(localNodeName, databaseName, ODistributedServerManager.DB_STATUS.ONLINE);
 
     waitForOnline.countDown();
+
+    startWALShipping();
+  }
+
+  private synchronized void startWALShipping() {
+    if (!OGlobalConfiguration.DISTRIBUTED_WAL_SHIPPING.getValueAsBoolean())
+      return;
+
+    if (manager.getDatabaseConfiguration(databaseName).getServerRole(localNodeName) != ODistributedConfiguration.ROLES.REPLICA)
+      return;
+
+    if (walShipping != null && walShipping.isAlive() && walShipping.isRunning())
+      // THE THREAD THAT IS SYNCHRONIZING THE DATABASE AGAIN IS NOT RUNNING ANYMORE
+      return;
+
+    walShipping = new OWALShippingReplica(this);
+    walShipping.start();
   }
 
   @Override
@@ -609,6 +594,7 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
       } else {
         // TRY TO RE-LOCK IT UNTIL TIMEOUT IS EXPIRED
         final long startTime = System.currentTimeMillis();
+        final long startNanos = System.nanoTime();
         do {
           try {
             if (timeout > 0) {
@@ -624,6 +610,8 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
             break;
           }
         } while (currentLock != null && (timeout == 0 || System.currentTimeMillis() - startTime < timeout));
+
+        manager.getMessageService().getMetrics().updateLockWait(System.nanoTime() - startNanos);
       }
     }
 
@@ -919,6 +907,9 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
       if (repairer != null)
         repairer.shutdown();
 
+      if (walShipping != null)
+        walShipping.shutdown();
+
       // SEND THE SHUTDOWN TO ALL THE WORKER THREADS
       if (lockThread != null)
         lockThread.sendShutdown();
@@ -950,6 +941,14 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
           }
         }
       }
+      for (ODistributedWorker workerThread : workerThreads) {
+        Orient.instance().getProfiler()
+            .unregisterHookValue("distributed.db." + databaseName + ".worker." + workerThread.id + ".queueSize");
+        Orient.instance().getProfiler()
+            .unregisterHookValue("distributed.db." + databaseName + ".worker." + workerThread.id + ".stallTime");
+        manager.getMessageService().getMetrics().unregisterQueue(databaseName + ".worker." + workerThread.id);
+      }
+
       lockThread = null;
       nowaitThread = null;
       workerThreads.clear();
@@ -1144,6 +1143,26 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
       workerThread.start();
 
       ALL_QUEUES.add(i);
+
+      final OAbstractProfiler.OProfilerHookValue queueSize = new OAbstractProfiler.OProfilerHookValue() {
+        @Override
+        public Object getValue() {
+          return (long) workerThread.getQueueSize();
+        }
+      };
+      Orient.instance().getProfiler()
+          .registerHookValue("distributed.db." + databaseName + ".worker." + i + ".queueSize", "Number of requests in the queue",
+              OProfiler.METRIC_TYPE.SIZE, queueSize, "distributed.db.*.worker.*.queueSize");
+      manager.getMessageService().getMetrics().registerQueue(databaseName + ".worker." + i, queueSize);
+
+      Orient.instance().getProfiler().registerHookValue("distributed.db." + databaseName + ".worker." + i + ".stallTime",
+          "Time in ms the worker has been blocked by requests involving multiple queues", OProfiler.METRIC_TYPE.COUNTER,
+          new OAbstractProfiler.OProfilerHookValue() {
+            @Override
+            public Object getValue() {
+              return workerThread.getStallTime();
+            }
+          }, "distributed.db.*.worker.*.stallTime");
     }
   }
 
@@ -1317,7 +1336,8 @@ public class ODistributedDatabaseImpl implements ODistributedDatabase {
         final ArrayBlockingQueue<ODistributedRequest> queue = t.localQueue;
 
         if (processing != null || !queue.isEmpty()) {
-          buffer.append("\n  - QUEUE " + t.id + " EXECUTING: " + processing);
+          buffer.append("\n  - QUEUE " + t.id + " (size=" + queue.size() + " stallTime=" + t.getStallTime() + "ms) EXECUTING: "
+              + processing);
           int i = 0;
           for (ODistributedRequest m : queue) {
             if (m != null)
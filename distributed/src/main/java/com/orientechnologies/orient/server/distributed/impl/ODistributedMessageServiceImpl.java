@@ -51,6 +51,8 @@ public class ODistributedMessageServiceImpl implements ODistributedMessageServic
   private volatile boolean                     running             = true;
   private final    Map<String, OProfilerEntry> latencies           = new HashMap<String, OProfilerEntry>();
   private final    Map<String, AtomicLong>     messagesStats       = new HashMap<String, AtomicLong>();
+  private final    ODistributedReadRouter      readRouter          = new ODistributedReadRouter();
+  private final    ODistributedMetrics         metrics             = new ODistributedMetrics();
 
   public ODistributedMessageServiceImpl(final OHazelcastPlugin manager) {
     this.manager = manager;
@@ -67,6 +69,8 @@ public class ODistributedMessageServiceImpl implements ODistributedMessageServic
         purgePendingMessages();
       }
     };
+
+    metrics.registerMBean(manager.getLocalNodeName());
   }
 
   public ODistributedDatabaseImpl getDatabase(final String iDatabaseName) {
@@ -109,6 +113,8 @@ public class ODistributedMessageServiceImpl implements ODistributedMessageServic
 
     latencies.clear();
     messagesStats.clear();
+
+    metrics.unregisterMBean();
   }
 
   @Override
@@ -240,8 +246,20 @@ public class ODistributedMessageServiceImpl implements ODistributedMessageServic
     return 0;
   }
 
+  @Override
+  public ODistributedReadRouter getReadRouter() {
+    return readRouter;
+  }
+
+  @Override
+  public ODistributedMetrics getMetrics() {
+    return metrics;
+  }
+
   @Override
   public void updateLatency(final String server, final long sentOn) {
+    readRouter.updateLatency(server, System.nanoTime() - sentOn);
+
     // MANAGE THIS ASYNCHRONOUSLY
     synchronized (latencies) {
       OProfilerEntry latency = latencies.get(server);
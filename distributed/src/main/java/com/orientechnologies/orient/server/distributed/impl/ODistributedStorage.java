@@ -789,9 +789,8 @@ public class ODistributedStorage implements OStorage, OFreezableStorageComponent
           .createTask(OReadRecordTask.FACTORYID)).init(iRecordId);
 
       // DISTRIBUTE IT
-      final ODistributedResponse response = dManager
-          .sendRequest(getName(), Collections.singleton(clusterName), nodes, task, dManager.getNextMessageIdCounter(),
-              EXECUTION_MODE.RESPONSE, null, null, null);
+      final ODistributedResponse response = sendReadRequest(clusterName, nodes,
+          dbCfg.getReadQuorum(clusterName, availableNodes, localNodeName), task);
       final Object dResult = response != null ? response.getPayload() : null;
 
       if (dResult instanceof ONeedRetryException)
@@ -818,6 +817,44 @@ public class ODistributedStorage implements OStorage, OFreezableStorageComponent
     }
   }
 
+  /**
+   * Sends a read to the servers that own the cluster. When one response is enough, the read can be sent only to the server that is
+   * expected to answer first, according to {@link OGlobalConfiguration#DISTRIBUTED_READ_ROUTING}.
+   */
+  private ODistributedResponse sendReadRequest(final String clusterName, final List<String> nodes, final int readQuorum,
+      final ORemoteTask task) {
+    final ODistributedReadRouter router = dManager.getMessageService().getReadRouter();
+
+    String target = null;
+    if (readQuorum <= 1 && nodes.size() > 1) {
+      final List<String> onlineNodes = new ArrayList<String>(nodes.size());
+      for (String node : nodes)
+        if (!node.equals(dManager.getLocalNodeName()) && dManager.isNodeOnline(node, getName()))
+          onlineNodes.add(node);
+      target = router.selectNode(onlineNodes);
+    }
+
+    if (target == null)
+      return dManager.sendRequest(getName(), Collections.singleton(clusterName), nodes, task, dManager.getNextMessageIdCounter(),
+          EXECUTION_MODE.RESPONSE, null, null, null);
+
+    router.readSent(target);
+    final long start = System.nanoTime();
+    boolean answered = false;
+    try {
+      final ODistributedResponse response = dManager
+          .sendRequest(getName(), Collections.singleton(clusterName), Collections.singletonList(target), task,
+              dManager.getNextMessageIdCounter(), EXECUTION_MODE.RESPONSE, null, null, null);
+      answered = response != null;
+      return response;
+    } finally {
+      router.readCompleted(target);
+      if (!answered)
+        // NO RESPONSE: ACCOUNT THE TIME WAITED, SO THE SERVER IS AVOIDED BY THE NEXT READS
+        router.updateLatency(target, System.nanoTime() - start);
+    }
+  }
+
   @Override
   public OStorageOperationResult<ORawBuffer> readRecordIfVersionIsNotLatest(final ORecordId rid, final String fetchPlan,
       final boolean ignoreCache, final int recordVersion) throws ORecordNotFoundException {
@@ -854,9 +891,8 @@ public class ODistributedStorage implements OStorage, OFreezableStorageComponent
       task.init(rid, recordVersion);
 
       // DISTRIBUTE IT
-      final Object result = dManager
-          .sendRequest(getName(), Collections.singleton(clusterName), nodes, task, dManager.getNextMessageIdCounter(),
-              EXECUTION_MODE.RESPONSE, null, null, null).getPayload();
+      final Object result = sendReadRequest(clusterName, nodes, dbCfg.getReadQuorum(clusterName, availableNodes, localNodeName),
+          task).getPayload();
 
       if (result instanceof ONeedRetryException)
         throw (ONeedRetryException) result;
@@ -186,6 +186,11 @@ public class ODistributedTransactionManager {
             processCommitResult(localNodeName, iTx, txTask, involvedClusters, uResult, nodes, lastResult.getRequestId(),
                 lastResult);
 
+            if (OGlobalConfiguration.DISTRIBUTED_TX_PIPELINED.getValueAsBoolean())
+              // QUORUM REACHED AND END OF TRANSACTION SENT: RELEASE THE LOCKS WITHOUT WAITING FOR THE SLOWEST SERVERS, THEY WILL BE
+              // FINALIZED BY THE CALLBACK
+              releaseContext.set(true);
+
             ODistributedServerLog.debug(this, localNodeName, null, ODistributedServerLog.DIRECTION.NONE,
                 "Distributed transaction succeeded. Tasks: %s", txTask.getTasks());
 
@@ -865,7 +870,8 @@ public class ODistributedTransactionManager {
                 // SEND THE FIX
                 try {
                   sendTxCompleted(localNodeName, involvedClusters, OMultiValue.getSingletonList(s), (OCompleted2pcTask) fixTask);
-                  return true;
+                  // GO ON WITH THE OTHER SERVERS
+                  continue;
                 } catch (Throwable t) {
                   // GO FOR ROLLBACK + REPAIR
                 }
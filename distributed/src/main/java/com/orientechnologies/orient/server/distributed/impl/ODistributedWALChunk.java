@@ -0,0 +1,88 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed.impl;
+
+import com.orientechnologies.orient.core.serialization.OStreamable;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecordsFactory;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WAL records shipped from a MASTER server to a REPLICA, in LSN order.
+ */
+public class ODistributedWALChunk implements OStreamable {
+  private List<OWALRecord> records;
+
+  public ODistributedWALChunk() {
+  }
+
+  public ODistributedWALChunk(final List<OWALRecord> records) {
+    this.records = records;
+  }
+
+  public List<OWALRecord> getRecords() {
+    return records;
+  }
+
+  /**
+   * Returns the LSN of the last record, or null if the chunk is empty.
+   */
+  public OLogSequenceNumber getLastLSN() {
+    return records.isEmpty() ? null : records.get(records.size() - 1).getLsn();
+  }
+
+  @Override
+  public String toString() {
+    return "WAL[" + records.size() + " records, last=" + getLastLSN() + "]";
+  }
+
+  @Override
+  public void toStream(final DataOutput out) throws IOException {
+    out.writeInt(records.size());
+    for (OWALRecord record : records) {
+      // THE LSN IS NOT PART OF THE SERIALIZED RECORD
+      record.getLsn().toStream(out);
+      final byte[] content = OWALRecordsFactory.INSTANCE.toStream(record);
+      out.writeInt(content.length);
+      out.write(content);
+    }
+  }
+
+  @Override
+  public void fromStream(final DataInput in) throws IOException {
+    final int size = in.readInt();
+    records = new ArrayList<OWALRecord>(size);
+    for (int i = 0; i < size; ++i) {
+      final OLogSequenceNumber lsn = new OLogSequenceNumber(in);
+      final byte[] content = new byte[in.readInt()];
+      in.readFully(content);
+
+      final OWALRecord record = OWALRecordsFactory.INSTANCE.fromStream(content);
+      record.setLsn(lsn);
+      records.add(record);
+    }
+  }
+}
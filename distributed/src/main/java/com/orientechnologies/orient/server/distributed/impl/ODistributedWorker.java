@@ -34,6 +34,7 @@ import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
 import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.server.distributed.*;
 import com.orientechnologies.orient.server.distributed.ODistributedServerLog.DIRECTION;
+import com.orientechnologies.orient.server.distributed.impl.task.OWaitForTask;
 import com.orientechnologies.orient.server.distributed.task.ODistributedOperationException;
 import com.orientechnologies.orient.server.distributed.task.ORemoteTask;
 
@@ -64,6 +65,7 @@ public class ODistributedWorker extends Thread {
   protected volatile boolean running = true;
 
   private AtomicLong    processedRequests     = new AtomicLong(0);
+  private AtomicLong    stallTime             = new AtomicLong(0);
   private AtomicBoolean waitingForNextRequest = new AtomicBoolean(true);
 
   private static final long MAX_SHUTDOWN_TIMEOUT = 5000l;
@@ -119,6 +121,7 @@ public class ODistributedWorker extends Thread {
           message.getId();
           reqId = message.getId();
           onMessage(message);
+          updateStallTime(message.getTask());
         }
 
         currentExecuting = null;
@@ -467,6 +470,24 @@ public class ODistributedWorker extends Thread {
     return processedRequests.get();
   }
 
+  public int getQueueSize() {
+    return localQueue.size();
+  }
+
+  /**
+   * Returns the milliseconds this worker has been blocked by requests involving multiple queues.
+   */
+  public long getStallTime() {
+    return stallTime.get() / 1000000;
+  }
+
+  private void updateStallTime(final ORemoteTask task) {
+    if (task instanceof OWaitForTask)
+      stallTime.addAndGet(((OWaitForTask) task).getStallTime());
+    else if (task instanceof OSynchronizedTaskWrapper)
+      stallTime.addAndGet(((OSynchronizedTaskWrapper) task).getStallTime());
+  }
+
   public void reset() {
     localQueue.clear();
     if (database != null) {
@@ -39,8 +39,8 @@ import com.orientechnologies.orient.server.distributed.ODistributedServerLog.DIR
 import com.orientechnologies.orient.server.distributed.task.ODistributedDatabaseDeltaSyncException;
 
 import java.io.DataInputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -68,8 +68,20 @@ public class OIncrementalServerSync {
    * <li>Binary presentation of the record, only if record is not deleted - length of content is provided in above entity</li>
    * </ol>
    */
-  public void importDelta(final OServer serverInstance, final String databaseName, final FileInputStream in,
+  public void importDelta(final OServer serverInstance, final String databaseName, final InputStream in,
       final String iNode) throws IOException {
+    importDelta(serverInstance, databaseName, in, iNode, false);
+  }
+
+  /**
+   * Imports the delta like {@link #importDelta(OServer, String, InputStream, String)}.
+   *
+   * @param keepNewerRecords if true the records stored locally with the same or a newer version than the one in the delta are
+   *                         not updated. Used when the local server already receives the changes of the records by replication
+   *                         while the delta is imported, so a delta read before a change does not roll it back
+   */
+  public void importDelta(final OServer serverInstance, final String databaseName, final InputStream in, final String iNode,
+      final boolean keepNewerRecords) throws IOException {
     final String nodeName = serverInstance.getDistributedManager().getLocalNodeName();
 
     final ODatabaseDocumentInternal db = serverInstance.openDatabase(databaseName);
@@ -152,6 +164,15 @@ public class OIncrementalServerSync {
 
                   case ALLOCATED:
                   case PRESENT:
+                    if (keepNewerRecords) {
+                      final ORecord localRecord = db.load(rid, null, true);
+                      if (localRecord != null && localRecord.getVersion() >= recordVersion) {
+                        // ALREADY UPDATED BY A CHANGE REPLICATED AFTER THE DELTA HAS BEEN READ
+                        totalSkipped++;
+                        continue;
+                      }
+                    }
+
                     // UPDATE IT
                     newRecord = Orient.instance().getRecordFactoryManager().newInstance((byte) recordType);
                     ORecordInternal.fill(newRecord, rid, ORecordVersionHelper.setRollbackMode(recordVersion), recordContent, true);
@@ -250,6 +271,9 @@ public class OIncrementalServerSync {
 
               db.getMetadata().reload();
 
+              // THE RECORDS FILLED FROM THE DELTA CAN BE SAVED WITHOUT THE OLD EDGE VERTICES BEING INVALIDATED
+              db.getSharedContext().getAdjacencyCache().clear();
+
             } finally {
               input.close();
             }
@@ -24,10 +24,12 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.distributed.ODistributedRequestId;
 import com.orientechnologies.orient.server.distributed.ODistributedServerManager;
+import com.orientechnologies.orient.server.distributed.task.ODistributedOperationException;
 import com.orientechnologies.orient.server.distributed.task.OAbstractRemoteTask;
 import com.orientechnologies.orient.server.distributed.task.ORemoteTask;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Task wrapper to manage synchronized operations like transactions.
@@ -39,6 +41,8 @@ public class OSynchronizedTaskWrapper extends OAbstractRemoteTask {
   private boolean        usesDatabase;
   private CountDownLatch latch;
   private ORemoteTask    task;
+  private CountDownLatch arrived;
+  private long           stallTime;
 
   public OSynchronizedTaskWrapper(final CountDownLatch iLatch, final String iNodeName, final ORemoteTask iTask) {
     this.latch = iLatch;
@@ -47,6 +51,17 @@ public class OSynchronizedTaskWrapper extends OAbstractRemoteTask {
     this.usesDatabase = true;
   }
 
+  /**
+   * Executes the task only after the other involved queues reached it, namely when the arrived latch is released.
+   *
+   * @see OWaitForTask#OWaitForTask(CountDownLatch, CountDownLatch)
+   */
+  public OSynchronizedTaskWrapper(final CountDownLatch iLatch, final CountDownLatch iArrived, final String iNodeName,
+      final ORemoteTask iTask) {
+    this(iLatch, iNodeName, iTask);
+    this.arrived = iArrived;
+  }
+
   public OSynchronizedTaskWrapper(final CountDownLatch iLatch) {
     latch = iLatch;
     usesDatabase = false;
@@ -66,6 +81,9 @@ public class OSynchronizedTaskWrapper extends OAbstractRemoteTask {
   public Object execute(ODistributedRequestId requestId, OServer iServer, ODistributedServerManager iManager,
       ODatabaseDocumentInternal database) throws Exception {
     try {
+      if (arrived != null)
+        waitForInvolvedQueues();
+
       if (task != null)
         return task.execute(requestId, iServer, iManager, database);
       return null;
@@ -75,6 +93,28 @@ public class OSynchronizedTaskWrapper extends OAbstractRemoteTask {
     }
   }
 
+  private void waitForInvolvedQueues() throws InterruptedException {
+    final long taskTimeout = task.getDistributedTimeout();
+    final long start = System.nanoTime();
+    try {
+      if (taskTimeout <= 0)
+        arrived.await();
+      else if (!arrived.await(taskTimeout, TimeUnit.MILLISECONDS))
+        throw new ODistributedOperationException(String
+            .format("Cannot execute distributed request (%s) because the involved worker threads are busy (pending=%d timeout=%d)",
+                task, arrived.getCount(), taskTimeout));
+    } finally {
+      stallTime = System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * Returns the nanoseconds the queue has been blocked waiting for the other involved queues.
+   */
+  public long getStallTime() {
+    return stallTime;
+  }
+
   @Override
   public int getFactoryId() {
     return 0;
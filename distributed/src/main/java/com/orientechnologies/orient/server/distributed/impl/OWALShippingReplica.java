@@ -0,0 +1,274 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed.impl;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.cache.OAdjacencyCache;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.OMetadataDefault;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import com.orientechnologies.orient.server.distributed.ODistributedConfiguration;
+import com.orientechnologies.orient.server.distributed.ODistributedRequest;
+import com.orientechnologies.orient.server.distributed.ODistributedResponse;
+import com.orientechnologies.orient.server.distributed.ODistributedServerLog;
+import com.orientechnologies.orient.server.distributed.ODistributedServerLog.DIRECTION;
+import com.orientechnologies.orient.server.distributed.impl.task.OFetchWALTask;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a REPLICA database up to date applying the WAL records of a MASTER server to its pages, like on restore, instead of
+ * executing again the replicated tasks. The records are pulled in LSN order with {@link OFetchWALTask}, starting from the last LSN
+ * received by the master.
+ * <p>
+ * The WAL records are page changes, so they are shipped only from the master the database has been fully copied from, and the
+ * shipping never moves to another master: if the master is not available for too long, or it cannot provide the records anymore,
+ * or a file has been created or deleted, the database is copied again and the thread stops. It starts again when the database is
+ * back online.
+ * <p>
+ * The applied pages are not written in the local WAL, so the storage is flushed before saving the LSN to restart from.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#DISTRIBUTED_WAL_SHIPPING
+ */
+public class OWALShippingReplica extends Thread {
+  private static final int  MAX_RECORDS    = 1000;
+  private static final long IDLE_WAIT      = 50;
+  private static final long SYNCH_INTERVAL = 2000;
+  private static final long MASTER_TIMEOUT = 30000;
+
+  private final    ODistributedDatabaseImpl                distributed;
+  private final    ODistributedAbstractPlugin              manager;
+  private final    String                                  databaseName;
+  private final    Map<OOperationUnitId, List<OWALRecord>> pendingOperations = new HashMap<OOperationUnitId, List<OWALRecord>>();
+  private volatile boolean                                 running           = true;
+  private          long                                    unavailableSince  = -1;
+
+  public OWALShippingReplica(final ODistributedDatabaseImpl distributed) {
+    this.distributed = distributed;
+    this.manager = distributed.manager;
+    this.databaseName = distributed.getDatabaseName();
+    setName("OrientDB WALShipping node=" + manager.getLocalNodeName() + " db=" + databaseName);
+    setDaemon(true);
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public void shutdown() {
+    running = false;
+    interrupt();
+  }
+
+  @Override
+  public void run() {
+    final String master = distributed.getSyncConfiguration().getWALShippingMaster();
+    if (master == null
+        || manager.getDatabaseConfiguration(databaseName).getServerRole(master) != ODistributedConfiguration.ROLES.MASTER) {
+      resync(master, "the database has not been copied from a master server");
+      return;
+    }
+
+    OLogSequenceNumber lsn = distributed.getSyncConfiguration().getLastLSN(master);
+    if (lsn == null) {
+      resync(master, "the last LSN received is unknown");
+      return;
+    }
+
+    ODistributedServerLog
+        .info(this, manager.getLocalNodeName(), master, DIRECTION.IN, "Shipping WAL of database '%s' starting from LSN %s",
+            databaseName, lsn);
+
+    // LAST LSN WITHOUT PENDING OPERATIONS, NOT SAVED YET
+    OLogSequenceNumber appliedLSN = null;
+    long lastSynch = System.currentTimeMillis();
+
+    while (running) {
+      try {
+        if (!manager.isNodeOnline(master, databaseName)) {
+          if (waitForMaster(master))
+            return;
+          continue;
+        }
+
+        final ODistributedResponse response = manager
+            .sendRequest(databaseName, null, OMultiValue.getSingletonList(master), new OFetchWALTask(lsn, MAX_RECORDS),
+                manager.getNextMessageIdCounter(), ODistributedRequest.EXECUTION_MODE.RESPONSE, null, null, null);
+
+        final Object payload = response != null ? response.getPayload() : null;
+        if (payload instanceof Throwable)
+          throw (Throwable) payload;
+
+        if (Boolean.FALSE.equals(payload)) {
+          resync(master, "LSN " + lsn + " is not available anymore");
+          return;
+        }
+
+        if (!(payload instanceof ODistributedWALChunk)) {
+          // NO RESPONSE FROM THE MASTER
+          if (waitForMaster(master))
+            return;
+          continue;
+        }
+        unavailableSince = -1;
+
+        final ODistributedWALChunk chunk = (ODistributedWALChunk) payload;
+        if (chunk.getRecords().isEmpty()) {
+          if (appliedLSN != null) {
+            saveLSN(master, appliedLSN);
+            appliedLSN = null;
+            lastSynch = System.currentTimeMillis();
+          }
+          Thread.sleep(IDLE_WAIT);
+          continue;
+        }
+
+        apply(chunk.getRecords());
+        lsn = chunk.getLastLSN();
+
+        if (pendingOperations.isEmpty()) {
+          // ALL THE RECORDS UP TO THIS LSN ARE APPLIED: RESTART FROM HERE AFTER A RESTART
+          appliedLSN = lsn;
+          if (System.currentTimeMillis() - lastSynch > SYNCH_INTERVAL) {
+            saveLSN(master, appliedLSN);
+            appliedLSN = null;
+            lastSynch = System.currentTimeMillis();
+          }
+        }
+
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ODatabaseException e) {
+        resync(master, e.getMessage());
+        return;
+      } catch (Throwable t) {
+        if (!running)
+          break;
+
+        ODistributedServerLog.warn(this, manager.getLocalNodeName(), master, DIRECTION.IN,
+            "Error on shipping WAL of database '%s', retrying", t, databaseName);
+        try {
+          if (waitForMaster(master))
+            return;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+  }
+
+  private void apply(final List<OWALRecord> records) {
+    final ODatabaseDocumentInternal database = distributed.getDatabaseInstance();
+    try {
+      final OAbstractPaginatedStorage storage = getStorage(database);
+
+      // THE PAGES ARE CHANGED WITHOUT CALLING THE HOOKS THAT INVALIDATE THE ADJACENCY CACHE
+      final OAdjacencyCache adjacencyCache = database.getSharedContext().getAdjacencyCache();
+      if (adjacencyCache.isEnabled())
+        adjacencyCache.disable();
+
+      final Set<ORID> changed = storage.applyWALRecords(records, pendingOperations);
+
+      final int internalClusterId = database.getClusterIdByName(OMetadataDefault.CLUSTER_INTERNAL_NAME);
+      for (ORID rid : changed)
+        if (rid.getClusterId() == internalClusterId) {
+          // SCHEMA, INDEXES OR SECURITY CHANGED
+          database.getMetadata().reload();
+          break;
+        }
+    } finally {
+      database.close();
+    }
+  }
+
+  /**
+   * Flushes the applied pages, that are not in the local WAL, and then saves the LSN to restart from, so after a crash the records
+   * not flushed yet are shipped again.
+   */
+  private void saveLSN(final String master, final OLogSequenceNumber lsn) throws IOException {
+    final ODatabaseDocumentInternal database = distributed.getDatabaseInstance();
+    try {
+      getStorage(database).synch();
+    } finally {
+      database.close();
+    }
+
+    distributed.getSyncConfiguration().setLastLSN(master, lsn, true);
+    distributed.getSyncConfiguration().save();
+  }
+
+  private OAbstractPaginatedStorage getStorage(final ODatabaseDocumentInternal database) {
+    final OStorage storage = database.getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage))
+      throw new UnsupportedOperationException("Storage '" + storage.getName() + "' does not support WAL shipping");
+    return (OAbstractPaginatedStorage) storage;
+  }
+
+  /**
+   * Waits for the master to be available again. The WAL of another master cannot be applied to the pages, so if the master is not
+   * available for too long while another one is online, the database is copied again.
+   *
+   * @return true if the database has been synchronized again and the thread has to stop
+   */
+  private boolean waitForMaster(final String master) throws InterruptedException {
+    final long now = System.currentTimeMillis();
+    if (unavailableSince < 0)
+      unavailableSince = now;
+    else if (now - unavailableSince > MASTER_TIMEOUT && isAnotherMasterOnline(master)) {
+      resync(master, "the server is not available since " + (now - unavailableSince) + "ms");
+      return true;
+    }
+
+    Thread.sleep(IDLE_WAIT * 20);
+    return false;
+  }
+
+  private boolean isAnotherMasterOnline(final String master) {
+    final ODistributedConfiguration cfg = manager.getDatabaseConfiguration(databaseName);
+    for (String server : cfg.getMasterServers())
+      if (!server.equals(master) && !server.equals(manager.getLocalNodeName()) && manager.isNodeOnline(server, databaseName))
+        return true;
+    return false;
+  }
+
+  private void resync(final String master, final String reason) {
+    if (!running)
+      return;
+
+    ODistributedServerLog.warn(this, manager.getLocalNodeName(), master, DIRECTION.IN,
+        "Cannot ship WAL of database '%s' because %s, copying the database again", databaseName, reason);
+
+    running = false;
+    // A DELTA IS APPLIED RECORD BY RECORD, ONLY A FULL COPY GIVES THE SAME PAGES OF THE MASTER
+    manager.installDatabase(false, databaseName, true, false);
+  }
+}
@@ -33,14 +33,11 @@ public class ODistributedResultSet implements OResultSet {
     if (nextItem < 0) {
       throw new IllegalStateException();
     }
-    if (data.size() < nextItem) {
+    if (nextItem < data.size()) {
       return true;
     }
     fetchNextBlock();
-    if (data.size() < nextItem) {
-      return true;
-    }
-    return false;
+    return !finished && nextItem < data.size();
   }
 
   @Override
@@ -51,11 +48,11 @@ public class ODistributedResultSet implements OResultSet {
     if (finished) {
       throw new NoSuchElementException();
     }
-    if (data.size() < nextItem) {
+    if (nextItem < data.size()) {
       return data.get(nextItem++);
     }
     fetchNextBlock();
-    if (finished || data.size() >= nextItem) {
+    if (finished || nextItem >= data.size()) {
       throw new NoSuchElementException();
     }
     return data.get(nextItem++);
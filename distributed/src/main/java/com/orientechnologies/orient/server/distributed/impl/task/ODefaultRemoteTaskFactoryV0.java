@@ -126,6 +126,12 @@ public class ODefaultRemoteTaskFactoryV0 implements ORemoteTaskFactory {
 
     case OCloseQueryTask.FACTORYID: // 31
       return new OCloseQueryTask();
+
+    case OFetchWALTask.FACTORYID: // 32
+      return new OFetchWALTask();
+
+    case OSyncClusterDeltaTask.FACTORYID: // 33
+      return new OSyncClusterDeltaTask();
     }
 
     throw new IllegalArgumentException("Task with code " + code + " is not supported");
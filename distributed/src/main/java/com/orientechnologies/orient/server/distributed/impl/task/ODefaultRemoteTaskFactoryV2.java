@@ -0,0 +1,57 @@
+/*
+ *
+ *  *  Copyright 2010-2016 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed.impl.task;
+
+import com.orientechnologies.orient.server.distributed.task.ORemoteTask;
+
+/**
+ * Factory of remote tasks.
+ * <p>
+ * <ul> <li>V2 - requests and responses can be sent in batch (DISTRIBUTED_MESSAGES frames), creates all the tasks of V1 plus the
+ * ones for the distributed queries and the WAL shipping</li> </ul>
+ */
+public class ODefaultRemoteTaskFactoryV2 extends ODefaultRemoteTaskFactoryV1 {
+  @Override
+  public ORemoteTask createTask(final int code) {
+    switch (code) {
+    case ORunQueryExecutionPlanTask.FACTORYID: // 29
+      return new ORunQueryExecutionPlanTask();
+
+    case OFetchQueryPageTask.FACTORYID: // 30
+      return new OFetchQueryPageTask();
+
+    case OCloseQueryTask.FACTORYID: // 31
+      return new OCloseQueryTask();
+
+    case OFetchWALTask.FACTORYID: // 32
+      return new OFetchWALTask();
+
+    case OSyncClusterDeltaTask.FACTORYID: // 33
+      return new OSyncClusterDeltaTask();
+    }
+
+    return super.createTask(code);
+  }
+
+  @Override
+  public int getProtocolVersion() {
+    return 2;
+  }
+}
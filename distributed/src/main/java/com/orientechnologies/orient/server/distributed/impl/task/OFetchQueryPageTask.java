@@ -56,7 +56,7 @@ public class OFetchQueryPageTask extends OAbstractRemoteTask {
   public void toStream(DataOutput out) throws IOException {
     char[] chars = queryId.toCharArray();
     int length = chars.length;
-    out.write(length);
+    out.writeInt(length);
     for (char aChar : chars) {
       out.writeChar(aChar);
     }
@@ -0,0 +1,110 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed.impl.task;
+
+import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecord;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.distributed.ODistributedRequestId;
+import com.orientechnologies.orient.server.distributed.ODistributedServerManager;
+import com.orientechnologies.orient.server.distributed.ORemoteTaskFactory;
+import com.orientechnologies.orient.server.distributed.impl.ODistributedWALChunk;
+import com.orientechnologies.orient.server.distributed.task.OAbstractRemoteTask;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Asks a MASTER server for the WAL records logged after a LSN, used by the REPLICA servers when WAL shipping is enabled. Returns
+ * {@link Boolean#FALSE} when the LSN is not available in the WAL anymore and the replica has to be synchronized again.
+ *
+ * @see com.orientechnologies.orient.core.config.OGlobalConfiguration#DISTRIBUTED_WAL_SHIPPING
+ */
+public class OFetchWALTask extends OAbstractRemoteTask {
+  public static final int FACTORYID = 32;
+
+  private OLogSequenceNumber lsn;
+  private int                maxRecords;
+
+  public OFetchWALTask() {
+  }
+
+  public OFetchWALTask(final OLogSequenceNumber lsn, final int maxRecords) {
+    this.lsn = lsn;
+    this.maxRecords = maxRecords;
+  }
+
+  @Override
+  public Object execute(final ODistributedRequestId requestId, final OServer iServer, final ODistributedServerManager iManager,
+      final ODatabaseDocumentInternal database) throws Exception {
+    final OStorage storage = database.getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage))
+      throw new UnsupportedOperationException("Storage '" + storage.getName() + "' does not support WAL shipping");
+
+    final List<OWALRecord> records = ((OAbstractPaginatedStorage) storage).readWALRecords(lsn, maxRecords);
+    if (records == null)
+      return Boolean.FALSE;
+
+    return new ODistributedWALChunk(records);
+  }
+
+  @Override
+  public OCommandDistributedReplicateRequest.QUORUM_TYPE getQuorumType() {
+    return OCommandDistributedReplicateRequest.QUORUM_TYPE.NONE;
+  }
+
+  @Override
+  public RESULT_STRATEGY getResultStrategy() {
+    return RESULT_STRATEGY.ANY;
+  }
+
+  @Override
+  public String getName() {
+    return "fetch_wal";
+  }
+
+  @Override
+  public void toStream(final DataOutput out) throws IOException {
+    lsn.toStream(out);
+    out.writeInt(maxRecords);
+  }
+
+  @Override
+  public void fromStream(final DataInput in, final ORemoteTaskFactory factory) throws IOException {
+    lsn = new OLogSequenceNumber(in);
+    maxRecords = in.readInt();
+  }
+
+  @Override
+  public int getFactoryId() {
+    return FACTORYID;
+  }
+
+  @Override
+  public String toString() {
+    return getName() + "(" + lsn + ")";
+  }
+}
@@ -114,11 +114,11 @@ public class ORunQueryExecutionPlanTask extends OAbstractRemoteTask {
     serializerNetwork.serialize(params, container);
 
     OResultInternal metadata = new OResultInternal();
-    params.setProperty("nodeName", nodeName);
+    metadata.setProperty("nodeName", nodeName);
     serializerNetwork.serialize(metadata, container);
 
     container.fitBytes();
-    out.write(container.bytes.length);
+    out.writeInt(container.bytes.length);
     out.write(container.bytes);
 
   }
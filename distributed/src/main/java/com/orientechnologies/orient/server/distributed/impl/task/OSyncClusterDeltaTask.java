@@ -0,0 +1,148 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed.impl.task;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.distributed.*;
+import com.orientechnologies.orient.server.distributed.ODistributedServerLog.DIRECTION;
+import com.orientechnologies.orient.server.distributed.impl.ODistributedDatabaseChunk;
+import com.orientechnologies.orient.server.distributed.task.OAbstractRemoteTask;
+import com.orientechnologies.orient.server.distributed.task.ODistributedDatabaseDeltaSyncException;
+
+import java.io.*;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Asks the records of a cluster changed after a LSN, in the format of the delta of database. It's used to align a cluster copied
+ * while it was changed, like during the migration of a cluster to a new owner. Returns {@link Boolean#FALSE} if nothing changed.
+ *
+ * @see com.orientechnologies.orient.server.distributed.impl.OClusterMigration
+ */
+public class OSyncClusterDeltaTask extends OAbstractRemoteTask {
+  public static final int FACTORYID = 33;
+
+  private String             clusterName;
+  private OLogSequenceNumber lastLSN;
+
+  public OSyncClusterDeltaTask() {
+  }
+
+  public OSyncClusterDeltaTask(final String clusterName, final OLogSequenceNumber lastLSN) {
+    this.clusterName = clusterName;
+    this.lastLSN = lastLSN;
+  }
+
+  @Override
+  public Object execute(final ODistributedRequestId requestId, final OServer iServer, final ODistributedServerManager iManager,
+      final ODatabaseDocumentInternal database) throws Exception {
+    final OStorage storage = database.getStorage().getUnderlying();
+    if (!(storage instanceof OAbstractPaginatedStorage))
+      throw new UnsupportedOperationException("Storage '" + storage.getName() + "' does not support delta of clusters");
+
+    final Set<String> excludedClusterNames = new HashSet<String>(storage.getClusterNames());
+    excludedClusterNames.remove(clusterName);
+
+    final File deltaFile = new File(
+        Orient.getTempPath() + "/backup_" + getNodeSource() + "_" + database.getName() + "_" + clusterName + "_delta.dat");
+    if (deltaFile.exists())
+      deltaFile.delete();
+    else
+      deltaFile.getParentFile().mkdirs();
+
+    final File completedFile = new File(deltaFile.getAbsolutePath() + ".completed");
+    if (completedFile.exists())
+      completedFile.delete();
+
+    final OLogSequenceNumber endLSN;
+    final OutputStream out = new BufferedOutputStream(new FileOutputStream(deltaFile));
+    try {
+      endLSN = ((OAbstractPaginatedStorage) storage).recordsChangedAfterLSN(lastLSN, out, excludedClusterNames, null);
+    } finally {
+      out.close();
+      completedFile.createNewFile();
+    }
+
+    if (endLSN == null)
+      throw new ODistributedDatabaseDeltaSyncException(lastLSN);
+
+    if (endLSN.equals(lastLSN))
+      return Boolean.FALSE;
+
+    ODistributedServerLog.info(this, iManager.getLocalNodeName(), getNodeSource(), DIRECTION.OUT,
+        "Sending delta of cluster '%s.%s' range=%s-%s size=%s", database.getName(), clusterName, lastLSN, endLSN,
+        OFileUtils.getSizeAsString(deltaFile.length()));
+
+    final ODistributedMomentum momentum = new ODistributedMomentum();
+    momentum.setLSN(iManager.getLocalNodeName(), endLSN);
+
+    return new ODistributedDatabaseChunk(deltaFile, 0, OSyncClusterTask.CHUNK_MAX_SIZE, momentum, false);
+  }
+
+  @Override
+  public OCommandDistributedReplicateRequest.QUORUM_TYPE getQuorumType() {
+    return OCommandDistributedReplicateRequest.QUORUM_TYPE.NONE;
+  }
+
+  @Override
+  public RESULT_STRATEGY getResultStrategy() {
+    return RESULT_STRATEGY.ANY;
+  }
+
+  @Override
+  public long getDistributedTimeout() {
+    return OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_TASK_SYNCH_TIMEOUT.getValueAsLong();
+  }
+
+  @Override
+  public String getName() {
+    return "deploy_cluster_delta";
+  }
+
+  @Override
+  public void toStream(final DataOutput out) throws IOException {
+    out.writeUTF(clusterName);
+    lastLSN.toStream(out);
+  }
+
+  @Override
+  public void fromStream(final DataInput in, final ORemoteTaskFactory factory) throws IOException {
+    clusterName = in.readUTF();
+    lastLSN = new OLogSequenceNumber(in);
+  }
+
+  @Override
+  public int getFactoryId() {
+    return FACTORYID;
+  }
+
+  @Override
+  public String toString() {
+    return getName() + "(" + clusterName + "," + lastLSN + ")";
+  }
+}
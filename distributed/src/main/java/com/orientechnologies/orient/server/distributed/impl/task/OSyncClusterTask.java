@@ -109,6 +109,11 @@ public class OSyncClusterTask extends OAbstractReplicatedTask {
 
         final OPaginatedCluster cluster = (OPaginatedCluster) database.getStorage().getClusterByName(clusterName);
 
+        // THE LSN IS TAKEN BEFORE THE BACKUP, SO THE CHANGES AFTER IT CAN BE REQUESTED WITH A DELTA
+        final OAbstractPaginatedStorage paginatedStorage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
+        final ODistributedMomentum momentum = new ODistributedMomentum();
+        momentum.setLSN(iManager.getLocalNodeName(), paginatedStorage.getLSN());
+
         switch (mode) {
         case MERGE:
           throw new IllegalArgumentException("Merge mode not supported");
@@ -136,7 +141,6 @@ public class OSyncClusterTask extends OAbstractReplicatedTask {
 
                   final Map<String, String> fileNames = new LinkedHashMap<>();
 
-                  final OAbstractPaginatedStorage paginatedStorage = (OAbstractPaginatedStorage) database.getStorage().getUnderlying();
                   final OWriteCache writeCache = paginatedStorage.getWriteCache();
 
                   addFileById(fileNames, cluster.getFileId(), writeCache);
@@ -179,7 +183,7 @@ public class OSyncClusterTask extends OAbstractReplicatedTask {
               "Sending the compressed cluster '%s.%s' over the NETWORK to node '%s', size=%s...", databaseName, clusterName,
               getNodeSource(), OFileUtils.getSizeAsString(fileSize));
 
-          final ODistributedDatabaseChunk chunk = new ODistributedDatabaseChunk(backupFile, 0, CHUNK_MAX_SIZE, null, false);
+          final ODistributedDatabaseChunk chunk = new ODistributedDatabaseChunk(backupFile, 0, CHUNK_MAX_SIZE, momentum, false);
 
           ODistributedServerLog.info(this, iManager.getLocalNodeName(), getNodeSource(), DIRECTION.OUT,
               "- transferring chunk #%d offset=%d size=%s...", 1, 0, OFileUtils.getSizeAsNumber(chunk.buffer.length));
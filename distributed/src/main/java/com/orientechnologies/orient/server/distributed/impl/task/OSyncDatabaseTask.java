@@ -31,6 +31,7 @@ import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.distributed.*;
 import com.orientechnologies.orient.server.distributed.ODistributedServerLog.DIRECTION;
 import com.orientechnologies.orient.server.distributed.impl.ODistributedDatabaseChunk;
+import com.orientechnologies.orient.server.distributed.impl.ODistributedDatabaseChunkStream;
 import com.orientechnologies.orient.server.distributed.impl.ODistributedStorage;
 
 import java.io.*;
@@ -43,7 +44,8 @@ import java.util.concurrent.atomic.AtomicReference;
  * @author Luca Garulli (l.garulli--at--orientdb.com)
  */
 public class OSyncDatabaseTask extends OAbstractSyncDatabaseTask {
-  public static final int FACTORYID = 14;
+  public static final int FACTORYID              = 14;
+  public static final int STREAM_BUFFERED_CHUNKS = 4;
 
   public OSyncDatabaseTask() {
   }
@@ -81,6 +83,9 @@ public class OSyncDatabaseTask extends OAbstractSyncDatabaseTask {
         ODistributedServerLog
             .info(this, iManager.getLocalNodeName(), getNodeSource(), DIRECTION.OUT, "Deploying database %s...", databaseName);
 
+        if (OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_STREAMING.getValueAsBoolean())
+          return streamDatabase(requestId, iManager, database, dDatabase);
+
         final AtomicReference<ODistributedMomentum> momentum = new AtomicReference<ODistributedMomentum>();
 
         File backupFile = ((ODistributedStorage) database.getStorage()).getLastValidBackup();
@@ -125,15 +130,7 @@ public class OSyncDatabaseTask extends OAbstractSyncDatabaseTask {
                     momentum.set(dDatabase.getSyncConfiguration().getMomentum().copy());
                     return null;
                   }
-                }, ODistributedServerLog.isDebugEnabled() ? new OCommandOutputListener() {
-                  @Override
-                  public void onMessage(String iText) {
-                    if (iText.startsWith("\n"))
-                      iText = iText.substring(1);
-
-                    OLogManager.instance().debug(this, iText);
-                  }
-                } : null, OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_TASK_COMPRESSION.getValueAsInteger(), CHUNK_MAX_SIZE);
+                }, getBackupListener(), OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_TASK_COMPRESSION.getValueAsInteger(), CHUNK_MAX_SIZE);
 
                 ODistributedServerLog.info(this, iManager.getLocalNodeName(), getNodeSource(), DIRECTION.OUT,
                     "Backup of database '%s' completed. lastOperationId=%s...", databaseName, requestId);
@@ -194,6 +191,80 @@ public class OSyncDatabaseTask extends OAbstractSyncDatabaseTask {
     return Boolean.FALSE;
   }
 
+  /**
+   * Sends the backup of the database while it's created, without writing it on disk. The first chunk is returned as soon as it's
+   * available, the next ones are requested by the joining node with {@link OCopyDatabaseChunkTask}.
+   */
+  private ODistributedDatabaseChunk streamDatabase(final ODistributedRequestId requestId, final ODistributedServerManager iManager,
+      final ODatabaseDocumentInternal database, final ODistributedDatabase dDatabase) throws InterruptedException {
+    final String databaseName = database.getName();
+    final int compressionRate = OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_TASK_COMPRESSION.getValueAsInteger();
+
+    final ODistributedDatabaseChunkStream stream = ODistributedDatabaseChunkStream
+        .open(databaseName, CHUNK_MAX_SIZE, STREAM_BUFFERED_CHUNKS,
+            OGlobalConfiguration.DISTRIBUTED_DEPLOYCHUNK_TASK_SYNCH_TIMEOUT.getValueAsLong());
+
+    final AtomicReference<ODistributedMomentum> momentum = new AtomicReference<ODistributedMomentum>();
+
+    ODistributedServerLog.info(this, iManager.getLocalNodeName(), getNodeSource(), DIRECTION.OUT,
+        "Streaming backup of database '%s' (compressionRate=%d)...", databaseName, compressionRate);
+
+    new Thread(new Runnable() {
+      @Override
+      public void run() {
+        Thread.currentThread().setName("OrientDB SyncDatabase node=" + iManager.getLocalNodeName() + " db=" + databaseName);
+
+        try {
+          database.activateOnCurrentThread();
+
+          database.backup(stream, null, new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+              momentum.set(dDatabase.getSyncConfiguration().getMomentum().copy());
+              return null;
+            }
+          }, getBackupListener(), compressionRate, CHUNK_MAX_SIZE);
+
+          stream.close();
+
+          ODistributedServerLog.info(this, iManager.getLocalNodeName(), getNodeSource(), DIRECTION.OUT,
+              "Streaming backup of database '%s' completed. lastOperationId=%s...", databaseName, requestId);
+
+        } catch (Throwable e) {
+          OLogManager.instance().error(this, "Cannot execute backup of database '%s' for deploy database", e, databaseName);
+          stream.fail();
+        }
+      }
+    }).start();
+
+    for (int retry = 0; momentum.get() == null && retry < 10; ++retry)
+      Thread.sleep(300);
+
+    final ODistributedDatabaseChunk chunk = stream.nextChunk(0, momentum.get());
+
+    ODistributedServerLog.info(this, iManager.getLocalNodeName(), getNodeSource(), ODistributedServerLog.DIRECTION.OUT,
+        "- transferring chunk #%d offset=%d size=%s lsn=%s...", 1, 0, OFileUtils.getSizeAsNumber(chunk.buffer.length),
+        momentum.get());
+
+    if (chunk.last)
+      // NO MORE CHUNKS: SET THE NODE ONLINE (SYNCHRONIZING ENDED)
+      iManager.setDatabaseStatus(iManager.getLocalNodeName(), databaseName, ODistributedServerManager.DB_STATUS.ONLINE);
+
+    return chunk;
+  }
+
+  private OCommandOutputListener getBackupListener() {
+    return ODistributedServerLog.isDebugEnabled() ? new OCommandOutputListener() {
+      @Override
+      public void onMessage(String iText) {
+        if (iText.startsWith("\n"))
+          iText = iText.substring(1);
+
+        OLogManager.instance().debug(this, iText);
+      }
+    } : null;
+  }
+
   @Override
   public String getName() {
     return "deploy_db";
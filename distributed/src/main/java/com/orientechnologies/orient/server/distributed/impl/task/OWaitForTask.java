@@ -36,11 +36,21 @@ import java.util.concurrent.CountDownLatch;
  */
 public class OWaitForTask extends OAbstractRemoteTask {
   private CountDownLatch latch;
+  private CountDownLatch arrived;
+  private long           stallTime;
 
   public OWaitForTask(final CountDownLatch iLatch) {
     latch = iLatch;
   }
 
+  /**
+   * Signals through the arrived latch that all the previous requests of the queue have been executed, then waits for the real task.
+   */
+  public OWaitForTask(final CountDownLatch iArrived, final CountDownLatch iLatch) {
+    arrived = iArrived;
+    latch = iLatch;
+  }
+
   @Override
   public String getName() {
     return null;
@@ -54,11 +64,26 @@ public class OWaitForTask extends OAbstractRemoteTask {
   @Override
   public Object execute(ODistributedRequestId requestId, OServer iServer, ODistributedServerManager iManager,
       ODatabaseDocumentInternal database) throws Exception {
+    if (arrived != null)
+      arrived.countDown();
+
     // WAIT UNTIL THE REAL TASK IS EXECUTED
-    latch.await();
+    final long start = System.nanoTime();
+    try {
+      latch.await();
+    } finally {
+      stallTime = System.nanoTime() - start;
+    }
     return null;
   }
 
+  /**
+   * Returns the nanoseconds the queue has been blocked waiting for the real task.
+   */
+  public long getStallTime() {
+    return stallTime;
+  }
+
   @Override
   public int getFactoryId() {
     return 0;
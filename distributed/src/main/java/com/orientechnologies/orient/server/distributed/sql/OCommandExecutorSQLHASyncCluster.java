@@ -42,6 +42,7 @@ import com.orientechnologies.orient.core.sql.parser.OStatementCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OClusterPositionMap;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OPaginatedCluster;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.distributed.*;
 import com.orientechnologies.orient.server.distributed.impl.ODistributedAbstractPlugin;
@@ -58,7 +59,8 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * SQL HA SYNC CLUSTER command: synchronizes a cluster from distributed servers.
+ * SQL HA SYNC CLUSTER command: synchronizes a cluster from distributed servers. With <code>-migrate</code> moves the ownership of
+ * the cluster to the server that executes the command, see {@link com.orientechnologies.orient.server.distributed.impl.OClusterMigration}.
  * 
  * @author Luca Garulli
  * 
@@ -101,6 +103,12 @@ public class OCommandExecutorSQLHASyncCluster extends OCommandExecutorSQLAbstrac
     final String databaseName = database.getName();
 
     try {
+      if (this.parsedStatement.modeMigrate) {
+        final String clusterName = this.parsedStatement.clusterName.getStringValue();
+        if (!dManager.migrateCluster(databaseName, clusterName))
+          return String.format("Cluster '%s' is already migrating", clusterName);
+        return String.format("Started migration of cluster '%s' to server '%s'", clusterName, dManager.getLocalNodeName());
+      }
       if(this.parsedStatement.modeFull) {
         return replaceCluster(dManager, database, serverInstance, databaseName, this.parsedStatement.clusterName.getStringValue());
       }
@@ -124,19 +132,30 @@ public class OCommandExecutorSQLHASyncCluster extends OCommandExecutorSQLAbstrac
   public static Object replaceCluster(final ODistributedAbstractPlugin dManager, final OServer serverInstance,
       final String databaseName, final String clusterName) {
     final ODistributedConfiguration cfg = dManager.getDatabaseConfiguration(databaseName);
-    final String dbPath = serverInstance.getDatabaseDirectory() + databaseName;
-
-    final String nodeName = dManager.getLocalNodeName();
 
     final List<String> nodesWhereClusterIsCfg = cfg.getServers(clusterName, null);
-    nodesWhereClusterIsCfg.remove(nodeName);
+    nodesWhereClusterIsCfg.remove(dManager.getLocalNodeName());
 
     if (nodesWhereClusterIsCfg.isEmpty())
       throw new OCommandExecutionException(
           "Cannot synchronize cluster '" + clusterName + "' because is not configured on any running nodes");
 
+    return replaceCluster(dManager, serverInstance, databaseName, clusterName, nodesWhereClusterIsCfg, null);
+  }
+
+  /**
+   * Replaces the local cluster with the copy received from the passed servers.
+   *
+   * @param momentum if not null, it's filled with the LSN of the servers when the copy has been taken
+   */
+  public static Object replaceCluster(final ODistributedAbstractPlugin dManager, final OServer serverInstance,
+      final String databaseName, final String clusterName, final List<String> sourceNodes, final ODistributedMomentum momentum) {
+    final String dbPath = serverInstance.getDatabaseDirectory() + databaseName;
+
+    final String nodeName = dManager.getLocalNodeName();
+
     final OSyncClusterTask task = new OSyncClusterTask(clusterName);
-    final ODistributedResponse response = dManager.sendRequest(databaseName, null, nodesWhereClusterIsCfg, task,
+    final ODistributedResponse response = dManager.sendRequest(databaseName, null, sourceNodes, task,
         dManager.getNextMessageIdCounter(), ODistributedRequest.EXECUTION_MODE.RESPONSE, null, null, null);
 
     final Map<String, Object> results = (Map<String, Object>) response.getPayload();
@@ -164,6 +183,12 @@ public class OCommandExecutorSQLHASyncCluster extends OCommandExecutorSQLAbstrac
         } else if (value instanceof ODistributedDatabaseChunk) {
           ODistributedDatabaseChunk chunk = (ODistributedDatabaseChunk) value;
 
+          if (momentum != null && chunk.getMomentum() != null) {
+            final OLogSequenceNumber lsn = chunk.getMomentum().getLSN(r.getKey());
+            if (lsn != null)
+              momentum.setLSN(r.getKey(), lsn);
+          }
+
           // DELETE ANY PREVIOUS .COMPLETED FILE
           final File completedFile = new File(tempFile.getAbsolutePath() + ".completed");
           if (completedFile.exists())
@@ -203,7 +228,7 @@ public class OCommandExecutorSQLHASyncCluster extends OCommandExecutorSQLAbstrac
       ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
       final boolean openDatabaseHere = db == null;
       if (db == null)
-        db = serverInstance.openDatabase("plocal:" + dbPath, "", "", null, true);
+        db = serverInstance.openDatabase(databaseName);
 
       try {
 
@@ -273,7 +298,7 @@ public class OCommandExecutorSQLHASyncCluster extends OCommandExecutorSQLAbstrac
 
   @Override
   public String getSyntax() {
-    return "HA SYNC CLUSTER <cluster-name> [-full_replace|-merge]";
+    return "HA SYNC CLUSTER <cluster-name> [-full_replace|-merge|-migrate]";
   }
 
   protected static long writeDatabaseChunk(final String iNodeName, final int iChunkId, final ODistributedDatabaseChunk chunk,
@@ -492,6 +492,7 @@ public class OHazelcastPlugin extends ODistributedAbstractPlugin
 
       buffer.append(ODistributedOutput.formatLatency(this, clusterCfg));
       buffer.append(ODistributedOutput.formatMessages(this, clusterCfg));
+      buffer.append(messageService.getMetrics().dump());
 
       OLogManager.instance().flush();
       buffer.append("\n" + getLockManagerExecutor().dumpLocks());
@@ -0,0 +1,155 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Migrates a cluster configured only on the first server to the second one with HA SYNC CLUSTER -migrate, while the records of the
+ * cluster are updated on the first server. At the end the second server owns the cluster and has the last version of every record.
+ */
+public class ClusterMigrationTest extends AbstractServerClusterTest {
+  private final static int    SERVERS = 2;
+  private final static int    RECORDS = 500;
+  private final static String CLUSTER = "migrated";
+
+  @Test
+  public void test() throws Exception {
+    init(SERVERS);
+    prepare(false);
+    execute();
+  }
+
+  @Override
+  protected String getDatabaseName() {
+    return "distributed-cluster-migration";
+  }
+
+  @Override
+  protected String getDistributedServerConfiguration(final ServerRun server) {
+    return "migration-dserver-config-" + server.getServerId() + ".xml";
+  }
+
+  @Override
+  protected void onAfterDatabaseCreation(final ODatabaseDocument db) {
+    final OClass migrated = db.getMetadata().getSchema().createClass("Migrated", db.addCluster(CLUSTER));
+    migrated.setClusterSelection("round-robin");
+  }
+
+  @Override
+  protected void executeTest() throws Exception {
+    final String firstNode = serverInstance.get(0).getServerInstance().getDistributedManager().getLocalNodeName();
+    final String secondNode = serverInstance.get(1).getServerInstance().getDistributedManager().getLocalNodeName();
+    Assert.assertEquals(firstNode, getClusterOwner());
+
+    final List<ORID> rids = new ArrayList<ORID>();
+    ODatabaseDocument db = getDatabase(0);
+    try {
+      for (int i = 0; i < RECORDS; ++i)
+        rids.add(db.save(new ODocument("Migrated").field("value", 0), CLUSTER).getIdentity());
+    } finally {
+      db.close();
+    }
+
+    // THE RECORDS ARE UPDATED ON THE OLD OWNER DURING THE WHOLE MIGRATION
+    final AtomicBoolean running = new AtomicBoolean(true);
+    final AtomicLong updates = new AtomicLong();
+    final Thread writer = new Thread() {
+      @Override
+      public void run() {
+        final ODatabaseDocument db = getDatabase(0);
+        try {
+          for (int i = 0; running.get(); ++i) {
+            try {
+              final ODocument doc = db.load(rids.get(i % RECORDS));
+              doc.field("value", (Integer) doc.field("value") + 1);
+              db.save(doc);
+              updates.incrementAndGet();
+            } catch (OConcurrentModificationException e) {
+              // RETRY WITH THE NEXT RECORD
+            }
+          }
+        } finally {
+          db.close();
+        }
+      }
+    };
+    writer.start();
+
+    try {
+      db = getDatabase(1);
+      try {
+        final Object result = db.command(new OCommandSQL("HA SYNC CLUSTER " + CLUSTER + " -migrate")).execute();
+        Assert.assertTrue(result.toString(), result.toString().startsWith("Started migration"));
+      } finally {
+        db.close();
+      }
+
+      waitFor(60000, new OCallable<Boolean, Void>() {
+        @Override
+        public Boolean call(final Void iArgument) {
+          return secondNode.equals(getClusterOwner());
+        }
+      }, "Cluster '" + CLUSTER + "' has not been migrated to " + secondNode);
+
+      // SOME UPDATES AFTER THE MIGRATION TOO
+      final long updatesAfterMigration = updates.get() + RECORDS;
+      waitFor(30000, new OCallable<Boolean, Void>() {
+        @Override
+        public Boolean call(final Void iArgument) {
+          return updates.get() >= updatesAfterMigration;
+        }
+      }, "Records have not been updated after the migration");
+    } finally {
+      running.set(false);
+      writer.join();
+    }
+
+    Assert.assertTrue(getDatabaseConfiguration().getServers(CLUSTER, null).contains(firstNode));
+
+    waitFor(30000, new OCallable<Boolean, Void>() {
+      @Override
+      public Boolean call(final Void iArgument) {
+        return readCluster(0).equals(readCluster(1));
+      }
+    }, "Cluster '" + CLUSTER + "' is not aligned on the servers");
+
+    Assert.assertEquals(RECORDS, readCluster(1).size());
+  }
+
+  private ODistributedConfiguration getDatabaseConfiguration() {
+    return serverInstance.get(0).getServerInstance().getDistributedManager().getDatabaseConfiguration(getDatabaseName());
+  }
+
+  private String getClusterOwner() {
+    return getDatabaseConfiguration().getClusterOwner(CLUSTER);
+  }
+
+  /**
+   * Returns the value and the version of the records of the cluster stored on the server.
+   */
+  private Map<ORID, String> readCluster(final int serverId) {
+    final Map<ORID, String> records = new HashMap<ORID, String>();
+    final ODatabaseDocument db = getDatabase(serverId);
+    try {
+      for (ODocument doc : db.browseCluster(CLUSTER, ODocument.class))
+        records.put(doc.getIdentity(), doc.field("value") + "v" + doc.getVersion());
+    } finally {
+      db.close();
+    }
+    return records;
+  }
+}
@@ -0,0 +1,74 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Starts 2 servers with the database on the first one only, so the second one installs it through the backup streamed by the first.
+ */
+public class DistributedDeployStreamingTest extends AbstractServerClusterTest {
+  private final static int SERVERS = 2;
+  private final static int RECORDS = 5000;
+
+  @Test
+  public void test() throws Exception {
+    Assert.assertFalse(OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_STREAMING.getValueAsBoolean());
+
+    OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_STREAMING.setValue(true);
+    try {
+      init(SERVERS);
+      prepare(false);
+      execute();
+    } finally {
+      OGlobalConfiguration.DISTRIBUTED_DEPLOYDB_STREAMING.setValue(false);
+    }
+  }
+
+  @Override
+  protected String getDatabaseName() {
+    return "distributed-deploy-streaming";
+  }
+
+  @Override
+  protected void onAfterDatabaseCreation(final ODatabaseDocument db) {
+    db.createClass("Streamed");
+    for (int i = 0; i < RECORDS; ++i)
+      db.save(new ODocument("Streamed").field("counter", i).field("payload", "streamed record " + i));
+  }
+
+  @Override
+  protected void executeTest() throws Exception {
+    ODatabaseDocument db = getDatabase(1);
+    try {
+      Assert.assertEquals(RECORDS, db.countClass("Streamed"));
+    } finally {
+      db.close();
+    }
+
+    // THE SOURCE IS NOT FROZEN ANYMORE ONCE THE STREAM HAS BEEN CONSUMED
+    db = getDatabase(0);
+    try {
+      db.save(new ODocument("Streamed").field("counter", RECORDS));
+    } finally {
+      db.close();
+    }
+
+    waitFor(1, new OCallable<Boolean, ODatabaseDocument>() {
+      @Override
+      public Boolean call(final ODatabaseDocument db) {
+        return db.countClass("Streamed") == RECORDS + 1;
+      }
+    }, 10000);
+
+    db = getDatabase(1);
+    try {
+      Assert.assertEquals(RECORDS + 1, db.countClass("Streamed"));
+    } finally {
+      db.close();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.server.distributed.impl.task.ORunQueryExecutionPlanTask;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts 2 servers that negotiate the distributed protocol 2, where the requests and the responses are sent in batch, and replicates
+ * records written by concurrent threads.
+ */
+public class DistributedMessagesBatchTest extends AbstractServerClusterTest {
+  private final static int SERVERS = 2;
+  private final static int THREADS = 8;
+  private final static int RECORDS = 100;
+
+  @Test
+  public void test() throws Exception {
+    init(SERVERS);
+    prepare(false);
+    execute();
+  }
+
+  @Override
+  protected String getDatabaseName() {
+    return "distributed-messages-batch";
+  }
+
+  @Override
+  protected void executeTest() throws Exception {
+    for (int s = 0; s < SERVERS; ++s) {
+      final ODistributedServerManager manager = serverInstance.get(s).getServerInstance().getDistributedManager();
+      final String other = serverInstance.get((s + 1) % SERVERS).getServerInstance().getDistributedManager().getLocalNodeName();
+
+      Assert.assertEquals(ORemoteServerController.CURRENT_PROTOCOL_VERSION, manager.getRemoteServer(other).getProtocolVersion());
+      final ORemoteTaskFactory factory = manager.getTaskFactoryManager().getFactoryByServerName(other);
+      Assert.assertEquals(ORemoteServerController.CURRENT_PROTOCOL_VERSION, factory.getProtocolVersion());
+      Assert.assertTrue(factory.createTask(ORunQueryExecutionPlanTask.FACTORYID) instanceof ORunQueryExecutionPlanTask);
+    }
+
+    ODatabaseDocument db = getDatabase(0);
+    try {
+      db.createClass("Batched");
+    } finally {
+      db.close();
+    }
+
+    // CONCURRENT WRITES ENQUEUE MORE MESSAGES WHILE A FRAME IS BEING WRITTEN
+    final AtomicInteger errors = new AtomicInteger();
+    executeOnMultipleThreads(THREADS, new OCallable<Void, Integer>() {
+      @Override
+      public Void call(final Integer thread) {
+        final ODatabaseDocument db = getDatabase(thread % SERVERS);
+        try {
+          for (int i = 0; i < RECORDS; ++i)
+            db.save(new ODocument("Batched").field("thread", thread).field("counter", i));
+        } catch (Exception e) {
+          e.printStackTrace();
+          errors.incrementAndGet();
+        } finally {
+          db.close();
+        }
+        return null;
+      }
+    });
+    Assert.assertEquals(0, errors.get());
+
+    for (int s = 0; s < SERVERS; ++s) {
+      db = getDatabase(s);
+      try {
+        Assert.assertEquals(THREADS * RECORDS, db.countClass("Batched"));
+      } finally {
+        db.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseLifecycleListener;
+import com.orientechnologies.orient.core.db.ODatabaseLifecycleListenerAbstract;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.exception.OValidationException;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Commits transactions in pipelined mode while the last server, that is not needed for the quorum, answers late or fails. The
+ * locks are released as soon as the quorum is reached and the minority server is aligned afterwards by the followup messages.
+ */
+public class PipelinedTxTest extends AbstractServerClusterTest {
+  private final static int  SERVERS = 3;
+  private final static long DELAY   = 5000;
+
+  private enum MODE {
+    NONE, SLOW, FAIL
+  }
+
+  private volatile MODE minorityMode = MODE.NONE;
+
+  /**
+   * Slows down or fails the updates received by the minority server.
+   */
+  private class MinorityHook extends ORecordHookAbstract {
+    @Override
+    public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+      return DISTRIBUTED_EXECUTION_MODE.TARGET_NODE;
+    }
+
+    @Override
+    public RESULT onRecordBeforeUpdate(final ORecord iRecord) {
+      if (minorityMode == MODE.SLOW) {
+        try {
+          Thread.sleep(DELAY);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      } else if (minorityMode == MODE.FAIL) {
+        minorityMode = MODE.NONE;
+        throw new OValidationException("Update refused by the minority server");
+      }
+      return RESULT.RECORD_NOT_CHANGED;
+    }
+  }
+
+  @Test
+  public void test() throws Exception {
+    final ODatabaseLifecycleListener listener = new ODatabaseLifecycleListenerAbstract() {
+      @Override
+      public void onOpen(final ODatabaseInternal iDatabase) {
+        if (iDatabase.getURL().replace('\\', '/').contains("/server" + (SERVERS - 1) + "/databases/"))
+          iDatabase.registerHook(new MinorityHook(), ORecordHook.HOOK_POSITION.REGULAR);
+      }
+    };
+
+    final boolean pipelined = OGlobalConfiguration.DISTRIBUTED_TX_PIPELINED.getValueAsBoolean();
+    OGlobalConfiguration.DISTRIBUTED_TX_PIPELINED.setValue(true);
+    Orient.instance().addDbLifecycleListener(listener);
+    try {
+      init(SERVERS);
+      prepare(false);
+      execute();
+    } finally {
+      Orient.instance().removeDbLifecycleListener(listener);
+      OGlobalConfiguration.DISTRIBUTED_TX_PIPELINED.setValue(pipelined);
+    }
+  }
+
+  @Override
+  protected String getDatabaseName() {
+    return "distributed-pipelined-tx";
+  }
+
+  @Override
+  protected void onAfterDatabaseCreation(final ODatabaseDocument db) {
+    db.getMetadata().getSchema().createClass("Pipelined");
+  }
+
+  @Override
+  protected void executeTest() throws Exception {
+    final ODatabaseDocument db = getDatabase(0);
+    final ORID rid;
+    try {
+      rid = db.save(new ODocument("Pipelined").field("value", 0)).getIdentity();
+    } finally {
+      db.close();
+    }
+    waitForValue(rid, 0);
+
+    // LATE MINORITY: THE SECOND TRANSACTION ON THE SAME RECORD DOES NOT WAIT FOR ITS RESPONSE TO THE FIRST ONE
+    minorityMode = MODE.SLOW;
+    final long start = System.currentTimeMillis();
+    update(rid, 1);
+    update(rid, 2);
+    final long elapsed = System.currentTimeMillis() - start;
+    minorityMode = MODE.NONE;
+    Assert.assertTrue("Transactions waited for the late server: " + elapsed + "ms", elapsed < DELAY);
+
+    // THE LATE SERVER IS FINALIZED BY THE CALLBACK
+    waitForValue(rid, 2);
+
+    // FAILED MINORITY: THE TRANSACTION SUCCEEDS WITH THE QUORUM AND THE FAILED SERVER IS REPAIRED
+    minorityMode = MODE.FAIL;
+    update(rid, 3);
+    waitForValue(rid, 3);
+    Assert.assertEquals(MODE.NONE, minorityMode);
+  }
+
+  private void update(final ORID rid, final int value) {
+    final ODatabaseDocument db = getDatabase(0);
+    try {
+      db.begin();
+      final ODocument doc = db.load(rid);
+      doc.field("value", value);
+      db.save(doc);
+      db.commit();
+    } finally {
+      db.close();
+    }
+  }
+
+  private void waitForValue(final ORID rid, final int value) {
+    waitFor(DELAY * 6, new OCallable<Boolean, Void>() {
+      @Override
+      public Boolean call(final Void iArgument) {
+        final String expected = read(0, rid);
+        if (!expected.startsWith(value + "v"))
+          return false;
+        for (int s = 1; s < SERVERS; ++s)
+          if (!expected.equals(read(s, rid)))
+            return false;
+        return true;
+      }
+    }, "Record " + rid + " is not aligned to value " + value + " on all the servers");
+  }
+
+  /**
+   * Returns the value and the version of the record stored on the server.
+   */
+  private String read(final int serverId, final ORID rid) {
+    final ODatabaseDocument db = getDatabase(serverId);
+    try {
+      final ODocument doc = db.load(rid);
+      return doc == null ? "null" : doc.field("value") + "v" + doc.getVersion();
+    } finally {
+      db.close();
+    }
+  }
+}
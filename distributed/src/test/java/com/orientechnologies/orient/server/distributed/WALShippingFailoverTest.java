@@ -0,0 +1,119 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Starts 2 masters and 1 replica that receives the changes shipping the WAL of a master, then stops that master: the replica copies
+ * the database again from the other master and continues shipping its WAL.
+ */
+public class WALShippingFailoverTest extends AbstractServerClusterTest {
+  private final static int SERVERS = 3;
+  private final static int REPLICA = 2;
+  private final static int RECORDS = 100;
+
+  @Test
+  public void test() throws Exception {
+    final boolean trackChangedRecords = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.getValueAsBoolean();
+    OGlobalConfiguration.DISTRIBUTED_WAL_SHIPPING.setValue(true);
+    OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.setValue(true);
+    try {
+      init(SERVERS);
+      prepare(false);
+      execute();
+    } finally {
+      OGlobalConfiguration.DISTRIBUTED_WAL_SHIPPING.setValue(false);
+      OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.setValue(trackChangedRecords);
+    }
+  }
+
+  @Override
+  protected String getDatabaseName() {
+    return "distributed-walshipping-failover";
+  }
+
+  @Override
+  protected String getDistributedServerConfiguration(final ServerRun server) {
+    return "walshipping-dserver-config-" + server.getServerId() + ".xml";
+  }
+
+  @Override
+  protected void onAfterDatabaseCreation(final ODatabaseDocument db) {
+    db.createClass("Shipped");
+  }
+
+  @Override
+  protected void executeTest() throws Exception {
+    insert(0, 0);
+    waitForReplicaCount(RECORDS);
+
+    final String master = getWALShippingMaster();
+    Assert.assertNotNull(master);
+    final int masterId = getServerId(master);
+    Assert.assertTrue(masterId != REPLICA);
+
+    // THE REPLICA CANNOT APPLY THE WAL OF THE OTHER MASTER TO ITS PAGES: IT HAS TO COPY THE DATABASE AGAIN
+    serverInstance.get(masterId).shutdownServer();
+    final int otherMasterId = 1 - masterId;
+    insert(otherMasterId, RECORDS);
+    waitForReplicaCount(RECORDS * 2);
+
+    Assert.assertEquals(serverInstance.get(otherMasterId).getServerInstance().getDistributedManager().getLocalNodeName(),
+        getWALShippingMaster());
+
+    insert(otherMasterId, RECORDS * 2);
+    waitForReplicaCount(RECORDS * 3);
+  }
+
+  private void insert(final int serverId, final int from) {
+    final ODatabaseDocument db = getDatabase(serverId);
+    try {
+      for (int i = from; i < from + RECORDS; ++i)
+        db.save(new ODocument("Shipped").field("counter", i));
+    } finally {
+      db.close();
+    }
+  }
+
+  private void waitForReplicaCount(final long expected) {
+    waitFor(120000, new OCallable<Boolean, Void>() {
+      @Override
+      public Boolean call(final Void iArgument) {
+        try {
+          final ODatabaseDocument db = getDatabase(REPLICA);
+          try {
+            return db.countClass("Shipped") == expected;
+          } finally {
+            db.close();
+          }
+        } catch (Exception e) {
+          // THE DATABASE IS BEING INSTALLED
+          return false;
+        }
+      }
+    }, "Replica has not received " + expected + " records");
+
+    final ODatabaseDocument db = getDatabase(REPLICA);
+    try {
+      Assert.assertEquals(expected, db.countClass("Shipped"));
+    } finally {
+      db.close();
+    }
+  }
+
+  private String getWALShippingMaster() {
+    return serverInstance.get(REPLICA).getServerInstance().getDistributedManager().getMessageService()
+        .getDatabase(getDatabaseName()).getSyncConfiguration().getWALShippingMaster();
+  }
+
+  private int getServerId(final String nodeName) {
+    for (int s = 0; s < serverInstance.size(); ++s)
+      if (nodeName.equals(serverInstance.get(s).getServerInstance().getDistributedManager().getLocalNodeName()))
+        return s;
+    return -1;
+  }
+}
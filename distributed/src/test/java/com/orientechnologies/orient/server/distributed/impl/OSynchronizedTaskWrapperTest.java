@@ -0,0 +1,178 @@
+package com.orientechnologies.orient.server.distributed.impl;
+
+import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.server.OServer;
+import com.orientechnologies.orient.server.distributed.ODistributedRequestId;
+import com.orientechnologies.orient.server.distributed.ODistributedServerManager;
+import com.orientechnologies.orient.server.distributed.task.OAbstractRemoteTask;
+import com.orientechnologies.orient.server.distributed.task.ODistributedOperationException;
+import com.orientechnologies.orient.server.distributed.task.ORemoteTask;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks the protocol between the task of a request involving multiple worker queues and the wait-for tasks put in the other
+ * queues. Every queue is a single thread executor and the tasks are enqueued as ODistributedDatabaseImpl.processRequest() does.
+ */
+public class OSynchronizedTaskWrapperTest {
+  private static final int QUEUES = 3;
+
+  private final List<ExecutorService> queues = new ArrayList<ExecutorService>();
+
+  /**
+   * Task that records how many tasks of the test are running at the same time.
+   */
+  private static class TestTask extends OAbstractRemoteTask {
+    private final List<String>  executed;
+    private final AtomicInteger running;
+    private final String        name;
+    private final long          timeout;
+    private volatile boolean    concurrent;
+
+    private TestTask(final String name, final List<String> executed, final AtomicInteger running, final long timeout) {
+      this.name = name;
+      this.executed = executed;
+      this.running = running;
+      this.timeout = timeout;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public OCommandDistributedReplicateRequest.QUORUM_TYPE getQuorumType() {
+      return OCommandDistributedReplicateRequest.QUORUM_TYPE.NONE;
+    }
+
+    @Override
+    public Object execute(final ODistributedRequestId requestId, final OServer iServer, final ODistributedServerManager iManager,
+        final ODatabaseDocumentInternal database) throws Exception {
+      if (running.incrementAndGet() > 1)
+        concurrent = true;
+      try {
+        Thread.sleep(20);
+        executed.add(name);
+        return name;
+      } finally {
+        running.decrementAndGet();
+      }
+    }
+
+    @Override
+    public long getDistributedTimeout() {
+      return timeout;
+    }
+
+    @Override
+    public int getFactoryId() {
+      return 0;
+    }
+  }
+
+  @Before
+  public void before() {
+    for (int i = 0; i < QUEUES; ++i)
+      queues.add(Executors.newSingleThreadExecutor());
+  }
+
+  @After
+  public void after() {
+    for (ExecutorService queue : queues)
+      queue.shutdownNow();
+  }
+
+  @Test
+  public void testCrossingTasks() throws Exception {
+    final List<String> executed = Collections.synchronizedList(new ArrayList<String>());
+    final AtomicInteger running = new AtomicInteger();
+
+    final List<TestTask> tasks = new ArrayList<TestTask>();
+    final List<Future<Object>> results = new ArrayList<Future<Object>>();
+    for (int i = 0; i < 20; ++i) {
+      final TestTask task = new TestTask("task" + i, executed, running, 0);
+      tasks.add(task);
+      // THE TASKS RUN IN DIFFERENT QUEUES AND WAIT FOR THE SAME OTHER QUEUES
+      if (i % 2 == 0)
+        results.add(dispatch(task, 0, 1, 2));
+      else
+        results.add(dispatch(task, 2, 0, 1));
+    }
+
+    for (int i = 0; i < results.size(); ++i)
+      Assert.assertEquals("task" + i, results.get(i).get(10, TimeUnit.SECONDS));
+
+    for (TestTask task : tasks)
+      Assert.assertFalse(task.getName() + " has been executed together with another task on the same queues", task.concurrent);
+
+    // EVERY QUEUE RECEIVED THE TASKS IN THE SAME ORDER
+    final List<String> expected = new ArrayList<String>();
+    for (TestTask task : tasks)
+      expected.add(task.getName());
+    Assert.assertEquals(expected, executed);
+  }
+
+  @Test
+  public void testTimeoutReleasesTheQueues() throws Exception {
+    final List<String> executed = Collections.synchronizedList(new ArrayList<String>());
+    final AtomicInteger running = new AtomicInteger();
+
+    // KEEP THE LAST QUEUE BUSY
+    final CountDownLatch busy = new CountDownLatch(1);
+    queues.get(2).submit(new Callable<Object>() {
+      @Override
+      public Object call() throws Exception {
+        busy.await();
+        return null;
+      }
+    });
+
+    final Future<Object> timedOut = dispatch(new TestTask("timedOut", executed, running, 200), 0, 1, 2);
+    try {
+      timedOut.get(10, TimeUnit.SECONDS);
+      Assert.fail("The task should not wait for the busy queue longer than its timeout");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof ODistributedOperationException);
+    }
+    Assert.assertTrue(executed.isEmpty());
+
+    // THE QUEUES THAT REACHED THE TASK HAVE BEEN RELEASED
+    Assert.assertEquals("free", dispatch(new TestTask("free", executed, running, 0), 0, 1).get(10, TimeUnit.SECONDS));
+
+    // ONCE THE BUSY QUEUE GOES ON, ITS WAIT-FOR TASK DOES NOT BLOCK IT
+    busy.countDown();
+    Assert.assertEquals("after", dispatch(new TestTask("after", executed, running, 0), 0, 1, 2).get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(2, executed.size());
+  }
+
+  /**
+   * Puts the task in the first queue and the wait-for tasks in the others.
+   */
+  private Future<Object> dispatch(final TestTask task, final int... involvedQueues) {
+    final List<ORemoteTask> queueTasks = ODistributedDatabaseImpl.createMultiQueueTasks(task, "node", involvedQueues.length);
+
+    Future<Object> result = null;
+    for (int i = 0; i < involvedQueues.length; ++i) {
+      final ORemoteTask queued = queueTasks.get(i);
+      final Future<Object> future = queues.get(involvedQueues[i]).submit(new Callable<Object>() {
+        @Override
+        public Object call() throws Exception {
+          return queued.execute(null, null, null, null);
+        }
+      });
+      if (i == 0)
+        result = future;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,508 @@
+package com.orientechnologies.orient.graph.batch;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OClassIndexManager;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
+import com.tinkerpop.blueprints.impls.orient.OrientElement;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+import com.tinkerpop.blueprints.impls.orient.OrientVertexType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * API for the bulk load of vertices and edges into a new or existing graph. Unlike OrientBaseGraph.addVertex()/addEdge(), that
+ * save every element and both the vertices of every edge as soon as they are created, the loader buffers the elements and writes
+ * them in batches:
+ * <ul>
+ * <li>each batch is committed in a single transaction, so the RIDs of all its new records are assigned together by the storage
+ * and every record is written once, with the RidBags of a vertex containing all the edges of the batch</li>
+ * <li>hooks, validation and index maintenance are disabled until end(), that rebuilds in parallel the indexes of the loaded
+ * classes</li>
+ * </ul>
+ *
+ * The vertices are identified by a key chosen by the caller, like the id of the source data, that the edges refer to. An
+ * OIdentifiable used as key refers to a vertex already in the database.
+ *
+ * Typical usage: <code>
+ *   OGraphBulkLoader loader = new OGraphBulkLoader(graph);
+ *   loader.begin();
+ *
+ *   loader.addVertex(1L, "Person", properties);
+ *   loader.addVertex(2L, "Person", properties);
+ *   loader.addEdge(1L, 2L, "Knows", null);
+ *   ...
+ *
+ *   loader.end();
+ * </code>
+ *
+ * The indexes are not updated before end(), so they cannot be used to look up the loaded vertices until then. Since the loader
+ * works on a plain document database too, it can be used outside Blueprints, e.g. by ETL.
+ *
+ * Keep in mind that:
+ * <ul>
+ * <li>duplicated keys of UNIQUE indexes are not detected while loading, but only by the rebuild of the index in end(), when the
+ * records are already stored: the rebuild fails and the duplicated records have to be fixed before rebuilding the index
+ * again</li>
+ * <li>every index of a loaded class is rebuilt from scratch, reading all the records of the class, also the ones stored before
+ * the load, so loading few records into a big indexed class can cost more than adding them one by one</li>
+ * <li>if a batch fails, its transaction is rolled back and the load is aborted: hooks and validation are restored and the indexes
+ * are rebuilt, so the records of the previous batches stay in the database and are indexed</li>
+ * </ul>
+ */
+public class OGraphBulkLoader {
+  private final ODatabaseDocumentInternal db;
+  private final boolean                   useLightweightEdges;
+  private final boolean                   useClassForEdgeLabel;
+  private final boolean                   useVertexFieldsForEdgeLabels;
+
+  private int batchSize = 10000;
+  private int parallel  = Runtime.getRuntime().availableProcessors();
+
+  private final Map<Object, ORID>      loadedVertices  = new HashMap<Object, ORID>();
+  private final Map<Object, ODocument> pendingVertices = new LinkedHashMap<Object, ODocument>();
+  private final List<PendingEdge>      pendingEdges    = new ArrayList<PendingEdge>();
+  private final Set<String>            loadedClasses   = new HashSet<String>();
+  private final Set<String>            checkedClasses  = new HashSet<String>();
+
+  private Map<ORecordHook, ORecordHook.HOOK_POSITION> removedHooks;
+  private boolean                                     started;
+  private long                                        vertexCount;
+  private long                                        edgeCount;
+
+  private static class PendingEdge {
+    private final Object              out;
+    private final Object              in;
+    private final String              className;
+    private final String              label;
+    private final Map<String, Object> properties;
+
+    private PendingEdge(final Object out, final Object in, final String className, final String label,
+        final Map<String, Object> properties) {
+      this.out = out;
+      this.in = in;
+      this.className = className;
+      this.label = label;
+      this.properties = properties;
+    }
+  }
+
+  /**
+   * Creates a loader that creates the edges following the settings of a Blueprints graph.
+   */
+  public OGraphBulkLoader(final OrientBaseGraph graph) {
+    this.db = graph.getRawGraph();
+    this.useLightweightEdges = graph.isUseLightweightEdges();
+    this.useClassForEdgeLabel = graph.isUseClassForEdgeLabel();
+    this.useVertexFieldsForEdgeLabels = graph.isUseVertexFieldsForEdgeLabels();
+  }
+
+  /**
+   * Creates a loader that creates regular edges, with the label as class, like ODatabaseDocument.newEdge().
+   */
+  public OGraphBulkLoader(final ODatabaseDocument db) {
+    this.db = (ODatabaseDocumentInternal) db;
+    this.useLightweightEdges = false;
+    this.useClassForEdgeLabel = true;
+    this.useVertexFieldsForEdgeLabels = true;
+  }
+
+  /**
+   * Disables hooks, validation and index maintenance. Call this once, before adding vertices and edges.
+   */
+  public void begin() {
+    if (started)
+      throw new IllegalStateException("Bulk load already started");
+    if (db.getTransaction().isActive())
+      throw new IllegalStateException("Cannot start a bulk load inside an active transaction");
+
+    db.activateOnCurrentThread();
+    db.declareIntent(new OIntentMassiveInsert());
+
+    // THE INDEXES ARE REBUILT AT THE END
+    ODatabaseInternal<?> ownerDb = db.getDatabaseOwner();
+    while (ownerDb.getDatabaseOwner() != ownerDb)
+      ownerDb = ownerDb.getDatabaseOwner();
+    removedHooks = new HashMap<ORecordHook, ORecordHook.HOOK_POSITION>();
+    for (Map.Entry<ORecordHook, ORecordHook.HOOK_POSITION> hook : new HashMap<ORecordHook, ORecordHook.HOOK_POSITION>(
+        ownerDb.getHooks()).entrySet()) {
+      if (hook.getKey() instanceof OClassIndexManager) {
+        removedHooks.put(hook.getKey(), hook.getValue());
+        ownerDb.unregisterHook(hook.getKey());
+      }
+    }
+    started = true;
+  }
+
+  /**
+   * Adds a new vertex.
+   *
+   * @param key
+   *          the key used by the edges to refer to the vertex
+   * @param className
+   *          the vertex class, created if it does not exist, or null for V
+   * @param properties
+   *          the properties of the vertex, or null
+   */
+  public void addVertex(final Object key, final String className, final Map<String, Object> properties) {
+    checkStarted();
+    if (key == null || key instanceof OIdentifiable)
+      throw new IllegalArgumentException("Invalid vertex key: " + key);
+    if (pendingVertices.containsKey(key) || loadedVertices.containsKey(key))
+      throw new IllegalArgumentException("Vertex " + key + " already added");
+
+    db.activateOnCurrentThread();
+    final String vertexClass = checkClass(className == null ? OrientVertexType.CLASS_NAME : className,
+        OrientVertexType.CLASS_NAME);
+
+    final ODocument vertex = new ODocument(vertexClass);
+    if (properties != null)
+      vertex.fromMap(properties);
+    pendingVertices.put(key, vertex);
+    loadedClasses.add(vertexClass);
+    vertexCount++;
+
+    flushIfNeeded();
+  }
+
+  /**
+   * Adds a new edge between two vertices.
+   *
+   * @param out
+   *          the key of the outgoing vertex, or the vertex itself if it is already in the database
+   * @param in
+   *          the key of the incoming vertex, or the vertex itself if it is already in the database
+   * @param label
+   *          the edge label, or null for E
+   * @param properties
+   *          the properties of the edge, or null
+   */
+  public void addEdge(final Object out, final Object in, final String label, final Map<String, Object> properties) {
+    checkStarted();
+    checkVertex(out);
+    checkVertex(in);
+
+    db.activateOnCurrentThread();
+    final String edgeLabel = label == null ? OrientEdgeType.CLASS_NAME : OrientBaseGraph.encodeClassName(label);
+    final String edgeClass =
+        useClassForEdgeLabel ? checkClass(edgeLabel, OrientEdgeType.CLASS_NAME) : checkClass(OrientEdgeType.CLASS_NAME, null);
+
+    pendingEdges.add(new PendingEdge(out, in, edgeClass, edgeLabel, properties));
+    if (!useLightweightEdges || (properties != null && !properties.isEmpty()))
+      loadedClasses.add(edgeClass);
+    edgeCount++;
+
+    flushIfNeeded();
+  }
+
+  /**
+   * Writes the buffered vertices and edges in a single transaction.
+   */
+  public void flush() {
+    checkStarted();
+    if (pendingVertices.isEmpty() && pendingEdges.isEmpty())
+      return;
+
+    db.activateOnCurrentThread();
+
+    // VERTICES ALREADY IN THE DATABASE ARE LOADED ONCE, TO ADD ALL THEIR EDGES OF THE BATCH
+    final Map<ORID, ODocument> updatedVertices = new HashMap<ORID, ODocument>();
+    final List<ODocument> edges = new ArrayList<ODocument>();
+
+    db.begin();
+    try {
+      for (PendingEdge edge : pendingEdges) {
+        final ODocument outVertex = resolveVertex(edge.out, updatedVertices);
+        final ODocument inVertex = resolveVertex(edge.in, updatedVertices);
+        final String outField = OrientVertex.getConnectionFieldName(Direction.OUT, edge.label, useVertexFieldsForEdgeLabels);
+        final String inField = OrientVertex.getConnectionFieldName(Direction.IN, edge.label, useVertexFieldsForEdgeLabels);
+
+        if (useLightweightEdges && (edge.properties == null || edge.properties.isEmpty())) {
+          addLink(outVertex, outField, inVertex);
+          addLink(inVertex, inField, outVertex);
+        } else {
+          final ODocument edgeRecord = new ODocument(edge.className);
+          if (edge.properties != null)
+            edgeRecord.fromMap(edge.properties);
+          if (!useClassForEdgeLabel)
+            edgeRecord.field(OrientElement.LABEL_FIELD_NAME, edge.label);
+          edgeRecord.field(OrientBaseGraph.CONNECTION_OUT, outVertex);
+          edgeRecord.field(OrientBaseGraph.CONNECTION_IN, inVertex);
+          addLink(outVertex, outField, edgeRecord);
+          addLink(inVertex, inField, edgeRecord);
+          edges.add(edgeRecord);
+        }
+      }
+
+      for (ODocument vertex : pendingVertices.values())
+        db.save(vertex);
+      for (ODocument vertex : updatedVertices.values())
+        db.save(vertex);
+      for (ODocument edge : edges)
+        db.save(edge);
+
+      db.commit();
+    } catch (RuntimeException e) {
+      try {
+        db.rollback();
+      } finally {
+        abort(e);
+      }
+      throw e;
+    }
+
+    for (Map.Entry<Object, ODocument> vertex : pendingVertices.entrySet())
+      loadedVertices.put(vertex.getKey(), vertex.getValue().getIdentity().copy());
+    pendingVertices.clear();
+    pendingEdges.clear();
+  }
+
+  /**
+   * Flushes the buffered vertices and edges, rebuilds in parallel the indexes of the loaded classes and restores hooks and
+   * validation. Call this once, at the end of the load.
+   */
+  public void end() {
+    checkStarted();
+    try {
+      flush();
+    } finally {
+      restore();
+    }
+
+    rebuildIndexes();
+  }
+
+  /**
+   * @return the RID of a vertex added with the key, once the vertex has been flushed, otherwise null
+   */
+  public ORID getVertexIdentity(final Object key) {
+    return loadedVertices.get(key);
+  }
+
+  /**
+   * @return the number of vertices added so far
+   */
+  public long getVertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * @return the number of edges added so far
+   */
+  public long getEdgeCount() {
+    return edgeCount;
+  }
+
+  /**
+   * @return the number of vertices and edges buffered before writing them
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Sets the number of vertices and edges buffered before writing them in a transaction (default 10000). Higher values reduce the
+   * updates of the vertices already written by previous batches, but the whole batch is kept in memory.
+   */
+  public OGraphBulkLoader setBatchSize(final int batchSize) {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * @return the number of indexes rebuilt in parallel at the end of the load
+   */
+  public int getParallel() {
+    return parallel;
+  }
+
+  /**
+   * Sets the number of indexes rebuilt in parallel at the end of the load (default the number of processors).
+   */
+  public OGraphBulkLoader setParallel(final int parallel) {
+    if (parallel < 1)
+      throw new IllegalArgumentException("Invalid number of parallel index builds: " + parallel);
+    this.parallel = parallel;
+    return this;
+  }
+
+  private void checkStarted() {
+    if (!started)
+      throw new IllegalStateException("Bulk load not started, call begin() first");
+  }
+
+  private void checkVertex(final Object key) {
+    if (key == null)
+      throw new IllegalArgumentException("Vertex key is null");
+    if (key instanceof OIdentifiable) {
+      if (!((OIdentifiable) key).getIdentity().isPersistent())
+        throw new IllegalArgumentException("Vertex " + key + " is not in the database");
+    } else if (!pendingVertices.containsKey(key) && !loadedVertices.containsKey(key))
+      throw new IllegalArgumentException("Vertex " + key + " not found, add it before its edges");
+  }
+
+  /**
+   * Restores hooks and validation after the failure of a batch and rebuilds the indexes of the classes loaded by the previous ones.
+   */
+  private void abort(final RuntimeException cause) {
+    restore();
+    try {
+      rebuildIndexes();
+    } catch (RuntimeException e) {
+      cause.addSuppressed(e);
+    }
+  }
+
+  private void restore() {
+    db.activateOnCurrentThread();
+    if (removedHooks != null) {
+      ODatabaseInternal<?> ownerDb = db.getDatabaseOwner();
+      while (ownerDb.getDatabaseOwner() != ownerDb)
+        ownerDb = ownerDb.getDatabaseOwner();
+      for (Map.Entry<ORecordHook, ORecordHook.HOOK_POSITION> hook : removedHooks.entrySet())
+        ownerDb.registerHook(hook.getKey(), hook.getValue());
+      removedHooks = null;
+    }
+    db.declareIntent(null);
+    started = false;
+  }
+
+  private void flushIfNeeded() {
+    if (pendingVertices.size() + pendingEdges.size() >= batchSize)
+      flush();
+  }
+
+  /**
+   * @return the name of the class, created as subclass of the base class if it does not exist
+   */
+  private String checkClass(final String className, final String baseClassName) {
+    if (checkedClasses.contains(className))
+      return className;
+
+    final OSchema schema = db.getMetadata().getSchema();
+    OClass cls = schema.getClass(className);
+    if (cls == null) {
+      if (baseClassName != null && !baseClassName.equals(className)) {
+        OClass baseClass = schema.getClass(baseClassName);
+        if (baseClass == null)
+          baseClass = schema.createClass(baseClassName);
+        cls = schema.createClass(className, baseClass);
+      } else
+        cls = schema.createClass(className);
+    } else if (baseClassName != null && !cls.isSubClassOf(baseClassName))
+      throw new IllegalArgumentException("Class " + className + " is not a subclass of " + baseClassName);
+
+    // ATTRIBUTES ARE CASE SENSITIVE
+    checkedClasses.add(cls.getName());
+    return cls.getName();
+  }
+
+  private ODocument resolveVertex(final Object key, final Map<ORID, ODocument> updatedVertices) {
+    if (!(key instanceof OIdentifiable)) {
+      final ODocument pending = pendingVertices.get(key);
+      if (pending != null)
+        return pending;
+    }
+
+    final ORID rid = key instanceof OIdentifiable ? ((OIdentifiable) key).getIdentity() : loadedVertices.get(key);
+    ODocument vertex = updatedVertices.get(rid);
+    if (vertex == null) {
+      vertex = db.load(rid);
+      if (vertex == null)
+        throw new IllegalArgumentException("Vertex " + rid + " not found");
+      updatedVertices.put(rid, vertex);
+    }
+    return vertex;
+  }
+
+  /**
+   * Adds a link to the RidBag of a vertex, converting a single link or creating the RidBag if needed.
+   */
+  private static void addLink(final ODocument vertex, final String fieldName, final OIdentifiable to) {
+    final Object found = vertex.rawField(fieldName);
+    if (found instanceof ORidBag)
+      ((ORidBag) found).add(to);
+    else if (found instanceof Collection<?>)
+      ((Collection<Object>) found).add(to);
+    else {
+      final ORidBag bag = new ORidBag();
+      if (found instanceof OIdentifiable)
+        bag.add((OIdentifiable) found);
+      else if (found != null)
+        throw new IllegalStateException("Relationship content is invalid on field " + fieldName + ". Found: " + found);
+      bag.add(to);
+      vertex.field(fieldName, bag);
+    }
+  }
+
+  /**
+   * Rebuilds the indexes of the loaded classes, each one by a task of the engine worker pool with a database instance of its own.
+   */
+  private void rebuildIndexes() {
+    final Set<String> indexNames = new HashSet<String>();
+    for (String className : loadedClasses) {
+      final OClass cls = db.getMetadata().getSchema().getClass(className);
+      if (cls != null)
+        for (OIndex<?> index : cls.getIndexes())
+          if (index.isAutomatic())
+            indexNames.add(index.getName());
+    }
+    loadedClasses.clear();
+
+    final List<String> names = new ArrayList<String>(indexNames);
+    final List<Future<Void>> jobs = new ArrayList<Future<Void>>();
+    try {
+      for (int i = 0; i < names.size(); i += parallel) {
+        for (int j = i; j < Math.min(names.size(), i + parallel); j++) {
+          final String indexName = names.get(j);
+          jobs.add(Orient.instance().submit(() -> {
+            final ODatabaseDocumentInternal localDatabase = db.copy();
+            try {
+              localDatabase.activateOnCurrentThread();
+              localDatabase.getMetadata().getIndexManager().getIndex(indexName).rebuild();
+              return null;
+            } finally {
+              localDatabase.close();
+            }
+          }));
+        }
+        for (Future<Void> job : jobs)
+          job.get();
+        jobs.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new ODatabaseException("Rebuild of indexes after bulk load has been interrupted"), e);
+    } catch (ExecutionException e) {
+      throw OException.wrapException(new ODatabaseException("Error on rebuilding indexes after bulk load"), e);
+    } finally {
+      db.activateOnCurrentThread();
+    }
+  }
+}
@@ -23,6 +23,8 @@ import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.util.OCallable;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabase;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunctionFiltered;
@@ -34,8 +36,6 @@ import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
  */
 public abstract class OSQLFunctionMoveFiltered extends OSQLFunctionMove implements OSQLFunctionFiltered {
 
-    protected static int supernodeThreshold = 1000; // move to some configuration
-
   public OSQLFunctionMoveFiltered() {
       super(NAME, 1, 2);
     }
@@ -72,6 +72,16 @@ public abstract class OSQLFunctionMoveFiltered extends OSQLFunctionMove implemen
       });
     }
 
+  /**
+   * @return the number of edges above which the possible results are looked up in the indexes of the edge class
+   */
+  protected int getSupernodeThreshold(final OrientBaseGraph graph) {
+    final ODatabase db = graph == null ? null : graph.getRawGraph();
+    if (db == null || db.getConfiguration() == null)
+      return OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD.getValueAsInteger();
+    return db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD);
+  }
+
   protected abstract Object move(OrientBaseGraph graph, OIdentifiable iArgument, String[] labels,
       Iterable<OIdentifiable> iPossibleResults);
 
@@ -67,7 +67,7 @@ public class OSQLFunctionOut extends OSQLFunctionMoveFiltered {
     Object edges = v2e(graph, iRecord, Direction.OUT, iLabels);
     if (edges instanceof OSizeable) {
       int size = ((OSizeable) edges).size();
-      if (size > supernodeThreshold) {
+      if (size > getSupernodeThreshold(graph)) {
         Object result = fetchFromIndex(graph, iRecord, iPossibleResults, iLabels);
         if (result != null) {
           return result;
@@ -0,0 +1,210 @@
+package com.orientechnologies.orient.graph.batch;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.index.OClassIndexManager;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ODirection;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.OVertex;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+import com.tinkerpop.blueprints.impls.orient.OrientVertexType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OGraphBulkLoaderTest {
+
+  @Test
+  public void testLoad() {
+    final OrientGraphNoTx graph = new OrientGraphNoTx("memory:OGraphBulkLoaderTest_load");
+    try {
+      final OrientVertexType person = graph.createVertexType("Person");
+      person.createProperty("name", OType.STRING);
+      person.createIndex("Person.name", OClass.INDEX_TYPE.UNIQUE, "name");
+
+      final OGraphBulkLoader loader = new OGraphBulkLoader(graph).setBatchSize(7);
+      loader.begin();
+      for (long i = 0; i < 20; i++)
+        loader.addVertex(i, "Person", Collections.<String, Object>singletonMap("name", "person" + i));
+      for (long i = 0; i < 20; i++) {
+        // EDGES BETWEEN VERTICES OF DIFFERENT BATCHES TOO
+        loader.addEdge(i, (i + 1) % 20, "Knows", Collections.<String, Object>singletonMap("since", (int) i));
+        loader.addEdge(i, (i + 10) % 20, "Knows", null);
+      }
+      loader.end();
+
+      Assert.assertEquals(20, loader.getVertexCount());
+      Assert.assertEquals(40, loader.getEdgeCount());
+      Assert.assertEquals(20, graph.countVertices("Person"));
+      Assert.assertEquals(40, graph.countEdges("Knows"));
+
+      for (long i = 0; i < 20; i++) {
+        final OrientVertex vertex = graph.getVertex(loader.getVertexIdentity(i));
+        Assert.assertEquals("person" + i, vertex.getProperty("name"));
+        Assert.assertEquals(2, vertex.countEdges(Direction.OUT, "Knows"));
+        Assert.assertEquals(2, vertex.countEdges(Direction.IN, "Knows"));
+      }
+
+      final OrientVertex first = graph.getVertex(loader.getVertexIdentity(0L));
+      final Map<Object, Object> targets = new HashMap<Object, Object>();
+      for (Edge edge : first.getEdges(Direction.OUT, "Knows"))
+        targets.put(edge.getVertex(Direction.IN).getProperty("name"), edge.getProperty("since"));
+      Assert.assertEquals(2, targets.size());
+      Assert.assertEquals(0, targets.get("person1"));
+      Assert.assertTrue(targets.containsKey("person10"));
+      Assert.assertNull(targets.get("person10"));
+
+      // THE INDEX IS REBUILT AT THE END AND MAINTAINED AGAIN AFTERWARDS
+      final OIndex<?> index = graph.getRawGraph().getMetadata().getIndexManager().getIndex("Person.name");
+      Assert.assertEquals(20, index.getSize());
+      Assert.assertEquals(loader.getVertexIdentity(5L), index.get("person5"));
+      graph.addVertex("class:Person", "name", "other");
+      Assert.assertEquals(21, index.getSize());
+    } finally {
+      graph.drop();
+    }
+  }
+
+  @Test
+  public void testEdgesToExistingVertices() {
+    final OrientGraphNoTx graph = new OrientGraphNoTx("memory:OGraphBulkLoaderTest_existing");
+    try {
+      final OrientVertex hub = graph.addVertex(null, "name", "hub");
+      final OrientVertex other = graph.addVertex(null, "name", "other");
+      graph.addEdge(null, other, hub, "Link");
+
+      final OGraphBulkLoader loader = new OGraphBulkLoader(graph).setBatchSize(4);
+      loader.begin();
+      for (int i = 0; i < 10; i++) {
+        loader.addVertex(i, null, null);
+        loader.addEdge(i, hub, "Link", null);
+      }
+      loader.end();
+
+      final OrientVertex reloaded = graph.getVertex(hub.getIdentity());
+      Assert.assertEquals(11, reloaded.countEdges(Direction.IN, "Link"));
+      Assert.assertEquals(12, graph.countVertices());
+    } finally {
+      graph.drop();
+    }
+  }
+
+  @Test
+  public void testLightweightEdges() {
+    final OrientGraphNoTx graph = new OrientGraphNoTx("memory:OGraphBulkLoaderTest_lightweight");
+    try {
+      graph.setUseLightweightEdges(true);
+
+      final OGraphBulkLoader loader = new OGraphBulkLoader(graph);
+      loader.begin();
+      loader.addVertex("a", null, null);
+      loader.addVertex("b", null, null);
+      loader.addEdge("a", "b", "Link", null);
+      loader.addEdge("b", "a", "Link", Collections.<String, Object>singletonMap("weight", 2));
+      loader.end();
+
+      Assert.assertEquals(1, graph.getRawGraph().countClass("Link"));
+      final OrientVertex a = graph.getVertex(loader.getVertexIdentity("a"));
+      Assert.assertEquals(1, a.countEdges(Direction.OUT, "Link"));
+      Assert.assertEquals(1, a.countEdges(Direction.IN, "Link"));
+      Assert.assertEquals(loader.getVertexIdentity("b"), a.getVertices(Direction.OUT, "Link").iterator().next().getId());
+    } finally {
+      graph.drop();
+    }
+  }
+
+  @Test
+  public void testDocumentDatabase() {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:OGraphBulkLoaderTest_document");
+    db.create();
+    try {
+      final OGraphBulkLoader loader = new OGraphBulkLoader(db);
+      loader.begin();
+      loader.addVertex(1, "City", Collections.<String, Object>singletonMap("name", "Rome"));
+      loader.addVertex(2, "City", Collections.<String, Object>singletonMap("name", "Milan"));
+      loader.addEdge(1, 2, "Road", Collections.<String, Object>singletonMap("km", 570));
+      loader.end();
+
+      final OVertex rome = ((ODocument) db.load(loader.getVertexIdentity(1))).asVertex().get();
+      final OVertex milan = rome.getVertices(ODirection.OUT, "Road").iterator().next();
+      Assert.assertEquals("Milan", milan.getProperty("name"));
+      Assert.assertEquals(570, (int) rome.getEdges(ODirection.OUT, "Road").iterator().next().getProperty("km"));
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testFailedBatch() {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:OGraphBulkLoaderTest_failed");
+    db.create();
+    try {
+      final OClass person = db.createVertexClass("Person");
+      person.createProperty("name", OType.STRING);
+      person.createIndex("Person.name", OClass.INDEX_TYPE.NOTUNIQUE, "name");
+      final ORID deleted = db.save(new ODocument("Person").field("name", "deleted")).getIdentity();
+      db.delete(deleted);
+
+      final OGraphBulkLoader loader = new OGraphBulkLoader(db).setBatchSize(2);
+      loader.begin();
+      for (int i = 0; i < 4; i++)
+        loader.addVertex(i, "Person", Collections.<String, Object>singletonMap("name", "person" + i));
+      try {
+        // THE BATCH IS WRITTEN BY addEdge(), WITHOUT CALLING end()
+        loader.addVertex(4, "Person", Collections.<String, Object>singletonMap("name", "person4"));
+        loader.addEdge(4, deleted, null, null);
+        Assert.fail("The batch with the edge to the deleted vertex should fail");
+      } catch (IllegalArgumentException e) {
+        // EXPECTED
+      }
+
+      // THE LOAD IS ABORTED: THE HOOKS ARE RESTORED AND THE RECORDS OF THE PREVIOUS BATCHES ARE INDEXED
+      boolean indexManager = false;
+      for (ORecordHook hook : db.getHooks().keySet())
+        indexManager |= hook instanceof OClassIndexManager;
+      Assert.assertTrue(indexManager);
+      Assert.assertEquals(4, db.countClass("Person"));
+      final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Person.name");
+      Assert.assertEquals(4, index.getSize());
+      db.save(new ODocument("Person").field("name", "other"));
+      Assert.assertEquals(5, index.getSize());
+
+      try {
+        loader.addVertex(6, "Person", null);
+        Assert.fail("The load should be aborted");
+      } catch (IllegalStateException e) {
+        // EXPECTED
+      }
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownVertex() {
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:OGraphBulkLoaderTest_unknown");
+    db.create();
+    try {
+      final OGraphBulkLoader loader = new OGraphBulkLoader(db);
+      loader.begin();
+      try {
+        loader.addVertex(1, null, null);
+        loader.addEdge(1, 2, null, null);
+      } finally {
+        loader.end();
+      }
+    } finally {
+      db.drop();
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.orientechnologies.orient.graph.sql.functions;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+
+public class OSQLFunctionMoveFilteredTest {
+
+  private OrientGraph graph;
+
+  @Before
+  public void setUp() throws Exception {
+    graph = new OrientGraph("memory:OSQLFunctionMoveFilteredTest");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    graph.drop();
+  }
+
+  @Test
+  public void testSupernodeThresholdFromConfiguration() {
+    final OSQLFunctionOut function = new OSQLFunctionOut();
+    assertEquals(OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD.getValueAsInteger(), function.getSupernodeThreshold(graph));
+
+    graph.getRawGraph().getConfiguration().setValue(OGlobalConfiguration.QUERY_SUPERNODE_THRESHOLD, 10);
+    assertEquals(10, function.getSupernodeThreshold(graph));
+    assertEquals(10, new OSQLFunctionIn().getSupernodeThreshold(graph));
+  }
+}
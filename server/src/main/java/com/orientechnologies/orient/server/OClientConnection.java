@@ -55,6 +55,7 @@ public class OClientConnection {
   private OToken                             token;
   private boolean                            disconnectOnAfter;
   private OBinaryRequestExecutor             executor;
+  private volatile OClientPreparedStatements preparedStatements;
 
   public OClientConnection(final int id, final ONetworkProtocol protocol) {
     this.id = id;
@@ -298,6 +299,21 @@ public class OClientConnection {
     return stats;
   }
 
+  /**
+   * Returns the statements prepared by the client on this session, creating the cache at the first call.
+   *
+   * @param size the maximum number of statements kept for the session
+   */
+  public OClientPreparedStatements getPreparedStatements(final int size) {
+    if (preparedStatements == null) {
+      synchronized (this) {
+        if (preparedStatements == null)
+          preparedStatements = new OClientPreparedStatements(size);
+      }
+    }
+    return preparedStatements;
+  }
+
   public void statsUpdate() {
 
     if (database != null) {
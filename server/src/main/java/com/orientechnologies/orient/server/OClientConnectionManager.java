@@ -25,9 +25,11 @@ import com.orientechnologies.common.profiler.OAbstractProfiler.OProfilerHookValu
 import com.orientechnologies.common.profiler.OProfiler.METRIC_TYPE;
 import com.orientechnologies.orient.client.remote.message.OBinaryPushResponse;
 import com.orientechnologies.orient.client.remote.message.OPushDistributedConfigurationRequest;
+import com.orientechnologies.orient.client.remote.message.OPushRecordInvalidationRequest;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OCommandRequestText;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.security.OToken;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
@@ -47,6 +49,9 @@ import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class OClientConnectionManager {
@@ -57,7 +62,11 @@ public class OClientConnectionManager {
   protected final ConcurrentMap<OHashToken, OClientSessions> sessions              = new ConcurrentHashMap<OHashToken, OClientSessions>();
   protected final Set<WeakReference<ONetworkProtocolBinary>> distributedConfigPush = Collections
       .newSetFromMap(new ConcurrentHashMap<WeakReference<ONetworkProtocolBinary>, Boolean>());
+  protected final ConcurrentMap<String, Set<WeakReference<ONetworkProtocolBinary>>> recordInvalidationPush = new ConcurrentHashMap<>();
   protected final TimerTask timerTask;
+  private final   OServerRecordInvalidationHook.OInstaller recordInvalidationInstaller;
+  // ONE THREAD ONLY: THE INVALIDATIONS ARE PUSHED IN THE SAME ORDER OF THE COMMITS
+  private final   ExecutorService                          recordInvalidationExecutor;
   private         OServer   server;
 
   public OClientConnectionManager(OServer server) {
@@ -76,6 +85,14 @@ public class OClientConnectionManager {
 
     Orient.instance().scheduleTask(timerTask, delay, delay);
 
+    recordInvalidationExecutor = Executors.newSingleThreadExecutor((r) -> {
+      final Thread thread = new Thread(r, "OrientDB Record Invalidation Push");
+      thread.setDaemon(true);
+      return thread;
+    });
+    recordInvalidationInstaller = new OServerRecordInvalidationHook.OInstaller(this);
+    Orient.instance().addDbLifecycleListener(recordInvalidationInstaller);
+
     Orient.instance().getProfiler()
         .registerHookValue("server.connections.actives", "Number of active network connections", METRIC_TYPE.COUNTER,
             new OProfilerHookValue() {
@@ -425,6 +442,8 @@ public class OClientConnectionManager {
 
   public void shutdown() {
     timerTask.cancel();
+    Orient.instance().removeDbLifecycleListener(recordInvalidationInstaller);
+    recordInvalidationExecutor.shutdownNow();
 
     List<ONetworkProtocol> toWait = new ArrayList<ONetworkProtocol>();
 
@@ -528,6 +547,9 @@ public class OClientConnectionManager {
         iter.remove();
       }
     }
+    for (Set<WeakReference<ONetworkProtocolBinary>> subscribers : recordInvalidationPush.values()) {
+      subscribers.removeIf(ref -> ref.get() == null);
+    }
   }
 
   public void pushDistributedConfig(String database, List<String> hosts) {
@@ -553,4 +575,48 @@ public class OClientConnectionManager {
     distributedConfigPush.add(new WeakReference<ONetworkProtocolBinary>(channel));
   }
 
+  public boolean hasRecordInvalidationSubscribers(String database) {
+    Set<WeakReference<ONetworkProtocolBinary>> subscribers = recordInvalidationPush.get(database);
+    return subscribers != null && !subscribers.isEmpty();
+  }
+
+  /**
+   * Queues the push of the invalidation to the subscribed clients, so the commit that caused it does not wait for the network.
+   */
+  public void pushRecordInvalidation(String database, List<ORID> rids, List<Integer> clusterIds) {
+    Set<WeakReference<ONetworkProtocolBinary>> subscribers = recordInvalidationPush.get(database);
+    if (subscribers == null)
+      return;
+    OPushRecordInvalidationRequest request = new OPushRecordInvalidationRequest(rids, clusterIds);
+    try {
+      recordInvalidationExecutor.execute(() -> pushRecordInvalidation(subscribers, request));
+    } catch (RejectedExecutionException e) {
+      // SERVER SHUTTING DOWN: THE CLIENTS DROP THEIR NEAR CACHE ON DISCONNECTION
+      OLogManager.instance().debug(this, "Cannot push the record invalidation of database '%s'", e, database);
+    }
+  }
+
+  private void pushRecordInvalidation(Set<WeakReference<ONetworkProtocolBinary>> subscribers,
+      OPushRecordInvalidationRequest request) {
+    Iterator<WeakReference<ONetworkProtocolBinary>> iter = subscribers.iterator();
+    while (iter.hasNext()) {
+      ONetworkProtocolBinary protocolBinary = iter.next().get();
+      if (protocolBinary != null) {
+        try {
+          protocolBinary.push(request);
+        } catch (IOException e) {
+          // THE CLIENT DROPS ITS NEAR CACHE ON DISCONNECTION
+          iter.remove();
+        }
+      } else {
+        iter.remove();
+      }
+    }
+  }
+
+  public void subscribeRecordInvalidation(String database, ONetworkProtocolBinary channel) {
+    recordInvalidationPush.computeIfAbsent(database, (k) -> Collections.newSetFromMap(new ConcurrentHashMap<>()))
+        .add(new WeakReference<ONetworkProtocolBinary>(channel));
+  }
+
 }
@@ -5,14 +5,25 @@ package com.orientechnologies.orient.server;
  */
 public class OClientConnectionStats {
 
-  public int                 totalRequests             = 0;
-  public String              lastCommandInfo           = null;
-  public String              lastCommandDetail         = null;
-  public long                lastCommandExecutionTime  = 0;
-  public long                lastCommandReceived       = 0;
-  public String              lastDatabase              = null;
-  public String              lastUser                  = null;
-  public long                totalCommandExecutionTime = 0;
+  public int                 totalRequests               = 0;
+  public String              lastCommandInfo             = null;
+  public String              lastCommandDetail           = null;
+  public long                lastCommandExecutionTime    = 0;
+  public long                lastCommandReceived         = 0;
+  public String              lastDatabase                = null;
+  public String              lastUser                    = null;
+  public long                totalCommandExecutionTime   = 0;
+  public long                totalCompressedResponses    = 0;
+  public long                totalCompressionInputBytes  = 0;
+  public long                totalCompressionOutputBytes = 0;
+  public long                totalCompressionTime        = 0;   // IN NANOSECONDS
+
+  /**
+   * Returns the ratio between the compressed and the original size of the compressed responses, 1 if nothing was compressed.
+   */
+  public float getCompressionRatio() {
+    return totalCompressionInputBytes > 0 ? (float) totalCompressionOutputBytes / totalCompressionInputBytes : 1f;
+  }
 
 
 }
@@ -0,0 +1,87 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server;
+
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of the statements prepared by a client session, indexed by the handle returned to the client. Statements evicted from
+ * the cache are prepared again by the client on demand.
+ */
+public class OClientPreparedStatements {
+
+  private final Map<Integer, OPreparedStatement> map;
+  private final int                              mapSize;
+  private       int                              lastId;
+
+  private static final class OPreparedStatement {
+    private final String     text;
+    private final OStatement statement;
+
+    private OPreparedStatement(String text, OStatement statement) {
+      this.text = text;
+      this.statement = statement;
+    }
+  }
+
+  /**
+   * @param size the maximum number of statements kept for the session
+   */
+  public OClientPreparedStatements(int size) {
+    this.mapSize = size;
+    map = new LinkedHashMap<Integer, OPreparedStatement>(size, 0.75f, true) {
+      protected boolean removeEldestEntry(final Map.Entry<Integer, OPreparedStatement> eldest) {
+        return super.size() > mapSize;
+      }
+    };
+  }
+
+  /**
+   * @param text      the statement as sent by the client
+   * @param statement the parsed statement
+   *
+   * @return the handle the client uses to execute the statement
+   */
+  public synchronized int add(final String text, final OStatement statement) {
+    final int id = ++lastId;
+    map.put(id, new OPreparedStatement(text, statement));
+    return id;
+  }
+
+  /**
+   * @param id       the statement handle
+   * @param textHash hash code of the statement text known by the client, it guards against handles of a previous server session
+   *
+   * @return the prepared statement or null if it is not (or no more) in the cache
+   */
+  public synchronized OStatement get(final int id, final int textHash) {
+    final OPreparedStatement prepared = map.get(id);
+    if (prepared == null || prepared.text.hashCode() != textHash)
+      return null;
+    return prepared.statement;
+  }
+
+  public synchronized int size() {
+    return map.size();
+  }
+}
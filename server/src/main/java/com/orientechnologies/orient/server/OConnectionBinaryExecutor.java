@@ -24,13 +24,16 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.ODatabaseType;
 import com.orientechnologies.orient.core.db.OLiveQueryMonitor;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentEmbedded;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.db.record.ridbag.sbtree.OBonsaiCollectionPointer;
 import com.orientechnologies.orient.core.db.record.ridbag.sbtree.OSBTreeCollectionManager;
 import com.orientechnologies.orient.core.db.tool.ODatabaseImport;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.exception.OConfigurationException;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.exception.OPreparedStatementNotFoundException;
 import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
 import com.orientechnologies.orient.core.exception.OSecurityAccessException;
 import com.orientechnologies.orient.core.fetch.OFetchContext;
@@ -53,10 +56,12 @@ import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializer;
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializerFactory;
 import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerNetworkV37;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.sql.parser.OLocalResultSetLifecycleDecorator;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.orientechnologies.orient.core.storage.*;
@@ -1161,10 +1166,50 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
       }
     }
 
+    return firstPageResponse(database, rs, request.getRecordsPerPage());
+  }
+
+  @Override
+  public OBinaryResponse executePrepareStatement(OPrepareStatementRequest request) {
+    if (!"sql".equalsIgnoreCase(request.getLanguage()))
+      throw new OCommandExecutionException("Cannot prepare a statement of language '" + request.getLanguage() + "'");
+
+    OStatement statement = OSQLEngine.parse(request.getStatement(), connection.getDatabase());
+    return new OPrepareStatementResponse(getPreparedStatements().add(request.getStatement(), statement));
+  }
+
+  @Override
+  public OBinaryResponse executeQueryPrepared(OQueryPreparedRequest request) {
+    ODatabaseDocumentInternal database = connection.getDatabase();
+    OStatement statement = getPreparedStatements().get(request.getStatementId(), request.getStatementHash());
+    if (statement == null)
+      throw new OPreparedStatementNotFoundException("Prepared statement " + request.getStatementId() + " not found in the session");
+
+    if (OQueryRequest.QUERY == request.getOperationType() && !statement.isIdempotent())
+      throw new OCommandExecutionException("Cannot execute query on non idempotent statement: " + statement);
+
+    if (database.getTransaction().isActive()) {
+      ((OTransactionOptimistic) database.getTransaction()).resetChangesTracking();
+    }
+    OResultSet rs;
+    if (request.isNamedParams()) {
+      rs = ((ODatabaseDocumentEmbedded) database).executeStatement(statement, request.getNamedParameters());
+    } else {
+      rs = ((ODatabaseDocumentEmbedded) database).executeStatement(statement, request.getPositionalParameters());
+    }
+    return firstPageResponse(database, rs, request.getRecordsPerPage());
+  }
+
+  private OClientPreparedStatements getPreparedStatements() {
+    return connection.getPreparedStatements(
+        server.getContextConfiguration().getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_CACHE_SIZE));
+  }
+
+  private OQueryResponse firstPageResponse(ODatabaseDocumentInternal database, OResultSet rs, int recordsPerPage) {
     //copy the result-set to make sure that the execution is successful
-    List<OResultInternal> rsCopy = new ArrayList<>(request.getRecordsPerPage());
+    List<OResultInternal> rsCopy = new ArrayList<>(recordsPerPage);
     int i = 0;
-    while (rs.hasNext() && i < request.getRecordsPerPage()) {
+    while (rs.hasNext() && i < recordsPerPage) {
       rsCopy.add((OResultInternal) rs.next());
       i++;
     }
@@ -1306,6 +1351,14 @@ public final class OConnectionBinaryExecutor implements OBinaryRequestExecutor {
     return new OSubscribeDistributedConfigurationResponse();
   }
 
+  @Override
+  public OBinaryResponse executeSubscribeRecordInvalidation(OSubscribeRecordInvalidationRequest request) {
+    OClientConnectionManager manager = server.getClientConnectionManager();
+
+    manager.subscribeRecordInvalidation(connection.getDatabase().getName(), (ONetworkProtocolBinary) connection.getProtocol());
+    return new OSubscribeRecordInvalidationResponse();
+  }
+
   @Override
   public OBinaryResponse executeUnsubscribeLiveQuery(OUnsubscribeLiveQueryRequest request) {
     ODatabaseDocumentInternal database = connection.getDatabase();
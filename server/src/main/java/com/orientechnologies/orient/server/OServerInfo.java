@@ -26,6 +26,7 @@ import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.OPartitionedDatabasePool;
@@ -34,6 +35,8 @@ import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
 import com.orientechnologies.orient.server.config.OServerEntryConfiguration;
+import com.orientechnologies.orient.server.distributed.ODistributedMetrics;
+import com.orientechnologies.orient.server.distributed.ODistributedServerManager;
 import com.orientechnologies.orient.server.network.protocol.ONetworkProtocolData;
 
 /**
@@ -52,6 +55,7 @@ public class OServerInfo {
     getStorages(server, json);
     getProperties(server, json);
     getGlobalProperties(server, json);
+    getDistributedMetrics(server, json);
 
     json.endObject();
 
@@ -102,6 +106,9 @@ public class OServerInfo {
       writeField(json, 2, "lastCommandDetail", stats.lastCommandDetail);
       writeField(json, 2, "lastExecutionTime", stats.lastCommandExecutionTime);
       writeField(json, 2, "totalWorkingTime", stats.totalCommandExecutionTime);
+      writeField(json, 2, "compressedResponses", stats.totalCompressedResponses);
+      writeField(json, 2, "compressionRatio", stats.getCompressionRatio());
+      writeField(json, 2, "compressionTime", stats.totalCompressionTime / 1000000);
       writeField(json, 2, "connectedOn", connectedOn);
       writeField(json, 2, "protocol", c.getProtocol().getType());
       writeField(json, 2, "sessionId", data.sessionId);
@@ -138,6 +145,38 @@ public class OServerInfo {
     json.endCollection(2, true);
   }
 
+  public static void getDistributedMetrics(final OServer server, final OJSONWriter json) throws IOException {
+    final ODistributedServerManager dManager = server.getDistributedManager();
+    if (dManager == null || !dManager.isEnabled() || dManager.getMessageService() == null)
+      return;
+
+    final ODistributedMetrics metrics = dManager.getMessageService().getMetrics();
+
+    json.beginObject(1, true, "distributed");
+    writeHistograms(json, 2, "taskLatencies", metrics.getTaskLatencies());
+    writeHistograms(json, 2, "nodeLatencies", metrics.getNodeLatencies());
+    writeValues(json, 2, "quorumWait", metrics.getQuorumWait());
+    writeValues(json, 2, "lockWait", metrics.getLockWait());
+    writeValues(json, 2, "queueSizes", metrics.getQueueSizes());
+    json.endObject(1, true);
+  }
+
+  private static void writeHistograms(final OJSONWriter json, final int iLevel, final String iName,
+      final Map<String, Map<String, Long>> histograms) throws IOException {
+    json.beginObject(iLevel, true, iName);
+    for (Map.Entry<String, Map<String, Long>> entry : histograms.entrySet())
+      writeValues(json, iLevel + 1, entry.getKey(), entry.getValue());
+    json.endObject(iLevel, true);
+  }
+
+  private static void writeValues(final OJSONWriter json, final int iLevel, final String iName, final Map<String, Long> values)
+      throws IOException {
+    json.beginObject(iLevel, true, iName);
+    for (Map.Entry<String, Long> entry : values.entrySet())
+      json.writeAttribute(iLevel + 1, false, entry.getKey(), entry.getValue());
+    json.endObject(iLevel, true);
+  }
+
   public static void getProperties(final OServer server, final OJSONWriter json) throws IOException {
     json.beginCollection(2, true, "properties");
 
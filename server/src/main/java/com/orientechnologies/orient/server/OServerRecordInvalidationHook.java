@@ -0,0 +1,210 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server;
+
+import com.orientechnologies.orient.core.command.OCommandExecutor;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseLifecycleListener;
+import com.orientechnologies.orient.core.db.ODatabaseListener;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the records updated or deleted by a database instance and, once they are committed, pushes their invalidation to the
+ * clients that keep them in their near cache. The records are sent one by one, unless a commit changes so many records of the same
+ * cluster that it's cheaper to invalidate the whole cluster.
+ */
+class OServerRecordInvalidationHook extends ORecordHookAbstract implements ODatabaseListener {
+  private static final int CLUSTER_INVALIDATION_THRESHOLD = 100;
+
+  private final OClientConnectionManager manager;
+  private final ODatabaseInternal        database;
+  private final Set<ORID> changed = new HashSet<>();
+
+  /**
+   * Installs the hook in all the embedded databases opened by the server.
+   */
+  static class OInstaller implements ODatabaseLifecycleListener {
+    private final OClientConnectionManager manager;
+
+    OInstaller(OClientConnectionManager manager) {
+      this.manager = manager;
+    }
+
+    @Override
+    public void onCreate(ODatabaseInternal iDatabase) {
+      onOpen(iDatabase);
+    }
+
+    @Override
+    public void onOpen(ODatabaseInternal iDatabase) {
+      if (iDatabase.getStorage().isRemote())
+        return;
+      for (Object hook : iDatabase.getHooks().keySet())
+        if (hook instanceof OServerRecordInvalidationHook)
+          return;
+
+      final OServerRecordInvalidationHook hook = new OServerRecordInvalidationHook(manager, iDatabase);
+      iDatabase.registerHook(hook, ORecordHook.HOOK_POSITION.LAST);
+      iDatabase.registerListener(hook);
+    }
+
+    @Override
+    public void onClose(ODatabaseInternal iDatabase) {
+    }
+
+    @Override
+    public void onDrop(ODatabaseInternal iDatabase) {
+    }
+
+    @Override
+    public void onLocalNodeConfigurationRequest(ODocument iConfiguration) {
+    }
+  }
+
+  OServerRecordInvalidationHook(OClientConnectionManager manager, ODatabaseInternal database) {
+    this.manager = manager;
+    this.database = database;
+  }
+
+  @Override
+  public SCOPE[] getScopes() {
+    return new SCOPE[] { SCOPE.UPDATE, SCOPE.DELETE };
+  }
+
+  @Override
+  public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+    return DISTRIBUTED_EXECUTION_MODE.BOTH;
+  }
+
+  @Override
+  public void onRecordAfterUpdate(ORecord iRecord) {
+    recordChanged(iRecord);
+  }
+
+  @Override
+  public void onRecordAfterDelete(ORecord iRecord) {
+    recordChanged(iRecord);
+  }
+
+  private void recordChanged(ORecord iRecord) {
+    if (!manager.hasRecordInvalidationSubscribers(database.getName()))
+      return;
+
+    changed.add(iRecord.getIdentity().copy());
+    // THE CHANGES OF A TRANSACTION, EVEN A MICRO ONE, ARE SENT ONLY AFTER THE COMMIT
+    if (!database.getMicroOrRegularTransaction().isActive())
+      flush();
+  }
+
+  private void flush() {
+    if (changed.isEmpty())
+      return;
+
+    final Map<Integer, List<ORID>> byCluster = new HashMap<>();
+    for (ORID rid : changed)
+      byCluster.computeIfAbsent(rid.getClusterId(), (k) -> new ArrayList<>()).add(rid);
+    changed.clear();
+
+    final List<ORID> rids = new ArrayList<>();
+    final List<Integer> clusterIds = new ArrayList<>();
+    for (Map.Entry<Integer, List<ORID>> entry : byCluster.entrySet()) {
+      if (entry.getValue().size() > CLUSTER_INVALIDATION_THRESHOLD)
+        clusterIds.add(entry.getKey());
+      else
+        rids.addAll(entry.getValue());
+    }
+    manager.pushRecordInvalidation(database.getName(), rids, clusterIds);
+  }
+
+  @Override
+  public void onAfterTxCommit(ODatabase iDatabase) {
+    flush();
+  }
+
+  @Override
+  public void onAfterMicroTxCommit(ODatabase iDatabase) {
+    flush();
+  }
+
+  @Override
+  public void onAfterTxRollback(ODatabase iDatabase) {
+    changed.clear();
+  }
+
+  @Override
+  public void onClose(ODatabase iDatabase) {
+    changed.clear();
+  }
+
+  @Override
+  public void onDropClass(ODatabase iDatabase, OClass iClass) {
+    final List<Integer> clusterIds = new ArrayList<>();
+    for (int clusterId : iClass.getClusterIds())
+      clusterIds.add(clusterId);
+    if (manager.hasRecordInvalidationSubscribers(database.getName()))
+      manager.pushRecordInvalidation(database.getName(), new ArrayList<>(), clusterIds);
+  }
+
+  @Override
+  public void onCreate(ODatabase iDatabase) {
+  }
+
+  @Override
+  public void onDelete(ODatabase iDatabase) {
+  }
+
+  @Override
+  public void onOpen(ODatabase iDatabase) {
+  }
+
+  @Override
+  public void onBeforeTxBegin(ODatabase iDatabase) {
+  }
+
+  @Override
+  public void onBeforeTxRollback(ODatabase iDatabase) {
+  }
+
+  @Override
+  public void onBeforeTxCommit(ODatabase iDatabase) {
+  }
+
+  @Override
+  public void onBeforeCommand(OCommandRequestText iCommand, OCommandExecutor executor) {
+  }
+
+  @Override
+  public void onAfterCommand(OCommandRequestText iCommand, OCommandExecutor executor, Object result) {
+  }
+}
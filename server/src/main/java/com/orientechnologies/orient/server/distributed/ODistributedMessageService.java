@@ -53,5 +53,9 @@ public interface ODistributedMessageService {
 
   long getCurrentLatency(String server);
 
+  ODistributedReadRouter getReadRouter();
+
+  ODistributedMetrics getMetrics();
+
   ODistributedResponseManager getResponseManager(ODistributedRequestId reqId);
 }
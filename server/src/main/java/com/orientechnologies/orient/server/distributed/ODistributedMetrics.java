@@ -0,0 +1,180 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.profiler.OAbstractProfiler;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histograms of the distributed requests by task type and by server, of the wait for the quorum and of the wait for the
+ * record locks, plus the size of the queues of the worker threads. They are exposed via JMX and in the server info of the HTTP
+ * interface, so a server or a task type that slows down the cluster can be found.
+ *
+ * @see OLatencyHistogram
+ */
+public class ODistributedMetrics implements ODistributedMetricsMXBean {
+  public static final String MBEAN_NAME = "com.orientechnologies.orient.server.distributed:type=ODistributedMetricsMXBean";
+
+  private final ConcurrentHashMap<String, OLatencyHistogram>                   taskLatencies = new ConcurrentHashMap<String, OLatencyHistogram>();
+  private final ConcurrentHashMap<String, OLatencyHistogram>                   nodeLatencies = new ConcurrentHashMap<String, OLatencyHistogram>();
+  private final OLatencyHistogram                                              quorumWait    = new OLatencyHistogram();
+  private final OLatencyHistogram                                              lockWait      = new OLatencyHistogram();
+  private final ConcurrentHashMap<String, OAbstractProfiler.OProfilerHookValue> queueSizes    = new ConcurrentHashMap<String, OAbstractProfiler.OProfilerHookValue>();
+  private       ObjectName                                                     mbeanName;
+
+  /**
+   * Records the time between the sending of a request and the arrival of the response from a server.
+   */
+  public void updateResponseLatency(final String taskName, final String node, final long elapsedNanos) {
+    getHistogram(taskLatencies, taskName).recordNanos(elapsedNanos);
+    getHistogram(nodeLatencies, node).recordNanos(elapsedNanos);
+  }
+
+  public void updateQuorumWait(final long elapsedNanos) {
+    quorumWait.recordNanos(elapsedNanos);
+  }
+
+  public void updateLockWait(final long elapsedNanos) {
+    lockWait.recordNanos(elapsedNanos);
+  }
+
+  public void registerQueue(final String name, final OAbstractProfiler.OProfilerHookValue size) {
+    queueSizes.put(name, size);
+  }
+
+  public void unregisterQueue(final String name) {
+    queueSizes.remove(name);
+  }
+
+  public OLatencyHistogram getTaskLatency(final String taskName) {
+    return taskLatencies.get(taskName);
+  }
+
+  public OLatencyHistogram getNodeLatency(final String node) {
+    return nodeLatencies.get(node);
+  }
+
+  @Override
+  public Map<String, Map<String, Long>> getTaskLatencies() {
+    return toMap(taskLatencies);
+  }
+
+  @Override
+  public Map<String, Map<String, Long>> getNodeLatencies() {
+    return toMap(nodeLatencies);
+  }
+
+  @Override
+  public Map<String, Long> getQuorumWait() {
+    return quorumWait.toMap();
+  }
+
+  @Override
+  public Map<String, Long> getLockWait() {
+    return lockWait.toMap();
+  }
+
+  @Override
+  public Map<String, Long> getQueueSizes() {
+    final Map<String, Long> result = new TreeMap<String, Long>();
+    for (Map.Entry<String, OAbstractProfiler.OProfilerHookValue> entry : queueSizes.entrySet())
+      result.put(entry.getKey(), ((Number) entry.getValue().getValue()).longValue());
+    return result;
+  }
+
+  @Override
+  public void reset() {
+    for (OLatencyHistogram h : taskLatencies.values())
+      h.reset();
+    for (OLatencyHistogram h : nodeLatencies.values())
+      h.reset();
+    quorumWait.reset();
+    lockWait.reset();
+  }
+
+  public String dump() {
+    final StringBuilder buffer = new StringBuilder(1024);
+    buffer.append("\nDISTRIBUTED LATENCIES (us)");
+    for (Map.Entry<String, OLatencyHistogram> entry : new TreeMap<String, OLatencyHistogram>(taskLatencies).entrySet())
+      buffer.append("\n  - TASK " + entry.getKey() + ": " + entry.getValue());
+    for (Map.Entry<String, OLatencyHistogram> entry : new TreeMap<String, OLatencyHistogram>(nodeLatencies).entrySet())
+      buffer.append("\n  - SERVER " + entry.getKey() + ": " + entry.getValue());
+    buffer.append("\n  - QUORUM WAIT: " + quorumWait);
+    buffer.append("\n  - LOCK WAIT: " + lockWait);
+    return buffer.toString();
+  }
+
+  public synchronized void registerMBean(final String nodeName) {
+    if (mbeanName != null)
+      return;
+
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = new ObjectName(MBEAN_NAME + ",node=" + ObjectName.quote(nodeName));
+      if (!server.isRegistered(name)) {
+        server.registerMBean(this, name);
+        mbeanName = name;
+      } else
+        ODistributedServerLog.warn(this, nodeName, null, ODistributedServerLog.DIRECTION.NONE,
+            "MBean with name %s has already been registered", name.getCanonicalName());
+    } catch (JMException e) {
+      throw OException.wrapException(new ODistributedException("Error on registering the distributed metrics MBean"), e);
+    }
+  }
+
+  public synchronized void unregisterMBean() {
+    if (mbeanName == null)
+      return;
+
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+    } catch (JMException e) {
+      throw OException.wrapException(new ODistributedException("Error on unregistering the distributed metrics MBean"), e);
+    } finally {
+      mbeanName = null;
+    }
+  }
+
+  private static OLatencyHistogram getHistogram(final ConcurrentHashMap<String, OLatencyHistogram> histograms, final String name) {
+    OLatencyHistogram histogram = histograms.get(name);
+    if (histogram == null) {
+      histogram = new OLatencyHistogram();
+      final OLatencyHistogram previous = histograms.putIfAbsent(name, histogram);
+      if (previous != null)
+        histogram = previous;
+    }
+    return histogram;
+  }
+
+  private static Map<String, Map<String, Long>> toMap(final Map<String, OLatencyHistogram> histograms) {
+    final Map<String, Map<String, Long>> result = new TreeMap<String, Map<String, Long>>();
+    for (Map.Entry<String, OLatencyHistogram> entry : histograms.entrySet())
+      result.put(entry.getKey(), entry.getValue().toMap());
+    return result;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link ODistributedMetrics}. The latencies are in microseconds.
+ */
+public interface ODistributedMetricsMXBean {
+  /**
+   * Latency of the requests sent to the other servers until the response is received, by task type.
+   */
+  Map<String, Map<String, Long>> getTaskLatencies();
+
+  /**
+   * Latency of the requests sent to the other servers until the response is received, by server.
+   */
+  Map<String, Map<String, Long>> getNodeLatencies();
+
+  /**
+   * Time waited for the quorum of the responses.
+   */
+  Map<String, Long> getQuorumWait();
+
+  /**
+   * Time waited to lock a record owned by another request.
+   */
+  Map<String, Long> getLockWait();
+
+  /**
+   * Requests in the queue of each worker thread.
+   */
+  Map<String, Long> getQueueSizes();
+
+  void reset();
+}
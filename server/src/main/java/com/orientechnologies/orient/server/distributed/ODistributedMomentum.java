@@ -37,6 +37,7 @@ import java.util.List;
 public class ODistributedMomentum implements OStreamable {
   private static final String LAST_OPERATION_TIME_STAMP = "lastOperationTimeStamp";
   private static final String VERSION                   = "version";
+  private static final String WAL_SHIPPING_MASTER       = "walShippingMaster";
   private final ODocument configuration;
 
   public ODistributedMomentum() {
@@ -85,6 +86,25 @@ public class ODistributedMomentum implements OStreamable {
     }
   }
 
+  /**
+   * Returns the server whose WAL is shipped to this REPLICA, that is the server the database pages have been copied from.
+   */
+  public String getWALShippingMaster() {
+    synchronized (configuration) {
+      return configuration.field(WAL_SHIPPING_MASTER);
+    }
+  }
+
+  public void setWALShippingMaster(final String iNode) {
+    synchronized (configuration) {
+      if (iNode == null)
+        configuration.removeField(WAL_SHIPPING_MASTER);
+      else
+        configuration.field(WAL_SHIPPING_MASTER, iNode);
+      incrementVersion();
+    }
+  }
+
   public boolean isEmpty() {
     synchronized (configuration) {
       return configuration.isEmpty();
@@ -147,7 +167,7 @@ public class ODistributedMomentum implements OStreamable {
     final List<String> result = new ArrayList<String>();
     synchronized (configuration) {
       for (String s : configuration.fieldNames()) {
-        if (!LAST_OPERATION_TIME_STAMP.equals(s) && !VERSION.equals(s))
+        if (!LAST_OPERATION_TIME_STAMP.equals(s) && !VERSION.equals(s) && !WAL_SHIPPING_MASTER.equals(s))
           result.add(s);
       }
     }
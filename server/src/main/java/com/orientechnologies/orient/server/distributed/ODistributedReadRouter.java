@@ -0,0 +1,140 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the server that answers a read when one response is enough, by the latency observed on the previous responses and the
+ * reads still pending on each server. The latency is an exponentially weighted moving average, so a server that slows down, like on
+ * a long GC pause, is avoided after few responses, and used again as soon as it's fast again.
+ *
+ * @see OGlobalConfiguration#DISTRIBUTED_READ_ROUTING
+ */
+public class ODistributedReadRouter {
+  public enum STRATEGY {
+    ALL, FASTEST, POWER_OF_TWO
+  }
+
+  private static final double ALPHA = 0.2;
+
+  private final ConcurrentHashMap<String, ONodeStats> nodes = new ConcurrentHashMap<String, ONodeStats>();
+
+  private static class ONodeStats {
+    private volatile double        latency;
+    private final    AtomicInteger pending = new AtomicInteger();
+
+    private synchronized void update(final long elapsedNanos) {
+      latency = latency == 0 ? elapsedNanos : ALPHA * elapsedNanos + (1 - ALPHA) * latency;
+    }
+
+    private double getScore() {
+      // A SERVER NEVER MEASURED SCORES 0, SO IT'S TRIED SOON
+      return latency * (pending.get() + 1);
+    }
+  }
+
+  public static STRATEGY getStrategy() {
+    final String value = OGlobalConfiguration.DISTRIBUTED_READ_ROUTING.getValueAsString();
+    if ("fastest".equalsIgnoreCase(value))
+      return STRATEGY.FASTEST;
+    if ("powerOfTwo".equalsIgnoreCase(value))
+      return STRATEGY.POWER_OF_TWO;
+    return STRATEGY.ALL;
+  }
+
+  /**
+   * Returns the server to send the read to, or null if the strategy is {@link STRATEGY#ALL}.
+   */
+  public String selectNode(final List<String> candidates) {
+    final STRATEGY strategy = getStrategy();
+    if (strategy == STRATEGY.ALL || candidates.isEmpty())
+      return null;
+
+    if (candidates.size() == 1)
+      return candidates.get(0);
+
+    if (strategy == STRATEGY.POWER_OF_TWO) {
+      final ThreadLocalRandom random = ThreadLocalRandom.current();
+      final int first = random.nextInt(candidates.size());
+      int second = random.nextInt(candidates.size() - 1);
+      if (second >= first)
+        second++;
+      return getScore(candidates.get(second)) < getScore(candidates.get(first)) ? candidates.get(second) : candidates.get(first);
+    }
+
+    String best = null;
+    double bestScore = Double.MAX_VALUE;
+    for (String node : candidates) {
+      final double score = getScore(node);
+      if (score < bestScore) {
+        best = node;
+        bestScore = score;
+      }
+    }
+    return best;
+  }
+
+  public void readSent(final String node) {
+    getStats(node).pending.incrementAndGet();
+  }
+
+  public void readCompleted(final String node) {
+    getStats(node).pending.decrementAndGet();
+  }
+
+  /**
+   * Adds a latency sample for the server, like the time elapsed to receive a response.
+   */
+  public void updateLatency(final String node, final long elapsedNanos) {
+    getStats(node).update(elapsedNanos);
+  }
+
+  public double getLatency(final String node) {
+    final ONodeStats stats = nodes.get(node);
+    return stats != null ? stats.latency : 0;
+  }
+
+  public int getPendingReads(final String node) {
+    final ONodeStats stats = nodes.get(node);
+    return stats != null ? stats.pending.get() : 0;
+  }
+
+  private double getScore(final String node) {
+    final ONodeStats stats = nodes.get(node);
+    return stats != null ? stats.getScore() : 0;
+  }
+
+  private ONodeStats getStats(final String node) {
+    ONodeStats stats = nodes.get(node);
+    if (stats == null) {
+      stats = new ONodeStats();
+      final ONodeStats prev = nodes.putIfAbsent(node, stats);
+      if (prev != null)
+        stats = prev;
+    }
+    return stats;
+  }
+}
@@ -25,6 +25,7 @@ import com.orientechnologies.common.util.OCallable;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.exception.OConcurrentCreateException;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.server.distributed.ODistributedServerLog.DIRECTION;
@@ -122,6 +123,8 @@ public class ODistributedResponseManager {
       }
 
       dManager.getMessageService().updateLatency(executorNode, sentOn);
+      dManager.getMessageService().getMetrics()
+          .updateResponseLatency(request.getTask().getName(), executorNode, System.nanoTime() - sentOn);
 
       responses.put(executorNode, response);
       receivedResponses++;
@@ -204,6 +207,9 @@ public class ODistributedResponseManager {
       ODistributedServerLog.debug(this, dManager.getLocalNodeName(), null, DIRECTION.NONE,
           "Sending signal of synchronous request completed (reqId=%s thread=%d)", request.getId(), Thread.currentThread().getId());
 
+      if (synchronousResponsesArrived.getCount() > 0)
+        dManager.getMessageService().getMetrics().updateQuorumWait(System.nanoTime() - sentOn);
+
       synchronousResponsesArrived.countDown();
     }
     return completed;
@@ -924,6 +930,8 @@ public class ODistributedResponseManager {
       ODistributedServerLog.debug(this, dManager.getLocalNodeName(), server, DIRECTION.OUT,
           "Executing the fix locally (%s) for response (%s) on request (%s) to be: %s", fixTask, r, request, goodResponse);
 
+      // THE FIX CAN BE EXECUTED BY THE THREAD OF THE USER COMMITTING THE TRANSACTION: RESTORE ITS DATABASE AT THE END
+      final ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
       final ODatabaseDocumentInternal database = dManager.getMessageService().getDatabase(getDatabaseName()).getDatabaseInstance();
       try {
         dManager
@@ -931,6 +939,8 @@ public class ODistributedResponseManager {
                 database);
       } finally {
         database.close();
+        if (current != null)
+          current.activateOnCurrentThread();
       }
     } else {
       ODistributedServerLog.debug(this, dManager.getLocalNodeName(), server, DIRECTION.OUT,
@@ -86,6 +86,18 @@ public class ODistributedSyncConfiguration {
       save();
   }
 
+  public String getWALShippingMaster() {
+    return momentum.getWALShippingMaster();
+  }
+
+  /**
+   * Sets the server the WAL is shipped from, or null if the pages of the database do not come from a full copy of any server.
+   */
+  public void setWALShippingMaster(final String server) throws IOException {
+    momentum.setWALShippingMaster(server);
+    save();
+  }
+
   public void load() throws IOException {
     final InputStream is = new FileInputStream(file);
     try {
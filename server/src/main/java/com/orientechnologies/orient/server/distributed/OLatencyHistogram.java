@@ -0,0 +1,155 @@
+/*
+ *
+ *  *  Copyright 2010-2017 OrientDB LTD (http://orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.distributed;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in microseconds with fixed memory. Like HDR histograms, the values are counted in buckets whose
+ * size doubles every power of two and every power of two is split in 16 linear sub-buckets, so the percentiles have a relative
+ * error below 7% on the whole range of values, from 1us to hours.
+ *
+ * @see ODistributedMetrics
+ */
+public class OLatencyHistogram {
+  private static final int SUB_BUCKET_BITS  = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS          = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong      count  = new AtomicLong();
+  private final AtomicLong      total  = new AtomicLong();
+  private final AtomicLong      min    = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong      max    = new AtomicLong();
+
+  public void recordNanos(final long elapsedNanos) {
+    record(elapsedNanos / 1000);
+  }
+
+  /**
+   * Records a latency in microseconds.
+   */
+  public void record(long value) {
+    if (value < 0)
+      value = 0;
+
+    counts.incrementAndGet(getBucket(value));
+    count.incrementAndGet();
+    total.addAndGet(value);
+
+    long current = min.get();
+    while (value < current && !min.compareAndSet(current, value))
+      current = min.get();
+
+    current = max.get();
+    while (value > current && !max.compareAndSet(current, value))
+      current = max.get();
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getMin() {
+    final long value = min.get();
+    return value == Long.MAX_VALUE ? 0 : value;
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public long getMean() {
+    final long c = count.get();
+    return c == 0 ? 0 : total.get() / c;
+  }
+
+  /**
+   * Returns the latency under which the passed percentage of the values fall, as the highest value of its bucket.
+   *
+   * @param percentile between 0 and 100
+   */
+  public long getValueAtPercentile(final double percentile) {
+    final long c = count.get();
+    if (c == 0)
+      return 0;
+
+    final long threshold = Math.max(1, (long) Math.ceil(c * Math.min(percentile, 100) / 100));
+
+    long cumulated = 0;
+    for (int i = 0; i < BUCKETS; ++i) {
+      cumulated += counts.get(i);
+      if (cumulated >= threshold)
+        return Math.min(getHighestValue(i), getMax());
+    }
+    return getMax();
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKETS; ++i)
+      counts.set(i, 0);
+    count.set(0);
+    total.set(0);
+    min.set(Long.MAX_VALUE);
+    max.set(0);
+  }
+
+  /**
+   * Returns the count and the main percentiles in microseconds.
+   */
+  public Map<String, Long> toMap() {
+    final Map<String, Long> map = new LinkedHashMap<String, Long>();
+    map.put("count", getCount());
+    map.put("min", getMin());
+    map.put("mean", getMean());
+    map.put("p50", getValueAtPercentile(50));
+    map.put("p90", getValueAtPercentile(90));
+    map.put("p99", getValueAtPercentile(99));
+    map.put("p999", getValueAtPercentile(99.9));
+    map.put("max", getMax());
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + getCount() + " p50=" + getValueAtPercentile(50) + "us p99=" + getValueAtPercentile(99) + "us max=" + getMax()
+        + "us";
+  }
+
+  static int getBucket(final long value) {
+    if (value < SUB_BUCKET_COUNT)
+      return (int) value;
+
+    final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+  }
+
+  static long getHighestValue(final int bucket) {
+    if (bucket < SUB_BUCKET_COUNT)
+      return bucket;
+
+    final int shift = bucket / SUB_BUCKET_COUNT - 1;
+    final long lowest = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
@@ -154,6 +154,60 @@ public class OModifiableDistributedConfiguration extends ODistributedConfigurati
     }
   }
 
+  /**
+   * Adds the server as last of the server list of the cluster, so it receives the changes without being the owner.<br>
+   * NOTE: It must be executed in distributed database lock.
+   *
+   * @param iClusterName
+   *          Cluster name. Does not accept null.
+   * @return true if the server has been added, false if it was already in the list
+   */
+  public boolean addServerInCluster(final String iClusterName, final String iServerName) {
+    if (iClusterName == null)
+      throw new IllegalArgumentException("cluster name cannot be null");
+
+    synchronized (configuration) {
+      final ODocument clusters = configuration.field(CLUSTERS);
+      ODocument cluster = clusters.field(iClusterName);
+      if (cluster == null)
+        cluster = createCluster(iClusterName);
+
+      List<String> serverList = cluster.field(SERVERS);
+      if (serverList == null)
+        serverList = initClusterServers(cluster);
+
+      if (serverList.contains(iServerName))
+        return false;
+
+      serverList.add(iServerName);
+
+      incrementVersion();
+      return true;
+    }
+  }
+
+  /**
+   * Moves the ownership of the cluster to a server of its server list, also when the owner was configured explicitly.<br>
+   * NOTE: It must be executed in distributed database lock.
+   *
+   * @param iClusterName
+   *          Cluster name. Does not accept null.
+   */
+  public void moveServerOwner(final String iClusterName, final String iServerName) {
+    if (iClusterName == null)
+      throw new IllegalArgumentException("cluster name cannot be null");
+
+    synchronized (configuration) {
+      final ODocument cluster = ((ODocument) configuration.field(CLUSTERS)).field(iClusterName);
+      if (cluster != null && cluster.field(OWNER) != null && !iServerName.equalsIgnoreCase((String) cluster.field(OWNER))) {
+        cluster.field(OWNER, iServerName);
+        incrementVersion();
+      }
+
+      setServerOwner(iClusterName, iServerName);
+    }
+  }
+
   /**
    * Removes a server from the list.<br>
    * NOTE: It must be executed in distributed database lock.
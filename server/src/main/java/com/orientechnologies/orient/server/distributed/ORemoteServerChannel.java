@@ -31,15 +31,26 @@ import com.orientechnologies.orient.client.remote.message.ODistributedConnectReq
 import com.orientechnologies.orient.client.remote.message.ODistributedConnectResponse;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.enterprise.channel.binary.OChannelBinaryProtocol;
 
+import java.io.DataOutput;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 
 /**
  * Remote server channel.
+ * <p>
+ * When the remote node supports it, requests and responses are coalesced: every message is queued and the thread that owns the
+ * channel sends all the queued ones in a single network message, with one flush. A message is never delayed waiting for others, the
+ * batch grows only with the messages enqueued while the previous write was in progress, up to {@link
+ * OGlobalConfiguration#DISTRIBUTED_MESSAGES_BATCH_SIZE}. Each message is still processed on its own by the receiver.
  *
  * @author Luca Garulli
  */
@@ -65,6 +76,37 @@ public class ORemoteServerChannel {
   private volatile     int totalConsecutiveErrors = 0;
   private final static int MAX_CONSECUTIVE_ERRORS = 10;
 
+  private final Queue<OPendingMessage> pendingMessages = new ConcurrentLinkedQueue<OPendingMessage>();
+  private final int                    maxBatchSize    = OGlobalConfiguration.DISTRIBUTED_MESSAGES_BATCH_SIZE.getValueAsInteger();
+
+  private static class OPendingMessage {
+    private final byte                 type;
+    private final ODistributedRequest  request;
+    private final ODistributedResponse response;
+    private boolean          sent;
+    private RuntimeException error;
+
+    private OPendingMessage(final ODistributedRequest request) {
+      this.type = OChannelBinaryProtocol.DISTRIBUTED_REQUEST;
+      this.request = request;
+      this.response = null;
+    }
+
+    private OPendingMessage(final ODistributedResponse response) {
+      this.type = OChannelBinaryProtocol.DISTRIBUTED_RESPONSE;
+      this.request = null;
+      this.response = response;
+    }
+
+    private void toStream(final DataOutput out) throws IOException {
+      out.writeByte(type);
+      if (request != null)
+        request.toStream(out);
+      else
+        response.toStream(out);
+    }
+  }
+
   public ORemoteServerChannel(final ODistributedServerManager manager, final String iServer, final String iURL, final String user,
       final String passwd, final int currentProtocolVersion) throws IOException {
     this.manager = manager;
@@ -91,6 +133,20 @@ public class ORemoteServerChannel {
   }
 
   public void sendRequest(final ODistributedRequest request) {
+    if (isBatchEnabled())
+      send(new OPendingMessage(request));
+    else
+      sendRequestWithoutBatch(request);
+  }
+
+  public void sendResponse(final ODistributedResponse response) {
+    if (isBatchEnabled())
+      send(new OPendingMessage(response));
+    else
+      sendResponseWithoutBatch(response);
+  }
+
+  private void sendRequestWithoutBatch(final ODistributedRequest request) {
     networkOperation(OChannelBinaryProtocol.DISTRIBUTED_REQUEST, new OStorageRemoteOperation<Object>() {
       @Override
       public Object execute() throws IOException {
@@ -102,7 +158,7 @@ public class ORemoteServerChannel {
 
   }
 
-  public void sendResponse(final ODistributedResponse response) {
+  private void sendResponseWithoutBatch(final ODistributedResponse response) {
     networkOperation(OChannelBinaryProtocol.DISTRIBUTED_RESPONSE, new OStorageRemoteOperation<Object>() {
       @Override
       public Object execute() throws IOException {
@@ -114,6 +170,63 @@ public class ORemoteServerChannel {
 
   }
 
+  private boolean isBatchEnabled() {
+    return maxBatchSize > 1 && protocolVersion >= ORemoteServerController.PROTOCOL_VERSION_MESSAGES_BATCH;
+  }
+
+  private void send(final OPendingMessage message) {
+    pendingMessages.add(message);
+    synchronized (this) {
+      // THE MESSAGE COULD HAVE BEEN ALREADY SENT BY THE PREVIOUS OWNER OF THE CHANNEL
+      while (!message.sent)
+        sendPendingMessages();
+    }
+
+    if (message.error != null)
+      throw message.error;
+  }
+
+  private synchronized void sendPendingMessages() {
+    final List<OPendingMessage> batch = new ArrayList<OPendingMessage>();
+    OPendingMessage next;
+    while (batch.size() < maxBatchSize && (next = pendingMessages.poll()) != null)
+      batch.add(next);
+
+    try {
+      if (protocolVersion < ORemoteServerController.PROTOCOL_VERSION_MESSAGES_BATCH) {
+        // RECONNECTED TO A NODE THAT DOES NOT SUPPORT BATCHES
+        for (OPendingMessage message : batch) {
+          if (message.request != null)
+            sendRequestWithoutBatch(message.request);
+          else
+            sendResponseWithoutBatch(message.response);
+          message.sent = true;
+        }
+        return;
+      }
+
+      networkOperation(OChannelBinaryProtocol.DISTRIBUTED_MESSAGES, new OStorageRemoteOperation<Object>() {
+        @Override
+        public Object execute() throws IOException {
+          final DataOutput out = channel.getDataOutput();
+          out.writeInt(batch.size());
+          for (OPendingMessage message : batch)
+            message.toStream(out);
+          channel.flush();
+          return null;
+        }
+      }, "Cannot send " + batch.size() + " distributed messages to the node '" + server + "'", MAX_RETRY, true);
+
+    } catch (RuntimeException e) {
+      for (OPendingMessage message : batch)
+        if (!message.sent)
+          message.error = e;
+    } finally {
+      for (OPendingMessage message : batch)
+        message.sent = true;
+    }
+  }
+
   public void connect() throws IOException {
     channel = new OChannelBinarySynchClient(remoteHost, remotePort, null, contextConfig,
         OChannelBinaryProtocol.CURRENT_PROTOCOL_VERSION);
@@ -36,7 +36,9 @@ public class ORemoteServerController {
   private volatile int responseChannelIndex = 0;
 
   private             int protocolVersion          = -1;
-  public final static int CURRENT_PROTOCOL_VERSION = 1;
+  public final static int CURRENT_PROTOCOL_VERSION = 2;
+  // SINCE 2: REQUESTS AND RESPONSES CAN BE SENT IN BATCH
+  public final static int PROTOCOL_VERSION_MESSAGES_BATCH = 2;
 
   public ORemoteServerController(final ODistributedServerManager manager, final String iServer, final String iURL,
       final String user, final String passwd) throws IOException {
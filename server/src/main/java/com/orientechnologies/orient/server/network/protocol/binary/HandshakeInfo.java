@@ -14,14 +14,21 @@ public class HandshakeInfo {
   private byte              encoding;
   private byte              errorEncoding;
   private ORecordSerializer serializer;
+  private String            responseCompression;
 
   public HandshakeInfo(short protocolVersion, String driverName, String driverVersion, byte encoding, byte errorEncoding) {
+    this(protocolVersion, driverName, driverVersion, encoding, errorEncoding, null);
+  }
+
+  public HandshakeInfo(short protocolVersion, String driverName, String driverVersion, byte encoding, byte errorEncoding,
+      String responseCompression) {
     this.protocolVersion = protocolVersion;
     this.driverName = driverName;
     this.driverVersion = driverVersion;
     this.encoding = encoding;
     this.errorEncoding = errorEncoding;
     this.serializer = ORecordSerializerNetworkFactory.INSTANCE.forProtocol(protocolVersion);
+    this.responseCompression = responseCompression;
   }
 
   public short getProtocolVersion() {
@@ -59,4 +66,12 @@ public class HandshakeInfo {
   public byte getErrorEncoding() {
     return errorEncoding;
   }
+
+  /**
+   * Returns the name of the compression requested by the client for the response frames, null or empty if the client does not
+   * expect framed responses.
+   */
+  public String getResponseCompression() {
+    return responseCompression;
+  }
 }
@@ -40,6 +40,8 @@ public class ONetworkBinaryProtocolFactory {
 
   public static Function<Integer, OBinaryRequest<? extends OBinaryResponse>> matchProtocol(short protocolVersion) {
     switch (protocolVersion) {
+    case 40:
+    case 39:
     case 38:
     case 37:
       return ONetworkBinaryProtocolFactory::createRequest37;
@@ -337,6 +339,12 @@ public class ONetworkBinaryProtocolFactory {
     case OChannelBinaryProtocol.REQUEST_QUERY_NEXT_PAGE:
       return new OQueryNextPageRequest();
 
+    case OChannelBinaryProtocol.REQUEST_PREPARE_STATEMENT:
+      return new OPrepareStatementRequest();
+
+    case OChannelBinaryProtocol.REQUEST_QUERY_PREPARED:
+      return new OQueryPreparedRequest();
+
     case OChannelBinaryProtocol.REQUEST_CONFIG_GET:
       return new OGetGlobalConfigurationRequest();
 
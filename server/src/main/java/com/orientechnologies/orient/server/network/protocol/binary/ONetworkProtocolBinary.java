@@ -33,6 +33,8 @@ import com.orientechnologies.orient.client.remote.message.OBinaryPushResponse;
 import com.orientechnologies.orient.client.remote.message.OError37Response;
 import com.orientechnologies.orient.client.remote.message.OErrorResponse;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.compression.OCompression;
+import com.orientechnologies.orient.core.compression.OCompressionFactory;
 import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
@@ -43,6 +45,7 @@ import com.orientechnologies.orient.core.db.record.ridbag.sbtree.OSBTreeCollecti
 import com.orientechnologies.orient.core.exception.OCoreException;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
 import com.orientechnologies.orient.core.exception.OSecurityAccessException;
+import com.orientechnologies.orient.core.exception.OSecurityException;
 import com.orientechnologies.orient.core.exception.OSerializationException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
@@ -56,6 +59,7 @@ import com.orientechnologies.orient.core.serialization.serializer.record.binary.
 import com.orientechnologies.orient.core.serialization.serializer.record.string.ORecordSerializerSchemaAware2CSV;
 import com.orientechnologies.orient.enterprise.channel.binary.*;
 import com.orientechnologies.orient.server.OClientConnection;
+import com.orientechnologies.orient.server.OClientConnectionStats;
 import com.orientechnologies.orient.server.OConnectionBinaryExecutor;
 import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.distributed.*;
@@ -80,6 +84,7 @@ import java.util.logging.Level;
 public class ONetworkProtocolBinary extends ONetworkProtocol {
   protected final    Level          logClientExceptions;
   protected final    boolean        logClientFullStackTrace;
+  private final      int            responseCompressionThreshold;
   protected          OChannelBinary channel;
   protected volatile int            requestType;
   protected          int            clientTxId;
@@ -87,6 +92,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   private boolean tokenConnection = true;
   private long    requests        = 0;
   private          HandshakeInfo       handshakeInfo;
+  private          OCompression        responseCompression;
   private volatile OBinaryPushResponse expectedPushResponse;
   private BlockingQueue<OBinaryPushResponse> pushResponse = new SynchronousQueue<OBinaryPushResponse>();
 
@@ -102,6 +108,8 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
         .parse(server.getContextConfiguration().getValueAsString(OGlobalConfiguration.SERVER_LOG_DUMP_CLIENT_EXCEPTION_LEVEL));
     logClientFullStackTrace = server.getContextConfiguration()
         .getValueAsBoolean(OGlobalConfiguration.SERVER_LOG_DUMP_CLIENT_EXCEPTION_FULLSTACKTRACE);
+    responseCompressionThreshold = server.getContextConfiguration()
+        .getValueAsInteger(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION_THRESHOLD);
   }
 
   /**
@@ -148,7 +156,8 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
   }
 
   private boolean isDistributed(int requestType) {
-    return requestType == OChannelBinaryProtocol.DISTRIBUTED_REQUEST || requestType == OChannelBinaryProtocol.DISTRIBUTED_RESPONSE;
+    return requestType == OChannelBinaryProtocol.DISTRIBUTED_REQUEST || requestType == OChannelBinaryProtocol.DISTRIBUTED_RESPONSE
+        || requestType == OChannelBinaryProtocol.DISTRIBUTED_MESSAGES;
   }
 
   @Override
@@ -196,8 +205,53 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     String driverVersion = channel.readString();
     byte encoding = channel.readByte();
     byte errorEncoding = channel.readByte();
-    this.handshakeInfo = new HandshakeInfo(protocolVersion, driverName, driverVersion, encoding, errorEncoding);
+    String compressionName = null;
+    if (protocolVersion >= OChannelBinaryProtocol.PROTOCOL_VERSION_38)
+      compressionName = channel.readString();
+    this.handshakeInfo = new HandshakeInfo(protocolVersion, driverName, driverVersion, encoding, errorEncoding, compressionName);
     this.factory = ONetworkBinaryProtocolFactory.matchProtocol(protocolVersion);
+
+    this.responseCompression = null;
+    if (compressionName != null && !compressionName.isEmpty()) {
+      try {
+        this.responseCompression = OCompressionFactory.INSTANCE.getCompression(compressionName, null);
+      } catch (OSecurityException e) {
+        // THE CLIENT STILL EXPECTS FRAMES: SEND THEM UNCOMPRESSED
+        OLogManager.instance()
+            .warn(this, "Compression '%s' requested by client %s is not available, responses will not be compressed",
+                compressionName, channel.socket.getRemoteSocketAddress());
+      }
+    }
+  }
+
+  private boolean isResponseFramed() {
+    return handshakeInfo != null && handshakeInfo.getResponseCompression() != null && !handshakeInfo.getResponseCompression()
+        .isEmpty();
+  }
+
+  private void writeFramedResponse(final OClientConnection connection, final OBinaryResponse response) throws IOException {
+    channel.beginFrame();
+    try {
+      response.write(channel, connection.getData().protocolVersion, connection.getData().getSerializer());
+    } catch (IOException | RuntimeException e) {
+      channel.discardFrame();
+      throw e;
+    }
+
+    final int frameSize = channel.getFrameSize();
+    if (responseCompression == null || frameSize < responseCompressionThreshold) {
+      channel.endFrame(null);
+      return;
+    }
+
+    final long begin = System.nanoTime();
+    final int sentSize = channel.endFrame(responseCompression);
+
+    final OClientConnectionStats stats = connection.getStats();
+    stats.totalCompressedResponses++;
+    stats.totalCompressionInputBytes += frameSize;
+    stats.totalCompressionOutputBytes += sentSize;
+    stats.totalCompressionTime += System.nanoTime() - begin;
   }
 
   public void setHandshakeInfo(HandshakeInfo handshakeInfo) {
@@ -304,7 +358,10 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
               beginResponse();
               try {
                 sendOk(connection, clientTxId);
-                response.write(channel, connection.getData().protocolVersion, connection.getData().getSerializer());
+                if (isResponseFramed())
+                  writeFramedResponse(connection, response);
+                else
+                  response.write(channel, connection.getData().protocolVersion, connection.getData().getSerializer());
               } finally {
                 endResponse();
               }
@@ -392,6 +449,10 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
         case OChannelBinaryProtocol.DISTRIBUTED_RESPONSE:
           executeDistributedResponse(connection);
           break;
+
+        case OChannelBinaryProtocol.DISTRIBUTED_MESSAGES:
+          executeDistributedMessages(connection);
+          break;
         }
       } finally {
         requests++;
@@ -531,6 +592,25 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
       manager.executeOnLocalNode(req.getId(), req.getTask(), null);
   }
 
+  private void executeDistributedMessages(OClientConnection connection) throws IOException {
+    final int messages = channel.readInt();
+    for (int i = 0; i < messages; ++i) {
+      final byte type = channel.readByte();
+      switch (type) {
+      case OChannelBinaryProtocol.DISTRIBUTED_REQUEST:
+        executeDistributedRequest(connection);
+        break;
+
+      case OChannelBinaryProtocol.DISTRIBUTED_RESPONSE:
+        executeDistributedResponse(connection);
+        break;
+
+      default:
+        throw new OIOException("Unknown distributed message type " + type);
+      }
+    }
+  }
+
   private void executeDistributedResponse(OClientConnection connection) throws IOException {
     setDataCommandInfo(connection, "Distributed response");
 
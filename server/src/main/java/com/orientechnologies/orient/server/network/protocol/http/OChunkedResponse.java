@@ -20,44 +20,98 @@
 package com.orientechnologies.orient.server.network.protocol.http;
 
 import java.io.IOException;
- import java.io.OutputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 
+/**
+ * Writes the content of an HTTP response with the chunked transfer encoding. The content is buffered up to a chunk, so the memory
+ * used does not depend on the size of the response. If the response is gzip encoded the content is compressed on the fly before
+ * being split in chunks.
+ */
 public class OChunkedResponse extends OutputStream {
 
-   private OHttpResponse response;
-   private byte[]        buffer     = new byte[8192];
-   private int           bufferSize = 0;
-
-   public OChunkedResponse(final OHttpResponse iHttpResponse) {
-     response = iHttpResponse;
-   }
-
-   @Override
-   public void write(int b) throws IOException {
-     buffer[bufferSize++] = (byte) b;
-     if (bufferSize >= buffer.length)
-       writeContent();
-   }
-
-   @Override
-   public void flush() throws IOException {
-     writeContent();
-     response.flush();
-   }
-
-   @Override
-   public void close() throws IOException {
-     writeContent();
-     response.writeLine("0");
-     response.writeLine(null);
-   }
-
-   protected void writeContent() throws IOException {
-     if (bufferSize > 0) {
-       response.writeLine(Integer.toHexString(bufferSize));
-       response.getOutputStream().write(buffer, 0, bufferSize);
-       response.writeLine(null);
-       bufferSize = 0;
-     }
-   }
- }
+  private OHttpResponse    response;
+  private byte[]           buffer     = new byte[8192];
+  private int              bufferSize = 0;
+  private GZIPOutputStream compressor;
+
+  public OChunkedResponse(final OHttpResponse iHttpResponse) throws IOException {
+    this(iHttpResponse, false);
+  }
+
+  public OChunkedResponse(final OHttpResponse iHttpResponse, final boolean iCompress) throws IOException {
+    response = iHttpResponse;
+    if (iCompress)
+      compressor = new GZIPOutputStream(new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          writeChunked(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          writeChunked(b, off, len);
+        }
+      }, buffer.length, true);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (compressor != null)
+      compressor.write(b);
+    else
+      writeChunked(b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (compressor != null)
+      compressor.write(b, off, len);
+    else
+      writeChunked(b, off, len);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (compressor != null)
+      compressor.flush();
+    writeContent();
+    response.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (compressor != null)
+      compressor.finish();
+    writeContent();
+    response.writeLine("0");
+    response.writeLine(null);
+  }
+
+  protected void writeContent() throws IOException {
+    if (bufferSize > 0) {
+      response.writeLine(Integer.toHexString(bufferSize));
+      response.getOutputStream().write(buffer, 0, bufferSize);
+      response.writeLine(null);
+      bufferSize = 0;
+    }
+  }
+
+  private void writeChunked(int b) throws IOException {
+    buffer[bufferSize++] = (byte) b;
+    if (bufferSize >= buffer.length)
+      writeContent();
+  }
+
+  private void writeChunked(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      final int toCopy = Math.min(len, buffer.length - bufferSize);
+      System.arraycopy(b, off, buffer, bufferSize, toCopy);
+      bufferSize += toCopy;
+      off += toCopy;
+      len -= toCopy;
+      if (bufferSize >= buffer.length)
+        writeContent();
+    }
+  }
+}
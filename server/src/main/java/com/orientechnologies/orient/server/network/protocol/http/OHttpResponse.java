@@ -342,11 +342,14 @@ public class OHttpResponse {
               @Override
               public Void call(OChunkedResponse iArgument) {
                 try {
-                  OutputStreamWriter writer = new OutputStreamWriter(iArgument);
-                  writeRecordsOnStream(iFetchPlan, sendFormat, iAdditionalProperties, it, writer);
-                  writer.flush();
+                  OutputStreamWriter writer = new OutputStreamWriter(iArgument, utf8);
+                  try {
+                    writeRecordsOnStream(iFetchPlan, sendFormat, iAdditionalProperties, it, writer);
+                  } finally {
+                    writer.flush();
+                  }
                 } catch (IOException e) {
-                  e.printStackTrace();
+                  OLogManager.instance().error(this, "HTTP response: error on writing records", e);
                 }
                 return null;
               }
@@ -368,7 +371,21 @@ public class OHttpResponse {
 
     // WRITE RECORDS
     json.beginCollection(-1, true, "result");
-    formatMultiValue(it, buffer, format);
+    try {
+      formatMultiValue(it, buffer, format);
+    } catch (RuntimeException e) {
+      // THE RECORDS ALREADY WRITTEN COULD HAVE BEEN SENT: TERMINATE THE DOCUMENT REPORTING THE ERROR
+      json.endCollection(-1, true);
+      final ODocument error = new ODocument();
+      error.field("code", OHttpUtils.STATUS_INTERNALERROR_CODE);
+      error.field("reason", OHttpUtils.STATUS_INTERNALERROR_DESCRIPTION);
+      error.field("content", e.toString());
+      json.beginCollection(-1, true, "errors");
+      buffer.append(error.toJSON());
+      json.endCollection(-1, true);
+      json.endObject();
+      throw e;
+    }
     json.endCollection(-1, true);
 
     if (iAdditionalProperties != null) {
@@ -514,8 +531,11 @@ public class OHttpResponse {
 
   public void sendStream(final int iCode, final String iReason, final String iContentType, final String iFileName,
       final OCallable<Void, OChunkedResponse> iWriter) throws IOException {
+    // THE STATUS IS SENT BEFORE THE CONTENT IS PRODUCED: AVOID SENDING AN ERROR RESPONSE IN THE MIDDLE OF THE STREAM
+    sendStarted = true;
+
     writeStatus(iCode, iReason);
-    writeHeaders(iContentType);
+    writeHeaders(iContentType, keepAlive);
     writeLine("Content-Transfer-Encoding: binary");
     writeLine("Transfer-Encoding: chunked");
 
@@ -525,11 +545,23 @@ public class OHttpResponse {
 
     writeLine(null);
 
-    final OChunkedResponse chunkedOutput = new OChunkedResponse(this);
-    iWriter.call(chunkedOutput);
-    chunkedOutput.close();
-
-    flush();
+    final OChunkedResponse chunkedOutput = new OChunkedResponse(this,
+        contentEncoding != null && contentEncoding.equals(OHttpUtils.CONTENT_ACCEPT_GZIP_ENCODED));
+    boolean completed = false;
+    try {
+      iWriter.call(chunkedOutput);
+      completed = true;
+    } finally {
+      // TERMINATE THE CHUNKED CONTENT ALSO ON ERROR, SO THE CLIENT DOES NOT WAIT FOR FURTHER CHUNKS
+      try {
+        chunkedOutput.close();
+        flush();
+      } catch (IOException e) {
+        if (completed)
+          throw e;
+        OLogManager.instance().debug(this, "HTTP response: error on terminating the chunked content", e);
+      }
+    }
   }
 
   // Compress content string
@@ -265,6 +265,12 @@ public abstract class ONetworkProtocolHttpAbstract extends ONetworkProtocol {
     if (OLogManager.instance().isDebugEnabled())
       OLogManager.instance().debug(this, "Caught exception", e);
 
+    if (response != null && response.sendStarted) {
+      // THE RESPONSE HAS ALREADY BEEN SENT, OR IS BEING STREAMED AND HAS BEEN TERMINATED WITH THE ERROR IN ITS CONTENT
+      OLogManager.instance().error(this, "Error on sending the HTTP response", e);
+      return;
+    }
+
     int errorCode = 500;
     String errorReason = null;
     String errorMessage = null;
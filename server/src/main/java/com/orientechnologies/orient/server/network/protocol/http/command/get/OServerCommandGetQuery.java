@@ -27,9 +27,7 @@ import com.orientechnologies.orient.server.network.protocol.http.OHttpResponse;
 import com.orientechnologies.orient.server.network.protocol.http.command.OServerCommandAuthenticatedDbAbstract;
 import com.orientechnologies.orient.server.network.protocol.http.command.post.OServerCommandPostCommand;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class OServerCommandGetQuery extends OServerCommandAuthenticatedDbAbstract {
@@ -61,29 +59,18 @@ public class OServerCommandGetQuery extends OServerCommandAuthenticatedDbAbstrac
       if (localFetchPlan != null) {
         fetchPlan = localFetchPlan;
       }
-      int i = 0;
-      List response = new ArrayList();
-      while (result.hasNext()) {
-        if (limit >= 0 && i >= limit) {
-          break;
-        }
-        response.add(result.next());
-        i++;
-      }
-
       Map<String, Object> additionalContent = new HashMap<>();
 
-      result.getExecutionPlan().ifPresent(x -> additionalContent.put("executionPlan", x.toResult().toElement()));
+      if (iRequest.getHeader("TE") != null)
+        iResponse.setStreaming(true);
 
-      result.close();
-
-      String format = null;
-      if (fetchPlan != null) {
-        format = "fetchPlan:" + fetchPlan;
+      try {
+        iResponse.writeRecords(OServerCommandPostCommand.resultIterator(result, limit, additionalContent), fetchPlan, null, accept,
+            additionalContent);
+      } finally {
+        result.close();
       }
 
-      iResponse.writeRecords(response, fetchPlan, null, accept, additionalContent);
-
     } finally {
       if (db != null)
         db.close();
@@ -24,6 +24,7 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.sql.parser.*;
 import com.orientechnologies.orient.server.network.protocol.http.OHttpRequest;
@@ -87,22 +88,8 @@ public class OServerCommandPostCommand extends OServerCommandAuthenticatedDbAbst
       if (localFetchPlan != null) {
         fetchPlan = localFetchPlan;
       }
-      int i = 0;
-      List response = new ArrayList();
-      while (result.hasNext()) {
-        if (limit >= 0 && i >= limit) {
-          break;
-        }
-        response.add(result.next());
-        i++;
-      }
-
       Map<String, Object> additionalContent = new HashMap<>();
 
-      result.getExecutionPlan().ifPresent(x -> additionalContent.put("executionPlan", x.toResult().toElement()));
-
-      result.close();
-
       String format = null;
       if (fetchPlan != null) {
         format = "fetchPlan:" + fetchPlan;
@@ -111,7 +98,11 @@ public class OServerCommandPostCommand extends OServerCommandAuthenticatedDbAbst
       if (iRequest.getHeader("TE") != null)
         iResponse.setStreaming(true);
 
-      iResponse.writeResult(response, format, accept, additionalContent, mode);
+      try {
+        iResponse.writeRecords(resultIterator(result, limit, additionalContent), null, format, accept, additionalContent, mode);
+      } finally {
+        result.close();
+      }
 
     } finally {
       if (db != null) {
@@ -123,6 +114,39 @@ public class OServerCommandPostCommand extends OServerCommandAuthenticatedDbAbst
     return false;
   }
 
+  /**
+   * Returns an iterator on the first <code>limit</code> items of a result set, so that the items are serialized in the response
+   * while the result set is consumed instead of being collected in memory. When the iteration is completed the execution plan is
+   * added to the additional content, that is written after the items.
+   */
+  public static Iterator<OResult> resultIterator(final OResultSet result, final int limit,
+      final Map<String, Object> additionalContent) {
+    return new Iterator<OResult>() {
+      private int     count    = 0;
+      private boolean finished = false;
+
+      @Override
+      public boolean hasNext() {
+        if (finished)
+          return false;
+        if ((limit < 0 || count < limit) && result.hasNext())
+          return true;
+
+        finished = true;
+        result.getExecutionPlan().ifPresent(x -> additionalContent.put("executionPlan", x.toResult().toElement()));
+        return false;
+      }
+
+      @Override
+      public OResult next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        count++;
+        return result.next();
+      }
+    };
+  }
+
   public static String getFetchPlanFromStatement(OStatement statement) {
     if (statement instanceof OSelectStatement) {
       OFetchPlan fp = ((OSelectStatement) statement).getFetchPlan();
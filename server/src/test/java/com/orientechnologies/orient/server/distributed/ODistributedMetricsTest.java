@@ -0,0 +1,83 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.common.profiler.OAbstractProfiler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+public class ODistributedMetricsTest {
+
+  @Test
+  public void testPercentiles() {
+    final OLatencyHistogram histogram = new OLatencyHistogram();
+    for (int i = 1; i <= 1000; i++)
+      histogram.record(i);
+
+    Assert.assertEquals(1000, histogram.getCount());
+    Assert.assertEquals(1, histogram.getMin());
+    Assert.assertEquals(1000, histogram.getMax());
+    Assert.assertEquals(500, histogram.getMean());
+
+    assertAround(500, histogram.getValueAtPercentile(50));
+    assertAround(990, histogram.getValueAtPercentile(99));
+    Assert.assertEquals(1000, histogram.getValueAtPercentile(100));
+
+    histogram.reset();
+    Assert.assertEquals(0, histogram.getCount());
+    Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+  }
+
+  @Test
+  public void testBuckets() {
+    long previous = -1;
+    for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 1000, 1000000, 3600000000L, Long.MAX_VALUE }) {
+      final int bucket = OLatencyHistogram.getBucket(value);
+      Assert.assertTrue(value <= OLatencyHistogram.getHighestValue(bucket));
+      Assert.assertTrue(bucket == 0 || value > OLatencyHistogram.getHighestValue(bucket - 1));
+      Assert.assertTrue(bucket >= previous);
+      previous = bucket;
+    }
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    final ODistributedMetrics metrics = new ODistributedMetrics();
+    metrics.updateResponseLatency("tx", "europe", 2000000);
+    metrics.updateResponseLatency("tx", "usa", 8000000);
+    metrics.updateResponseLatency("record_read", "usa", 1000000);
+    metrics.updateQuorumWait(2000000);
+    metrics.updateLockWait(500000);
+    metrics.registerQueue("db.worker.0", new OAbstractProfiler.OProfilerHookValue() {
+      @Override
+      public Object getValue() {
+        return 3l;
+      }
+    });
+
+    Assert.assertEquals(2, metrics.getTaskLatency("tx").getCount());
+    Assert.assertEquals(2, metrics.getNodeLatency("usa").getCount());
+    Assert.assertEquals(Long.valueOf(8000), metrics.getTaskLatencies().get("tx").get("max"));
+    Assert.assertEquals(Long.valueOf(1), metrics.getQuorumWait().get("count"));
+    Assert.assertEquals(Long.valueOf(500), metrics.getLockWait().get("max"));
+    Assert.assertEquals(Long.valueOf(3), metrics.getQueueSizes().get("db.worker.0"));
+
+    metrics.registerMBean("test");
+    try {
+      final ObjectName name = new ObjectName(ODistributedMetrics.MBEAN_NAME + ",node=" + ObjectName.quote("test"));
+      final TabularData quorumWait = (TabularData) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "QuorumWait");
+      Assert.assertEquals(metrics.getQuorumWait().size(), quorumWait.size());
+    } finally {
+      metrics.unregisterMBean();
+    }
+
+    metrics.reset();
+    Assert.assertEquals(0, metrics.getTaskLatency("tx").getCount());
+  }
+
+  private static void assertAround(final long expected, final long actual) {
+    Assert.assertTrue("Expected about " + expected + " but was " + actual, Math.abs(actual - expected) <= expected * 0.07);
+  }
+}
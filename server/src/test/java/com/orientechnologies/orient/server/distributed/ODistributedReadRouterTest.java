@@ -0,0 +1,86 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ODistributedReadRouterTest {
+  private static final List<String> NODES = Arrays.asList("europe", "usa", "asia");
+
+  @After
+  public void after() {
+    OGlobalConfiguration.DISTRIBUTED_READ_ROUTING.setValue(OGlobalConfiguration.DISTRIBUTED_READ_ROUTING.getDefValue());
+  }
+
+  @Test
+  public void testAllServers() {
+    final ODistributedReadRouter router = new ODistributedReadRouter();
+    Assert.assertNull(router.selectNode(NODES));
+  }
+
+  @Test
+  public void testFastest() {
+    OGlobalConfiguration.DISTRIBUTED_READ_ROUTING.setValue("fastest");
+    final ODistributedReadRouter router = new ODistributedReadRouter();
+    router.updateLatency("europe", 5000000);
+    router.updateLatency("usa", 1000000);
+    router.updateLatency("asia", 3000000);
+    Assert.assertEquals("usa", router.selectNode(NODES));
+
+    // THE FASTEST SERVER IS BUSY
+    for (int i = 0; i < 3; i++)
+      router.readSent("usa");
+    Assert.assertEquals("asia", router.selectNode(NODES));
+
+    for (int i = 0; i < 3; i++)
+      router.readCompleted("usa");
+    Assert.assertEquals("usa", router.selectNode(NODES));
+    Assert.assertEquals(0, router.getPendingReads("usa"));
+  }
+
+  @Test
+  public void testSlowServerIsAvoided() {
+    OGlobalConfiguration.DISTRIBUTED_READ_ROUTING.setValue("fastest");
+    final ODistributedReadRouter router = new ODistributedReadRouter();
+    for (String node : NODES)
+      router.updateLatency(node, 1000000);
+
+    // ASIA IS UNDER GC: FEW SLOW RESPONSES ARE ENOUGH TO MOVE THE READS AWAY
+    router.updateLatency("asia", 100000000);
+    Assert.assertNotEquals("asia", router.selectNode(NODES));
+
+    // BACK TO NORMAL
+    for (int i = 0; i < 50; i++) {
+      router.updateLatency("asia", 500000);
+      router.updateLatency("europe", 1000000);
+      router.updateLatency("usa", 1000000);
+    }
+    Assert.assertEquals("asia", router.selectNode(NODES));
+  }
+
+  @Test
+  public void testPowerOfTwo() {
+    OGlobalConfiguration.DISTRIBUTED_READ_ROUTING.setValue("powerOfTwo");
+    final ODistributedReadRouter router = new ODistributedReadRouter();
+    router.updateLatency("europe", 1000000);
+    router.updateLatency("usa", 2000000);
+    router.updateLatency("asia", 100000000);
+
+    final Map<String, Integer> selected = new HashMap<String, Integer>();
+    for (int i = 0; i < 1000; i++) {
+      final String node = router.selectNode(NODES);
+      selected.put(node, selected.containsKey(node) ? selected.get(node) + 1 : 1);
+    }
+
+    // THE SLOWEST SERVER IS NEVER PICKED, THE OTHERS SHARE THE LOAD
+    Assert.assertNull(selected.get("asia"));
+    Assert.assertTrue(selected.get("europe") > selected.get("usa"));
+    Assert.assertTrue(selected.get("usa") > 0);
+  }
+}
@@ -0,0 +1,40 @@
+package com.orientechnologies.orient.server.distributed;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class OModifiableDistributedConfigurationTest {
+
+  @Test
+  public void testMoveOwnerToNewServer() {
+    final OModifiableDistributedConfiguration cfg = new OModifiableDistributedConfiguration(new ODocument().fromJSON(
+        "{\"version\":1,\"clusters\":{\"@type\":\"d\",\"*\":{\"@type\":\"d\",\"servers\":[\"europe\",\"usa\"]},\"client_asia\":{\"@type\":\"d\",\"servers\":[\"europe\"]}}}"));
+
+    Assert.assertTrue(cfg.addServerInCluster("client_asia", "asia"));
+    Assert.assertFalse(cfg.addServerInCluster("client_asia", "asia"));
+    Assert.assertEquals(Arrays.asList("europe", "asia"), cfg.getServers("client_asia", null));
+    Assert.assertEquals("europe", cfg.getClusterOwner("client_asia"));
+
+    cfg.moveServerOwner("client_asia", "asia");
+    Assert.assertEquals("asia", cfg.getClusterOwner("client_asia"));
+    Assert.assertEquals(Arrays.asList("asia", "europe"), cfg.getServers("client_asia", null));
+    Assert.assertEquals(3, cfg.getVersion());
+
+    // THE CLUSTER WITHOUT CONFIGURATION TAKES THE SERVERS OF *
+    Assert.assertTrue(cfg.addServerInCluster("client_usa", "asia"));
+    Assert.assertEquals(Arrays.asList("europe", "usa", "asia"), cfg.getServers("client_usa", null));
+  }
+
+  @Test
+  public void testMoveExplicitOwner() {
+    final OModifiableDistributedConfiguration cfg = new OModifiableDistributedConfiguration(new ODocument().fromJSON(
+        "{\"version\":1,\"clusters\":{\"@type\":\"d\",\"*\":{\"@type\":\"d\",\"servers\":[\"europe\",\"usa\"]},\"client_usa\":{\"@type\":\"d\",\"owner\":\"usa\",\"servers\":[\"usa\",\"europe\"]}}}"));
+
+    cfg.moveServerOwner("client_usa", "europe");
+    Assert.assertEquals("europe", cfg.getClusterOwner("client_usa"));
+    Assert.assertEquals(Arrays.asList("europe", "usa"), cfg.getServers("client_usa", null));
+  }
+}
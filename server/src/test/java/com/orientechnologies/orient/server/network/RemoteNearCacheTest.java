@@ -0,0 +1,135 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.orient.client.remote.ORemoteNearCache;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.server.OServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteNearCacheTest {
+
+  private static final String SERVER_DIRECTORY = "./target/nearCache";
+  private static final String URL              = "localhost/" + RemoteNearCacheTest.class.getSimpleName();
+  private OServer           server;
+  private OrientDB          orientDB;
+  private ODatabaseDocument database;
+  private ORemoteNearCache  nearCache;
+
+  @Before
+  public void before() throws Exception {
+    OGlobalConfiguration.CLIENT_NEAR_CACHE_SIZE.setValue(100);
+    server = new OServer();
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(
+        getClass().getClassLoader().getResourceAsStream("com/orientechnologies/orient/server/network/orientdb-server-config.xml"));
+    server.activate();
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(RemoteNearCacheTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    database = orientDB.open(RemoteNearCacheTest.class.getSimpleName(), "admin", "admin");
+    database.createClass("Cached");
+    nearCache = ORemoteNearCache.instance(100);
+  }
+
+  @After
+  public void after() {
+    database.close();
+    orientDB.close();
+    server.shutdown();
+    OGlobalConfiguration.CLIENT_NEAR_CACHE_SIZE.setValue(OGlobalConfiguration.CLIENT_NEAR_CACHE_SIZE.getDefValue());
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testReadFromNearCache() {
+    ORID rid = database.save(new ODocument("Cached").field("name", "first")).getIdentity();
+    database.getLocalCache().clear();
+    database.load(rid);
+
+    Assert.assertNotNull(nearCache.get(URL, "admin", rid));
+    // THE ENTRIES ARE NOT SHARED WITH OTHER USERS
+    Assert.assertNull(nearCache.get(URL, "reader", rid));
+
+    database.getLocalCache().clear();
+    ODocument doc = database.load(rid);
+    Assert.assertEquals("first", doc.field("name"));
+
+    doc.field("name", "second");
+    database.save(doc);
+    Assert.assertNull(nearCache.get(URL, "admin", rid));
+  }
+
+  @Test
+  public void testTransactionInvalidatesNearCache() {
+    ORID rid = database.save(new ODocument("Cached").field("name", "first")).getIdentity();
+    database.getLocalCache().clear();
+    ODocument doc = database.load(rid);
+    Assert.assertNotNull(nearCache.get(URL, "admin", rid));
+
+    database.begin();
+    doc.field("name", "second");
+    database.save(doc);
+    database.commit();
+
+    Assert.assertNull(nearCache.get(URL, "admin", rid));
+    database.getLocalCache().clear();
+    Assert.assertEquals("second", ((ODocument) database.load(rid)).field("name"));
+  }
+
+  @Test
+  public void testCommandInvalidatesNearCache() {
+    ORID rid = database.save(new ODocument("Cached").field("name", "first")).getIdentity();
+    database.getLocalCache().clear();
+    database.load(rid);
+    Assert.assertNotNull(nearCache.get(URL, "admin", rid));
+
+    // THE CACHE IS DROPPED WHEN THE COMMAND RETURNS, WITHOUT WAITING FOR THE PUSH OF THE SERVER
+    database.command("update Cached set name = 'second'").close();
+    Assert.assertNull(nearCache.get(URL, "admin", rid));
+    database.getLocalCache().clear();
+    Assert.assertEquals("second", ((ODocument) database.load(rid)).field("name"));
+
+    database.load(rid);
+    Assert.assertNotNull(nearCache.get(URL, "admin", rid));
+    database.command(new OCommandSQL("update Cached set name = 'third'")).execute();
+    Assert.assertNull(nearCache.get(URL, "admin", rid));
+    database.getLocalCache().clear();
+    Assert.assertEquals("third", ((ODocument) database.load(rid)).field("name"));
+  }
+
+  @Test
+  public void testServerPushedInvalidation() throws InterruptedException {
+    ORID rid = database.save(new ODocument("Cached").field("name", "first")).getIdentity();
+    database.getLocalCache().clear();
+    database.load(rid);
+    Assert.assertNotNull(nearCache.get(URL, "admin", rid));
+
+    // CHANGE THE RECORD BYPASSING THE CLIENT, ONLY THE PUSH MESSAGE CAN INVALIDATE IT
+    ODatabaseDocumentInternal serverDatabase = server.openDatabase(RemoteNearCacheTest.class.getSimpleName());
+    try {
+      ODocument serverDoc = serverDatabase.load(rid);
+      serverDoc.field("name", "second");
+      serverDatabase.save(serverDoc);
+    } finally {
+      serverDatabase.close();
+    }
+
+    for (int i = 0; i < 100 && nearCache.get(URL, "admin", rid) != null; i++)
+      Thread.sleep(100);
+    Assert.assertNull(nearCache.get(URL, "admin", rid));
+
+    database.activateOnCurrentThread();
+    database.getLocalCache().clear();
+    Assert.assertEquals("second", ((ODocument) database.load(rid)).field("name"));
+  }
+}
@@ -0,0 +1,111 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OClientConnection;
+import com.orientechnologies.orient.server.OServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RemotePreparedStatementTest {
+
+  private static final String SERVER_DIRECTORY = "./target/prepared";
+  private OServer           server;
+  private OrientDB          orientDB;
+  private ODatabaseDocument database;
+
+  @Before
+  public void before() throws Exception {
+    OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_THRESHOLD.setValue(2);
+    server = new OServer();
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(
+        getClass().getClassLoader().getResourceAsStream("com/orientechnologies/orient/server/network/orientdb-server-config.xml"));
+    server.activate();
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(RemotePreparedStatementTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    database = orientDB.open(RemotePreparedStatementTest.class.getSimpleName(), "admin", "admin");
+    // ONLY THE SERVER SESSION IS LIMITED, THE CLIENT KEEPS USING THE HANDLES OF THE EVICTED STATEMENTS
+    OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_CACHE_SIZE.setValue(2);
+    database.createClass("Prepared");
+    for (int i = 0; i < 10; i++)
+      database.command("insert into Prepared set counter = ?", i).close();
+  }
+
+  @After
+  public void after() {
+    database.close();
+    orientDB.close();
+    server.shutdown();
+    OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_THRESHOLD
+        .setValue(OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_THRESHOLD.getDefValue());
+    OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_CACHE_SIZE
+        .setValue(OGlobalConfiguration.NETWORK_BINARY_PREPARED_STATEMENTS_CACHE_SIZE.getDefValue());
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testRepeatedQuery() {
+    for (int i = 0; i < 10; i++) {
+      try (OResultSet rs = database.query("select from Prepared where counter = ?", i)) {
+        Assert.assertEquals((Integer) i, rs.next().getProperty("counter"));
+        Assert.assertFalse(rs.hasNext());
+      }
+    }
+    Map<String, Object> params = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      params.put("counter", i);
+      try (OResultSet rs = database.query("select from Prepared where counter = :counter", params)) {
+        Assert.assertEquals((Integer) i, rs.next().getProperty("counter"));
+        Assert.assertFalse(rs.hasNext());
+      }
+    }
+    Assert.assertTrue(preparedStatements() > 0);
+  }
+
+  @Test
+  public void testRepeatedCommand() {
+    for (int i = 0; i < 5; i++)
+      database.command("update Prepared set touched = ? where counter = ?", true, i).close();
+
+    try (OResultSet rs = database.query("select count(*) as count from Prepared where touched = true")) {
+      Assert.assertEquals(5L, (long) rs.next().getProperty("count"));
+    }
+  }
+
+  @Test
+  public void testEvictedStatements() {
+    // THE SERVER KEEPS ONLY TWO STATEMENTS FOR THE SESSION, THE EVICTED ONES ARE SENT AGAIN IN FULL AND PREPARED AGAIN
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < 4; i++) {
+        try (OResultSet rs = database.query("select from Prepared where counter = ? and " + i + " = " + i, i)) {
+          Assert.assertEquals((Integer) i, rs.next().getProperty("counter"));
+        }
+      }
+    }
+  }
+
+  @Test(expected = OCommandSQLParsingException.class)
+  public void testParsingError() {
+    for (int i = 0; i < 3; i++)
+      database.query("select from Prepared where counter = = ?", i).close();
+  }
+
+  private int preparedStatements() {
+    int count = 0;
+    for (OClientConnection connection : server.getClientConnectionManager().getConnections())
+      count += connection.getPreparedStatements(2).size();
+    return count;
+  }
+}
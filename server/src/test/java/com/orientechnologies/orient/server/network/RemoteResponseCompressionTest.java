@@ -0,0 +1,85 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.compression.impl.OGZIPCompression;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseType;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.server.OClientConnection;
+import com.orientechnologies.orient.server.OServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteResponseCompressionTest {
+
+  private static final String SERVER_DIRECTORY = "./target/compression";
+  private OServer           server;
+  private OrientDB          orientDB;
+  private ODatabaseDocument database;
+
+  @Before
+  public void before() throws Exception {
+    OGlobalConfiguration.NETWORK_BINARY_COMPRESSION.setValue(OGZIPCompression.NAME);
+    OGlobalConfiguration.NETWORK_BINARY_COMPRESSION_THRESHOLD.setValue(0);
+    server = new OServer();
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(
+        getClass().getClassLoader().getResourceAsStream("com/orientechnologies/orient/server/network/orientdb-server-config.xml"));
+    server.activate();
+    orientDB = new OrientDB("remote:localhost", "root", "root", OrientDBConfig.defaultConfig());
+    orientDB.create(RemoteResponseCompressionTest.class.getSimpleName(), ODatabaseType.MEMORY);
+    database = orientDB.open(RemoteResponseCompressionTest.class.getSimpleName(), "admin", "admin");
+  }
+
+  @After
+  public void after() {
+    database.close();
+    orientDB.close();
+    server.shutdown();
+    OGlobalConfiguration.NETWORK_BINARY_COMPRESSION.setValue(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION.getDefValue());
+    OGlobalConfiguration.NETWORK_BINARY_COMPRESSION_THRESHOLD
+        .setValue(OGlobalConfiguration.NETWORK_BINARY_COMPRESSION_THRESHOLD.getDefValue());
+    Orient.instance().startup();
+  }
+
+  @Test
+  public void testQueryAndLoad() {
+    database.createClass("Compressed");
+    ODocument first = null;
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = new ODocument("Compressed");
+      doc.field("name", "compressed document");
+      doc.field("counter", i);
+      database.save(doc);
+      if (first == null)
+        first = doc;
+    }
+
+    int count = 0;
+    try (OResultSet rs = database.query("select from Compressed order by counter")) {
+      while (rs.hasNext()) {
+        OResult item = rs.next();
+        Assert.assertEquals("compressed document", item.getProperty("name"));
+        Assert.assertEquals((Integer) count, item.getProperty("counter"));
+        count++;
+      }
+    }
+    Assert.assertEquals(100, count);
+
+    database.getLocalCache().clear();
+    ODocument loaded = database.load(first.getIdentity());
+    Assert.assertEquals((Integer) 0, loaded.field("counter"));
+
+    long compressed = 0;
+    for (OClientConnection connection : server.getClientConnectionManager().getConnections())
+      compressed += connection.getStats().totalCompressedResponses;
+    Assert.assertTrue(compressed > 0);
+  }
+}
@@ -1,10 +1,15 @@
 package com.orientechnologies.orient.test.server.network.http;
 
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.apache.http.Header;
+import org.apache.http.client.entity.DecompressingEntity;
+import org.apache.http.message.BasicHeader;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.net.URLEncoder;
+import java.util.List;
 
 /**
  * Test HTTP "query" command.
@@ -26,6 +31,67 @@ public class HttpQueryTest extends BaseHttpDatabaseTest {
             .setUserPassword("admin").getResponse().getStatusLine().getStatusCode(), 200);
   }
 
+  @Test
+  public void queryStreamingGzip() throws IOException {
+    Assert.assertEquals(post("command/" + getDatabaseName() + "/sql/").payload("create class StreamedRow", CONTENT.TEXT)
+        .setUserName("admin").setUserPassword("admin").getResponse().getStatusLine().getStatusCode(), 200);
+    for (int i = 0; i < 200; i++) {
+      Assert.assertEquals(
+          post("command/" + getDatabaseName() + "/sql/").payload("insert into StreamedRow set counter = " + i, CONTENT.TEXT)
+              .setUserName("admin").setUserPassword("admin").getResponse().getStatusLine().getStatusCode(), 200);
+    }
+
+    Header[] headers = { new BasicHeader("TE", "trailers"), new BasicHeader("Accept-Encoding", "gzip") };
+    get("query/" + getDatabaseName() + "/sql/" + URLEncoder.encode("select from StreamedRow order by counter", "UTF8") + "/-1",
+        headers).setUserName("admin").setUserPassword("admin");
+    Assert.assertEquals(getResponse().getStatusLine().getStatusCode(), 200);
+    Assert.assertTrue(getResponse().getEntity().isChunked());
+    // THE CLIENT REMOVES THE CONTENT-ENCODING HEADER AND DECOMPRESSES THE CONTENT
+    Assert.assertTrue(getResponse().getEntity() instanceof DecompressingEntity);
+
+    final ODocument result = new ODocument().fromJSON(getResponse().getEntity().getContent());
+    final List<ODocument> res = result.field("result");
+    Assert.assertEquals(200, res.size());
+    for (int i = 0; i < res.size(); i++)
+      Assert.assertEquals((Integer) i, res.get(i).field("counter"));
+    Assert.assertNotNull(result.field("executionPlan"));
+  }
+
+  @Test
+  public void queryStreamingError() throws IOException {
+    Assert.assertEquals(post("command/" + getDatabaseName() + "/sql/").payload("create class FailingRow clusters 1", CONTENT.TEXT)
+        .setUserName("admin").setUserPassword("admin").getResponse().getStatusLine().getStatusCode(), 200);
+    final StringBuilder pad = new StringBuilder();
+    for (int i = 0; i < 100; i++)
+      pad.append('x');
+    for (int i = 0; i < 300; i++) {
+      Assert.assertEquals(post("command/" + getDatabaseName() + "/sql/")
+          .payload("insert into FailingRow set counter = " + i + ", pad = '" + pad + "'", CONTENT.TEXT).setUserName("admin")
+          .setUserPassword("admin").getResponse().getStatusLine().getStatusCode(), 200);
+    }
+
+    // THE DIVISION BY ZERO ON THE LAST ROW FAILS AFTER THE FIRST CHUNKS HAVE BEEN SENT
+    Header[] headers = { new BasicHeader("TE", "trailers") };
+    get("query/" + getDatabaseName() + "/sql/" + URLEncoder
+        .encode("select counter, pad, 10 / (299 - counter) as ratio from FailingRow", "UTF8") + "/-1", headers)
+        .setUserName("admin").setUserPassword("admin");
+    Assert.assertEquals(getResponse().getStatusLine().getStatusCode(), 200);
+    Assert.assertTrue(getResponse().getEntity().isChunked());
+
+    // THE CONTENT IS TERMINATED AND IS A COMPLETE JSON DOCUMENT WITH THE ERROR
+    final ODocument result = new ODocument().fromJSON(getResponse().getEntity().getContent());
+    final List<ODocument> res = result.field("result");
+    Assert.assertEquals(299, res.size());
+    final List<ODocument> errors = result.field("errors");
+    Assert.assertEquals(1, errors.size());
+    Assert.assertTrue(errors.get(0).<String>field("content").contains("ArithmeticException"));
+
+    // THE CONNECTION CAN STILL BE USED
+    Assert.assertEquals(
+        get("query/" + getDatabaseName() + "/sql/" + URLEncoder.encode("select count(*) as count from FailingRow", "UTF8"))
+            .setUserName("admin").setUserPassword("admin").getResponse().getStatusLine().getStatusCode(), 200);
+  }
+
   @Override
   public String getDatabaseName() {
     return "httpquery";